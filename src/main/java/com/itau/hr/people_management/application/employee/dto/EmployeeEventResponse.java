@@ -0,0 +1,35 @@
+package com.itau.hr.people_management.application.employee.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeEventResponse {
+    private UUID id;
+    private String eventType;
+    private String description;
+    private Instant occurredOn;
+    private String eventData;
+
+    public EmployeeEventResponse(EmployeeEvent employeeEvent) {
+        if (employeeEvent == null) {
+            throw new IllegalArgumentException("Employee event cannot be null");
+        }
+
+        this.id = employeeEvent.getId();
+        this.eventType = employeeEvent.getEventType() != null ? employeeEvent.getEventType().name() : null;
+        this.description = employeeEvent.getDescription();
+        this.occurredOn = employeeEvent.getOccurredOn();
+        this.eventData = employeeEvent.getEventData();
+    }
+}
@@ -0,0 +1,17 @@
+package com.itau.hr.people_management.application.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistoryPageResponse {
+    private List<EmployeeEventResponse> events;
+    private String nextCursor;
+}
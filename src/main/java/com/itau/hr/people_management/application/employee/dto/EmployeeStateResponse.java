@@ -0,0 +1,37 @@
+package com.itau.hr.people_management.application.employee.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeStateResponse {
+    private UUID id;
+    private String name;
+    private String email;
+    private String employeeStatus;
+    private Instant asOf;
+    private Instant lastChangedOn;
+
+    public EmployeeStateResponse(EmployeeState employeeState, Instant asOf) {
+        if (employeeState == null) {
+            throw new IllegalArgumentException("Employee state cannot be null");
+        }
+
+        this.id = employeeState.getEmployeeId();
+        this.name = employeeState.getName();
+        this.email = employeeState.getEmail();
+        this.employeeStatus = employeeState.getStatus() != null ? employeeState.getStatus().name() : null;
+        this.asOf = asOf;
+        this.lastChangedOn = employeeState.getLastEventOccurredOn();
+    }
+}
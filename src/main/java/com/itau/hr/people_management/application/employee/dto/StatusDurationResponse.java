@@ -0,0 +1,40 @@
+package com.itau.hr.people_management.application.employee.dto;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.analytics.StatusDurationRollup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusDurationResponse {
+    private UUID departmentId;
+    private String departmentName;
+    private YearMonth month;
+    private String employeeStatus;
+    private long closedIntervals;
+    private Duration totalDuration;
+    private Duration averageDuration;
+
+    public StatusDurationResponse(StatusDurationRollup rollup) {
+        if (rollup == null) {
+            throw new IllegalArgumentException("Status duration rollup cannot be null");
+        }
+
+        this.departmentId = rollup.getDepartmentId();
+        this.departmentName = rollup.getDepartmentName();
+        this.month = rollup.getMonth();
+        this.employeeStatus = rollup.getStatus() != null ? rollup.getStatus().name() : null;
+        this.closedIntervals = rollup.getClosedIntervals();
+        this.totalDuration = rollup.getTotalDuration();
+        this.averageDuration = rollup.averageDuration();
+    }
+}
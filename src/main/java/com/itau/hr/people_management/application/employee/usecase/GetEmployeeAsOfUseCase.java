@@ -0,0 +1,85 @@
+package com.itau.hr.people_management.application.employee.usecase;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeStateResponse;
+import com.itau.hr.people_management.domain.department.repository.DepartmentRepository;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeSearchCriteria;
+import com.itau.hr.people_management.domain.employee.entity.Employee;
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeRepository;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStateRepository;
+import com.itau.hr.people_management.domain.shared.exception.NotFoundException;
+import com.itau.hr.people_management.domain.shared.message.DomainMessageSource;
+
+/**
+ * Employee state at a past instant, rebuilt from the history. Not read-only: rebuilding may store
+ * snapshots. Departments are not part of the history, so a department query covers its current
+ * employees, leaving out those that did not exist yet at {@code asOf}.
+ */
+@Service
+@Transactional
+public class GetEmployeeAsOfUseCase {
+    private final EmployeeStateRepository employeeStateRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final DomainMessageSource messageSource;
+
+    public GetEmployeeAsOfUseCase(EmployeeStateRepository employeeStateRepository,
+                                  EmployeeRepository employeeRepository,
+                                  DepartmentRepository departmentRepository,
+                                  DomainMessageSource messageSource) {
+        this.employeeStateRepository = employeeStateRepository;
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.messageSource = messageSource;
+    }
+
+    public EmployeeStateResponse getById(UUID id, Instant asOf) {
+        if (id == null) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.employee.id.null"));
+        }
+        validate(asOf);
+
+        EmployeeState state = employeeStateRepository.findAsOf(Set.of(id), asOf).get(id);
+        if (state == null) {
+            throw new NotFoundException("error.employee.asof.notfound", id, asOf);
+        }
+
+        return new EmployeeStateResponse(state, asOf);
+    }
+
+    public List<EmployeeStateResponse> getByDepartment(UUID departmentId, Instant asOf) {
+        if (departmentId == null) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.department.id.null"));
+        }
+        validate(asOf);
+
+        departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new NotFoundException("error.department.notfound", departmentId));
+
+        List<UUID> employeeIds = employeeRepository.search(EmployeeSearchCriteria.builder().departmentId(departmentId).build())
+                .stream()
+                .map(Employee::getId)
+                .toList();
+        Map<UUID, EmployeeState> states = employeeStateRepository.findAsOf(employeeIds, asOf);
+
+        return employeeIds.stream()
+                .filter(states::containsKey)
+                .map(id -> new EmployeeStateResponse(states.get(id), asOf))
+                .toList();
+    }
+
+    private void validate(Instant asOf) {
+        if (asOf == null) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.employee.asof.null"));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.itau.hr.people_management.application.employee.usecase;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeEventResponse;
+import com.itau.hr.people_management.application.employee.dto.EmployeeHistoryPageResponse;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
+import com.itau.hr.people_management.domain.shared.message.DomainMessageSource;
+
+/**
+ * Pages through an employee's history, newest first. History outlives the employee, so events of
+ * a deleted employee are still returned. Status transitions can also be searched across employees.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetEmployeeHistoryUseCase {
+    public static final int MAX_LIMIT = 200;
+
+    private final EmployeeEventRepository employeeEventRepository;
+    private final DomainMessageSource messageSource;
+
+    public GetEmployeeHistoryUseCase(EmployeeEventRepository employeeEventRepository, DomainMessageSource messageSource) {
+        this.employeeEventRepository = employeeEventRepository;
+        this.messageSource = messageSource;
+    }
+
+    public EmployeeHistoryPageResponse execute(EmployeeHistoryCriteria criteria) {
+        if (criteria.getEmployeeId() == null) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.employee.id.null"));
+        }
+        validatePage(criteria);
+        return page(criteria);
+    }
+
+    /** Status changes matching {@code oldStatus} and/or {@code newStatus}, of one employee or of all of them. */
+    public EmployeeHistoryPageResponse searchTransitions(EmployeeHistoryCriteria criteria) {
+        if (criteria.getOldStatus().isEmpty() && criteria.getNewStatus().isEmpty()) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.employee.history.transition.status"));
+        }
+        validatePage(criteria);
+        return page(criteria);
+    }
+
+    private EmployeeHistoryPageResponse page(EmployeeHistoryCriteria criteria) {
+        // One extra row tells whether another page follows without a count query.
+        int limit = criteria.getLimit();
+        List<EmployeeEvent> events = employeeEventRepository.findHistory(criteria.toBuilder().limit(limit + 1).build());
+        List<EmployeeEvent> page = events.size() > limit ? events.subList(0, limit) : events;
+        String nextCursor = events.size() > limit ? EmployeeEventCursor.of(page.get(limit - 1)).encode() : null;
+
+        return new EmployeeHistoryPageResponse(page.stream().map(EmployeeEventResponse::new).toList(), nextCursor);
+    }
+
+    private void validatePage(EmployeeHistoryCriteria criteria) {
+        if (criteria.getLimit() < 1 || criteria.getLimit() > MAX_LIMIT) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.employee.history.limit", 1, MAX_LIMIT));
+        }
+        if (criteria.getOccurredFrom().isPresent() && criteria.getOccurredTo().isPresent()
+                && !criteria.getOccurredFrom().get().isBefore(criteria.getOccurredTo().get())) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.employee.history.period"));
+        }
+    }
+}
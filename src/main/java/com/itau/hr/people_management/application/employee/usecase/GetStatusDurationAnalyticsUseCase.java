@@ -0,0 +1,72 @@
+package com.itau.hr.people_management.application.employee.usecase;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itau.hr.people_management.application.employee.dto.StatusDurationResponse;
+import com.itau.hr.people_management.domain.department.entity.Department;
+import com.itau.hr.people_management.domain.department.repository.DepartmentRepository;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.domain.shared.exception.NotFoundException;
+import com.itau.hr.people_management.domain.shared.message.DomainMessageSource;
+
+/**
+ * Time spent in a status per department, read from the rollups kept by the status projection instead
+ * of replaying the history. An interval counts in the month it was closed; open intervals are not
+ * counted until they close.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetStatusDurationAnalyticsUseCase {
+    private final EmployeeStatusAnalyticsRepository analyticsRepository;
+    private final DepartmentRepository departmentRepository;
+    private final DomainMessageSource messageSource;
+
+    public GetStatusDurationAnalyticsUseCase(EmployeeStatusAnalyticsRepository analyticsRepository,
+                                             DepartmentRepository departmentRepository,
+                                             DomainMessageSource messageSource) {
+        this.analyticsRepository = analyticsRepository;
+        this.departmentRepository = departmentRepository;
+        this.messageSource = messageSource;
+    }
+
+    public List<StatusDurationResponse> byDepartment(EmployeeStatus status, YearMonth from, YearMonth to) {
+        validate(status, from, to);
+
+        return analyticsRepository.findByDepartment(status, from, to).stream()
+                .map(StatusDurationResponse::new)
+                .toList();
+    }
+
+    public List<StatusDurationResponse> monthly(UUID departmentId, EmployeeStatus status, YearMonth from, YearMonth to) {
+        if (departmentId == null) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.department.id.null"));
+        }
+        validate(status, from, to);
+
+        Department department = departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new NotFoundException("error.department.notfound", departmentId));
+
+        return analyticsRepository.findMonthly(departmentId, status, from, to).stream()
+                .map(rollup -> {
+                    StatusDurationResponse response = new StatusDurationResponse(rollup);
+                    response.setDepartmentName(department.getName());
+                    return response;
+                })
+                .toList();
+    }
+
+    private void validate(EmployeeStatus status, YearMonth from, YearMonth to) {
+        if (status == null) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.analytics.status.null"));
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException(messageSource.getMessage("validation.analytics.period"));
+        }
+    }
+}
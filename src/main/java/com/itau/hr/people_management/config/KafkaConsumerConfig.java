@@ -0,0 +1,118 @@
+package com.itau.hr.people_management.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.KafkaListenerConfigurer;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventDispatcher;
+import com.itau.hr.people_management.infrastructure.kafka.OutboxTopics;
+import com.itau.hr.people_management.infrastructure.kafka.backpressure.EmployeeConsumerBatchInterceptor;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventDeserializationException;
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
+import com.itau.hr.people_management.infrastructure.kafka.retry.RetryLevelListenerEndpoint;
+import com.itau.hr.people_management.infrastructure.outbox.exception.UnsupportedPayloadFormatException;
+
+@Configuration
+public class KafkaConsumerConfig {
+    private static final Logger log = LoggerFactory.getLogger(KafkaConsumerConfig.class);
+
+    /**
+     * Replaces the auto-configured factory, keeping every {@code spring.kafka.listener.*} setting,
+     * and runs {@code concurrency} consumers per listener. Threads beyond the topic's partition
+     * count get no assignment and stay idle. Every poll goes through the interceptor that feeds
+     * the in-flight and lag gauges.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> kafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ObjectProvider<ConsumerFactory<Object, Object>> consumerFactory,
+            EmployeeConsumerBatchInterceptor batchInterceptor,
+            @Value("${application.kafka.consumer.concurrency:3}") int concurrency,
+            @Value("${application.kafka.topics.partitions:6}") int partitions) {
+        if (concurrency > partitions) {
+            log.warn("Kafka listener concurrency {} exceeds the {} partitions per topic; {} consumers will be idle",
+                concurrency, partitions, concurrency - partitions);
+        }
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory.getIfAvailable());
+        factory.setConcurrency(concurrency);
+        factory.setBatchInterceptor(batchInterceptor);
+        return factory;
+    }
+
+    /**
+     * One listener container per retry topic, so a level paused until its next record is due
+     * never holds back the records of a shorter level.
+     */
+    @Bean
+    public KafkaListenerConfigurer employeeEventRetryListeners(
+            EmployeeEventDispatcher dispatcher,
+            EmployeeEventRetryTopics retryTopics,
+            @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        return registrar -> OutboxTopics.topicsByEventType().forEach((eventType, topic) -> {
+            EventType topicEventType = EventType.valueOf(eventType);
+            retryTopics.retryTopics(topic).forEach(retryTopic -> registrar.registerEndpoint(
+                new RetryLevelListenerEndpoint(retryTopic, groupId,
+                    (messages, acknowledgment) -> dispatcher.dispatchRetries(messages, acknowledgment, topicEventType))));
+        });
+    }
+
+    /**
+     * After {@code in-place-attempts} quick retries on the same poll, a failed record is published
+     * to the next retry topic of its chain and the partition moves on, so one bad record no longer
+     * blocks the employees behind it. Records that can never be decoded go straight to the
+     * dead-letter topic. The {@code kafka_dlt-*} headers keep the topic, partition and offset the
+     * record first failed on and the last exception.
+     * <p>
+     * The employee's later records are not held back behind a retried one and can reach the
+     * handlers first, so per-employee order only holds while nothing is retried. Handlers must not
+     * rely on it: the history is ordered by {@code occurred_on} when read and a late event drops
+     * the newer snapshots (V10), and the status analytics place a late event where it belongs in
+     * the employee's timeline.
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            EmployeeEventRetryTopics retryTopics,
+            @Value("${application.kafka.retry.in-place-attempts:2}") long inPlaceAttempts,
+            @Value("${application.kafka.retry.in-place-backoff-ms:500}") long inPlaceBackoffMs) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+            (message, exception) -> new TopicPartition(destination(retryTopics, message.topic(), exception), -1));
+        recoverer.setAppendOriginalHeaders(false);
+        recoverer.setHeadersFunction((message, exception) ->
+            retryTopics.dueAtHeader(destination(retryTopics, message.topic(), exception)));
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(inPlaceBackoffMs, inPlaceAttempts));
+        errorHandler.addNotRetryableExceptions(EmployeeEventDeserializationException.class, UnsupportedPayloadFormatException.class);
+        return errorHandler;
+    }
+
+    private static String destination(EmployeeEventRetryTopics retryTopics, String topic, Exception exception) {
+        return isNotRecoverable(exception)
+            ? retryTopics.deadLetterTopic(retryTopics.mainTopic(topic))
+            : retryTopics.nextTopic(topic);
+    }
+
+    private static boolean isNotRecoverable(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof EmployeeEventDeserializationException || cause instanceof UnsupportedPayloadFormatException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.itau.hr.people_management.config;
+
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class KafkaProducerConfig {
+    private static final Logger log = LoggerFactory.getLogger(KafkaProducerConfig.class);
+
+    /**
+     * Applies the selected {@link KafkaProducerProfile} on top of the auto-configured producer
+     * factory, keeping bootstrap servers, serializers and security from {@code spring.kafka.*}.
+     * The profiles keep idempotence on, which the producer refuses with {@code retries=0}, so
+     * that setting falls back to Kafka's default; {@code delivery.timeout.ms} still bounds retrying.
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer producerProfileCustomizer(
+            @Value("${application.kafka.producer-profile:HIGH_THROUGHPUT}") KafkaProducerProfile profile) {
+        log.info("Using Kafka producer profile {}", profile);
+        return producerFactory -> {
+            producerFactory.updateConfigs(profile.producerConfigs());
+            Object retries = producerFactory.getConfigurationProperties().get(ProducerConfig.RETRIES_CONFIG);
+            if (retries != null && "0".equals(retries.toString())) {
+                log.warn("Ignoring retries=0: Kafka producer profile {} keeps idempotence on, which needs retries", profile);
+                producerFactory.updateConfigs(Map.of(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE));
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.itau.hr.people_management.config;
+
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+/**
+ * Named producer tunings for the outbox relay. Both keep idempotence on, so retries cannot
+ * duplicate or reorder records of the same key.
+ */
+public enum KafkaProducerProfile {
+    LOW_LATENCY(0, 16_384, "none"),
+    HIGH_THROUGHPUT(20, 131_072, "lz4");
+
+    private static final int MAX_IN_FLIGHT_WITH_IDEMPOTENCE = 5;
+
+    private final int lingerMs;
+    private final int batchSizeBytes;
+    private final String compressionType;
+
+    KafkaProducerProfile(int lingerMs, int batchSizeBytes, String compressionType) {
+        this.lingerMs = lingerMs;
+        this.batchSizeBytes = batchSizeBytes;
+        this.compressionType = compressionType;
+    }
+
+    public Map<String, Object> producerConfigs() {
+        return Map.of(
+            ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+            ProducerConfig.ACKS_CONFIG, "all",
+            ProducerConfig.LINGER_MS_CONFIG, lingerMs,
+            ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes,
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType,
+            ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, MAX_IN_FLIGHT_WITH_IDEMPOTENCE
+        );
+    }
+}
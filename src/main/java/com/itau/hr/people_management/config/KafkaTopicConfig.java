@@ -1,26 +1,56 @@
 package com.itau.hr.people_management.config;
 
+import java.util.stream.Stream;
+
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
 
+/**
+ * Partition count bounds consumer parallelism: each partition is read by at most one listener
+ * thread of the group. Records are keyed by employee id, so one employee's events stay in one
+ * partition and keep their order at any partition count.
+ */
 @Configuration
 public class KafkaTopicConfig {
 
     @Bean
-    public NewTopic employeeCreatedTopic() {
+    public NewTopic employeeCreatedTopic(
+            @Value("${application.kafka.topics.employee-created.partitions:${application.kafka.topics.partitions:6}}") int partitions,
+            @Value("${application.kafka.topics.employee-created.replicas:${application.kafka.topics.replicas:1}}") int replicas) {
         return TopicBuilder.name("employee.created")
-                .partitions(1)
-                .replicas(1)
+                .partitions(partitions)
+                .replicas(replicas)
                 .build();
     }
 
     @Bean
-    public NewTopic employeeStatusChangedTopic() {
+    public NewTopic employeeStatusChangedTopic(
+            @Value("${application.kafka.topics.employee-status-changed.partitions:${application.kafka.topics.partitions:6}}") int partitions,
+            @Value("${application.kafka.topics.employee-status-changed.replicas:${application.kafka.topics.replicas:1}}") int replicas) {
         return TopicBuilder.name("employee.status.changed")
-                .partitions(1)
-                .replicas(1)
+                .partitions(partitions)
+                .replicas(replicas)
                 .build();
     }
+
+    /**
+     * Retry and dead-letter topics of both employee topics, with the partition count of their main
+     * topic so the key still decides the partition along the chain.
+     */
+    @Bean
+    public KafkaAdmin.NewTopics employeeRetryTopics(
+            EmployeeEventRetryTopics retryTopics,
+            NewTopic employeeCreatedTopic,
+            NewTopic employeeStatusChangedTopic) {
+        return new KafkaAdmin.NewTopics(Stream.of(employeeCreatedTopic, employeeStatusChangedTopic)
+                .flatMap(mainTopic -> retryTopics.allTopics(mainTopic.name()).stream()
+                        .map(topic -> new NewTopic(topic, mainTopic.numPartitions(), mainTopic.replicationFactor())))
+                .toArray(NewTopic[]::new));
+    }
 }
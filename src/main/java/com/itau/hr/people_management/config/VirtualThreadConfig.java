@@ -0,0 +1,60 @@
+package com.itau.hr.people_management.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.itau.hr.people_management.infrastructure.persistence.datasource.ConnectionBulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true}, when Spring Boot already runs Tomcat
+ * requests, {@code @Scheduled} tasks, the {@code @Async} executor and the Kafka listener containers on
+ * virtual threads. Threads stop being the limit on concurrency, so the connection pool becomes it:
+ * the pool is put behind a {@link ConnectionBulkheadDataSource}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * One permit per pooled connection unless {@code application.datasource.bulkhead.permits} is set;
+     * waiters give up after the pool's {@code connection-timeout}.
+     */
+    @Bean
+    static BeanPostProcessor connectionBulkheadPostProcessor(@Value("${application.datasource.bulkhead.permits:0}") int permits) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                int maxPermits = permits > 0 ? permits : pool.getMaximumPoolSize();
+                log.info("Virtual threads enabled: connections of '{}' limited to {} at once", beanName, maxPermits);
+                return new ConnectionBulkheadDataSource(pool, maxPermits, Duration.ofMillis(pool.getConnectionTimeout()));
+            }
+        };
+    }
+
+    /** Publishes {@code datasource.bulkhead.waiting}, read by the Kafka backpressure next to the pool's own pending count. */
+    @Bean
+    MeterBinder connectionBulkheadMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(ConnectionBulkheadDataSource.class)) {
+            return registry -> { };
+        }
+        return dataSource.unwrap(ConnectionBulkheadDataSource.class)::bindTo;
+    }
+}
@@ -0,0 +1,35 @@
+package com.itau.hr.people_management.domain.employee.analytics;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Closed intervals an employee of the department spent in {@code status}, counted in the month they
+ * were closed. {@code month} is {@code null} when the rollup sums a range of months.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusDurationRollup {
+    private UUID departmentId;
+    private String departmentName;
+    private YearMonth month;
+    private EmployeeStatus status;
+    private long closedIntervals;
+    private Duration totalDuration;
+
+    public Duration averageDuration() {
+        return closedIntervals == 0 ? Duration.ZERO : totalDuration.dividedBy(closedIntervals);
+    }
+}
@@ -0,0 +1,10 @@
+package com.itau.hr.people_management.domain.employee.analytics;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+/** An event that put the employee in {@code status} at {@code startedOn}. */
+public record StatusStart(UUID eventId, UUID employeeId, EmployeeStatus status, Instant startedOn) {
+}
@@ -0,0 +1,56 @@
+package com.itau.hr.people_management.domain.employee.criteria;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Filters of a history page: {@code occurredFrom} is inclusive, {@code occurredTo} exclusive, and
+ * {@code after} the cursor of the last event of the previous page. {@code oldStatus} and
+ * {@code newStatus} match status changes only. Without {@code employeeId} the page spans all employees.
+ */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+public class EmployeeHistoryCriteria {
+    private UUID employeeId;
+    private EventType eventType;
+    private EmployeeStatus oldStatus;
+    private EmployeeStatus newStatus;
+    private Instant occurredFrom;
+    private Instant occurredTo;
+    private EmployeeEventCursor after;
+    private int limit;
+
+    public Optional<EventType> getEventType() {
+        return Optional.ofNullable(eventType);
+    }
+
+    public Optional<EmployeeStatus> getOldStatus() {
+        return Optional.ofNullable(oldStatus);
+    }
+
+    public Optional<EmployeeStatus> getNewStatus() {
+        return Optional.ofNullable(newStatus);
+    }
+
+    public Optional<Instant> getOccurredFrom() {
+        return Optional.ofNullable(occurredFrom);
+    }
+
+    public Optional<Instant> getOccurredTo() {
+        return Optional.ofNullable(occurredTo);
+    }
+
+    public Optional<EmployeeEventCursor> getAfter() {
+        return Optional.ofNullable(after);
+    }
+}
@@ -0,0 +1,36 @@
+package com.itau.hr.people_management.domain.employee.history;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in an employee's history, newest first: the page after it starts with the events
+ * strictly older than {@code (occurredOn, id)}. Serialized as an opaque URL-safe token.
+ */
+public record EmployeeEventCursor(Instant occurredOn, UUID id) {
+    private static final String SEPARATOR = "|";
+
+    public static EmployeeEventCursor of(EmployeeEvent employeeEvent) {
+        return new EmployeeEventCursor(employeeEvent.getOccurredOn(), employeeEvent.getId());
+    }
+
+    public String encode() {
+        String position = occurredOn + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeEventCursor decode(String token) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = position.indexOf(SEPARATOR);
+            return new EmployeeEventCursor(
+                Instant.parse(position.substring(0, separator)),
+                UUID.fromString(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid history cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.itau.hr.people_management.domain.employee.history;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An employee as rebuilt from its history: the fields carried by the events applied so far, and the
+ * position {@code (lastEventOccurredOn, lastEventId)} of the last one. Department and position are
+ * not part of any event, so they cannot be rebuilt.
+ */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeState {
+    private UUID employeeId;
+    private String name;
+    private String email;
+    private EmployeeStatus status;
+    private UUID lastEventId;
+    private Instant lastEventOccurredOn;
+    private long eventsApplied;
+
+    public static EmployeeState initial(UUID employeeId) {
+        return EmployeeState.builder().employeeId(employeeId).build();
+    }
+
+    /** New employees always start as {@link EmployeeStatus#ACTIVE}. */
+    public void applyCreated(EmployeeEvent event, String name, String email) {
+        this.name = name;
+        this.email = email;
+        this.status = EmployeeStatus.ACTIVE;
+        advanceTo(event);
+    }
+
+    public void applyStatusChanged(EmployeeEvent event, EmployeeStatus newStatus) {
+        this.status = newStatus;
+        advanceTo(event);
+    }
+
+    /** Counts an event whose payload could not be read, so positions stay the same on every replay. */
+    public void skip(EmployeeEvent event) {
+        advanceTo(event);
+    }
+
+    public boolean exists() {
+        return eventsApplied > 0;
+    }
+
+    /** Whether a snapshot taken every {@code interval} events falls on the current position. */
+    public boolean isSnapshotDue(int interval) {
+        return eventsApplied > 0 && eventsApplied % interval == 0;
+    }
+
+    private void advanceTo(EmployeeEvent event) {
+        this.lastEventId = event.getId();
+        this.lastEventOccurredOn = event.getOccurredOn();
+        this.eventsApplied++;
+    }
+}
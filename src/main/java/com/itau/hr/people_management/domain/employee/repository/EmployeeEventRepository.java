@@ -1,7 +1,22 @@
 package com.itau.hr.people_management.domain.employee.repository;
 
+import java.util.List;
+
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
 import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
 
 public interface EmployeeEventRepository {
     void save(EmployeeEvent employeeEvent);
+
+    /**
+     * Stores the events in one transaction, skipping those already stored (same id), so a
+     * replayed batch is a no-op. Returns how many events were new.
+     */
+    int saveAll(List<EmployeeEvent> employeeEvents);
+
+    /**
+     * Up to {@code criteria.limit} events of the employee matching the filters, newest first
+     * (ties broken by id, descending).
+     */
+    List<EmployeeEvent> findHistory(EmployeeHistoryCriteria criteria);
 }
@@ -0,0 +1,17 @@
+package com.itau.hr.people_management.domain.employee.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+
+public interface EmployeeStateRepository {
+
+    /**
+     * State of each employee after every event of its history that occurred at or before
+     * {@code asOf}. Employees without such events are left out of the map.
+     */
+    Map<UUID, EmployeeState> findAsOf(Collection<UUID> employeeIds, Instant asOf);
+}
@@ -0,0 +1,32 @@
+package com.itau.hr.people_management.domain.employee.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.analytics.StatusDurationRollup;
+import com.itau.hr.people_management.domain.employee.analytics.StatusStart;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+public interface EmployeeStatusAnalyticsRepository {
+
+    /**
+     * Records that the employee entered {@code status} at {@code startedOn}: the interval it falls in
+     * is closed there and the rollups follow. Events may arrive late or twice; returns {@code false}
+     * when the event was already recorded.
+     */
+    boolean recordStatusStart(UUID eventId, UUID employeeId, EmployeeStatus status, Instant startedOn);
+
+    /**
+     * Records every start like {@link #recordStatusStart} in a single transaction; returns how many
+     * were not recorded before.
+     */
+    int recordStatusStarts(List<StatusStart> starts);
+
+    /** One rollup per department, summed over the months in {@code [from, to]}; either bound may be {@code null}. */
+    List<StatusDurationRollup> findByDepartment(EmployeeStatus status, YearMonth from, YearMonth to);
+
+    /** The department's rollup of each month in {@code [from, to]} that closed an interval, oldest first. */
+    List<StatusDurationRollup> findMonthly(UUID departmentId, EmployeeStatus status, YearMonth from, YearMonth to);
+}
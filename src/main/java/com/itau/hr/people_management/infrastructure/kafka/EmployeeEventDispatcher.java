@@ -0,0 +1,220 @@
+package com.itau.hr.people_management.infrastructure.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelopeReader;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventDeserializationException;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventProcessingException;
+import com.itau.hr.people_management.infrastructure.kafka.keyed.KeyedRecordExecutor;
+import com.itau.hr.people_management.infrastructure.kafka.keyed.PollOffsetTracker;
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+
+/**
+ * The single consumer of each employee topic. Records are decoded once and fanned out to every
+ * {@link EmployeeEventHandler}, so handlers sharing the consumer group no longer split partitions.
+ * In {@code keyed} processing mode each record is fanned out on its own, through the
+ * {@link KeyedRecordExecutor}, instead of the whole poll at once.
+ */
+@Component
+public class EmployeeEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeEventDispatcher.class);
+    private static final int MAX_PREVIEW_LENGTH = 500;
+    private final EmployeeEventEnvelopeReader envelopeReader;
+    private final OutboxPayloadCodec payloadCodec;
+    private final EmployeeEventRetryTopics retryTopics;
+    private final List<EmployeeEventHandler> handlers;
+    private final KeyedRecordExecutor keyedRecordExecutor;
+
+    public EmployeeEventDispatcher(EmployeeEventEnvelopeReader envelopeReader, OutboxPayloadCodec payloadCodec,
+                                   EmployeeEventRetryTopics retryTopics, List<EmployeeEventHandler> handlers,
+                                   Optional<KeyedRecordExecutor> keyedRecordExecutor) {
+        this.envelopeReader = envelopeReader;
+        this.payloadCodec = payloadCodec;
+        this.retryTopics = retryTopics;
+        this.handlers = handlers;
+        this.keyedRecordExecutor = keyedRecordExecutor.orElse(null);
+    }
+
+    @KafkaListener(topics = "employee.created", groupId = "${spring.kafka.consumer.group-id}", batch = "true")
+    public void dispatchEmployeeCreatedEvents(List<ConsumerRecord<String, byte[]>> messages) {
+        dispatch(messages, EventType.EMPLOYEE_CREATED_EVENT);
+    }
+
+    @KafkaListener(topics = "employee.status.changed", groupId = "${spring.kafka.consumer.group-id}", batch = "true")
+    public void dispatchEmployeeStatusChangedEvents(List<ConsumerRecord<String, byte[]>> messages) {
+        dispatch(messages, EventType.EMPLOYEE_STATUS_CHANGED_EVENT);
+    }
+
+    /**
+     * Listener of one retry level, registered per retry topic by {@code KafkaConsumerConfig}. The
+     * records already due are handed out; from the first one that is not, the poll is nacked, so
+     * the container commits what came before, seeks back and pauses the level until it is due
+     * while it keeps polling. The consumer thread never waits on a retry delay.
+     */
+    public void dispatchRetries(List<ConsumerRecord<String, byte[]>> messages, Acknowledgment acknowledgment,
+                                EventType topicEventType) {
+        for (int index = 0; index < messages.size(); index++) {
+            long remainingDelayMs = retryTopics.remainingDelayMs(messages.get(index));
+            if (remainingDelayMs > 0) {
+                dispatch(messages, 0, index, topicEventType);
+                acknowledgment.nack(index, Duration.ofMillis(remainingDelayMs));
+                return;
+            }
+        }
+        dispatch(messages, topicEventType);
+        acknowledgment.acknowledge();
+    }
+
+    private void dispatch(List<ConsumerRecord<String, byte[]>> messages, EventType topicEventType) {
+        dispatch(messages, 0, messages.size(), topicEventType);
+    }
+
+    /**
+     * Decodes the whole poll and fans it out. When a record cannot be decoded, the records before
+     * it are handed out and the container is told its index, so it commits up to there and
+     * retries from it.
+     */
+    private void dispatch(List<ConsumerRecord<String, byte[]>> messages, int from, int to, EventType topicEventType) {
+        List<EmployeeEventRecord> records = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            ConsumerRecord<String, byte[]> message = messages.get(index);
+            try {
+                EmployeeEventEnvelope<?> envelope = decode(message, topicEventType);
+                if (envelope != null) {
+                    records.add(new EmployeeEventRecord(message, envelope));
+                }
+            } catch (RuntimeException e) {
+                handOut(topicEventType, records);
+                throw new BatchListenerFailedException(e.getMessage(), e, index);
+            }
+        }
+        handOut(topicEventType, records);
+    }
+
+    private void handOut(EventType topicEventType, List<EmployeeEventRecord> records) {
+        if (keyedRecordExecutor == null || records.isEmpty()) {
+            fanOut(topicEventType, records);
+            return;
+        }
+
+        PollOffsetTracker tracker = keyedRecordExecutor.process(records, eventRecord -> fanOut(topicEventType, List.of(eventRecord)));
+        OptionalInt firstIncomplete = tracker.firstIncomplete();
+        if (firstIncomplete.isPresent()) {
+            int index = firstIncomplete.getAsInt();
+            RuntimeException failure = tracker.failure(index);
+            throw new BatchListenerFailedException("Keyed processing stopped at " + topicEventType,
+                failure != null ? failure : new EmployeeEventProcessingException("Failed to process " + topicEventType + ".", null),
+                records.get(index).message());
+        }
+    }
+
+    private EmployeeEventEnvelope<?> decode(ConsumerRecord<String, byte[]> message, EventType topicEventType) {
+        try {
+            validateMessage(message);
+
+            EmployeeEventEnvelope<?> envelope = envelopeReader.read(message, topicEventType);
+
+            if (!envelope.isComplete()) {
+                if (log.isErrorEnabled()) {
+                    log.error("KAFKA_ERROR: Invalid {} received. Message: {}", envelope.eventType(), truncateMessage(message));
+                }
+                return null;
+            }
+            return envelope;
+        } catch (JsonProcessingException e) {
+            if (log.isErrorEnabled()) {
+                log.error("DESERIALIZATION_ERROR: Failed to deserialize {}. Invalid JSON: {}", topicEventType, truncateMessage(message), e);
+            }
+            throw new EmployeeEventDeserializationException("Failed to deserialize " + topicEventType + ".", e);
+        } catch (Exception e) {
+            if (log.isErrorEnabled()) {
+                log.error("KAFKA_ERROR: Error decoding {}. Message: {}", topicEventType, truncateMessage(message), e);
+            }
+            throw new EmployeeEventProcessingException("Failed to process " + topicEventType + ".", e);
+        }
+    }
+
+    /**
+     * Runs every handler even when an earlier one fails, then rethrows the failure reported at the
+     * earliest record, with the others suppressed, so the container commits no record a handler
+     * still has to process. A failure that names no record counts as failing the whole batch.
+     */
+    private void fanOut(EventType topicEventType, List<EmployeeEventRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        RuntimeException failure = null;
+        int failureIndex = Integer.MAX_VALUE;
+        for (EmployeeEventHandler handler : handlers) {
+            try {
+                handler.handle(topicEventType, records);
+            } catch (RuntimeException e) {
+                log.error("KAFKA_HANDLER_ERROR: {} failed on {} {} records", handler.getClass().getSimpleName(), records.size(), topicEventType, e);
+                int index = failedIndex(e, records);
+                if (failure == null) {
+                    failure = e;
+                    failureIndex = index;
+                } else if (index < failureIndex) {
+                    e.addSuppressed(failure);
+                    failure = e;
+                    failureIndex = index;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static int failedIndex(RuntimeException failure, List<EmployeeEventRecord> records) {
+        if (failure instanceof BatchListenerFailedException batchFailure) {
+            if (batchFailure.getRecord() != null) {
+                for (int index = 0; index < records.size(); index++) {
+                    if (records.get(index).message() == batchFailure.getRecord()) {
+                        return index;
+                    }
+                }
+            } else if (batchFailure.getIndex() >= 0) {
+                return batchFailure.getIndex();
+            }
+        }
+        return 0;
+    }
+
+    private void validateMessage(ConsumerRecord<String, byte[]> message) {
+        if (message == null || message.value() == null || message.value().length == 0) {
+            throw new IllegalArgumentException("Message cannot be null or empty");
+        }
+    }
+
+    private String truncateMessage(ConsumerRecord<String, byte[]> message) {
+        String preview = message == null
+            ? null
+            : payloadCodec.describe(message.value(), EmployeeEventHeaders.contentType(message.headers()));
+        return preview != null && preview.length() > MAX_PREVIEW_LENGTH
+            ? preview.substring(0, MAX_PREVIEW_LENGTH) + "..."
+            : preview;
+    }
+}
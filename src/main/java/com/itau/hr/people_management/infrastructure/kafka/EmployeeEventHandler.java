@@ -0,0 +1,18 @@
+package com.itau.hr.people_management.infrastructure.kafka;
+
+import java.util.List;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+
+/**
+ * In-process consumer of decoded employee events. {@link EmployeeEventDispatcher} hands every
+ * handler the same decoded poll, in {@link org.springframework.core.annotation.Order} order.
+ * A handler that throws gets the poll redelivered to all handlers, so handlers must be idempotent.
+ * A record that goes through a retry topic arrives after the employee's later records, so
+ * handlers must also accept an employee's events out of order.
+ */
+public interface EmployeeEventHandler {
+
+    void handle(EventType topicEventType, List<EmployeeEventRecord> records);
+}
@@ -0,0 +1,43 @@
+package com.itau.hr.people_management.infrastructure.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EmployeeEventHeaders {
+    public static final String CONTENT_TYPE = "content-type";
+    public static final String SCHEMA_VERSION = "schema-version";
+    public static final String EVENT_TYPE = "event-type";
+
+    public static void write(Headers headers, String eventType, String contentType, int schemaVersion) {
+        headers.add(EVENT_TYPE, eventType.getBytes(StandardCharsets.UTF_8));
+        headers.add(CONTENT_TYPE, contentType.getBytes(StandardCharsets.UTF_8));
+        headers.add(SCHEMA_VERSION, ByteBuffer.allocate(Integer.BYTES).putInt(schemaVersion).array());
+    }
+
+    public static String contentType(Headers headers) {
+        Header header = headers.lastHeader(CONTENT_TYPE);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    public static EventType eventType(Headers headers) {
+        Header header = headers.lastHeader(EVENT_TYPE);
+        return header == null ? null : EventType.valueOf(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    public static Integer schemaVersion(Headers headers) {
+        Header header = headers.lastHeader(SCHEMA_VERSION);
+        if (header == null || header.value().length != Integer.BYTES) {
+            return null;
+        }
+        return ByteBuffer.wrap(header.value()).getInt();
+    }
+}
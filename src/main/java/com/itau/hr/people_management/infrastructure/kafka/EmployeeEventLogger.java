@@ -1,113 +1,57 @@
 package com.itau.hr.people_management.infrastructure.kafka;
 
-import java.util.UUID;
-import java.util.function.Consumer;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
-import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
-import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventBinding;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventHandlerRegistry;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
 
 @Component
-public class EmployeeEventLogger {
+@Order(2)
+public class EmployeeEventLogger implements EmployeeEventHandler {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeEventLogger.class);
-    private final ObjectMapper objectMapper;
+    private final OutboxPayloadCodec payloadCodec;
     private static final String EVENT_RECEIVED_TEMPLATE = "EVENT_RECEIVED: {} | EventId: {} | EmployeeId: {} | {}";
+    private final EmployeeEventHandlerRegistry<String> details = new EmployeeEventHandlerRegistry<String>()
+        .on(EmployeeEventBinding.EMPLOYEE_CREATED, event -> String.format("Name: %s | Email: %s | OccurredOn: %s",
+            event.employeeName(),
+            event.employeeEmail(),
+            event.occurredOn()))
+        .on(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, event -> String.format("OldStatus: %s | NewStatus: %s | OccurredOn: %s",
+            event.oldStatus(),
+            event.newStatus(),
+            event.occurredOn()));
     
-    public EmployeeEventLogger(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public EmployeeEventLogger(OutboxPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
     }
 
-    @KafkaListener(topics = "employee.created", groupId = "${spring.kafka.consumer.group-id}")
-    public void listenEmployeeCreated(String message) {
-        processEvent(message, EmployeeCreatedEvent.class, this::logEmployeeCreatedEvent, "EmployeeCreatedEvent");
-    }
-
-    @KafkaListener(topics = "employee.status.changed", groupId = "${spring.kafka.consumer.group-id}")
-    public void listenEmployeeStatusChanged(String message) {
-        processEvent(message, EmployeeStatusChangedEvent.class, this::logEmployeeStatusChangedEvent, "EmployeeStatusChangedEvent");
+    @Override
+    public void handle(EventType topicEventType, List<EmployeeEventRecord> records) {
+        for (EmployeeEventRecord eventRecord : records) {
+            logEvent(eventRecord);
+        }
     }
 
-    private <T> void processEvent(String message, Class<T> eventClass, Consumer<T> logFunction, String eventType) {
+    private void logEvent(EmployeeEventRecord eventRecord) {
+        EmployeeEventEnvelope<?> envelope = eventRecord.envelope();
         try {
-            T event = deserializeEvent(message, eventClass);
-
-            if (isEventInvalid(event, eventClass)) {
-                log.error("KAFKA_ERROR: Invalid {} received. Message: {}", eventType, message);
-                return;
-            }
-
-            logFunction.accept(event);
-        } catch (JsonProcessingException e) {
-            log.error("KAFKA_ERROR: Failed to process {} for logging.", eventType, e);
+            log.info(EVENT_RECEIVED_TEMPLATE, envelope.eventType().name(), envelope.eventId(), envelope.employeeId(), details.dispatch(envelope));
         } catch (Exception e) {
-            log.error("KAFKA_ERROR: Error processing {} for logging. Message: {}", eventType, message, e);
+            log.error("KAFKA_ERROR: Error processing {} for logging. Message: {}", envelope.eventType(), describe(eventRecord), e);
         }
     }
 
-    private void logEmployeeCreatedEvent(EmployeeCreatedEvent event) {
-        if (event == null) {
-            log.warn("KAFKA_WARNING: Received null EmployeeCreatedEvent");
-            return;
-        }
-        
-        logEvent(
-            EventType.EMPLOYEE_CREATED_EVENT,
-            event.eventId(),
-            event.employeeId(),
-            String.format("Name: %s | Email: %s | OccurredOn: %s",
-                event.employeeName(),
-                event.employeeEmail(),
-                event.occurredOn())
-        );
-    }
-
-    private void logEmployeeStatusChangedEvent(EmployeeStatusChangedEvent event) {
-        if (event == null) {
-            log.warn("KAFKA_WARNING: Received null EmployeeStatusChangedEvent");
-            return;
-        }
-        
-        logEvent(
-            EventType.EMPLOYEE_STATUS_CHANGED_EVENT,
-            event.eventId(),
-            event.employeeId(),
-            String.format("OldStatus: %s | NewStatus: %s | OccurredOn: %s",
-                event.oldStatus(),
-                event.newStatus(),
-                event.occurredOn())
-        );
-    }
-
-    private void logEvent(EventType eventType, UUID eventId, UUID employeeId, String eventDetails) {
-        log.info(EVENT_RECEIVED_TEMPLATE, eventType.name(), eventId, employeeId, eventDetails);
-    }
-
-    private <T> T deserializeEvent(String message, Class<T> eventClass) throws JsonProcessingException {
-        return objectMapper.readValue(message, eventClass);
-    }
-
-    private <T> boolean isEventInvalid(T event, Class<T> eventClass) {
-        if (event == null) {
-            return true; 
-        }
-        
-        if (eventClass.equals(EmployeeCreatedEvent.class)) {
-            EmployeeCreatedEvent createdEvent = (EmployeeCreatedEvent) event;
-            return createdEvent.eventId() == null || createdEvent.employeeId() == null;
-        } else if (eventClass.equals(EmployeeStatusChangedEvent.class)) {
-            EmployeeStatusChangedEvent statusChangedEvent = (EmployeeStatusChangedEvent) event;
-            return statusChangedEvent.eventId() == null || statusChangedEvent.employeeId() == null ||
-                   statusChangedEvent.oldStatus() == null || statusChangedEvent.newStatus() == null;
-        }
-        
-        return false; 
+    private String describe(EmployeeEventRecord eventRecord) {
+        return payloadCodec.describe(eventRecord.message().value(), EmployeeEventHeaders.contentType(eventRecord.message().headers()));
     }
-}
\ No newline at end of file
+}
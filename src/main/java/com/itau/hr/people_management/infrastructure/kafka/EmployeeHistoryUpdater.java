@@ -1,177 +1,114 @@
 package com.itau.hr.people_management.infrastructure.kafka;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
-import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
-import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
 import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
 import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
-import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventDeserializationException;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
 import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventProcessingException;
-import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventReflectionException;
 import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeHistoryEventSaveException;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
 
 @Component
-public class EmployeeHistoryUpdater {
+@Order(1)
+public class EmployeeHistoryUpdater implements EmployeeEventHandler {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeHistoryUpdater.class);
     private final EmployeeEventRepository employeeEventRepository;
-    private final ObjectMapper objectMapper;
+    private final OutboxPayloadCodec payloadCodec;
 
-    public EmployeeHistoryUpdater(EmployeeEventRepository employeeEventRepository, ObjectMapper objectMapper) {
+    public EmployeeHistoryUpdater(EmployeeEventRepository employeeEventRepository, OutboxPayloadCodec payloadCodec) {
         this.employeeEventRepository = employeeEventRepository;
-        this.objectMapper = objectMapper;
-    }
-
-    @KafkaListener(topics = "employee.created", groupId = "${spring.kafka.consumer.group-id}")
-    @Transactional
-    public void handleEmployeeCreatedEvent(String message) {
-        processEvent(message, EmployeeCreatedEvent.class, EventType.EMPLOYEE_CREATED_EVENT, 
-            event -> "Colaborador '" + event.employeeName() + "' criado com e-mail: " + event.employeeEmail());
-    }
-
-    @KafkaListener(topics = "employee.status.changed", groupId = "${spring.kafka.consumer.group-id}")
-    @Transactional
-    public void handleEmployeeStatusChangedEvent(String message) {
-        processEvent(message, EmployeeStatusChangedEvent.class, EventType.EMPLOYEE_STATUS_CHANGED_EVENT, 
-            event -> "Status do colaborador alterado de '" + event.oldStatus() + "' para '" + event.newStatus() + "'");
-    }
-
-    private <T> void processEvent(String message, Class<T> eventClass, EventType eventType, java.util.function.Function<T, String> descriptionProvider) {
-        try {
-            validateMessage(message);
-            
-            T event = deserializeEvent(message, eventClass);
-
-            if (isEventInvalid(event, eventClass)) {
-                if (log.isErrorEnabled()) {
-                    log.error("KAFKA_ERROR: Invalid {} received. Message: {}", eventType, truncateMessage(message));
-                }
-                return;
+        this.payloadCodec = payloadCodec;
+    }
+
+    /**
+     * Stores the whole poll with a single bulk insert. When a record cannot be converted, the
+     * records before it are stored and the container is told which record failed, so it commits
+     * up to there and retries from it.
+     */
+    @Override
+    public void handle(EventType topicEventType, List<EmployeeEventRecord> records) {
+        List<EmployeeEvent> historyEvents = new ArrayList<>(records.size());
+        for (EmployeeEventRecord eventRecord : records) {
+            try {
+                historyEvents.add(toHistoryEvent(eventRecord));
+            } catch (Exception e) {
+                saveHistoryEvents(topicEventType, historyEvents);
+                EmployeeEventProcessingException failure = handleUnexpectedError(eventRecord, e);
+                throw new BatchListenerFailedException(failure.getMessage(), failure, eventRecord.message());
             }
-            
-            UUID employeeId = extractEmployeeId(event, eventClass);
-            UUID eventId = extractEventId(event, eventClass);
-            Instant occurredOn = extractOccurredOn(event, eventClass);
-
-            log.info("KAFKA_CONSUMER: Handling {} for history update for Employee ID: {}", eventType, employeeId);
-
-            EmployeeEvent historyEvent = createHistoryEvent(eventId, employeeId, eventType, descriptionProvider.apply(event), occurredOn, message);
-            saveHistoryEvent(historyEvent);
-            
-            log.debug("KAFKA_CONSUMER: {} history saved for employee ID: {}", eventType, employeeId);
-        } catch (JsonProcessingException e) {
-            handleDeserializationError(eventType, message, e);
-        } catch (ReflectiveOperationException e) {
-            handleReflectionError(eventType, message, e);
-        } catch (EmployeeHistoryEventSaveException e) {
-            handleEmployeeHistoryEventSaveException(eventType, message, e);
-        } catch (Exception e) {
-            handleUnexpectedError(eventType, message, e);
         }
+        saveHistoryEvents(topicEventType, historyEvents);
     }
 
-    private void validateMessage(String message) {
-        if (message == null || message.trim().isEmpty()) {
-            throw new IllegalArgumentException("Message cannot be null or empty");
-        }
-    }
+    private EmployeeEvent toHistoryEvent(EmployeeEventRecord eventRecord) throws IOException {
+        EmployeeEventEnvelope<?> envelope = eventRecord.envelope();
 
-    private <T> T deserializeEvent(String message, Class<T> eventClass) throws JsonProcessingException {
-        return objectMapper.readValue(message, eventClass);
-    }
+        log.debug("KAFKA_CONSUMER: Handling {} for history update for Employee ID: {}", envelope.eventType(), envelope.employeeId());
 
-    private <T> UUID extractEmployeeId(T event, Class<T> eventClass) throws ReflectiveOperationException {
-        return (UUID) eventClass.getMethod("employeeId").invoke(event);
+        return createHistoryEvent(envelope.eventId(), envelope.employeeId(), envelope.eventType(),
+            envelope.occurredOn(), toJson(eventRecord.message()));
     }
 
-    private <T> UUID extractEventId(T event, Class<T> eventClass) throws ReflectiveOperationException {
-        return (UUID) eventClass.getMethod("eventId").invoke(event);
+    private String toJson(ConsumerRecord<String, byte[]> message) throws IOException {
+        return payloadCodec.toJson(message.value(), EmployeeEventHeaders.contentType(message.headers()));
     }
 
-    private <T> Instant extractOccurredOn(T event, Class<T> eventClass) throws ReflectiveOperationException {
-        return (Instant) eventClass.getMethod("occurredOn").invoke(event);
-    }
-
-    private EmployeeEvent createHistoryEvent(UUID eventId, UUID employeeId, EventType eventType, 
-                                           String description, Instant occurredOn, String rawMessage) {
+    // The description is not stored; it is derived from the payload when the history is read (V11).
+    private EmployeeEvent createHistoryEvent(UUID eventId, UUID employeeId, EventType eventType,
+                                           Instant occurredOn, String rawMessage) {
         return EmployeeEvent.builder()
             .id(eventId)
             .employeeId(employeeId)
             .eventType(eventType)
-            .description(description)
             .occurredOn(occurredOn)
             .eventData(rawMessage)
             .build();
     }
 
-    private void saveHistoryEvent(EmployeeEvent historyEvent) {
-        try {
-            employeeEventRepository.save(historyEvent);
-        } catch (Exception e) {
-            throw new EmployeeHistoryEventSaveException("Failed to save employee history event", e);
+    private void saveHistoryEvents(EventType eventType, List<EmployeeEvent> historyEvents) {
+        if (historyEvents.isEmpty()) {
+            return;
         }
-    }
 
-    private void handleDeserializationError(EventType eventType, String message, JsonProcessingException e) {
-        if (log.isErrorEnabled()) {
-            log.error("DESERIALIZATION_ERROR: Failed to deserialize {} for history. Invalid JSON: {}", eventType, truncateMessage(message), e);
+        int stored;
+        try {
+            stored = employeeEventRepository.saveAll(historyEvents);
+        } catch (Exception e) {
+            log.error("HISTORY_SAVE_ERROR: Failed to save {} for history. Events: {}", eventType, historyEvents.size(), e);
+            throw new EmployeeHistoryEventSaveException("Failed to save " + eventType + " for history update.", e);
         }
-        throw new EmployeeEventDeserializationException("Failed to deserialize " + eventType + " for history update.", e);
-    }
 
-    private void handleReflectionError(EventType eventType, String message, ReflectiveOperationException e) {
-        if (log.isErrorEnabled()) {
-            log.error("REFLECTION_ERROR: Failed to extract properties from {} for history. Message: {}", eventType, truncateMessage(message), e);
-        }
-        throw new EmployeeEventReflectionException("Failed to extract properties from " + eventType + " for history update.", e);
-    }
-    
-    private void handleUnexpectedError(EventType eventType, String message, Exception e) {
-        if (log.isErrorEnabled()) {
-            log.error("KAFKA_ERROR: Error handling {} for history. Message: {}", eventType, truncateMessage(message), e);
-        }
-        throw new EmployeeEventProcessingException("Failed to process " + eventType + " for history update.", e);
+        log.info("KAFKA_CONSUMER: Stored {} {} history events ({} already stored)", stored, eventType, historyEvents.size() - stored);
     }
 
-    private void handleEmployeeHistoryEventSaveException(EventType eventType, String message, Exception e) {
+    private EmployeeEventProcessingException handleUnexpectedError(EmployeeEventRecord eventRecord, Exception e) {
+        EventType eventType = eventRecord.envelope().eventType();
         if (log.isErrorEnabled()) {
-            log.error("HISTORY_SAVE_ERROR: Failed to save {} for history. Message: {}", eventType, truncateMessage(message), e);
+            log.error("KAFKA_ERROR: Error handling {} for history. Message: {}", eventType, truncateMessage(eventRecord.message()), e);
         }
-        throw new EmployeeHistoryEventSaveException("Failed to save " + eventType + " for history update.", e);
+        return new EmployeeEventProcessingException("Failed to process " + eventType + " for history update.", e);
     }
 
-    private String truncateMessage(String message) {
+    private String truncateMessage(ConsumerRecord<String, byte[]> message) {
         final int maxLength = 500;
-        return message != null && message.length() > maxLength 
-            ? message.substring(0, maxLength) + "..." 
-            : message;
-    }
-
-    private <T> boolean isEventInvalid(T event, Class<T> eventClass) {
-        if (event == null) {
-            return true; 
-        }
-        
-        if (eventClass.equals(EmployeeCreatedEvent.class)) {
-            EmployeeCreatedEvent createdEvent = (EmployeeCreatedEvent) event;
-            return createdEvent.eventId() == null || createdEvent.employeeId() == null;
-        } else if (eventClass.equals(EmployeeStatusChangedEvent.class)) {
-            EmployeeStatusChangedEvent statusChangedEvent = (EmployeeStatusChangedEvent) event;
-            return statusChangedEvent.eventId() == null || statusChangedEvent.employeeId() == null ||
-                   statusChangedEvent.oldStatus() == null || statusChangedEvent.newStatus() == null;
-        }
-        
-        return false; 
+        String preview = payloadCodec.describe(message.value(), EmployeeEventHeaders.contentType(message.headers()));
+        return preview != null && preview.length() > maxLength 
+            ? preview.substring(0, maxLength) + "..." 
+            : preview;
     }
 }
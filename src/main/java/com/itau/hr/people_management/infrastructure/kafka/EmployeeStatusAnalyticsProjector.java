@@ -0,0 +1,107 @@
+package com.itau.hr.people_management.infrastructure.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.domain.employee.analytics.StatusStart;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventBinding;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventHandlerRegistry;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventProcessingException;
+
+/**
+ * Feeds the status-duration projection: every event that sets a status starts a new interval for the
+ * employee. The whole poll is applied in one transaction; a redelivered record is recognized by its
+ * event id and skipped. When the poll fails, it is applied again one record per transaction, so the
+ * records before the failing one are kept and the container retries from it.
+ */
+@Component
+@Order(3)
+public class EmployeeStatusAnalyticsProjector implements EmployeeEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeStatusAnalyticsProjector.class);
+    private final EmployeeStatusAnalyticsRepository analyticsRepository;
+    private final EmployeeEventHandlerRegistry<EmployeeStatus> statuses = new EmployeeEventHandlerRegistry<EmployeeStatus>()
+        .on(EmployeeEventBinding.EMPLOYEE_CREATED, event -> EmployeeStatus.ACTIVE)
+        .on(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, event -> event.newStatus());
+
+    public EmployeeStatusAnalyticsProjector(EmployeeStatusAnalyticsRepository analyticsRepository) {
+        this.analyticsRepository = analyticsRepository;
+    }
+
+    @Override
+    public void handle(EventType topicEventType, List<EmployeeEventRecord> records) {
+        List<EmployeeEventRecord> projectable = new ArrayList<>(records.size());
+        List<StatusStart> starts = new ArrayList<>(records.size());
+        for (EmployeeEventRecord eventRecord : records) {
+            StatusStart start;
+            try {
+                start = toStatusStart(eventRecord.envelope());
+            } catch (RuntimeException e) {
+                project(topicEventType, projectable, starts);
+                throw failure(topicEventType, eventRecord, e);
+            }
+            if (start != null) {
+                projectable.add(eventRecord);
+                starts.add(start);
+            }
+        }
+        project(topicEventType, projectable, starts);
+    }
+
+    private void project(EventType topicEventType, List<EmployeeEventRecord> records, List<StatusStart> starts) {
+        if (starts.isEmpty()) {
+            return;
+        }
+
+        int recorded;
+        try {
+            recorded = analyticsRepository.recordStatusStarts(starts);
+        } catch (RuntimeException e) {
+            log.warn("ANALYTICS_PROJECTION: Failed to project {} {} records at once; projecting them one by one",
+                starts.size(), topicEventType, e);
+            recorded = projectOneByOne(topicEventType, records, starts);
+        }
+        log.debug("KAFKA_CONSUMER: Projected {} {} status intervals ({} already projected)", recorded, topicEventType, starts.size() - recorded);
+    }
+
+    private int projectOneByOne(EventType topicEventType, List<EmployeeEventRecord> records, List<StatusStart> starts) {
+        int recorded = 0;
+        for (int index = 0; index < starts.size(); index++) {
+            StatusStart start = starts.get(index);
+            try {
+                if (analyticsRepository.recordStatusStart(start.eventId(), start.employeeId(), start.status(), start.startedOn())) {
+                    recorded++;
+                }
+            } catch (RuntimeException e) {
+                throw failure(topicEventType, records.get(index), e);
+            }
+        }
+        return recorded;
+    }
+
+    private BatchListenerFailedException failure(EventType topicEventType, EmployeeEventRecord eventRecord, RuntimeException e) {
+        log.error("ANALYTICS_PROJECTION_ERROR: Failed to project {} {}", topicEventType, eventRecord.envelope().eventId(), e);
+        EmployeeEventProcessingException failure =
+            new EmployeeEventProcessingException("Failed to project " + topicEventType + " into status analytics.", e);
+        return new BatchListenerFailedException(failure.getMessage(), failure, eventRecord.message());
+    }
+
+    private StatusStart toStatusStart(EmployeeEventEnvelope<?> envelope) {
+        if (envelope.occurredOn() == null) {
+            log.warn("ANALYTICS_PROJECTION: Skipping {} {} without occurredOn", envelope.eventType(), envelope.eventId());
+            return null;
+        }
+        return new StatusStart(envelope.eventId(), envelope.employeeId(), statuses.dispatch(envelope), envelope.occurredOn());
+    }
+}
@@ -1,128 +1,336 @@
 package com.itau.hr.people_management.infrastructure.kafka;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.outbox.claim.OutboxMessageClaimer;
 import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.metrics.OutboxRelayMetrics;
 import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
 import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 @Component
+@ConditionalOnProperty(name = "application.outbox.relay-mode", havingValue = "polling", matchIfMissing = true)
 public class OutboxRelay {
     private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
     
     private final OutboxMessageRepository outboxMessageRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final Map<String, String> eventTypeToTopicMap;
+    private final OutboxMessageClaimer outboxMessageClaimer;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final RetryConfiguration retryConfiguration;
+    private final OutboxRelayMetrics relayMetrics;
     
     @Value("${application.outbox.batch-size:10}")
     private int batchSize;
 
+    @Value("${application.outbox.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${application.outbox.max-rate-per-second:0}")
+    private long maxRatePerSecond;
+
+    @Value("${application.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${application.outbox.relay-lanes:1}")
+    private int laneCount;
+
+    private volatile RelayLane[] lanes;
+    private ExecutorService lanePool;
+
     public OutboxRelay(OutboxMessageRepository outboxMessageRepository, 
-                      KafkaTemplate<String, String> kafkaTemplate,
+                      OutboxMessageClaimer outboxMessageClaimer,
+                      KafkaTemplate<String, byte[]> kafkaTemplate,
+                      OutboxRelayMetrics relayMetrics,
                       @Value("${application.outbox.max-retries:5}") int maxRetries,
                       @Value("${application.outbox.backoff-durations:5,10,30,60,300}") String backoffDurationsStr) {
         this.outboxMessageRepository = outboxMessageRepository;
+        this.outboxMessageClaimer = outboxMessageClaimer;
         this.kafkaTemplate = kafkaTemplate;
-        this.eventTypeToTopicMap = initializeEventTopicMapping();
+        this.relayMetrics = relayMetrics;
         this.retryConfiguration = new RetryConfiguration(maxRetries, parseBackoffDurations(backoffDurationsStr));
     }
 
+    @PostConstruct
+    void startLanes() {
+        lanes();
+        if (lanes.length > 1) {
+            lanePool = Executors.newFixedThreadPool(lanes.length, Thread.ofPlatform().name("outbox-relay-lane-", 0).factory());
+        }
+    }
+
+    @PreDestroy
+    void stopLanes() {
+        if (lanePool != null) {
+            lanePool.shutdown();
+        }
+    }
+
     @Scheduled(fixedDelayString = "${application.outbox.relay-delay:5000}")
-    @Transactional 
     public void processOutbox() {
-        List<OutboxMessage> pendingMessages = fetchPendingMessages();
+        long start = System.nanoTime();
+        RelayLane[] relayLanes = lanes();
+        if (lanePool == null) {
+            for (RelayLane lane : relayLanes) {
+                drainLane(lane);
+            }
+        } else {
+            List<Future<?>> drains = Arrays.stream(relayLanes)
+                .<Future<?>>map(lane -> lanePool.submit(() -> drainLane(lane)))
+                .toList();
+            awaitDrains(drains);
+        }
+        relayMetrics.recordCycle(System.nanoTime() - start);
+    }
+
+    private RelayLane[] lanes() {
+        RelayLane[] relayLanes = lanes;
+        if (relayLanes == null) {
+            synchronized (this) {
+                if (lanes == null) {
+                    lanes = IntStream.range(0, Math.max(1, laneCount))
+                        .mapToObj(RelayLane::new)
+                        .toArray(RelayLane[]::new);
+                }
+                relayLanes = lanes;
+            }
+        }
+        return relayLanes;
+    }
+
+    private void awaitDrains(List<Future<?>> drains) {
+        for (Future<?> drain : drains) {
+            try {
+                drain.get();
+            } catch (ExecutionException e) {
+                log.error("Outbox relay lane failed: {}", e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A lane is drained by one thread at a time. A wake-up that finds it busy is
+     * folded into the running drain instead of starting a second one. The flag is
+     * checked again after the drain lets go of the lane, so a wake-up that lands
+     * between the last drain and the release is not lost.
+     */
+    private void drainLane(RelayLane lane) {
+        lane.rerun.set(true);
+        while (lane.rerun.get() && lane.draining.compareAndSet(false, true)) {
+            try {
+                while (lane.rerun.getAndSet(false)) {
+                    drainLoop(lane);
+                }
+            } catch (RuntimeException e) {
+                log.error("Outbox relay lane {} failed: {}", lane.index, e.getMessage(), e);
+            } finally {
+                lane.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Keeps claiming while batches come back full, doubling the batch size up to
+     * {@code max-batch-size}; an empty batch halves it back towards {@code batch-size}.
+     */
+    private void drainLoop(RelayLane lane) {
+        long start = System.nanoTime();
+        long drained = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            int size = currentBatchSize(lane);
+            int claimed = drainBatch(lane, size);
+            drained += claimed;
+
+            if (claimed < size) {
+                if (claimed == 0) {
+                    adjustBatchSize(lane, size / 2);
+                }
+                break;
+            }
+            adjustBatchSize(lane, size * 2);
+            throttle(drained, start);
+        }
+
+        relayMetrics.recordDrainLoop(lane.index, drained, System.nanoTime() - start);
+    }
+
+    private int currentBatchSize(RelayLane lane) {
+        int size = lane.batchSize.get();
+        return size == 0 ? batchSize : size;
+    }
+
+    private void adjustBatchSize(RelayLane lane, int size) {
+        int bounded = Math.max(batchSize, Math.min(size, Math.max(batchSize, maxBatchSize)));
+        lane.batchSize.set(bounded);
+        relayMetrics.recordBatchSize(lane.index, bounded);
+    }
+
+    private void throttle(long drained, long startNanos) {
+        if (maxRatePerSecond <= 0) {
+            return;
+        }
+
+        long perLaneRate = Math.max(1, maxRatePerSecond / lanes().length);
+        long earliestNanos = drained * 1_000_000_000L / perLaneRate;
+        long aheadNanos = earliestNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private int drainBatch(RelayLane lane, int size) {
+        List<OutboxMessage> pendingMessages = outboxMessageClaimer.claim(size, lane.index, lanes().length);
 
         if (pendingMessages.isEmpty()) {
             log.debug("No pending outbox messages to process.");
-            return;
+            return 0;
         }
 
         log.info("Processing {} pending outbox messages.", pendingMessages.size());
-        pendingMessages.forEach(this::processMessage);
-    }
+        Instant processedAt = Instant.now();
+        List<UUID> sentIds = new ArrayList<>();
+        List<OutboxMessage> failedMessages = new ArrayList<>();
 
-    private List<OutboxMessage> fetchPendingMessages() {
-        List<OutboxMessageStatus> statuses = List.of(
-            OutboxMessageStatus.PENDING, 
-            OutboxMessageStatus.FAILED
-        );
-        
-        return outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            statuses, 
-            Instant.now(), 
-            PageRequest.of(0, batchSize)
-        );
+        Map<OutboxMessage, InFlightSend> inFlight = sendBatch(pendingMessages, failedMessages, processedAt);
+        if (!inFlight.isEmpty()) {
+            kafkaTemplate.flush();
+            awaitSends(inFlight, sentIds, failedMessages, processedAt);
+        }
+
+        applyResults(sentIds, failedMessages, processedAt);
+        failedMessages.forEach(message -> relayMetrics.recordOutcome(message.getEventType(),
+            message.getStatus() == OutboxMessageStatus.DEAD_LETTER ? "dead_letter" : "failed"));
+        return pendingMessages.size();
     }
 
-    private void processMessage(OutboxMessage message) {
-        try {
-            String topic = getTopicForEventType(message.getEventType());
-            sendMessageToKafka(message, topic);
-        } catch (IllegalArgumentException e) {
-            handleUnknownEventType(message);
-        } catch (Exception e) {
-            handleUnexpectedError(message, e);
+    private Map<OutboxMessage, InFlightSend> sendBatch(List<OutboxMessage> messages, List<OutboxMessage> failedMessages,
+                                                      Instant processedAt) {
+        Map<OutboxMessage, InFlightSend> inFlight = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            String topic;
+            try {
+                topic = getTopicForEventType(message.getEventType());
+            } catch (IllegalArgumentException e) {
+                handleUnknownEventType(message, processedAt);
+                failedMessages.add(message);
+                continue;
+            }
+
+            try {
+                long sentAt = System.nanoTime();
+                CompletableFuture<SendResult<String, byte[]>> future = sendMessageToKafka(message, topic);
+                future.whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        relayMetrics.recordAck(message.getEventType(),
+                            Duration.between(message.getOccurredOn(), Instant.now()), System.nanoTime() - sentAt);
+                    }
+                });
+                inFlight.put(message, new InFlightSend(topic, future));
+            } catch (Exception e) {
+                log.error("Unexpected error sending outbox message {}: {}", message.getId(), e.getMessage(), e);
+                handleFailedSend(message, topic, e, processedAt);
+                failedMessages.add(message);
+            }
         }
+        return inFlight;
     }
 
-    private void sendMessageToKafka(OutboxMessage message, String topic) {
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(
+    private CompletableFuture<SendResult<String, byte[]>> sendMessageToKafka(OutboxMessage message, String topic) {
+        ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(
             topic, 
             message.getAggregateId().toString(), 
             message.getPayload()
         );
+        EmployeeEventHeaders.write(producerRecord.headers(), message.getEventType(), message.getPayloadContentType(), message.getPayloadSchemaVersion());
 
-        future.whenComplete((result, ex) -> handleKafkaResult(message, topic, ex));
+        return kafkaTemplate.send(producerRecord);
     }
 
-    private void handleKafkaResult(OutboxMessage message, String topic, Throwable ex) {
-        if (ex == null) {
-            handleSuccessfulSend(message, topic);
-        } else {
-            handleFailedSend(message, topic, ex);
-        }
-    }
+    private void awaitSends(Map<OutboxMessage, InFlightSend> inFlight, List<UUID> sentIds,
+                            List<OutboxMessage> failedMessages, Instant processedAt) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
 
-    private void handleSuccessfulSend(OutboxMessage message, String topic) {
-        markMessageAsSuccessful(message);
-        saveMessage(message);
-        log.debug("Outbox message {} sent to Kafka topic {}", message.getId(), topic);
+        inFlight.forEach((message, send) -> {
+            try {
+                send.future().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(message.getId());
+                relayMetrics.recordOutcome(message.getEventType(), "sent");
+                log.debug("Outbox message {} sent to Kafka topic {}", message.getId(), send.topic());
+            } catch (ExecutionException e) {
+                handleFailedSend(message, send.topic(), e.getCause(), processedAt);
+                failedMessages.add(message);
+            } catch (TimeoutException e) {
+                handleFailedSend(message, send.topic(),
+                    new TimeoutException("No broker acknowledgement within " + sendTimeoutMs + " ms"), processedAt);
+                failedMessages.add(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                handleFailedSend(message, send.topic(), e, processedAt);
+                failedMessages.add(message);
+            }
+        });
     }
 
-    private void markMessageAsSuccessful(OutboxMessage message) {
-        message.setStatus(OutboxMessageStatus.SENT);
-        message.setProcessedAt(Instant.now());
-        message.setRetryAttempts(0);
-        message.setNextAttemptAt(null);
+    private void applyResults(List<UUID> sentIds, List<OutboxMessage> failedMessages, Instant processedAt) {
+        if (!sentIds.isEmpty()) {
+            outboxMessageRepository.markSent(sentIds, processedAt);
+        }
+
+        failedMessages.stream()
+            .collect(Collectors.groupingBy(FailureOutcome::of, LinkedHashMap::new,
+                Collectors.mapping(OutboxMessage::getId, Collectors.toList())))
+            .forEach((outcome, ids) -> outboxMessageRepository.markFailed(
+                ids, outcome.status(), outcome.retryAttempts(), outcome.nextAttemptAt(), processedAt));
     }
 
-    private void handleFailedSend(OutboxMessage message, String topic, Throwable ex) {
+    private void handleFailedSend(OutboxMessage message, String topic, Throwable ex, Instant now) {
         incrementRetryAttempt(message);
         
         if (shouldMoveToDeadLetter(message)) {
             moveMessageToDeadLetter(message, topic, ex);
         } else {
-            scheduleRetry(message, topic, ex);
+            scheduleRetry(message, topic, ex, now);
         }
         
-        message.setProcessedAt(Instant.now());
-        saveMessage(message);
+        message.setProcessedAt(now);
     }
 
     private void incrementRetryAttempt(OutboxMessage message) {
@@ -141,52 +349,31 @@ public class OutboxRelay {
                   message.getId(), message.getRetryAttempts(), topic, ex.getMessage(), ex);
     }
 
-    private void scheduleRetry(OutboxMessage message, String topic, Throwable ex) {
+    private void scheduleRetry(OutboxMessage message, String topic, Throwable ex, Instant now) {
         long delaySeconds = retryConfiguration.getBackoffDuration(message.getRetryAttempts());
         
         message.setStatus(OutboxMessageStatus.FAILED);
-        message.setNextAttemptAt(Instant.now().plusSeconds(delaySeconds));
+        message.setNextAttemptAt(now.plusSeconds(delaySeconds));
         
         log.warn("Outbox message {} failed (attempt {}/{}). Retrying in {} seconds. Topic: {}. Error: {}", 
                  message.getId(), message.getRetryAttempts(), retryConfiguration.getMaxRetries(), 
                  delaySeconds, topic, ex.getMessage());
     }
 
-    private void handleUnknownEventType(OutboxMessage message) {
-        log.error("No Kafka topic mapped for event type: {}. Message: {}", 
+    /**
+     * No retry can map an unknown event type to a topic, so the message is dead-lettered right
+     * away instead of blocking the rest of its aggregate.
+     */
+    private void handleUnknownEventType(OutboxMessage message, Instant now) {
+        log.error("No Kafka topic mapped for event type: {}. Outbox message {} moved to DEAD_LETTER.",
                   message.getEventType(), message.getId());
-        updateMessageStatus(message, OutboxMessageStatus.FAILED);
-    }
-
-    private void handleUnexpectedError(OutboxMessage message, Exception e) {
-        log.error("Unexpected error processing outbox message {}: {}", 
-                  message.getId(), e.getMessage(), e);
-        updateMessageStatus(message, OutboxMessageStatus.FAILED);
-    }
-
-    private void updateMessageStatus(OutboxMessage message, OutboxMessageStatus status) {
-        message.setStatus(status);
-        message.setProcessedAt(Instant.now());
-        saveMessage(message);
-    }
-
-    private void saveMessage(OutboxMessage message) {
-        outboxMessageRepository.save(message);
+        message.setStatus(OutboxMessageStatus.DEAD_LETTER);
+        message.setNextAttemptAt(null);
+        message.setProcessedAt(now);
     }
 
     private String getTopicForEventType(String eventType) {
-        String topic = eventTypeToTopicMap.get(eventType);
-        if (topic == null) {
-            throw new IllegalArgumentException("Unknown event type: " + eventType);
-        }
-        return topic;
-    }
-
-    private Map<String, String> initializeEventTopicMapping() {
-        return Map.of(
-            EventType.EMPLOYEE_CREATED_EVENT.name(), "employee.created",
-            EventType.EMPLOYEE_STATUS_CHANGED_EVENT.name(), "employee.status.changed"
-        );
+        return OutboxTopics.forEventType(eventType);
     }
 
     private List<Long> parseBackoffDurations(String backoffDurationsStr) {
@@ -216,4 +403,24 @@ public class OutboxRelay {
             return backoffDurations.get(index);
         }
     }
+
+    private record InFlightSend(String topic, CompletableFuture<SendResult<String, byte[]>> future) {
+    }
+
+    private record FailureOutcome(OutboxMessageStatus status, int retryAttempts, Instant nextAttemptAt) {
+        static FailureOutcome of(OutboxMessage message) {
+            return new FailureOutcome(message.getStatus(), message.getRetryAttempts(), message.getNextAttemptAt());
+        }
+    }
+
+    private static final class RelayLane {
+        private final int index;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean rerun = new AtomicBoolean();
+        private final AtomicInteger batchSize = new AtomicInteger();
+
+        private RelayLane(int index) {
+            this.index = index;
+        }
+    }
 }
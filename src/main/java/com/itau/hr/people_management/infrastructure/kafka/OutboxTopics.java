@@ -0,0 +1,37 @@
+package com.itau.hr.people_management.infrastructure.kafka;
+
+import java.util.Map;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+
+/**
+ * Kafka topic of each outbox event type, shared by the polling and CDC relays.
+ */
+public final class OutboxTopics {
+    private static final Map<String, String> TOPICS_BY_EVENT_TYPE = Map.of(
+        EventType.EMPLOYEE_CREATED_EVENT.name(), "employee.created",
+        EventType.EMPLOYEE_STATUS_CHANGED_EVENT.name(), "employee.status.changed"
+    );
+
+    private OutboxTopics() {
+    }
+
+    public static String forEventType(String eventType) {
+        String topic = TOPICS_BY_EVENT_TYPE.get(eventType);
+        if (topic == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        return topic;
+    }
+
+    /**
+     * Every employee topic, keyed by the event type it carries.
+     */
+    public static Map<String, String> topicsByEventType() {
+        return TOPICS_BY_EVENT_TYPE;
+    }
+
+    public static boolean isKnownTopic(String topic) {
+        return TOPICS_BY_EVENT_TYPE.containsValue(topic);
+    }
+}
@@ -0,0 +1,143 @@
+package com.itau.hr.people_management.infrastructure.kafka.backpressure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.kafka.metrics.EmployeeConsumerMetrics;
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Pauses the Kafka listener containers while the Hikari pool is saturated, so bulk event
+ * consumption yields connections to HTTP traffic instead of both timing out. Saturation is read
+ * from the pool metrics: threads waiting for a connection, and the mean time it took to acquire
+ * one since the last check. Consumption resumes only once both drop below the lower resume
+ * thresholds, so the containers do not flap around a single limit.
+ * <p>
+ * Only the containers this controller paused are resumed. Containers already paused by someone
+ * else are left alone, and so are the retry-level containers: they pause themselves until their
+ * next record is due, and resuming them would cut that pause short.
+ */
+@Component
+public class ConsumerBackpressureController {
+    private static final Logger log = LoggerFactory.getLogger(ConsumerBackpressureController.class);
+
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final EmployeeConsumerMetrics consumerMetrics;
+    private final EmployeeEventRetryTopics retryTopics;
+    private final boolean enabled;
+    private final double pausePendingThreads;
+    private final double resumePendingThreads;
+    private final double pauseLatencyMs;
+    private final double resumeLatencyMs;
+
+    private final List<MessageListenerContainer> pausedContainers = new ArrayList<>();
+    private long lastAcquireCount;
+    private double lastAcquireTotalMs;
+    private long pausedAtNanos;
+    private boolean paused;
+
+    public ConsumerBackpressureController(KafkaListenerEndpointRegistry listenerRegistry,
+                                          MeterRegistry meterRegistry,
+                                          EmployeeConsumerMetrics consumerMetrics,
+                                          EmployeeEventRetryTopics retryTopics,
+                                          @Value("${application.kafka.backpressure.enabled:true}") boolean enabled,
+                                          @Value("${application.kafka.backpressure.pause-pending-threads:5}") double pausePendingThreads,
+                                          @Value("${application.kafka.backpressure.resume-pending-threads:0}") double resumePendingThreads,
+                                          @Value("${application.kafka.backpressure.pause-latency-ms:100}") double pauseLatencyMs,
+                                          @Value("${application.kafka.backpressure.resume-latency-ms:10}") double resumeLatencyMs) {
+        this.listenerRegistry = listenerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.consumerMetrics = consumerMetrics;
+        this.retryTopics = retryTopics;
+        this.enabled = enabled;
+        this.pausePendingThreads = pausePendingThreads;
+        this.resumePendingThreads = resumePendingThreads;
+        this.pauseLatencyMs = pauseLatencyMs;
+        this.resumeLatencyMs = resumeLatencyMs;
+    }
+
+    @Scheduled(fixedDelayString = "${application.kafka.backpressure.check-interval-ms:500}")
+    public synchronized void check() {
+        if (!enabled) {
+            return;
+        }
+
+        double pendingThreads = pendingThreads();
+        double latencyMs = connectionAcquireMsSinceLastCheck();
+        if (!paused && (pendingThreads >= pausePendingThreads || latencyMs >= pauseLatencyMs)) {
+            for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+                if (!container.isPauseRequested() && !isRetryLevel(container)) {
+                    container.pause();
+                    pausedContainers.add(container);
+                }
+            }
+            paused = true;
+            pausedAtNanos = System.nanoTime();
+            consumerMetrics.recordPaused();
+            log.warn("BACKPRESSURE: Pausing {} Kafka consumers. Pending connection threads: {}, connection acquire: {} ms",
+                pausedContainers.size(), pendingThreads, Math.round(latencyMs));
+        } else if (paused && pendingThreads <= resumePendingThreads && latencyMs <= resumeLatencyMs) {
+            pausedContainers.forEach(MessageListenerContainer::resume);
+            pausedContainers.clear();
+            paused = false;
+            Duration pausedFor = Duration.ofNanos(System.nanoTime() - pausedAtNanos);
+            consumerMetrics.recordResumed(pausedFor);
+            log.info("BACKPRESSURE: Resuming Kafka consumers after {} ms", pausedFor.toMillis());
+        }
+    }
+
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Threads waiting for a connection: in the pool and, with virtual threads, in front of it at the
+     * connection bulkhead, where they queue before reaching the pool.
+     */
+    private double pendingThreads() {
+        return Stream.of("hikaricp.connections.pending", "datasource.bulkhead.waiting")
+            .flatMap(name -> meterRegistry.find(name).gauges().stream())
+            .mapToDouble(gauge -> gauge.value())
+            .sum();
+    }
+
+    /**
+     * Mean time the calls that got a connection since the previous check waited for it; 0 when
+     * none did. Unlike the time connections are held, it only grows when the pool runs short.
+     */
+    private double connectionAcquireMsSinceLastCheck() {
+        long count = 0;
+        double totalMs = 0;
+        for (Timer acquire : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            count += acquire.count();
+            totalMs += acquire.totalTime(TimeUnit.MILLISECONDS);
+        }
+        long calls = count - lastAcquireCount;
+        double latencyMs = calls > 0 ? (totalMs - lastAcquireTotalMs) / calls : 0;
+        lastAcquireCount = count;
+        lastAcquireTotalMs = totalMs;
+        return latencyMs;
+    }
+
+    private boolean isRetryLevel(MessageListenerContainer container) {
+        String[] topics = container.getContainerProperties().getTopics();
+        return topics != null && topics.length > 0
+            && Arrays.stream(topics).allMatch(topic -> retryTopics.attempt(topic) > 0);
+    }
+}
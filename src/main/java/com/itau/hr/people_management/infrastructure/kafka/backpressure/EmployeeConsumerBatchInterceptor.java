@@ -0,0 +1,41 @@
+package com.itau.hr.people_management.infrastructure.kafka.backpressure;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.kafka.metrics.EmployeeConsumerMetrics;
+
+/**
+ * Tracks each poll around the listener: the records in flight, and the lag of the polled
+ * partitions as the consumer knows it after the fetch, with no extra broker round trip.
+ */
+@Component
+public class EmployeeConsumerBatchInterceptor implements BatchInterceptor<Object, Object> {
+    private final EmployeeConsumerMetrics consumerMetrics;
+
+    public EmployeeConsumerBatchInterceptor(EmployeeConsumerMetrics consumerMetrics) {
+        this.consumerMetrics = consumerMetrics;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        for (TopicPartition partition : records.partitions()) {
+            consumer.currentLag(partition).ifPresent(lag -> consumerMetrics.recordLag(partition, lag));
+        }
+        consumerMetrics.recordBatchStarted(records.count());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        consumerMetrics.recordBatchFinished(records.count());
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        consumerMetrics.recordBatchFinished(records.count());
+    }
+}
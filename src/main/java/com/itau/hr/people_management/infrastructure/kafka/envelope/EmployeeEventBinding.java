@@ -0,0 +1,43 @@
+package com.itau.hr.people_management.infrastructure.kafka.envelope;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.domain.shared.event.DomainEvent;
+
+/**
+ * Ties an {@link EventType} to its payload class and typed accessors, so consumers read the
+ * employee id and check required fields through method references instead of reflection.
+ */
+public record EmployeeEventBinding<E extends DomainEvent>(EventType eventType,
+                                                          Class<E> eventClass,
+                                                          Function<E, UUID> employeeId,
+                                                          Predicate<E> complete) {
+
+    public static final EmployeeEventBinding<EmployeeCreatedEvent> EMPLOYEE_CREATED = new EmployeeEventBinding<>(
+        EventType.EMPLOYEE_CREATED_EVENT,
+        EmployeeCreatedEvent.class,
+        EmployeeCreatedEvent::employeeId,
+        event -> event.getEventId() != null && event.employeeId() != null);
+
+    public static final EmployeeEventBinding<EmployeeStatusChangedEvent> EMPLOYEE_STATUS_CHANGED = new EmployeeEventBinding<>(
+        EventType.EMPLOYEE_STATUS_CHANGED_EVENT,
+        EmployeeStatusChangedEvent.class,
+        EmployeeStatusChangedEvent::employeeId,
+        event -> event.getEventId() != null && event.employeeId() != null
+            && event.oldStatus() != null && event.newStatus() != null);
+
+    private static final List<EmployeeEventBinding<?>> ALL = List.of(EMPLOYEE_CREATED, EMPLOYEE_STATUS_CHANGED);
+
+    public static EmployeeEventBinding<?> forEventType(EventType eventType) {
+        return ALL.stream()
+            .filter(binding -> binding.eventType() == eventType)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No binding for event type: " + eventType));
+    }
+}
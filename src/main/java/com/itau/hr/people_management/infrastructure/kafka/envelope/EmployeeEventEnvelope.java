@@ -0,0 +1,34 @@
+package com.itau.hr.people_management.infrastructure.kafka.envelope;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.shared.event.DomainEvent;
+
+/**
+ * A decoded employee event together with its binding. {@code event} is {@code null} when the
+ * payload was a JSON {@code null}; check {@link #isComplete()} before reading its fields.
+ */
+public record EmployeeEventEnvelope<E extends DomainEvent>(EmployeeEventBinding<E> binding, E event) {
+
+    public EventType eventType() {
+        return binding.eventType();
+    }
+
+    public boolean isComplete() {
+        return event != null && binding.complete().test(event);
+    }
+
+    public UUID eventId() {
+        return event.getEventId();
+    }
+
+    public UUID employeeId() {
+        return binding.employeeId().apply(event);
+    }
+
+    public Instant occurredOn() {
+        return event.getOccurredOn();
+    }
+}
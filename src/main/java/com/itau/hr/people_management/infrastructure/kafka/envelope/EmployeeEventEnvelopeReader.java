@@ -0,0 +1,42 @@
+package com.itau.hr.people_management.infrastructure.kafka.envelope;
+
+import java.io.IOException;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.shared.event.DomainEvent;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHeaders;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+
+/**
+ * Decodes a record into an {@link EmployeeEventEnvelope} in a single pass over the payload. The
+ * type comes from the {@code event-type} header; records produced before the header existed
+ * fall back to the event type of the topic they were read from.
+ */
+@Component
+public class EmployeeEventEnvelopeReader {
+
+    private final OutboxPayloadCodec payloadCodec;
+
+    public EmployeeEventEnvelopeReader(OutboxPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+
+    public EmployeeEventEnvelope<?> read(ConsumerRecord<String, byte[]> message, EventType topicEventType) throws IOException {
+        EventType eventType = EmployeeEventHeaders.eventType(message.headers());
+        return read(message.value(), message.headers(), EmployeeEventBinding.forEventType(eventType == null ? topicEventType : eventType));
+    }
+
+    private <E extends DomainEvent> EmployeeEventEnvelope<E> read(byte[] payload, Headers headers, EmployeeEventBinding<E> binding) throws IOException {
+        E event = payloadCodec.decode(
+            payload,
+            EmployeeEventHeaders.contentType(headers),
+            EmployeeEventHeaders.schemaVersion(headers),
+            binding.eventClass()
+        );
+        return new EmployeeEventEnvelope<>(binding, event);
+    }
+}
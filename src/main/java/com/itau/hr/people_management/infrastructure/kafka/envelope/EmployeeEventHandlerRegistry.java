@@ -0,0 +1,36 @@
+package com.itau.hr.people_management.infrastructure.kafka.envelope;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.shared.event.DomainEvent;
+
+/**
+ * Maps each event type to a handler typed by its payload class. Handlers are keyed by the same
+ * binding the envelope was decoded with, so dispatch needs no casts on the caller's side.
+ */
+public final class EmployeeEventHandlerRegistry<R> {
+
+    private final Map<EventType, Registration<?, R>> handlers = new EnumMap<>(EventType.class);
+
+    public <E extends DomainEvent> EmployeeEventHandlerRegistry<R> on(EmployeeEventBinding<E> binding, Function<E, R> handler) {
+        handlers.put(binding.eventType(), new Registration<>(binding, handler));
+        return this;
+    }
+
+    public R dispatch(EmployeeEventEnvelope<?> envelope) {
+        Registration<?, R> registration = handlers.get(envelope.eventType());
+        if (registration == null) {
+            throw new IllegalArgumentException("No handler registered for event type: " + envelope.eventType());
+        }
+        return registration.apply(envelope.event());
+    }
+
+    private record Registration<E extends DomainEvent, R>(EmployeeEventBinding<E> binding, Function<E, R> handler) {
+        R apply(DomainEvent event) {
+            return handler.apply(binding.eventClass().cast(event));
+        }
+    }
+}
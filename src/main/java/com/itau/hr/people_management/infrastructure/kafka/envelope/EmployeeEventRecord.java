@@ -0,0 +1,10 @@
+package com.itau.hr.people_management.infrastructure.kafka.envelope;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * A consumed record paired with its decoded envelope, so handlers get the typed event without
+ * decoding again and still have the raw payload and headers when they need them.
+ */
+public record EmployeeEventRecord(ConsumerRecord<String, byte[]> message, EmployeeEventEnvelope<?> envelope) {
+}
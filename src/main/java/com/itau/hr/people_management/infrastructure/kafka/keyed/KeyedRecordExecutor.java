@@ -0,0 +1,106 @@
+package com.itau.hr.people_management.infrastructure.kafka.keyed;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Processes a poll on virtual threads, one serial lane per record key (the employee id): an
+ * employee's events are applied in offset order while different employees wait on PostgreSQL
+ * concurrently. A lane stops at its first failure so later events of that employee are not
+ * applied ahead of it. At most {@code max-in-flight} records run at once across all listener
+ * threads, which bounds the connections the consumers ask the pool for.
+ */
+@Component
+@ConditionalOnProperty(name = "application.kafka.consumer.processing-mode", havingValue = "keyed")
+public class KeyedRecordExecutor {
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("kafka-keyed-", 0).factory());
+    private final Semaphore inFlight;
+
+    public KeyedRecordExecutor(@Value("${application.kafka.consumer.keyed.max-in-flight:8}") int maxInFlight) {
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Runs {@code action} for every record and returns once all lanes have finished.
+     */
+    public PollOffsetTracker process(List<EmployeeEventRecord> records, Consumer<EmployeeEventRecord> action) {
+        PollOffsetTracker tracker = new PollOffsetTracker(records.size());
+        Map<String, List<Integer>> lanes = new LinkedHashMap<>();
+        for (int index = 0; index < records.size(); index++) {
+            lanes.computeIfAbsent(laneKey(records.get(index).message()), key -> new ArrayList<>()).add(index);
+        }
+
+        List<Future<?>> lanesRunning = new ArrayList<>(lanes.size());
+        for (List<Integer> lane : lanes.values()) {
+            lanesRunning.add(executor.submit(() -> runLane(records, lane, action, tracker)));
+        }
+        awaitAll(lanesRunning);
+        return tracker;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runLane(List<EmployeeEventRecord> records, List<Integer> lane, Consumer<EmployeeEventRecord> action,
+                         PollOffsetTracker tracker) {
+        for (int index : lane) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                action.accept(records.get(index));
+                tracker.complete(index);
+            } catch (RuntimeException e) {
+                tracker.fail(index, e);
+                return;
+            } finally {
+                inFlight.release();
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> lanesRunning) {
+        for (Future<?> lane : lanesRunning) {
+            try {
+                lane.get();
+            } catch (InterruptedException e) {
+                lanesRunning.forEach(running -> running.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for keyed record processing", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Keyed record processing failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Records without a key were spread across partitions by the producer and carry no order
+     * between them; they are kept serial per partition.
+     */
+    private static String laneKey(ConsumerRecord<String, byte[]> message) {
+        return message.key() != null ? message.key() : message.topic() + "-" + message.partition();
+    }
+}
@@ -0,0 +1,47 @@
+package com.itau.hr.people_management.infrastructure.kafka.keyed;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Outcome of each record of a poll handed to the keyed executor, by position in the poll. The
+ * container commits every record before the one it is told failed, so the first record that did
+ * not complete bounds the commit: nothing past a gap is committed, whatever finished after it.
+ */
+public class PollOffsetTracker {
+    private static final Object COMPLETED = new Object();
+
+    private final AtomicReferenceArray<Object> outcomes;
+
+    public PollOffsetTracker(int records) {
+        this.outcomes = new AtomicReferenceArray<>(records);
+    }
+
+    public void complete(int index) {
+        outcomes.set(index, COMPLETED);
+    }
+
+    public void fail(int index, RuntimeException failure) {
+        outcomes.set(index, failure);
+    }
+
+    /**
+     * Position of the first record that failed or never ran; empty when the whole poll completed.
+     */
+    public OptionalInt firstIncomplete() {
+        for (int index = 0; index < outcomes.length(); index++) {
+            if (outcomes.get(index) != COMPLETED) {
+                return OptionalInt.of(index);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Failure of the record at {@code index}, or {@code null} when it was skipped because an
+     * earlier record with the same key failed.
+     */
+    public RuntimeException failure(int index) {
+        return outcomes.get(index) instanceof RuntimeException failure ? failure : null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.itau.hr.people_management.infrastructure.kafka.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class EmployeeConsumerMetrics {
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicInteger paused = new AtomicInteger();
+    private final Map<TopicPartition, Long> lagByPartition = new ConcurrentHashMap<>();
+    private final Set<String> lagTopics = ConcurrentHashMap.newKeySet();
+    private final Timer pauseTimer;
+
+    public EmployeeConsumerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("kafka.consumer.in.flight", inFlight, AtomicLong::get)
+            .description("Records handed to the employee event listeners and not finished yet")
+            .register(meterRegistry);
+        Gauge.builder("kafka.consumer.backpressure.paused", paused, AtomicInteger::get)
+            .description("1 while the employee event listeners are paused to relieve the database pool")
+            .register(meterRegistry);
+        this.pauseTimer = Timer.builder("kafka.consumer.backpressure.pause")
+            .description("How long the employee event listeners stayed paused each time")
+            .register(meterRegistry);
+    }
+
+    public void recordLag(TopicPartition partition, long lag) {
+        lagByPartition.put(partition, lag);
+        if (lagTopics.add(partition.topic())) {
+            Gauge.builder("kafka.consumer.lag", lagByPartition, lags -> topicLag(lags, partition.topic()))
+                .description("Records behind the end of the topic, summed over the partitions this instance reads")
+                .tag("topic", partition.topic())
+                .register(meterRegistry);
+        }
+    }
+
+    public void recordBatchStarted(int records) {
+        inFlight.addAndGet(records);
+    }
+
+    public void recordBatchFinished(int records) {
+        inFlight.addAndGet(-records);
+    }
+
+    public void recordPaused() {
+        paused.set(1);
+    }
+
+    public void recordResumed(Duration pausedFor) {
+        paused.set(0);
+        pauseTimer.record(pausedFor);
+    }
+
+    private static double topicLag(Map<TopicPartition, Long> lags, String topic) {
+        return lags.entrySet().stream()
+            .filter(lag -> lag.getKey().topic().equals(topic))
+            .mapToLong(Map.Entry::getValue)
+            .sum();
+    }
+}
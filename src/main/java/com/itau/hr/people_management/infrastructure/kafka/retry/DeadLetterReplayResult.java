@@ -0,0 +1,4 @@
+package com.itau.hr.people_management.infrastructure.kafka.retry;
+
+public record DeadLetterReplayResult(String topic, String deadLetterTopic, int replayed) {
+}
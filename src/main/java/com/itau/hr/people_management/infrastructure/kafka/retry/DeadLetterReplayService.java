@@ -0,0 +1,121 @@
+package com.itau.hr.people_management.infrastructure.kafka.retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.kafka.OutboxTopics;
+
+/**
+ * Publishes dead-lettered records back to their employee topic. Each replay reads the dead-letter
+ * topic with its own consumer group up to the end offsets seen when it starts and commits after
+ * every acknowledged poll, so a replay that stops half way resumes where it left off and never
+ * sends a record twice unless the broker did not acknowledge it.
+ */
+@Component
+public class DeadLetterReplayService {
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayService.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EmployeeEventRetryTopics retryTopics;
+    private final String replayGroupId;
+    // Replays share one consumer group, so only one runs at a time; it waits on the broker for seconds.
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    public DeadLetterReplayService(ConsumerFactory<String, byte[]> consumerFactory,
+                                   KafkaTemplate<String, byte[]> kafkaTemplate,
+                                   EmployeeEventRetryTopics retryTopics,
+                                   @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.retryTopics = retryTopics;
+        this.replayGroupId = groupId + "-dlt-replay";
+    }
+
+    public DeadLetterReplayResult replay(String topic, int maxRecords) {
+        if (!OutboxTopics.isKnownTopic(topic)) {
+            throw new IllegalArgumentException("Unknown employee topic: " + topic);
+        }
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("maxRecords must be positive");
+        }
+
+        replayLock.lock();
+        try {
+            String deadLetterTopic = retryTopics.deadLetterTopic(topic);
+            Properties overrides = new Properties();
+            overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+            overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+            int replayed = 0;
+            try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(replayGroupId, null, null, overrides)) {
+                List<TopicPartition> partitions = consumer.partitionsFor(deadLetterTopic).stream()
+                    .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                    .toList();
+                consumer.assign(partitions);
+                Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+                while (replayed < maxRecords && !caughtUp(consumer, endOffsets)) {
+                    Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                    List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>();
+                    for (ConsumerRecord<String, byte[]> deadLetter : consumer.poll(POLL_TIMEOUT)) {
+                        TopicPartition partition = new TopicPartition(deadLetter.topic(), deadLetter.partition());
+                        if (replayed == maxRecords || deadLetter.offset() >= endOffsets.get(partition)) {
+                            continue;
+                        }
+                        sends.add(kafkaTemplate.send(toReplay(topic, deadLetter)));
+                        offsets.put(partition, new OffsetAndMetadata(deadLetter.offset() + 1));
+                        replayed++;
+                    }
+                    CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                    if (!offsets.isEmpty()) {
+                        consumer.commitSync(offsets);
+                    }
+                }
+            }
+
+            log.info("Replayed {} records from {} to {}", replayed, deadLetterTopic, topic);
+            return new DeadLetterReplayResult(topic, deadLetterTopic, replayed);
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private static boolean caughtUp(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+            .allMatch(end -> consumer.position(end.getKey()) >= end.getValue());
+    }
+
+    private static ProducerRecord<String, byte[]> toReplay(String topic, ConsumerRecord<String, byte[]> deadLetter) {
+        ProducerRecord<String, byte[]> replay = new ProducerRecord<>(topic, deadLetter.key(), deadLetter.value());
+        for (Header header : deadLetter.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX) && !header.key().equals(EmployeeEventRetryTopics.RETRY_DUE_AT)) {
+                replay.headers().add(header);
+            }
+        }
+        return replay;
+    }
+}
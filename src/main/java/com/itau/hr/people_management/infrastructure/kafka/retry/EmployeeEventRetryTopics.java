@@ -0,0 +1,93 @@
+package com.itau.hr.people_management.infrastructure.kafka.retry;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Naming and delays of the non-blocking retry chain of an employee topic: a record that fails on
+ * {@code employee.created} moves to {@code employee.created.retry-1}, then {@code .retry-2} and so
+ * on, one level per configured delay, and finally to {@code employee.created.dlt}.
+ */
+@Component
+public class EmployeeEventRetryTopics {
+    public static final String RETRY_DUE_AT = "retry-due-at";
+    private static final String RETRY_SUFFIX = ".retry-";
+    private static final String DLT_SUFFIX = ".dlt";
+
+    private final List<Long> delaysMs;
+
+    public EmployeeEventRetryTopics(@Value("${application.kafka.retry.delays-ms:1000,10000,60000}") List<Long> delaysMs) {
+        this.delaysMs = List.copyOf(delaysMs);
+    }
+
+    public List<String> retryTopics(String mainTopic) {
+        return IntStream.rangeClosed(1, delaysMs.size())
+            .mapToObj(attempt -> mainTopic + RETRY_SUFFIX + attempt)
+            .toList();
+    }
+
+    public List<String> allTopics(String mainTopic) {
+        return Stream.concat(retryTopics(mainTopic).stream(), Stream.of(deadLetterTopic(mainTopic)))
+            .toList();
+    }
+
+    public String deadLetterTopic(String mainTopic) {
+        return mainTopic + DLT_SUFFIX;
+    }
+
+    public String mainTopic(String topic) {
+        if (topic.endsWith(DLT_SUFFIX)) {
+            return topic.substring(0, topic.length() - DLT_SUFFIX.length());
+        }
+        int retry = topic.lastIndexOf(RETRY_SUFFIX);
+        return retry < 0 ? topic : topic.substring(0, retry);
+    }
+
+    /**
+     * Retry level of the topic: 0 for the main topic, 1..n for the retry topics.
+     */
+    public int attempt(String topic) {
+        int retry = topic.lastIndexOf(RETRY_SUFFIX);
+        return retry < 0 ? 0 : Integer.parseInt(topic.substring(retry + RETRY_SUFFIX.length()));
+    }
+
+    /**
+     * Where a record that failed on {@code topic} goes next; the dead-letter topic once the
+     * retry levels are exhausted.
+     */
+    public String nextTopic(String topic) {
+        int next = attempt(topic) + 1;
+        return next > delaysMs.size() ? deadLetterTopic(mainTopic(topic)) : mainTopic(topic) + RETRY_SUFFIX + next;
+    }
+
+    /**
+     * Header stamped on a record published to a retry topic, holding the epoch millis before which
+     * it must not be processed again.
+     */
+    public Headers dueAtHeader(String destinationTopic) {
+        Headers headers = new RecordHeaders();
+        int attempt = attempt(destinationTopic);
+        if (attempt > 0) {
+            long dueAt = System.currentTimeMillis() + delaysMs.get(attempt - 1);
+            headers.add(RETRY_DUE_AT, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        }
+        return headers;
+    }
+
+    public long remainingDelayMs(ConsumerRecord<?, ?> message) {
+        Header header = message.headers().lastHeader(RETRY_DUE_AT);
+        if (header == null || header.value().length != Long.BYTES) {
+            return 0;
+        }
+        return Math.max(0, ByteBuffer.wrap(header.value()).getLong() - System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,98 @@
+package com.itau.hr.people_management.infrastructure.kafka.retry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.kafka.config.ContainerPostProcessor;
+import org.springframework.kafka.config.KafkaListenerEndpoint;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.kafka.support.converter.MessageConverter;
+
+/**
+ * Listener container of a single retry topic. Every record of a retry level waits the same
+ * delay, so a record that is not due yet means the ones behind it are not due either: the
+ * listener nacks it and the container pauses until then, which needs {@link AckMode#MANUAL}.
+ */
+public class RetryLevelListenerEndpoint implements KafkaListenerEndpoint {
+    private final String retryTopic;
+    private final String groupId;
+    private final BatchAcknowledgingMessageListener<String, byte[]> listener;
+
+    public RetryLevelListenerEndpoint(String retryTopic, String groupId,
+                                      BatchAcknowledgingMessageListener<String, byte[]> listener) {
+        this.retryTopic = retryTopic;
+        this.groupId = groupId;
+        this.listener = listener;
+    }
+
+    @Override
+    public String getId() {
+        return retryTopic;
+    }
+
+    @Override
+    public String getGroupId() {
+        return groupId;
+    }
+
+    @Override
+    public String getGroup() {
+        return null;
+    }
+
+    @Override
+    public Collection<String> getTopics() {
+        return List.of(retryTopic);
+    }
+
+    @Override
+    public TopicPartitionOffset[] getTopicPartitionsToAssign() {
+        return new TopicPartitionOffset[0];
+    }
+
+    @Override
+    public Pattern getTopicPattern() {
+        return null;
+    }
+
+    @Override
+    public String getClientIdPrefix() {
+        return null;
+    }
+
+    @Override
+    public Integer getConcurrency() {
+        return null;
+    }
+
+    @Override
+    public Boolean getAutoStartup() {
+        return null;
+    }
+
+    @Override
+    public Boolean getBatchListener() {
+        return true;
+    }
+
+    @Override
+    public void setupListenerContainer(MessageListenerContainer listenerContainer, MessageConverter messageConverter) {
+        listenerContainer.setupMessageListener(listener);
+    }
+
+    @Override
+    public ContainerPostProcessor<?, ?, ?> getContainerPostProcessor() {
+        return (ContainerPostProcessor<Object, Object, AbstractMessageListenerContainer<Object, Object>>)
+            container -> container.getContainerProperties().setAckMode(AckMode.MANUAL);
+    }
+
+    @Override
+    public boolean isSplitIterables() {
+        return true;
+    }
+}
@@ -0,0 +1,500 @@
+package com.itau.hr.people_management.infrastructure.outbox.cdc;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHeaders;
+import com.itau.hr.people_management.infrastructure.kafka.OutboxTopics;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Begin;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Commit;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.LogicalMessage;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Operation;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.RowChange;
+import com.itau.hr.people_management.infrastructure.outbox.claim.OutboxMessageClaimer;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.metrics.OutboxRelayMetrics;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Relays outbox messages from the WAL instead of polling the table. Reads inserts (and requeues,
+ * i.e. updates back to PENDING) of {@code outbox_messages} from a logical replication slot using
+ * {@code pgoutput} and the V7 publication, publishes them to Kafka in commit order and only then
+ * confirms the slot position, so a restart resumes after the last acknowledged transaction
+ * (at-least-once). Failed sends are retried in place, keeping the stream ordered, and count
+ * towards the same {@code max-retries} as the polling relay; a message that exhausts them is
+ * dead-lettered and left behind, so one poison message cannot pin the slot and its WAL. While
+ * another instance holds the slot, this one keeps retrying to connect and takes over when it is
+ * released.
+ * <p>
+ * The slot only carries changes made after it was created, and FAILED messages left by the
+ * polling relay never change again. Both are picked up by catch-up passes through the polling
+ * claim: a full one when the slot is created and a periodic one for overdue messages.
+ * <p>
+ * Rows that {@code create_outbox_partition} (V13) moves out of the default partition come back
+ * as inserts; the function marks that transaction with a logical message and its inserts are
+ * skipped, as they were relayed when first written.
+ */
+@Component
+@ConditionalOnProperty(name = "application.outbox.relay-mode", havingValue = "cdc")
+public class OutboxCdcRelay {
+    private static final Logger log = LoggerFactory.getLogger(OutboxCdcRelay.class);
+
+    private static final String OUTBOX_TABLE = "outbox_messages";
+    private static final String PARTITION_MOVE_MESSAGE = "outbox_partition_move";
+    private static final String DUPLICATE_OBJECT = "42710";
+    private static final long IDLE_WAIT_MS = 10;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxMessageClaimer outboxMessageClaimer;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxRelayMetrics relayMetrics;
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${application.outbox.cdc.slot-name:outbox_cdc_slot}")
+    private String slotName;
+
+    @Value("${application.outbox.cdc.publication:outbox_publication}")
+    private String publication;
+
+    @Value("${application.outbox.cdc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${application.outbox.cdc.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    @Value("${application.outbox.cdc.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    @Value("${application.outbox.cdc.catch-up-grace-ms:60000}")
+    private long catchUpGraceMs;
+
+    @Value("${application.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${application.outbox.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Value("${application.outbox.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${application.outbox.backoff-durations:5,10,30,60,300}")
+    private long[] backoffDurations;
+
+    private volatile boolean running;
+    private Thread relayThread;
+
+    public OutboxCdcRelay(OutboxMessageRepository outboxMessageRepository,
+                          OutboxMessageClaimer outboxMessageClaimer,
+                          KafkaTemplate<String, byte[]> kafkaTemplate,
+                          OutboxRelayMetrics relayMetrics,
+                          DataSourceProperties dataSourceProperties,
+                          JdbcTemplate jdbcTemplate) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.outboxMessageClaimer = outboxMessageClaimer;
+        this.kafkaTemplate = kafkaTemplate;
+        this.relayMetrics = relayMetrics;
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.error("CDC outbox relay requires PostgreSQL; no outbox messages will be relayed from {}", url);
+            return;
+        }
+
+        running = true;
+        relayThread = Thread.ofPlatform()
+            .name("outbox-cdc-relay")
+            .daemon(true)
+            .start(this::replicationLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+        }
+    }
+
+    private void replicationLoop() {
+        while (running) {
+            try (Connection connection = openReplicationConnection()) {
+                PGConnection replicationConnection = connection.unwrap(PGConnection.class);
+                if (ensureSlot(replicationConnection)) {
+                    catchUp(Duration.ZERO);
+                }
+                stream(replicationConnection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("CDC outbox relay lost its replication connection: {}. Reconnecting in {} ms",
+                             e.getMessage(), reconnectDelayMs);
+                    sleep(reconnectDelayMs);
+                }
+            }
+        }
+    }
+
+    private Connection openReplicationConnection() throws SQLException {
+        Properties properties = new Properties();
+        PGProperty.USER.set(properties, dataSourceProperties.determineUsername());
+        PGProperty.PASSWORD.set(properties, dataSourceProperties.determinePassword());
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+        PGProperty.REPLICATION.set(properties, "database");
+        PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    /**
+     * Returns whether the slot was created now, i.e. whether messages written before this point
+     * are missing from it.
+     */
+    private boolean ensureSlot(PGConnection connection) throws SQLException {
+        Long existing = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_replication_slots WHERE slot_name = ?", Long.class, slotName);
+        if (existing != null && existing > 0) {
+            return false;
+        }
+
+        try {
+            connection.getReplicationAPI()
+                .createReplicationSlot()
+                .logical()
+                .withSlotName(slotName)
+                .withOutputPlugin("pgoutput")
+                .make();
+            log.info("Created logical replication slot {} for the outbox", slotName);
+            return true;
+        } catch (SQLException e) {
+            if (!DUPLICATE_OBJECT.equals(e.getSQLState())) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Periodic catch-up for messages the slot will not deliver. Only messages overdue by
+     * {@code catch-up-grace-ms} are claimed, so fresh inserts are left to the stream.
+     */
+    @Scheduled(initialDelayString = "${application.outbox.cdc.catch-up-delay-ms:60000}",
+               fixedDelayString = "${application.outbox.cdc.catch-up-delay-ms:60000}")
+    public void relayOverdueMessages() {
+        if (running) {
+            catchUp(Duration.ofMillis(catchUpGraceMs));
+        }
+    }
+
+    /**
+     * Claims and sends due messages until none is left. Unacknowledged messages are scheduled
+     * with the polling relay's backoff and retried by a later pass; a message also in the stream
+     * may be sent twice.
+     */
+    private void catchUp(Duration minOverdue) {
+        long relayed = 0;
+        try {
+            List<OutboxMessage> claimed;
+            do {
+                claimed = outboxMessageClaimer.claim(batchSize, 0, 1, minOverdue);
+                if (!claimed.isEmpty()) {
+                    relayed += claimed.size() - sendOnce(claimed).size();
+                }
+            } while (!claimed.isEmpty() && running);
+        } catch (RuntimeException e) {
+            log.warn("CDC outbox catch-up failed after {} messages: {}", relayed, e.getMessage(), e);
+            return;
+        }
+        if (relayed > 0) {
+            log.info("CDC outbox catch-up relayed {} messages", relayed);
+        }
+    }
+
+    private void stream(PGConnection connection) throws SQLException {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        List<OutboxMessage> transaction = new ArrayList<>();
+        List<OutboxMessage> ready = new ArrayList<>();
+        LogSequenceNumber readyLsn = null;
+        Instant commitTime = null;
+        boolean partitionMove = false;
+
+        try (PGReplicationStream stream = connection.getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", publication)
+                .withSlotOption("messages", "true")
+                .withStatusInterval(10, TimeUnit.SECONDS)
+                .start()) {
+            log.info("Streaming outbox changes from replication slot {}", slotName);
+
+            while (running) {
+                ByteBuffer message = stream.readPending();
+                if (message == null) {
+                    if (!ready.isEmpty()) {
+                        readyLsn = publishAndConfirm(stream, ready, readyLsn);
+                    } else {
+                        sleep(IDLE_WAIT_MS);
+                    }
+                    continue;
+                }
+
+                switch (decoder.decode(message)) {
+                    case Begin begin -> {
+                        commitTime = begin.commitTime();
+                        partitionMove = false;
+                    }
+                    case LogicalMessage logicalMessage when PARTITION_MOVE_MESSAGE.equals(logicalMessage.prefix()) ->
+                        partitionMove = logicalMessage.transactional();
+                    case RowChange change when OUTBOX_TABLE.equals(change.table()) -> {
+                        if (!(partitionMove && change.operation() == Operation.INSERT)) {
+                            toRelay(change, commitTime).ifPresent(transaction::add);
+                        }
+                    }
+                    case Commit commit -> {
+                        LogSequenceNumber commitLsn = LogSequenceNumber.valueOf(commit.endLsn());
+                        if (ready.isEmpty() && transaction.isEmpty()) {
+                            // Nothing to publish: let the slot release WAL of unrelated transactions.
+                            confirm(stream, commitLsn, false);
+                        } else {
+                            ready.addAll(transaction);
+                            transaction.clear();
+                            readyLsn = commitLsn;
+                            if (ready.size() >= batchSize) {
+                                readyLsn = publishAndConfirm(stream, ready, readyLsn);
+                            }
+                        }
+                    }
+                    default -> {
+                        // Relation and other protocol messages carry nothing to relay.
+                    }
+                }
+            }
+        }
+    }
+
+    private Optional<OutboxMessage> toRelay(RowChange change, Instant commitTime) {
+        if (!OutboxMessageStatus.PENDING.name().equals(change.values().get("status"))) {
+            return Optional.empty();
+        }
+        Optional<OutboxMessage> message = change.unchangedColumns().isEmpty()
+            ? Optional.of(OutboxChangeMapper.toOutboxMessage(change))
+            // A requeue left the TOASTed payload out of the WAL record; read the row instead.
+            : outboxMessageRepository.findById(UUID.fromString(change.values().get("id")));
+        return message.filter(candidate -> !isClaimLease(change, candidate, commitTime));
+    }
+
+    /**
+     * A catch-up claim only pushes {@code next_attempt_at} a lease ahead, while inserts and
+     * requeues make the message due right away. Half a lease of slack absorbs clock skew between
+     * the application, which sets the value, and the database, which stamps the commit.
+     */
+    private boolean isClaimLease(RowChange change, OutboxMessage message, Instant commitTime) {
+        return change.operation() == Operation.UPDATE
+            && commitTime != null
+            && message.getNextAttemptAt() != null
+            && message.getNextAttemptAt().isAfter(commitTime.plusSeconds(leaseSeconds / 2));
+    }
+
+    private LogSequenceNumber publishAndConfirm(PGReplicationStream stream, List<OutboxMessage> ready,
+                                                LogSequenceNumber readyLsn) throws SQLException {
+        if (!publish(ready)) {
+            return readyLsn;
+        }
+        ready.clear();
+        confirm(stream, readyLsn, true);
+        return null;
+    }
+
+    private void confirm(PGReplicationStream stream, LogSequenceNumber lsn, boolean force) throws SQLException {
+        stream.setAppliedLSN(lsn);
+        stream.setFlushedLSN(lsn);
+        if (force) {
+            stream.forceUpdateStatus();
+        }
+    }
+
+    /**
+     * Sends the messages until every one is acknowledged or dead-lettered, or the relay stops;
+     * returns whether the whole batch was settled, so the slot position is only confirmed after
+     * the broker has it.
+     */
+    private boolean publish(List<OutboxMessage> messages) {
+        List<OutboxMessage> remaining = new ArrayList<>(messages);
+        while (running) {
+            List<OutboxMessage> failed = sendOnce(remaining);
+            if (failed.isEmpty()) {
+                return true;
+            }
+
+            log.warn("{} outbox messages were not acknowledged by Kafka; retrying in {} ms", failed.size(), retryDelayMs);
+            remaining = failed;
+            sleep(retryDelayMs);
+        }
+        return false;
+    }
+
+    /**
+     * One send attempt: records acknowledged, unroutable and failed messages and returns the
+     * ones Kafka did not acknowledge that still have retries left.
+     */
+    private List<OutboxMessage> sendOnce(List<OutboxMessage> messages) {
+        Instant now = Instant.now();
+        List<UUID> sentIds = new ArrayList<>();
+        List<UUID> unroutableIds = new ArrayList<>();
+        List<OutboxMessage> failed = new ArrayList<>();
+
+        Map<OutboxMessage, CompletableFuture<SendResult<String, byte[]>>> inFlight = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            try {
+                inFlight.put(message, send(message, OutboxTopics.forEventType(message.getEventType())));
+            } catch (IllegalArgumentException e) {
+                log.error("No Kafka topic mapped for event type: {}. Message: {}", message.getEventType(), message.getId());
+                unroutableIds.add(message.getId());
+                relayMetrics.recordOutcome(message.getEventType(), "dead_letter");
+            }
+        }
+        kafkaTemplate.flush();
+        awaitSends(inFlight, sentIds, failed);
+
+        if (!sentIds.isEmpty()) {
+            outboxMessageRepository.markSent(sentIds, now);
+        }
+        if (!unroutableIds.isEmpty()) {
+            outboxMessageRepository.markFailed(unroutableIds, OutboxMessageStatus.DEAD_LETTER, 0, null, now);
+        }
+        return recordFailures(failed, now);
+    }
+
+    /**
+     * Spends one retry of each failed message as the polling relay does: FAILED with its backoff
+     * in {@code next_attempt_at}, or DEAD_LETTER once {@code max-retries} is reached. The
+     * in-place retries of the stream still wait {@code retry-delay-ms}, as a stream left unread
+     * for the longer backoffs would be dropped by the server.
+     */
+    private List<OutboxMessage> recordFailures(List<OutboxMessage> failed, Instant now) {
+        if (failed.isEmpty()) {
+            return failed;
+        }
+
+        for (OutboxMessage message : failed) {
+            message.setRetryAttempts(message.getRetryAttempts() + 1);
+            message.setProcessedAt(now);
+            if (message.getRetryAttempts() >= maxRetries) {
+                message.setStatus(OutboxMessageStatus.DEAD_LETTER);
+                message.setNextAttemptAt(null);
+                log.error("Outbox message {} moved to DEAD_LETTER after {} retries", message.getId(), message.getRetryAttempts());
+                relayMetrics.recordOutcome(message.getEventType(), "dead_letter");
+            } else {
+                message.setStatus(OutboxMessageStatus.FAILED);
+                message.setNextAttemptAt(now.plusSeconds(backoffSeconds(message.getRetryAttempts())));
+                relayMetrics.recordOutcome(message.getEventType(), "failed");
+            }
+        }
+
+        failed.stream()
+            .collect(Collectors.groupingBy(FailureOutcome::of, LinkedHashMap::new,
+                Collectors.mapping(OutboxMessage::getId, Collectors.toList())))
+            .forEach((outcome, ids) -> outboxMessageRepository.markFailed(
+                ids, outcome.status(), outcome.retryAttempts(), outcome.nextAttemptAt(), now));
+        return failed.stream()
+            .filter(message -> message.getStatus() != OutboxMessageStatus.DEAD_LETTER)
+            .toList();
+    }
+
+    private long backoffSeconds(int retryAttempt) {
+        return backoffDurations[Math.min(retryAttempt - 1, backoffDurations.length - 1)];
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxMessage message, String topic) {
+        ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(
+            topic,
+            message.getAggregateId().toString(),
+            message.getPayload()
+        );
+        EmployeeEventHeaders.write(producerRecord.headers(), message.getEventType(), message.getPayloadContentType(), message.getPayloadSchemaVersion());
+
+        long sentAt = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(producerRecord);
+        future.whenComplete((result, ex) -> {
+            if (ex == null) {
+                relayMetrics.recordAck(message.getEventType(),
+                    Duration.between(message.getOccurredOn(), Instant.now()), System.nanoTime() - sentAt);
+            }
+        });
+        return future;
+    }
+
+    private void awaitSends(Map<OutboxMessage, CompletableFuture<SendResult<String, byte[]>>> inFlight,
+                            List<UUID> sentIds, List<OutboxMessage> failed) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        inFlight.forEach((message, future) -> {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(message.getId());
+                relayMetrics.recordOutcome(message.getEventType(), "sent");
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Outbox message {} not acknowledged by Kafka: {}", message.getId(), e.getMessage());
+                failed.add(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.add(message);
+            }
+        });
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private record FailureOutcome(OutboxMessageStatus status, int retryAttempts, Instant nextAttemptAt) {
+        static FailureOutcome of(OutboxMessage message) {
+            return new FailureOutcome(message.getStatus(), message.getRetryAttempts(), message.getNextAttemptAt());
+        }
+    }
+}
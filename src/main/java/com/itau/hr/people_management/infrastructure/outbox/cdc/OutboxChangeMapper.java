@@ -0,0 +1,64 @@
+package com.itau.hr.people_management.infrastructure.outbox.cdc;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.RowChange;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+
+/**
+ * Builds an {@link OutboxMessage} from the text-format column values of an
+ * {@code outbox_messages} row received through pgoutput.
+ */
+public final class OutboxChangeMapper {
+    private static final DateTimeFormatter TIMESTAMPTZ = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH:mm:ss")
+        .optionalStart()
+        .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+        .optionalEnd()
+        .parseLenient()
+        .appendOffset("+HH:mm", "+00")
+        .toFormatter();
+
+    private OutboxChangeMapper() {
+    }
+
+    public static OutboxMessage toOutboxMessage(RowChange change) {
+        Map<String, String> values = change.values();
+        return OutboxMessage.builder()
+            .id(UUID.fromString(values.get("id")))
+            .occurredOn(toInstant(values.get("occurred_on")))
+            .aggregateType(values.get("aggregate_type"))
+            .aggregateId(values.get("aggregate_id") == null ? null : UUID.fromString(values.get("aggregate_id")))
+            .eventType(values.get("event_type"))
+            .payload(toBytes(values.get("payload")))
+            .payloadContentType(values.get("payload_content_type"))
+            .payloadSchemaVersion(Integer.parseInt(values.get("payload_schema_version")))
+            .status(OutboxMessageStatus.valueOf(values.get("status")))
+            .processedAt(toInstant(values.get("processed_at")))
+            .retryAttempts(Integer.parseInt(values.get("retry_attempts")))
+            .nextAttemptAt(toInstant(values.get("next_attempt_at")))
+            .build();
+    }
+
+    private static Instant toInstant(String value) {
+        return value == null ? null : OffsetDateTime.parse(value, TIMESTAMPTZ).toInstant();
+    }
+
+    private static byte[] toBytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (!value.startsWith("\\x")) {
+            throw new IllegalArgumentException("Expected bytea in hex output format");
+        }
+        return HexFormat.of().parseHex(value, 2, value.length());
+    }
+}
@@ -0,0 +1,161 @@
+package com.itau.hr.people_management.infrastructure.outbox.cdc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decodes the {@code pgoutput} logical replication protocol (version 1). Only what the CDC relay
+ * needs is kept: transaction boundaries, logical messages and the new tuple of inserts and
+ * updates, with column values in PostgreSQL text format. Relation messages are cached, as the
+ * protocol sends them once per relation before its first change.
+ */
+public class PgOutputDecoder {
+    private static final Instant POSTGRES_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    public sealed interface Event permits Begin, Commit, RowChange, LogicalMessage, Ignored {
+    }
+
+    public record Begin(long finalLsn, Instant commitTime) implements Event {
+    }
+
+    public record Commit(long commitLsn, long endLsn) implements Event {
+    }
+
+    /**
+     * {@code unchangedColumns} lists TOASTed columns an update did not touch; their values are
+     * not sent and must be read from the table.
+     */
+    public record RowChange(String table, Operation operation, Map<String, String> values,
+                            Set<String> unchangedColumns) implements Event {
+    }
+
+    /**
+     * A message written with {@code pg_logical_emit_message}; needs the {@code messages} slot option.
+     */
+    public record LogicalMessage(boolean transactional, String prefix, String content) implements Event {
+    }
+
+    public record Ignored(char type) implements Event {
+    }
+
+    public enum Operation {
+        INSERT,
+        UPDATE
+    }
+
+    private record Relation(String namespace, String name, List<String> columns) {
+    }
+
+    public Event decode(ByteBuffer buffer) {
+        char type = (char) buffer.get();
+        return switch (type) {
+            case 'B' -> new Begin(buffer.getLong(), POSTGRES_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS));
+            case 'C' -> decodeCommit(buffer);
+            case 'R' -> decodeRelation(buffer);
+            case 'I' -> decodeInsert(buffer);
+            case 'U' -> decodeUpdate(buffer);
+            case 'M' -> decodeMessage(buffer);
+            default -> new Ignored(type);
+        };
+    }
+
+    private Event decodeCommit(ByteBuffer buffer) {
+        buffer.get();
+        long commitLsn = buffer.getLong();
+        long endLsn = buffer.getLong();
+        return new Commit(commitLsn, endLsn);
+    }
+
+    private Event decodeMessage(ByteBuffer buffer) {
+        boolean transactional = buffer.get() == 1;
+        buffer.getLong();
+        String prefix = readString(buffer);
+        byte[] content = new byte[buffer.getInt()];
+        buffer.get(content);
+        return new LogicalMessage(transactional, prefix, new String(content, StandardCharsets.UTF_8));
+    }
+
+    private Event decodeRelation(ByteBuffer buffer) {
+        int relationId = buffer.getInt();
+        String namespace = readString(buffer);
+        String name = readString(buffer);
+        buffer.get();
+        int columnCount = buffer.getShort();
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get();
+            columns.add(readString(buffer));
+            buffer.getInt();
+            buffer.getInt();
+        }
+        relations.put(relationId, new Relation(namespace, name, List.copyOf(columns)));
+        return new Ignored('R');
+    }
+
+    private Event decodeInsert(ByteBuffer buffer) {
+        Relation relation = relation(buffer.getInt());
+        buffer.get();
+        return readTuple(buffer, relation, Operation.INSERT);
+    }
+
+    private Event decodeUpdate(ByteBuffer buffer) {
+        Relation relation = relation(buffer.getInt());
+        char marker = (char) buffer.get();
+        if (marker == 'K' || marker == 'O') {
+            readTuple(buffer, relation, Operation.UPDATE);
+            buffer.get();
+        }
+        return readTuple(buffer, relation, Operation.UPDATE);
+    }
+
+    private Relation relation(int relationId) {
+        Relation relation = relations.get(relationId);
+        if (relation == null) {
+            throw new IllegalStateException("pgoutput change for unknown relation " + relationId);
+        }
+        return relation;
+    }
+
+    private static RowChange readTuple(ByteBuffer buffer, Relation relation, Operation operation) {
+        int columnCount = buffer.getShort();
+        Map<String, String> values = new LinkedHashMap<>();
+        Set<String> unchangedColumns = new HashSet<>();
+        for (int i = 0; i < columnCount; i++) {
+            String column = relation.columns().get(i);
+            char kind = (char) buffer.get();
+            switch (kind) {
+                case 'n' -> values.put(column, null);
+                case 'u' -> unchangedColumns.add(column);
+                case 't' -> {
+                    byte[] bytes = new byte[buffer.getInt()];
+                    buffer.get(bytes);
+                    values.put(column, new String(bytes, StandardCharsets.UTF_8));
+                }
+                default -> throw new IllegalStateException("Unsupported pgoutput tuple data kind " + kind);
+            }
+        }
+        return new RowChange(relation.name(), operation, values, unchangedColumns);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int start = buffer.position();
+        while (buffer.get() != 0) {
+            // advance to the NUL terminator
+        }
+        byte[] bytes = new byte[buffer.position() - start - 1];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,60 @@
+package com.itau.hr.people_management.infrastructure.outbox.claim;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+
+@Component
+public class OutboxMessageClaimer {
+    private static final Logger log = LoggerFactory.getLogger(OutboxMessageClaimer.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final Duration leaseDuration;
+
+    public OutboxMessageClaimer(OutboxMessageRepository outboxMessageRepository,
+                                @Value("${application.outbox.lease-seconds:30}") long leaseSeconds) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * Claims up to {@code batchSize} due messages of {@code lane} for this relay. The lease is
+     * stored in {@code next_attempt_at}, so messages of a relay that dies mid-flight become due
+     * again once the lease expires.
+     */
+    @Transactional
+    public List<OutboxMessage> claim(int batchSize, int lane, int laneCount) {
+        return claim(batchSize, lane, laneCount, Duration.ZERO);
+    }
+
+    /**
+     * Like {@link #claim(int, int, int)}, but only for messages that have been due for at least
+     * {@code minOverdue}.
+     */
+    @Transactional
+    public List<OutboxMessage> claim(int batchSize, int lane, int laneCount, Duration minOverdue) {
+        Instant now = Instant.now();
+        List<OutboxMessage> claimed = outboxMessageRepository.lockNextBatch(now.minus(minOverdue), batchSize, lane, laneCount);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        Instant leaseUntil = now.plus(leaseDuration);
+        claimed.forEach(message -> message.setNextAttemptAt(leaseUntil));
+        log.debug("Claimed {} outbox messages until {}", claimed.size(), leaseUntil);
+
+        return claimed.stream()
+            .sorted(Comparator.comparing(OutboxMessage::getOccurredOn))
+            .toList();
+    }
+}
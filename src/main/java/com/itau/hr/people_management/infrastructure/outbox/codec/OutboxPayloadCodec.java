@@ -0,0 +1,93 @@
+package com.itau.hr.people_management.infrastructure.outbox.codec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.itau.hr.people_management.infrastructure.outbox.exception.UnsupportedPayloadFormatException;
+
+@Component
+public class OutboxPayloadCodec {
+    public static final int CURRENT_SCHEMA_VERSION = 1;
+
+    private final Map<OutboxPayloadFormat, ObjectMapper> mappers;
+    // ObjectReaders are immutable and thread-safe; one per format and type skips the per-call config lookup.
+    private final Map<OutboxPayloadFormat, Map<Class<?>, ObjectReader>> readers = new EnumMap<>(OutboxPayloadFormat.class);
+    private final OutboxPayloadFormat defaultFormat;
+
+    public OutboxPayloadCodec(ObjectMapper objectMapper,
+                              @Value("${application.outbox.payload-format:SMILE}") OutboxPayloadFormat defaultFormat) {
+        this.mappers = new EnumMap<>(OutboxPayloadFormat.class);
+        this.mappers.put(OutboxPayloadFormat.JSON, objectMapper);
+        this.mappers.put(OutboxPayloadFormat.SMILE, smileMapper(objectMapper));
+        this.defaultFormat = defaultFormat;
+        this.mappers.keySet().forEach(format -> readers.put(format, new ConcurrentHashMap<>()));
+    }
+
+    /**
+     * Smile would write UUIDs as native binary, which {@link #toJson} could only turn into base64;
+     * as text they read back as the same UUID strings the JSON format carries.
+     */
+    private static ObjectMapper smileMapper(ObjectMapper objectMapper) {
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        smileMapper.configOverride(UUID.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+        return smileMapper;
+    }
+
+    public OutboxPayloadFormat defaultFormat() {
+        return defaultFormat;
+    }
+
+    public byte[] encode(Object event) throws JsonProcessingException {
+        return encode(event, defaultFormat);
+    }
+
+    public byte[] encode(Object event, OutboxPayloadFormat format) throws JsonProcessingException {
+        return mappers.get(format).writeValueAsBytes(event);
+    }
+
+    public <T> T decode(byte[] payload, String contentType, Integer schemaVersion, Class<T> type) throws IOException {
+        verifySchemaVersion(schemaVersion);
+        OutboxPayloadFormat format = OutboxPayloadFormat.fromContentType(contentType);
+        return readers.get(format)
+            .computeIfAbsent(type, mappers.get(format)::readerFor)
+            .readValue(payload);
+    }
+
+    public String toJson(byte[] payload, String contentType) throws IOException {
+        OutboxPayloadFormat format = OutboxPayloadFormat.fromContentType(contentType);
+        if (format == OutboxPayloadFormat.JSON) {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+        return mappers.get(OutboxPayloadFormat.JSON).writeValueAsString(mappers.get(format).readTree(payload));
+    }
+
+    public String describe(byte[] payload, String contentType) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return toJson(payload, contentType);
+        } catch (IOException | UnsupportedPayloadFormatException e) {
+            return "<" + payload.length + " bytes of " + contentType + ">";
+        }
+    }
+
+    private void verifySchemaVersion(Integer schemaVersion) {
+        if (schemaVersion != null && schemaVersion > CURRENT_SCHEMA_VERSION) {
+            throw new UnsupportedPayloadFormatException("Unsupported payload schema version: " + schemaVersion
+                + " (supported up to " + CURRENT_SCHEMA_VERSION + ")");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.itau.hr.people_management.infrastructure.outbox.codec;
+
+import java.util.Arrays;
+
+import com.itau.hr.people_management.infrastructure.outbox.exception.UnsupportedPayloadFormatException;
+
+public enum OutboxPayloadFormat {
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile");
+
+    private final String contentType;
+
+    OutboxPayloadFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static OutboxPayloadFormat fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return JSON;
+        }
+
+        return Arrays.stream(values())
+            .filter(format -> format.contentType.equalsIgnoreCase(contentType.trim()))
+            .findFirst()
+            .orElseThrow(() -> new UnsupportedPayloadFormatException("Unsupported payload content type: " + contentType));
+    }
+}
@@ -0,0 +1,7 @@
+package com.itau.hr.people_management.infrastructure.outbox.exception;
+
+public class UnsupportedPayloadFormatException extends RuntimeException {
+    public UnsupportedPayloadFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,133 @@
+package com.itau.hr.people_management.infrastructure.outbox.maintenance;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the monthly partitions of {@code outbox_messages} (see V5 and V13) ahead of time and retires
+ * expired ones: DEAD_LETTER rows are moved to {@code outbox_messages_dead_letter}, then the
+ * partition is detached and dropped. A partition that still holds unsent rows is kept untouched.
+ * <p>
+ * Archived dead letters are out of reach of {@code OutboxRequeueService}, which only requeues rows
+ * still in {@code outbox_messages}; requeue them before {@code retention-days} runs out.
+ */
+@Component
+@ConditionalOnProperty(name = "application.outbox.partitioning.maintenance-enabled", havingValue = "true")
+public class OutboxPartitionMaintenance {
+    private static final Logger log = LoggerFactory.getLogger(OutboxPartitionMaintenance.class);
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("outbox_messages_(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LIST_PARTITIONS = """
+        SELECT child.relname
+        FROM pg_inherits
+        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+        WHERE parent.relname = 'outbox_messages'
+        """;
+
+    private static final String ARCHIVE_DEAD_LETTERS = """
+        WITH moved AS (
+            DELETE FROM %s WHERE status = 'DEAD_LETTER'
+            RETURNING id, occurred_on, aggregate_type, aggregate_id, event_type, payload,
+                      payload_content_type, payload_schema_version, status, processed_at,
+                      retry_attempts, next_attempt_at
+        )
+        INSERT INTO outbox_messages_dead_letter (id, occurred_on, aggregate_type, aggregate_id, event_type, payload,
+                                                 payload_content_type, payload_schema_version, status, processed_at,
+                                                 retry_attempts, next_attempt_at)
+        SELECT * FROM moved
+        ON CONFLICT (id) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeMonths;
+    private final Duration retention;
+
+    public OutboxPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${application.outbox.partitioning.premake-months:3}") int premakeMonths,
+                                      @Value("${application.outbox.partitioning.retention-days:90}") long retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(cron = "${application.outbox.partitioning.maintenance-cron:0 30 3 * * *}")
+    public void runMaintenance() {
+        try {
+            createUpcomingPartitions();
+            retireExpiredPartitions();
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Outbox partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int offset = 0; offset <= premakeMonths; offset++) {
+            OffsetDateTime monthStart = current.plusMonths(offset).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+            String partition = jdbcTemplate.queryForObject("SELECT create_outbox_partition(?)", String.class, monthStart);
+            log.debug("Outbox partition {} is in place", partition);
+        }
+    }
+
+    public void retireExpiredPartitions() {
+        Instant cutoff = Instant.now().minus(retention);
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+
+        for (String partition : partitions) {
+            monthOf(partition)
+                .filter(month -> !month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).isAfter(cutoff))
+                .ifPresent(month -> retire(partition));
+        }
+    }
+
+    private void retire(String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Holds off requeues and late retries until the drop, so none is counted as sent and then lost
+            jdbcTemplate.execute("LOCK TABLE " + partition + " IN EXCLUSIVE MODE");
+            Long unsent = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + partition + " WHERE status IN ('PENDING', 'FAILED')", Long.class);
+            if (unsent != null && unsent > 0) {
+                log.warn("Keeping expired outbox partition {}: {} messages were never relayed", partition, unsent);
+                return;
+            }
+
+            int archived = jdbcTemplate.update(ARCHIVE_DEAD_LETTERS.formatted(partition));
+            jdbcTemplate.execute("ALTER TABLE outbox_messages DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Dropped outbox partition {} ({} dead letters archived)", partition, archived);
+        });
+    }
+
+    private static Optional<YearMonth> monthOf(String partition) {
+        Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.parse(matcher.group(1), PARTITION_SUFFIX));
+    }
+}
@@ -0,0 +1,182 @@
+package com.itau.hr.people_management.infrastructure.outbox.metrics;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository.BacklogSummary;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class OutboxRelayMetrics {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayMetrics.class);
+
+    private static final Duration MAX_EXPECTED_LATENCY = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry;
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestUnsentAgeMillis = new AtomicLong();
+    private final Map<OutboxMessageStatus, AtomicLong> messagesByStatus = new EnumMap<>(OutboxMessageStatus.class);
+    private final Timer cycleTimer;
+    private final AtomicLongArray laneBacklog;
+    private final AtomicLongArray laneLagMillis;
+    private final AtomicLongArray laneBatchSize;
+    private final AtomicLongArray laneDrainRate;
+
+    public OutboxRelayMetrics(MeterRegistry meterRegistry,
+                              OutboxMessageRepository outboxMessageRepository,
+                              @Value("${application.outbox.relay-lanes:1}") int laneCount) {
+        this.meterRegistry = meterRegistry;
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.laneBacklog = new AtomicLongArray(Math.max(1, laneCount));
+        this.laneLagMillis = new AtomicLongArray(Math.max(1, laneCount));
+        this.laneBatchSize = new AtomicLongArray(Math.max(1, laneCount));
+        this.laneDrainRate = new AtomicLongArray(Math.max(1, laneCount));
+
+        Gauge.builder("outbox.relay.backlog", backlog, AtomicLong::get)
+            .description("Outbox messages waiting to be relayed (PENDING or FAILED)")
+            .register(meterRegistry);
+        for (OutboxMessageStatus status : new OutboxMessageStatus[] {
+                OutboxMessageStatus.PENDING, OutboxMessageStatus.FAILED, OutboxMessageStatus.DEAD_LETTER}) {
+            AtomicLong messages = new AtomicLong();
+            messagesByStatus.put(status, messages);
+            Gauge.builder("outbox.messages", messages, AtomicLong::get)
+                .description("Outbox messages currently in this status")
+                .tag("status", status.name().toLowerCase())
+                .register(meterRegistry);
+        }
+        Gauge.builder("outbox.relay.oldest.pending.age", oldestUnsentAgeMillis, value -> value.get() / 1000.0)
+            .description("Age of the oldest outbox message waiting to be relayed (PENDING or FAILED)")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.cycleTimer = Timer.builder("outbox.relay.cycle")
+            .description("Duration of one scheduled or notified relay cycle across all lanes")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        for (int lane = 0; lane < laneBacklog.length(); lane++) {
+            int index = lane;
+            Gauge.builder("outbox.relay.lane.backlog", laneBacklog, values -> values.get(index))
+                .description("Outbox messages waiting to be relayed on this lane")
+                .tag("lane", String.valueOf(lane))
+                .register(meterRegistry);
+            Gauge.builder("outbox.relay.lane.lag", laneLagMillis, values -> values.get(index) / 1000.0)
+                .description("Age of the oldest unsent outbox message on this lane")
+                .tag("lane", String.valueOf(lane))
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            Gauge.builder("outbox.relay.batch.size", laneBatchSize, values -> values.get(index))
+                .description("Current adaptive batch size of this relay lane")
+                .tag("lane", String.valueOf(lane))
+                .register(meterRegistry);
+            Gauge.builder("outbox.relay.drain.rate", laneDrainRate, values -> values.get(index))
+                .description("Messages per second relayed by the last drain loop of this lane")
+                .tag("lane", String.valueOf(lane))
+                .baseUnit("messages/s")
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Called once the broker acknowledged the record: {@code commitToSend} runs from the event's
+     * occurrence (committed together with the outbox row) to the ack.
+     */
+    public void recordAck(String eventType, Duration commitToSend, long ackNanos) {
+        Timer.builder("outbox.relay.commit.to.send")
+            .description("Time from the outbox commit to the broker acknowledgement")
+            .tag("event.type", eventType)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(MAX_EXPECTED_LATENCY)
+            .register(meterRegistry)
+            .record(commitToSend.isNegative() ? Duration.ZERO : commitToSend);
+        Timer.builder("outbox.relay.ack.latency")
+            .description("Time from handing the record to the producer to the broker acknowledgement")
+            .tag("event.type", eventType)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(MAX_EXPECTED_LATENCY)
+            .register(meterRegistry)
+            .record(ackNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts one relayed message by event type and outcome: {@code sent}, {@code failed}
+     * (retry scheduled) or {@code dead_letter}.
+     */
+    public void recordOutcome(String eventType, String outcome) {
+        Counter.builder("outbox.relay.messages")
+            .tag("event.type", eventType)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordCycle(long elapsedNanos) {
+        cycleTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBatchSize(int lane, int size) {
+        laneBatchSize.set(lane, size);
+    }
+
+    public void recordDrainLoop(int lane, long messages, long elapsedNanos) {
+        if (elapsedNanos > 0) {
+            laneDrainRate.set(lane, messages * 1_000_000_000L / elapsedNanos);
+        }
+    }
+
+    /**
+     * Counting on every scrape would put a full scan behind each Prometheus pull, so the
+     * gauges read values refreshed on their own schedule by one aggregate query.
+     */
+    @Scheduled(fixedDelayString = "${application.outbox.metrics.backlog-refresh-ms:15000}")
+    public void refreshBacklog() {
+        try {
+            apply(outboxMessageRepository.summarizeBacklog(laneBacklog.length()));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh outbox backlog gauges: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Iterable<BacklogSummary> summaries) {
+        Map<OutboxMessageStatus, Long> messages = new EnumMap<>(OutboxMessageStatus.class);
+        long[] pending = new long[laneBacklog.length()];
+        long[] lagMillis = new long[laneLagMillis.length()];
+        long oldestMillis = 0;
+
+        for (BacklogSummary summary : summaries) {
+            OutboxMessageStatus status = OutboxMessageStatus.valueOf(summary.getStatus());
+            messages.merge(status, summary.getMessages(), Long::sum);
+            if (status == OutboxMessageStatus.DEAD_LETTER) {
+                continue;
+            }
+            long ageMillis = Math.round(summary.getOldestAgeSeconds() * 1000);
+            pending[summary.getLane()] += summary.getMessages();
+            lagMillis[summary.getLane()] = Math.max(lagMillis[summary.getLane()], ageMillis);
+            oldestMillis = Math.max(oldestMillis, ageMillis);
+        }
+
+        messagesByStatus.forEach((status, gauge) -> gauge.set(messages.getOrDefault(status, 0L)));
+        backlog.set(messages.getOrDefault(OutboxMessageStatus.PENDING, 0L) + messages.getOrDefault(OutboxMessageStatus.FAILED, 0L));
+        oldestUnsentAgeMillis.set(oldestMillis);
+        for (int lane = 0; lane < pending.length; lane++) {
+            laneBacklog.set(lane, pending[lane]);
+            laneLagMillis.set(lane, lagMillis[lane]);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.itau.hr.people_management.infrastructure.outbox.notify;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.kafka.OutboxRelay;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Wakes the {@link OutboxRelay} as soon as an insert into {@code outbox_messages} commits,
+ * using the {@code outbox_messages} channel notified by the V4 trigger. Holds its own
+ * connection outside the pool, since a LISTEN session must stay open. The scheduled poll
+ * remains the safety net for notifications missed while reconnecting. Not used in the
+ * {@code cdc} relay mode, which reads the WAL directly.
+ */
+@Component
+@ConditionalOnExpression("${application.outbox.notify.enabled:false} and '${application.outbox.relay-mode:polling}' == 'polling'")
+public class OutboxNotificationListener {
+    private static final Logger log = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+    static final String CHANNEL = "outbox_messages";
+
+    private final OutboxRelay outboxRelay;
+    private final DataSourceProperties dataSourceProperties;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public OutboxNotificationListener(OutboxRelay outboxRelay,
+                                      DataSourceProperties dataSourceProperties,
+                                      @Value("${application.outbox.notify.poll-timeout-ms:500}") int pollTimeoutMs,
+                                      @Value("${application.outbox.notify.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.outboxRelay = outboxRelay;
+        this.dataSourceProperties = dataSourceProperties;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @PostConstruct
+    void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.info("Outbox notifications require PostgreSQL; relying on scheduled polling for {}", url);
+            return;
+        }
+
+        running = true;
+        listenerThread = Thread.ofPlatform()
+            .name("outbox-notify-listener")
+            .daemon(true)
+            .start(this::listenLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = openConnection()) {
+                listen(connection);
+                log.info("Listening for outbox notifications on channel {}", CHANNEL);
+                // Drain what was committed while the listener was (re)connecting.
+                wakeRelay();
+                awaitNotifications(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Outbox notification listener lost its connection: {}. Reconnecting in {} ms",
+                             e.getMessage(), reconnectDelayMs);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword());
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+    }
+
+    private void awaitNotifications(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(pollTimeoutMs);
+            if (notifications != null && notifications.length > 0) {
+                log.debug("Received {} outbox notifications", notifications.length);
+                wakeRelay();
+            }
+        }
+    }
+
+    private void wakeRelay() {
+        try {
+            outboxRelay.processOutbox();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed after notification: {}", e.getMessage(), e);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
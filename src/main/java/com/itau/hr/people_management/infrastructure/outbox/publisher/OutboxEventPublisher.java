@@ -8,11 +8,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
 import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
 import com.itau.hr.people_management.domain.employee.event.EventPublisher;
 import com.itau.hr.people_management.domain.shared.event.DomainEvent;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
 import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
 import com.itau.hr.people_management.infrastructure.outbox.exception.OutboxEventSerializationException;
 import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
@@ -22,11 +22,11 @@ import com.itau.hr.people_management.infrastructure.persistence.repository.Outbo
 public class OutboxEventPublisher implements EventPublisher {
     private static final Logger log = LoggerFactory.getLogger(OutboxEventPublisher.class);
     private final OutboxMessageRepository outboxMessageRepository;
-    private final ObjectMapper objectMapper;
+    private final OutboxPayloadCodec payloadCodec;
 
-    public OutboxEventPublisher(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper) {
+    public OutboxEventPublisher(OutboxMessageRepository outboxMessageRepository, OutboxPayloadCodec payloadCodec) {
         this.outboxMessageRepository = outboxMessageRepository;
-        this.objectMapper = objectMapper;
+        this.payloadCodec = payloadCodec;
     }
 
     @Override
@@ -47,7 +47,7 @@ public class OutboxEventPublisher implements EventPublisher {
                 default -> log.warn("Unknown DomainEvent type: {}. Cannot determine aggregateId/Type. Storing with nulls.", event.getClass().getName());
             }
 
-            String payload = objectMapper.writeValueAsString(event);
+            byte[] payload = payloadCodec.encode(event);
 
             OutboxMessage outboxMessage = OutboxMessage.builder()
                 .id(event.getEventId())
@@ -56,6 +56,8 @@ public class OutboxEventPublisher implements EventPublisher {
                 .aggregateId(aggregateId)
                 .eventType(event.getEventType().name())
                 .payload(payload)
+                .payloadContentType(payloadCodec.defaultFormat().contentType())
+                .payloadSchemaVersion(OutboxPayloadCodec.CURRENT_SCHEMA_VERSION)
                 .status(OutboxMessageStatus.PENDING)
                 .nextAttemptAt(Instant.now())
                 .build();
@@ -64,7 +66,7 @@ public class OutboxEventPublisher implements EventPublisher {
             log.info("Event {} saved to outbox for aggregateType: {}, aggregateId: {}", event.getClass().getSimpleName(), aggregateType, aggregateId);
 
         } catch (JsonProcessingException e) {
-            throw new OutboxEventSerializationException("Failed to serialize event of type " + event.getClass().getName() + " with ID " + event.getEventId() + " to JSON for outbox", e);
+            throw new OutboxEventSerializationException("Failed to serialize event of type " + event.getClass().getName() + " with ID " + event.getEventId() + " to " + payloadCodec.defaultFormat() + " for outbox", e);
         } catch (Exception e) {
             log.error("Failed to publish event of type " + event.getClass().getName() + " with ID " + event.getEventId() + " to outbox", e);
         }
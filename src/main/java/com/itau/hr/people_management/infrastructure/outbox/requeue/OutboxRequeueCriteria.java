@@ -0,0 +1,36 @@
+package com.itau.hr.people_management.infrastructure.outbox.requeue;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+
+/**
+ * Selects the outbox messages to requeue. {@code occurredFrom} is inclusive and {@code occurredTo}
+ * exclusive; null filters match everything. Without statuses, only DEAD_LETTER messages are requeued.
+ */
+public record OutboxRequeueCriteria(
+    Set<OutboxMessageStatus> statuses,
+    Instant occurredFrom,
+    Instant occurredTo,
+    String eventType,
+    UUID aggregateId
+) {
+    private static final Set<OutboxMessageStatus> REQUEUEABLE =
+        EnumSet.of(OutboxMessageStatus.FAILED, OutboxMessageStatus.DEAD_LETTER);
+
+    public OutboxRequeueCriteria {
+        statuses = statuses == null || statuses.isEmpty()
+            ? Set.of(OutboxMessageStatus.DEAD_LETTER)
+            : Set.copyOf(statuses);
+        if (!REQUEUEABLE.containsAll(statuses)) {
+            throw new IllegalArgumentException("Only FAILED and DEAD_LETTER outbox messages can be requeued: " + statuses);
+        }
+        if (occurredFrom != null && occurredTo != null && !occurredFrom.isBefore(occurredTo)) {
+            throw new IllegalArgumentException("occurredFrom must be before occurredTo");
+        }
+        eventType = eventType == null || eventType.isBlank() ? null : eventType.trim();
+    }
+}
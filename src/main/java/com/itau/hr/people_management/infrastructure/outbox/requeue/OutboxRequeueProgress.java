@@ -0,0 +1,19 @@
+package com.itau.hr.people_management.infrastructure.outbox.requeue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OutboxRequeueProgress(
+    UUID jobId,
+    OutboxRequeueCriteria criteria,
+    State state,
+    long requeued,
+    Instant startedAt,
+    Instant finishedAt
+) {
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,164 @@
+package com.itau.hr.people_management.infrastructure.outbox.requeue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress.State;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Requeues FAILED/DEAD_LETTER outbox messages in the background, one set-based batch at a time.
+ * Batches are paced to {@code max-rate-per-second} and held back while the relay backlog is above
+ * {@code max-backlog}, so a replay after an outage does not flood the relay or the broker.
+ * Jobs run one after another. Finished jobs stay queryable for a day, up to the most recent
+ * {@value #MAX_FINISHED_JOBS}.
+ */
+@Component
+public class OutboxRequeueService {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRequeueService.class);
+
+    private static final int MAX_FINISHED_JOBS = 100;
+    private static final Duration FINISHED_JOB_TTL = Duration.ofDays(1);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final int batchSize;
+    private final long maxRatePerSecond;
+    private final long maxBacklog;
+    private final long backlogWaitMs;
+    private final Map<UUID, RequeueJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("outbox-requeue").daemon().factory());
+
+    public OutboxRequeueService(OutboxMessageRepository outboxMessageRepository,
+                                @Value("${application.outbox.requeue.batch-size:500}") int batchSize,
+                                @Value("${application.outbox.requeue.max-rate-per-second:1000}") long maxRatePerSecond,
+                                @Value("${application.outbox.requeue.max-backlog:5000}") long maxBacklog,
+                                @Value("${application.outbox.requeue.backlog-wait-ms:1000}") long backlogWaitMs) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.batchSize = batchSize;
+        this.maxRatePerSecond = maxRatePerSecond;
+        this.maxBacklog = maxBacklog;
+        this.backlogWaitMs = backlogWaitMs;
+    }
+
+    public OutboxRequeueProgress submit(OutboxRequeueCriteria criteria) {
+        pruneFinishedJobs();
+        RequeueJob job = new RequeueJob(UUID.randomUUID(), criteria, Instant.now());
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job));
+        log.info("Outbox requeue job {} submitted for {}", job.id, criteria);
+        return job.progress();
+    }
+
+    public Optional<OutboxRequeueProgress> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(RequeueJob::progress);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(RequeueJob job) {
+        OutboxRequeueCriteria criteria = job.criteria;
+        var statuses = criteria.statuses().stream().map(OutboxMessageStatus::name).toList();
+        try {
+            int requeued;
+            do {
+                awaitRelayBacklog();
+                long start = System.nanoTime();
+                requeued = outboxMessageRepository.requeueBatch(statuses, criteria.occurredFrom(), criteria.occurredTo(),
+                    criteria.eventType(), criteria.aggregateId(), job.startedAt, batchSize, Instant.now());
+                job.requeued.addAndGet(requeued);
+                throttle(requeued, System.nanoTime() - start);
+            } while (requeued > 0);
+            job.finish(State.COMPLETED);
+            log.info("Outbox requeue job {} completed: {} messages requeued", job.id, job.requeued.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(State.FAILED);
+            log.warn("Outbox requeue job {} interrupted after {} messages", job.id, job.requeued.get());
+        } catch (RuntimeException e) {
+            job.finish(State.FAILED);
+            log.error("Outbox requeue job {} failed after {} messages: {}", job.id, job.requeued.get(), e.getMessage(), e);
+        } finally {
+            pruneFinishedJobs();
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        Instant expiry = Instant.now().minus(FINISHED_JOB_TTL);
+        List<RequeueJob> finished = jobs.values().stream()
+            .filter(job -> job.finishedAt != null)
+            .sorted(Comparator.comparing((RequeueJob job) -> job.finishedAt).reversed())
+            .toList();
+        for (int i = 0; i < finished.size(); i++) {
+            RequeueJob job = finished.get(i);
+            if (i >= MAX_FINISHED_JOBS || job.finishedAt.isBefore(expiry)) {
+                jobs.remove(job.id);
+            }
+        }
+    }
+
+    private void awaitRelayBacklog() throws InterruptedException {
+        if (maxBacklog <= 0) {
+            return;
+        }
+        while (outboxMessageRepository.countByStatusIn(EnumSet.of(OutboxMessageStatus.PENDING)) >= maxBacklog) {
+            TimeUnit.MILLISECONDS.sleep(backlogWaitMs);
+        }
+    }
+
+    private void throttle(int requeued, long elapsedNanos) throws InterruptedException {
+        if (maxRatePerSecond <= 0 || requeued == 0) {
+            return;
+        }
+        long minimumNanos = TimeUnit.SECONDS.toNanos(requeued) / maxRatePerSecond;
+        if (minimumNanos > elapsedNanos) {
+            TimeUnit.NANOSECONDS.sleep(minimumNanos - elapsedNanos);
+        }
+    }
+
+    private static final class RequeueJob {
+        private final UUID id;
+        private final OutboxRequeueCriteria criteria;
+        private final Instant startedAt;
+        private final AtomicLong requeued = new AtomicLong();
+        private volatile State state = State.RUNNING;
+        private volatile Instant finishedAt;
+
+        private RequeueJob(UUID id, OutboxRequeueCriteria criteria, Instant startedAt) {
+            this.id = id;
+            this.criteria = criteria;
+            this.startedAt = startedAt;
+        }
+
+        private void finish(State finalState) {
+            finishedAt = Instant.now();
+            state = finalState;
+        }
+
+        private OutboxRequeueProgress progress() {
+            return new OutboxRequeueProgress(id, criteria, state, requeued.get(), startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.itau.hr.people_management.infrastructure.persistence.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+
+/**
+ * Cold tier of {@code employee_events_history}: one segment per archived month in a local directory,
+ * written by {@link EmployeeHistoryArchiver}. Segments are opened lazily and re-scanned whenever the
+ * directory changes.
+ */
+@Component
+public class EmployeeHistoryArchive {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeHistoryArchive.class);
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("employee-history-(\\d{6})\\.ndjson\\.gz");
+    private static final DateTimeFormatter FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final Path directory;
+
+    private volatile NavigableMap<YearMonth, HistorySegment> segments = new TreeMap<>();
+    private volatile FileTime scannedAt;
+    // Held while listing the directory and opening segments, i.e. during file I/O on request threads.
+    private final ReentrantLock scanLock = new ReentrantLock();
+
+    public EmployeeHistoryArchive(@Value("${application.history.archive.directory:data/history-archive}") Path directory) {
+        this.directory = directory;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public Path segmentFile(YearMonth month) {
+        return directory.resolve("employee-history-" + month.format(FILE_SUFFIX) + ".ndjson.gz");
+    }
+
+    public Path indexFile(YearMonth month) {
+        return directory.resolve("employee-history-" + month.format(FILE_SUFFIX) + ".idx");
+    }
+
+    /** End of the newest archived month: history older than this may live only in the archive. */
+    public Optional<Instant> archivedUntil() {
+        NavigableMap<YearMonth, HistorySegment> current = segments();
+        return current.isEmpty() ? Optional.empty() : Optional.of(current.lastEntry().getValue().end());
+    }
+
+    /**
+     * Archived events matching the criteria, newest first. Months are read from the newest down and
+     * reading stops once a full page is collected, since older months only hold older events.
+     */
+    public List<EmployeeEvent> findHistory(EmployeeHistoryCriteria criteria) {
+        List<EmployeeEvent> found = new ArrayList<>();
+        for (HistorySegment segment : segments().descendingMap().values()) {
+            if (found.size() >= criteria.getLimit()) {
+                break;
+            }
+            if (!segment.overlaps(criteria)) {
+                continue;
+            }
+            try {
+                found.addAll(segment.find(criteria));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read archived history of " + segment.month(), e);
+            }
+        }
+        return found;
+    }
+
+    /** Re-reads the directory; called by the archiver right after it publishes a segment. */
+    public void refresh() {
+        scanLock.lock();
+        try {
+            scannedAt = null;
+            segments();
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private NavigableMap<YearMonth, HistorySegment> segments() {
+        FileTime modified = lastModified();
+        if (modified != null && modified.equals(scannedAt)) {
+            return segments;
+        }
+        scanLock.lock();
+        try {
+            modified = lastModified();
+            if (modified == null || !modified.equals(scannedAt)) {
+                segments = scan(segments);
+                scannedAt = modified;
+            }
+            return segments;
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private FileTime lastModified() {
+        try {
+            return Files.isDirectory(directory) ? Files.getLastModifiedTime(directory) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private NavigableMap<YearMonth, HistorySegment> scan(Map<YearMonth, HistorySegment> previous) {
+        NavigableMap<YearMonth, HistorySegment> scanned = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            return scanned;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                YearMonth month = YearMonth.parse(matcher.group(1), FILE_SUFFIX);
+                // A re-archived month replaces its files, so segments are re-opened rather than reused.
+                scanned.put(month, HistorySegment.open(month, file, indexFile(month)));
+            }
+        } catch (IOException e) {
+            log.error("Could not scan history archive {}: {}", directory, e.getMessage(), e);
+            return new TreeMap<>(previous);
+        }
+        return scanned;
+    }
+}
@@ -0,0 +1,192 @@
+package com.itau.hr.people_management.infrastructure.persistence.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+
+/**
+ * Keeps the monthly partitions of {@code employee_events_history} (see V9) ahead of time and moves
+ * months older than the hot window to {@link EmployeeHistoryArchive}: the partition is exported to a
+ * segment while writes to it are locked out, the files are published, then the partition is detached
+ * and dropped in the same transaction. The default partition is never archived.
+ */
+@Component
+@ConditionalOnProperty(name = "application.history.archive.enabled", havingValue = "true")
+public class EmployeeHistoryArchiver {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeHistoryArchiver.class);
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("employee_events_history_(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private static final String LIST_PARTITIONS = """
+        SELECT child.relname
+        FROM pg_inherits
+        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+        WHERE parent.relname = 'employee_events_history'
+        """;
+
+    // Segment order: the sparse index relies on rows being grouped by employee.
+    private static final String EXPORT_PARTITION = """
+        SELECT id, employee_id, event_type, occurred_on, event_data
+        FROM %s
+        ORDER BY employee_id, occurred_on DESC, id DESC
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeHistoryArchive archive;
+    private final int premakeMonths;
+    private final Duration hotWindow;
+    private final int rowsPerBlock;
+
+    public EmployeeHistoryArchiver(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   EmployeeHistoryArchive archive,
+                                   @Value("${application.history.archive.premake-months:3}") int premakeMonths,
+                                   @Value("${application.history.archive.hot-days:90}") long hotDays,
+                                   @Value("${application.history.archive.rows-per-block:512}") int rowsPerBlock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archive = archive;
+        this.premakeMonths = premakeMonths;
+        this.hotWindow = Duration.ofDays(hotDays);
+        this.rowsPerBlock = rowsPerBlock;
+    }
+
+    @Scheduled(cron = "${application.history.archive.cron:0 0 4 * * *}")
+    public void runArchival() {
+        try {
+            createUpcomingPartitions();
+            archiveExpiredPartitions();
+        } catch (DataAccessException | TransactionException | UncheckedIOException e) {
+            log.error("Employee history archival failed: {}", e.getMessage(), e);
+        }
+    }
+
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int offset = 0; offset <= premakeMonths; offset++) {
+            OffsetDateTime monthStart = current.plusMonths(offset).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+            String partition = jdbcTemplate.queryForObject("SELECT create_employee_history_partition(?)", String.class, monthStart);
+            log.debug("Employee history partition {} is in place", partition);
+        }
+    }
+
+    public void archiveExpiredPartitions() {
+        Instant cutoff = Instant.now().minus(hotWindow);
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+
+        for (String partition : partitions) {
+            monthOf(partition)
+                .filter(month -> !month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).isAfter(cutoff))
+                .ifPresent(month -> archive(partition, month));
+        }
+    }
+
+    private void archive(String partition, YearMonth month) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Readers keep going; a late write to this month waits for the export. If it deadlocks with the
+            // detach, this run rolls back and the month is exported again next time; readers de-duplicate
+            // a segment published by the rolled-back run.
+            jdbcTemplate.execute("LOCK TABLE " + partition + " IN EXCLUSIVE MODE");
+
+            long rows = export(partition, month);
+
+            jdbcTemplate.execute("ALTER TABLE employee_events_history DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Archived employee history partition {} ({} events)", partition, rows);
+        });
+        archive.refresh();
+    }
+
+    private long export(String partition, YearMonth month) {
+        Path segmentFile = archive.segmentFile(month);
+        Path indexFile = archive.indexFile(month);
+        Path segmentTemp = segmentFile.resolveSibling(segmentFile.getFileName() + ".tmp");
+        Path indexTemp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(archive.directory());
+            long rows;
+            try (HistorySegmentWriter writer = new HistorySegmentWriter(segmentTemp, indexTemp, rowsPerBlock)) {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(EXPORT_PARTITION.formatted(partition));
+                    statement.setFetchSize(EXPORT_FETCH_SIZE);
+                    return statement;
+                }, resultSet -> {
+                    try {
+                        writer.append(EmployeeEvent.builder()
+                            .id(resultSet.getObject("id", UUID.class))
+                            .employeeId(resultSet.getObject("employee_id", UUID.class))
+                            .eventType(EventType.valueOf(resultSet.getString("event_type")))
+                            .occurredOn(resultSet.getObject("occurred_on", OffsetDateTime.class).toInstant())
+                            .eventData(resultSet.getString("event_data"))
+                            .build());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                rows = writer.finish();
+            }
+
+            if (rows == 0) {
+                return 0;
+            }
+            // Index first: the archive discovers months by their segment file.
+            Files.move(indexTemp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(segmentTemp, segmentFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive employee history partition " + partition, e);
+        } finally {
+            deleteQuietly(segmentTemp);
+            deleteQuietly(indexTemp);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary archive file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Optional<YearMonth> monthOf(String partition) {
+        Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.parse(matcher.group(1), PARTITION_SUFFIX));
+    }
+}
@@ -0,0 +1,29 @@
+package com.itau.hr.people_management.infrastructure.persistence.archive;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+
+/**
+ * The history order of PostgreSQL in Java: {@code uuid} values compare as unsigned bytes, which
+ * {@link UUID#compareTo} does not, so archived rows would otherwise sort differently from hot ones.
+ */
+public final class HistoryOrder {
+
+    public static final Comparator<UUID> UUID_ORDER = HistoryOrder::compare;
+
+    /** {@code ORDER BY occurred_on DESC, id DESC}. */
+    public static final Comparator<EmployeeEvent> NEWEST_FIRST = Comparator
+        .comparing(EmployeeEvent::getOccurredOn)
+        .thenComparing(EmployeeEvent::getId, UUID_ORDER)
+        .reversed();
+
+    private HistoryOrder() {
+    }
+
+    public static int compare(UUID left, UUID right) {
+        int high = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,219 @@
+package com.itau.hr.people_management.infrastructure.persistence.archive;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+import com.itau.hr.people_management.infrastructure.persistence.history.EmployeeEventDescriber;
+
+/**
+ * Read side of a segment written by {@link HistorySegmentWriter}. The segment file is memory-mapped
+ * once and the sparse index kept on the heap, so a lookup by employee inflates only the blocks whose
+ * employee range contains it.
+ */
+public final class HistorySegment {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    record Block(UUID firstEmployeeId, UUID lastEmployeeId, long offset, int length, int rows) {
+    }
+
+    private final YearMonth month;
+    private final MappedByteBuffer data;
+    private final List<Block> blocks;
+    private final long rows;
+
+    private HistorySegment(YearMonth month, MappedByteBuffer data, List<Block> blocks, long rows) {
+        this.month = month;
+        this.data = data;
+        this.blocks = blocks;
+        this.rows = rows;
+    }
+
+    public static HistorySegment open(YearMonth month, Path segmentFile, Path indexFile) throws IOException {
+        List<Block> blocks = new ArrayList<>();
+        long rows;
+        try (DataInputStream index = new DataInputStream(Files.newInputStream(indexFile))) {
+            if (index.readInt() != HistorySegmentWriter.INDEX_MAGIC || index.readInt() != HistorySegmentWriter.INDEX_VERSION) {
+                throw new IOException("Not a history segment index: " + indexFile);
+            }
+            rows = index.readLong();
+            int count = index.readInt();
+            for (int i = 0; i < count; i++) {
+                blocks.add(new Block(readUuid(index), readUuid(index), index.readLong(), index.readInt(), index.readInt()));
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("History segment larger than 2 GiB: " + segmentFile);
+            }
+            // The mapping stays valid after the channel is closed.
+            return new HistorySegment(month, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), List.copyOf(blocks), rows);
+        }
+    }
+
+    public YearMonth month() {
+        return month;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public Instant start() {
+        return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    public Instant end() {
+        return month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    /** Whether the month can hold events matching the period and cursor of the criteria. */
+    public boolean overlaps(EmployeeHistoryCriteria criteria) {
+        return criteria.getOccurredFrom().map(from -> from.isBefore(end())).orElse(true)
+            && criteria.getOccurredTo().map(to -> to.isAfter(start())).orElse(true)
+            && criteria.getAfter().map(after -> !after.occurredOn().isBefore(start())).orElse(true);
+    }
+
+    /**
+     * Events of the month matching the criteria, newest first, at most {@code criteria.getLimit()}.
+     * Without an employee every block is inflated.
+     */
+    public List<EmployeeEvent> find(EmployeeHistoryCriteria criteria) throws IOException {
+        UUID employeeId = criteria.getEmployeeId();
+        List<EmployeeEvent> found = new ArrayList<>();
+
+        for (int i = employeeId == null ? 0 : firstBlockEndingAtOrAfter(employeeId); i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            if (employeeId != null && HistoryOrder.compare(block.firstEmployeeId(), employeeId) > 0) {
+                break;
+            }
+            for (EmployeeEvent event : read(block)) {
+                if ((employeeId == null || event.getEmployeeId().equals(employeeId)) && matches(event, criteria)) {
+                    found.add(event);
+                }
+            }
+        }
+
+        found.sort(HistoryOrder.NEWEST_FIRST);
+        return found.size() > criteria.getLimit() ? List.copyOf(found.subList(0, criteria.getLimit())) : found;
+    }
+
+    private int firstBlockEndingAtOrAfter(UUID employeeId) {
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (HistoryOrder.compare(blocks.get(middle).lastEmployeeId(), employeeId) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private List<EmployeeEvent> read(Block block) throws IOException {
+        List<EmployeeEvent> events = new ArrayList<>(block.rows());
+        ByteBuffer compressed = data.slice((int) block.offset(), block.length());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteBufferInputStream(compressed)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonNode row = JSON.readTree(line);
+                EventType eventType = EventType.valueOf(row.get("eventType").asText());
+                String eventData = row.get("eventData").asText();
+                // Segments written before V11 still carry a stored description; it is derived like the hot rows.
+                events.add(EmployeeEvent.builder()
+                    .id(UUID.fromString(row.get("id").asText()))
+                    .employeeId(UUID.fromString(row.get("employeeId").asText()))
+                    .eventType(eventType)
+                    .occurredOn(Instant.parse(row.get("occurredOn").asText()))
+                    .description(EmployeeEventDescriber.describe(eventType, eventData))
+                    .eventData(eventData)
+                    .build());
+            }
+        }
+        return events;
+    }
+
+    private static boolean matches(EmployeeEvent event, EmployeeHistoryCriteria criteria) {
+        return criteria.getEventType().map(eventType -> eventType == event.getEventType()).orElse(true)
+            && matchesTransition(event, criteria)
+            && criteria.getOccurredFrom().map(from -> !event.getOccurredOn().isBefore(from)).orElse(true)
+            && criteria.getOccurredTo().map(to -> event.getOccurredOn().isBefore(to)).orElse(true)
+            && criteria.getAfter().map(after -> isOlderThan(event, after)).orElse(true);
+    }
+
+    private static boolean matchesTransition(EmployeeEvent event, EmployeeHistoryCriteria criteria) {
+        if (criteria.getOldStatus().isEmpty() && criteria.getNewStatus().isEmpty()) {
+            return true;
+        }
+        if (event.getEventType() != EventType.EMPLOYEE_STATUS_CHANGED_EVENT) {
+            return false;
+        }
+        try {
+            JsonNode payload = JSON.readTree(event.getEventData());
+            return criteria.getOldStatus().map(status -> status.name().equals(payload.path("oldStatus").asText())).orElse(true)
+                && criteria.getNewStatus().map(status -> status.name().equals(payload.path("newStatus").asText())).orElse(true);
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private static boolean isOlderThan(EmployeeEvent event, EmployeeEventCursor cursor) {
+        int byTime = event.getOccurredOn().compareTo(cursor.occurredOn());
+        return byTime < 0 || (byTime == 0 && HistoryOrder.compare(event.getId(), cursor.id()) < 0);
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
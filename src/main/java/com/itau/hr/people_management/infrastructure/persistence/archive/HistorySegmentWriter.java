@@ -0,0 +1,137 @@
+package com.itau.hr.people_management.infrastructure.persistence.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+
+/**
+ * Writes one archived month as NDJSON split into independently gzipped blocks, plus a sparse index
+ * with the employee range and byte span of each block. The blocks concatenate into a valid
+ * multi-member gzip file, so a segment is still readable with {@code zcat}. Events must be appended
+ * in {@code (employee_id, occurred_on DESC, id DESC)} order.
+ */
+public class HistorySegmentWriter implements Closeable {
+
+    static final int INDEX_MAGIC = 0x45485349;
+    static final int INDEX_VERSION = 1;
+
+    private static final JsonFactory JSON = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final FileChannel segment;
+    private final Path indexFile;
+    private final int rowsPerBlock;
+    private final List<HistorySegment.Block> blocks = new ArrayList<>();
+
+    private ByteArrayOutputStream blockBytes;
+    private GZIPOutputStream blockStream;
+    private JsonGenerator generator;
+    private UUID firstEmployeeId;
+    private UUID lastEmployeeId;
+    private int blockRows;
+    private long offset;
+    private long rows;
+
+    public HistorySegmentWriter(Path segmentFile, Path indexFile, int rowsPerBlock) throws IOException {
+        this.segment = FileChannel.open(segmentFile,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.indexFile = indexFile;
+        this.rowsPerBlock = rowsPerBlock;
+    }
+
+    public void append(EmployeeEvent event) throws IOException {
+        if (generator == null) {
+            startBlock(event.getEmployeeId());
+        }
+        generator.writeStartObject();
+        generator.writeStringField("id", event.getId().toString());
+        generator.writeStringField("employeeId", event.getEmployeeId().toString());
+        generator.writeStringField("eventType", event.getEventType().name());
+        generator.writeStringField("occurredOn", event.getOccurredOn().toString());
+        generator.writeStringField("eventData", event.getEventData());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+
+        lastEmployeeId = event.getEmployeeId();
+        rows++;
+        if (++blockRows == rowsPerBlock) {
+            finishBlock();
+        }
+    }
+
+    /** Flushes the last block, writes the index and forces both files to disk. Returns the rows written. */
+    public long finish() throws IOException {
+        if (generator != null) {
+            finishBlock();
+        }
+        segment.force(true);
+
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        try (DataOutputStream index = new DataOutputStream(indexBytes)) {
+            index.writeInt(INDEX_MAGIC);
+            index.writeInt(INDEX_VERSION);
+            index.writeLong(rows);
+            index.writeInt(blocks.size());
+            for (HistorySegment.Block block : blocks) {
+                writeUuid(index, block.firstEmployeeId());
+                writeUuid(index, block.lastEmployeeId());
+                index.writeLong(block.offset());
+                index.writeInt(block.length());
+                index.writeInt(block.rows());
+            }
+        }
+        try (FileChannel index = FileChannel.open(indexFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(index, ByteBuffer.wrap(indexBytes.toByteArray()));
+            index.force(true);
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment.close();
+    }
+
+    private void startBlock(UUID employeeId) throws IOException {
+        blockBytes = new ByteArrayOutputStream();
+        blockStream = new GZIPOutputStream(blockBytes);
+        generator = JSON.createGenerator(blockStream);
+        firstEmployeeId = employeeId;
+        blockRows = 0;
+    }
+
+    private void finishBlock() throws IOException {
+        generator.close();
+        blockStream.finish();
+        byte[] compressed = blockBytes.toByteArray();
+        writeFully(segment, ByteBuffer.wrap(compressed));
+
+        blocks.add(new HistorySegment.Block(firstEmployeeId, lastEmployeeId, offset, compressed.length, blockRows));
+        offset += compressed.length;
+        generator = null;
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.itau.hr.people_management.infrastructure.persistence.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caps the connections checked out at once with a fair semaphore, one permit per pooled connection.
+ * With virtual threads every request has its own thread, so thousands of them can reach the pool
+ * together; here they wait in arrival order and give up after {@code acquireTimeout} with a
+ * {@link SQLTransientConnectionException}, like the pool itself would. The permit is returned when
+ * the connection is closed.
+ */
+public class ConnectionBulkheadDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration acquireTimeout;
+
+    public ConnectionBulkheadDataSource(DataSource targetDataSource, int maxPermits, Duration acquireTimeout) {
+        super(targetDataSource);
+        if (maxPermits <= 0) {
+            throw new IllegalArgumentException("Connection bulkhead permits must be positive");
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.bulkhead.waiting", this, ConnectionBulkheadDataSource::getWaitingThreads)
+            .description("Threads waiting for a connection permit")
+            .register(registry);
+        Gauge.builder("datasource.bulkhead.available", this, ConnectionBulkheadDataSource::getAvailablePermits)
+            .description("Connection permits not in use")
+            .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Connection bulkhead: no permit available after "
+                    + acquireTimeout.toMillis() + " ms (" + maxPermits + " permits, " + getWaitingThreads() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionBulkheadDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        break;
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                } finally {
+                    // abort() hands the connection back too; a second close() must not free another permit.
+                    if (("close".equals(method.getName()) || "abort".equals(method.getName())) && released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+            });
+    }
+}
@@ -3,6 +3,8 @@ package com.itau.hr.people_management.infrastructure.persistence.entity;
 import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnTransformer;
+
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 
 import jakarta.persistence.Column;
@@ -37,10 +39,9 @@ public class EmployeeEventJpaEntity {
     @Column(nullable = false)
     private Instant occurredOn; 
 
-    @Column(nullable = false, length = 1000)
-    private String description;
-
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // Kept as the JSON text; the cast lets PostgreSQL store it as jsonb (V11).
+    @Column(nullable = false, columnDefinition = "jsonb")
+    @ColumnTransformer(write = "?::jsonb")
     private String eventData;
 
 }
\ No newline at end of file
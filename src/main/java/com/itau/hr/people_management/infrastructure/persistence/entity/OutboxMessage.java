@@ -3,6 +3,8 @@ package com.itau.hr.people_management.infrastructure.persistence.entity;
 import java.time.Instant;
 import java.util.UUID;
 
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
 import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
 
 import jakarta.persistence.Column;
@@ -41,8 +43,16 @@ public class OutboxMessage {
     @Column(nullable = false)
     private String eventType;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String payload;
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private String payloadContentType = OutboxPayloadFormat.JSON.contentType();
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int payloadSchemaVersion = OutboxPayloadCodec.CURRENT_SCHEMA_VERSION;
 
     @Column(nullable = false)
     @Enumerated(jakarta.persistence.EnumType.STRING)
@@ -0,0 +1,33 @@
+package com.itau.hr.people_management.infrastructure.persistence.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+
+/**
+ * Human readable description of a history event, derived from its payload when the event is read,
+ * so it is not stored next to the payload. Both tiers of the history use it.
+ */
+public final class EmployeeEventDescriber {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private EmployeeEventDescriber() {
+    }
+
+    public static String describe(EventType eventType, String eventData) {
+        JsonNode payload;
+        try {
+            payload = JSON.readTree(eventData);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return eventType.name();
+        }
+        return switch (eventType) {
+            case EMPLOYEE_CREATED_EVENT -> "Colaborador '" + payload.path("employeeName").asText()
+                + "' criado com e-mail: " + payload.path("employeeEmail").asText();
+            case EMPLOYEE_STATUS_CHANGED_EVENT -> "Status do colaborador alterado de '" + payload.path("oldStatus").asText()
+                + "' para '" + payload.path("newStatus").asText() + "'";
+        };
+    }
+}
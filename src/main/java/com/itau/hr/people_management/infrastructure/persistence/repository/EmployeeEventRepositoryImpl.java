@@ -1,18 +1,60 @@
 package com.itau.hr.people_management.infrastructure.persistence.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
 import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistoryOrder;
 import com.itau.hr.people_management.infrastructure.persistence.entity.EmployeeEventJpaEntity;
+import com.itau.hr.people_management.infrastructure.persistence.history.EmployeeEventDescriber;
 
 @Component
 public class EmployeeEventRepositoryImpl implements EmployeeEventRepository {
 
+    // Five parameters per row keeps each statement well below the protocol's 65535 bind parameters.
+    private static final int ROWS_PER_STATEMENT = 1_000;
+
+    private static final String INSERT_COLUMNS =
+        "INSERT INTO employee_events_history (id, employee_id, event_type, occurred_on, event_data) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?::jsonb)";
+    // The partitioned table (V9) can only enforce uniqueness together with the partition key.
+    private static final String ON_CONFLICT = " ON CONFLICT (id, occurred_on) DO NOTHING";
+
+    private static final String SELECT_HISTORY =
+        "SELECT id, employee_id, event_type, occurred_on, event_data FROM employee_events_history WHERE ";
+    // A literal, not a parameter, so generic plans still match the partial status indexes (V11).
+    private static final String STATUS_CHANGES = "event_type = '" + EventType.EMPLOYEE_STATUS_CHANGED_EVENT.name() + "'";
+    // Same order as idx_employee_events_history_keyset, so a page is a bounded index range scan.
+    private static final String HISTORY_ORDER = " ORDER BY occurred_on DESC, id DESC LIMIT ?";
+
     private final JpaEmployeeEventRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeHistoryArchive historyArchive;
  
-    public EmployeeEventRepositoryImpl(JpaEmployeeEventRepository jpaRepository) {
+    public EmployeeEventRepositoryImpl(JpaEmployeeEventRepository jpaRepository, JdbcTemplate jdbcTemplate,
+                                       EmployeeHistoryArchive historyArchive) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyArchive = historyArchive;
     }
 
     @Override
@@ -22,10 +64,122 @@ public class EmployeeEventRepositoryImpl implements EmployeeEventRepository {
                 .employeeId(employeeEvent.getEmployeeId())
                 .eventType(employeeEvent.getEventType())
                 .occurredOn(employeeEvent.getOccurredOn())
-                .description(employeeEvent.getDescription())
                 .eventData(employeeEvent.getEventData())
                 .build();
         jpaRepository.save(entity);
     }
 
+    @Override
+    @Transactional
+    public int saveAll(List<EmployeeEvent> employeeEvents) {
+        int inserted = 0;
+        for (int from = 0; from < employeeEvents.size(); from += ROWS_PER_STATEMENT) {
+            List<EmployeeEvent> chunk = employeeEvents.subList(from, Math.min(from + ROWS_PER_STATEMENT, employeeEvents.size()));
+            inserted += jdbcTemplate.update(insertSql(chunk.size()), statement -> bind(statement, chunk));
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<EmployeeEvent> findHistory(EmployeeHistoryCriteria criteria) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+
+        if (criteria.getEmployeeId() != null) {
+            conditions.add("employee_id = ?");
+            parameters.add(criteria.getEmployeeId());
+        }
+        criteria.getEventType().ifPresent(eventType -> {
+            conditions.add("event_type = ?");
+            parameters.add(eventType.name());
+        });
+        if (criteria.getOldStatus().isPresent() || criteria.getNewStatus().isPresent()) {
+            conditions.add(STATUS_CHANGES);
+        }
+        criteria.getOldStatus().ifPresent(oldStatus -> {
+            conditions.add("event_data ->> 'oldStatus' = ?");
+            parameters.add(oldStatus.name());
+        });
+        criteria.getNewStatus().ifPresent(newStatus -> {
+            conditions.add("event_data ->> 'newStatus' = ?");
+            parameters.add(newStatus.name());
+        });
+        criteria.getOccurredFrom().ifPresent(from -> {
+            conditions.add("occurred_on >= ?");
+            parameters.add(toTimestamp(from));
+        });
+        criteria.getOccurredTo().ifPresent(to -> {
+            conditions.add("occurred_on < ?");
+            parameters.add(toTimestamp(to));
+        });
+        criteria.getAfter().ifPresent(after -> {
+            conditions.add("(occurred_on, id) < (?, ?)");
+            parameters.add(toTimestamp(after.occurredOn()));
+            parameters.add(after.id());
+        });
+        parameters.add(criteria.getLimit());
+
+        String sql = SELECT_HISTORY + (conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions)) + HISTORY_ORDER;
+        List<EmployeeEvent> hot = jdbcTemplate.query(sql, EmployeeEventRepositoryImpl::toEmployeeEvent, parameters.toArray());
+        if (!reachesArchive(criteria, hot)) {
+            return hot;
+        }
+
+        // Late events of archived months sit in the default partition, and a replayed event can be in both tiers.
+        Set<UUID> seen = new HashSet<>();
+        return Stream.concat(hot.stream(), historyArchive.findHistory(criteria).stream())
+            .filter(event -> seen.add(event.getId()))
+            .sorted(HistoryOrder.NEWEST_FIRST)
+            .limit(criteria.getLimit())
+            .toList();
+    }
+
+    /** Whether the page could still hold events of archived months that the hot query did not see. */
+    private boolean reachesArchive(EmployeeHistoryCriteria criteria, List<EmployeeEvent> hot) {
+        Optional<Instant> archivedUntil = historyArchive.archivedUntil();
+        if (archivedUntil.isEmpty()) {
+            return false;
+        }
+        if (hot.size() >= criteria.getLimit() && !hot.get(hot.size() - 1).getOccurredOn().isBefore(archivedUntil.get())) {
+            return false;
+        }
+        return criteria.getOccurredFrom().map(from -> from.isBefore(archivedUntil.get())).orElse(true);
+    }
+
+    private static EmployeeEvent toEmployeeEvent(ResultSet resultSet, int rowNum) throws SQLException {
+        EventType eventType = EventType.valueOf(resultSet.getString("event_type"));
+        String eventData = resultSet.getString("event_data");
+        return EmployeeEvent.builder()
+            .id(resultSet.getObject("id", UUID.class))
+            .employeeId(resultSet.getObject("employee_id", UUID.class))
+            .eventType(eventType)
+            .occurredOn(resultSet.getObject("occurred_on", OffsetDateTime.class).toInstant())
+            .description(EmployeeEventDescriber.describe(eventType, eventData))
+            .eventData(eventData)
+            .build();
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_COLUMNS);
+        for (int row = 0; row < rows; row++) {
+            sql.append(row == 0 ? "" : ", ").append(VALUES_ROW);
+        }
+        return sql.append(ON_CONFLICT).toString();
+    }
+
+    private static void bind(PreparedStatement statement, List<EmployeeEvent> events) throws SQLException {
+        int index = 1;
+        for (EmployeeEvent event : events) {
+            statement.setObject(index++, event.getId());
+            statement.setObject(index++, event.getEmployeeId());
+            statement.setString(index++, event.getEventType().name());
+            statement.setObject(index++, toTimestamp(event.getOccurredOn()));
+            statement.setString(index++, event.getEventData());
+        }
+    }
+
 }
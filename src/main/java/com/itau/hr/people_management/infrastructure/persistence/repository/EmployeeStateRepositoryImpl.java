@@ -0,0 +1,266 @@
+package com.itau.hr.people_management.infrastructure.persistence.repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStateRepository;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistoryOrder;
+
+/**
+ * Rebuilds employee state by replaying {@code employee_events_history} (and the archive, for archived
+ * months) from the nearest snapshot in {@code employee_state_snapshots} (V10). Every
+ * {@code snapshot-interval} events applied during a replay are stored as a new snapshot, so a later
+ * query replays at most that many events.
+ */
+@Component
+public class EmployeeStateRepositoryImpl implements EmployeeStateRepository {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeStateRepositoryImpl.class);
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Comparator<EmployeeEvent> OLDEST_FIRST = HistoryOrder.NEWEST_FIRST.reversed();
+
+    // Same lock keys as invalidate_employee_state_snapshots(), taken in the same order.
+    private static final String LOCK_EMPLOYEES = """
+        SELECT pg_advisory_xact_lock_shared(lock_key)
+        FROM (SELECT DISTINCT hashtextextended(employee_id::text, 0) AS lock_key
+              FROM unnest(?::uuid[]) AS employee_id ORDER BY lock_key) keys
+        """;
+
+    private static final String SELECT_SNAPSHOTS = """
+        SELECT DISTINCT ON (employee_id) employee_id, occurred_on, event_id, name, email, status, events_applied
+        FROM employee_state_snapshots
+        WHERE employee_id = ANY (?::uuid[]) AND occurred_on <= ?
+        ORDER BY employee_id, occurred_on DESC, event_id DESC
+        """;
+
+    // One range scan of idx_employee_events_history_keyset per employee, starting right after its snapshot.
+    private static final String SELECT_EVENTS_TO_REPLAY = """
+        SELECT history.id, history.employee_id, history.event_type, history.occurred_on, history.event_data
+        FROM unnest(?::uuid[], ?::timestamptz[], ?::uuid[]) AS replay(employee_id, after_occurred_on, after_id)
+        JOIN employee_events_history history ON history.employee_id = replay.employee_id
+        WHERE (history.occurred_on, history.id) > (COALESCE(replay.after_occurred_on, '-infinity'),
+                                                   COALESCE(replay.after_id, '00000000-0000-0000-0000-000000000000'))
+          AND history.occurred_on <= ?
+        ORDER BY history.employee_id, history.occurred_on, history.id
+        """;
+
+    private static final String INSERT_SNAPSHOT = """
+        INSERT INTO employee_state_snapshots (employee_id, occurred_on, event_id, name, email, status, events_applied)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeHistoryArchive historyArchive;
+    private final int snapshotInterval;
+
+    public EmployeeStateRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                       EmployeeHistoryArchive historyArchive,
+                                       @Value("${application.history.snapshot.interval:100}") int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("application.history.snapshot.interval must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyArchive = historyArchive;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    @Transactional
+    public Map<UUID, EmployeeState> findAsOf(Collection<UUID> employeeIds, Instant asOf) {
+        List<UUID> ids = employeeIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        // Held until commit, so a late event inserted meanwhile either is replayed here or deletes the snapshots written here.
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_EMPLOYEES);
+            statement.setArray(1, textArray(statement, ids.stream().map(UUID::toString)));
+            return statement;
+        }, resultSet -> { });
+
+        Map<UUID, EmployeeState> states = findSnapshots(ids, asOf);
+        Map<UUID, List<EmployeeEvent>> eventsToReplay = findEventsToReplay(ids, states, asOf);
+
+        List<EmployeeState> snapshots = new ArrayList<>();
+        Map<UUID, EmployeeState> result = new LinkedHashMap<>();
+        for (UUID employeeId : ids) {
+            EmployeeState state = states.computeIfAbsent(employeeId, EmployeeState::initial);
+            for (EmployeeEvent event : withArchivedEvents(state, eventsToReplay.getOrDefault(employeeId, List.of()), asOf)) {
+                apply(state, event);
+                if (state.isSnapshotDue(snapshotInterval)) {
+                    snapshots.add(state.toBuilder().build());
+                }
+            }
+            if (state.exists()) {
+                result.put(employeeId, state);
+            }
+        }
+
+        saveSnapshots(snapshots);
+        return result;
+    }
+
+    private Map<UUID, EmployeeState> findSnapshots(List<UUID> ids, Instant asOf) {
+        Map<UUID, EmployeeState> snapshots = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SNAPSHOTS);
+            statement.setArray(1, textArray(statement, ids.stream().map(UUID::toString)));
+            statement.setObject(2, toTimestamp(asOf));
+            return statement;
+        }, resultSet -> {
+            EmployeeState snapshot = toEmployeeState(resultSet);
+            snapshots.put(snapshot.getEmployeeId(), snapshot);
+        });
+        return snapshots;
+    }
+
+    private Map<UUID, List<EmployeeEvent>> findEventsToReplay(List<UUID> ids, Map<UUID, EmployeeState> snapshots, Instant asOf) {
+        Map<UUID, List<EmployeeEvent>> events = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_EVENTS_TO_REPLAY);
+            statement.setArray(1, textArray(statement, ids.stream().map(UUID::toString)));
+            statement.setArray(2, textArray(statement, ids.stream()
+                .map(id -> Optional.ofNullable(snapshots.get(id)).map(s -> s.getLastEventOccurredOn().toString()).orElse(null))));
+            statement.setArray(3, textArray(statement, ids.stream()
+                .map(id -> Optional.ofNullable(snapshots.get(id)).map(s -> s.getLastEventId().toString()).orElse(null))));
+            statement.setObject(4, toTimestamp(asOf));
+            return statement;
+        }, resultSet -> {
+            EmployeeEvent event = toEmployeeEvent(resultSet);
+            events.computeIfAbsent(event.getEmployeeId(), id -> new ArrayList<>()).add(event);
+        });
+        return events;
+    }
+
+    /** Adds the archived events between the state and {@code asOf}, when that range reaches archived months. */
+    private List<EmployeeEvent> withArchivedEvents(EmployeeState state, List<EmployeeEvent> hot, Instant asOf) {
+        Optional<Instant> archivedUntil = historyArchive.archivedUntil();
+        if (archivedUntil.isEmpty() || (state.exists() && !state.getLastEventOccurredOn().isBefore(archivedUntil.get()))) {
+            return hot;
+        }
+
+        List<EmployeeEvent> archived = historyArchive.findHistory(EmployeeHistoryCriteria.builder()
+            .employeeId(state.getEmployeeId())
+            .occurredFrom(state.getLastEventOccurredOn())
+            .occurredTo(asOf.plusNanos(1))
+            .limit(Integer.MAX_VALUE)
+            .build());
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        // Late events of archived months sit in the default partition, and a replayed event can be in both tiers.
+        Set<UUID> seen = new HashSet<>();
+        return Stream.concat(hot.stream(), archived.stream().filter(event -> isAfter(event, state)))
+            .filter(event -> seen.add(event.getId()))
+            .sorted(OLDEST_FIRST)
+            .toList();
+    }
+
+    private static boolean isAfter(EmployeeEvent event, EmployeeState state) {
+        if (!state.exists()) {
+            return true;
+        }
+        int byTime = event.getOccurredOn().compareTo(state.getLastEventOccurredOn());
+        return byTime > 0 || (byTime == 0 && HistoryOrder.compare(event.getId(), state.getLastEventId()) > 0);
+    }
+
+    private static void apply(EmployeeState state, EmployeeEvent event) {
+        try {
+            JsonNode payload = JSON.readTree(event.getEventData());
+            switch (event.getEventType()) {
+                case EMPLOYEE_CREATED_EVENT -> state.applyCreated(event,
+                    payload.path("employeeName").asText(null), payload.path("employeeEmail").asText(null));
+                case EMPLOYEE_STATUS_CHANGED_EVENT -> state.applyStatusChanged(event,
+                    EmployeeStatus.valueOf(payload.path("newStatus").asText()));
+            }
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Skipping unreadable history event {} of employee {}: {}", event.getId(), event.getEmployeeId(), e.getMessage());
+            state.skip(event);
+        }
+    }
+
+    private void saveSnapshots(List<EmployeeState> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, snapshots.stream()
+            .map(snapshot -> new Object[] {
+                snapshot.getEmployeeId(),
+                toTimestamp(snapshot.getLastEventOccurredOn()),
+                snapshot.getLastEventId(),
+                snapshot.getName(),
+                snapshot.getEmail(),
+                snapshot.getStatus() != null ? snapshot.getStatus().name() : null,
+                snapshot.getEventsApplied()
+            })
+            .toList());
+        log.debug("Stored {} employee state snapshots", snapshots.size());
+    }
+
+    private static EmployeeState toEmployeeState(ResultSet resultSet) throws SQLException {
+        String status = resultSet.getString("status");
+        return EmployeeState.builder()
+            .employeeId(resultSet.getObject("employee_id", UUID.class))
+            .name(resultSet.getString("name"))
+            .email(resultSet.getString("email"))
+            .status(status != null ? EmployeeStatus.valueOf(status) : null)
+            .lastEventId(resultSet.getObject("event_id", UUID.class))
+            .lastEventOccurredOn(resultSet.getObject("occurred_on", OffsetDateTime.class).toInstant())
+            .eventsApplied(resultSet.getLong("events_applied"))
+            .build();
+    }
+
+    private static EmployeeEvent toEmployeeEvent(ResultSet resultSet) throws SQLException {
+        return EmployeeEvent.builder()
+            .id(resultSet.getObject("id", UUID.class))
+            .employeeId(resultSet.getObject("employee_id", UUID.class))
+            .eventType(EventType.valueOf(resultSet.getString("event_type")))
+            .occurredOn(resultSet.getObject("occurred_on", OffsetDateTime.class).toInstant())
+            .eventData(resultSet.getString("event_data"))
+            .build();
+    }
+
+    private static Array textArray(PreparedStatement statement, Stream<String> values) throws SQLException {
+        return statement.getConnection().createArrayOf("text", values.toArray(String[]::new));
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,300 @@
+package com.itau.hr.people_management.infrastructure.persistence.repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.itau.hr.people_management.domain.employee.analytics.StatusDurationRollup;
+import com.itau.hr.people_management.domain.employee.analytics.StatusStart;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+
+/**
+ * Keeps {@code employee_status_intervals} and {@code department_status_duration_rollups} (V12) up to
+ * date. Each employee's intervals form a timeline ordered like the history, so an event arriving late
+ * is inserted where it belongs: the interval it falls in is cut short there, and the new interval ends
+ * where the next one starts. Rollups are adjusted by the difference. A batch of events takes its
+ * employees' locks and looks up what it needs once, and writes the rollup differences once.
+ */
+@Component
+public class EmployeeStatusAnalyticsRepositoryImpl implements EmployeeStatusAnalyticsRepository {
+
+    // Seed 1 keeps these keys apart from the snapshot locks of V10, which use seed 0. Taken in key
+    // order, so batches sharing employees cannot deadlock.
+    private static final String LOCK_EMPLOYEES = """
+        SELECT pg_advisory_xact_lock(lock_key)
+        FROM (SELECT DISTINCT hashtextextended(employee_id::text, 1) AS lock_key
+              FROM unnest(?::uuid[]) AS employee_id ORDER BY lock_key) keys
+        """;
+
+    private static final String SELECT_RECORDED =
+        "SELECT start_event_id FROM employee_status_intervals WHERE start_event_id = ANY (?::uuid[])";
+
+    private static final String INTERVAL_COLUMNS =
+        "SELECT start_event_id, department_id, status, started_on, ended_on, end_event_id FROM employee_status_intervals ";
+
+    private static final String SELECT_PREVIOUS = INTERVAL_COLUMNS
+        + "WHERE employee_id = ? AND (started_on, start_event_id) < (?, ?) ORDER BY started_on DESC, start_event_id DESC LIMIT 1";
+
+    private static final String SELECT_NEXT = INTERVAL_COLUMNS
+        + "WHERE employee_id = ? AND (started_on, start_event_id) > (?, ?) ORDER BY started_on, start_event_id LIMIT 1";
+
+    private static final String SELECT_DEPARTMENTS = "SELECT id, department_id FROM employees WHERE id = ANY (?::uuid[])";
+
+    private static final String CLOSE_INTERVAL =
+        "UPDATE employee_status_intervals SET ended_on = ?, end_event_id = ? WHERE start_event_id = ?";
+
+    private static final String INSERT_INTERVAL = """
+        INSERT INTO employee_status_intervals (start_event_id, employee_id, department_id, status, started_on, ended_on, end_event_id)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String ADJUST_ROLLUP = """
+        INSERT INTO department_status_duration_rollups AS rollup (department_id, month, status, closed_intervals, total_duration_ms)
+        VALUES (?, ?, ?, ?, ?)
+        ON CONFLICT (department_id, month, status) DO UPDATE
+        SET closed_intervals = rollup.closed_intervals + EXCLUDED.closed_intervals,
+            total_duration_ms = rollup.total_duration_ms + EXCLUDED.total_duration_ms
+        """;
+
+    private static final String SELECT_BY_DEPARTMENT = """
+        SELECT rollup.department_id, departments.name, sum(rollup.closed_intervals) AS closed_intervals,
+               sum(rollup.total_duration_ms) AS total_duration_ms
+        FROM department_status_duration_rollups rollup
+        LEFT JOIN departments ON departments.id = rollup.department_id
+        WHERE rollup.status = ?%s
+        GROUP BY rollup.department_id, departments.name
+        HAVING sum(rollup.closed_intervals) > 0
+        ORDER BY departments.name, rollup.department_id
+        """;
+
+    private static final String SELECT_MONTHLY = """
+        SELECT rollup.department_id, rollup.month, rollup.closed_intervals, rollup.total_duration_ms
+        FROM department_status_duration_rollups rollup
+        WHERE rollup.department_id = ? AND rollup.status = ? AND rollup.closed_intervals > 0%s
+        ORDER BY rollup.month
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeStatusAnalyticsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public boolean recordStatusStart(UUID eventId, UUID employeeId, EmployeeStatus status, Instant startedOn) {
+        return recordStatusStarts(List.of(new StatusStart(eventId, employeeId, status, startedOn))) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int recordStatusStarts(List<StatusStart> starts) {
+        if (starts.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> employeeIds = new HashSet<>();
+        starts.forEach(start -> employeeIds.add(start.employeeId()));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_EMPLOYEES);
+            statement.setArray(1, uuidArray(statement, employeeIds));
+            return statement;
+        }, resultSet -> { });
+
+        Set<UUID> recorded = findRecorded(starts);
+        Map<UUID, UUID> departments = findDepartments(employeeIds);
+        Map<RollupKey, long[]> rollupDeltas = new LinkedHashMap<>();
+        int inserted = 0;
+        for (StatusStart start : starts) {
+            // add() also skips an event delivered twice in the same batch.
+            if (recorded.add(start.eventId())) {
+                insertInterval(start, departments.get(start.employeeId()), rollupDeltas);
+                inserted++;
+            }
+        }
+        adjustRollups(rollupDeltas);
+        return inserted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatusDurationRollup> findByDepartment(EmployeeStatus status, YearMonth from, YearMonth to) {
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(status.name());
+        String sql = SELECT_BY_DEPARTMENT.formatted(monthRange(from, to, parameters));
+
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> toRollup(resultSet, status)
+            .departmentName(resultSet.getString("name"))
+            .build(), parameters.toArray());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatusDurationRollup> findMonthly(UUID departmentId, EmployeeStatus status, YearMonth from, YearMonth to) {
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(departmentId);
+        parameters.add(status.name());
+        String sql = SELECT_MONTHLY.formatted(monthRange(from, to, parameters));
+
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> toRollup(resultSet, status)
+            .month(YearMonth.from(resultSet.getObject("month", LocalDate.class)))
+            .build(), parameters.toArray());
+    }
+
+    private void insertInterval(StatusStart start, UUID departmentId, Map<RollupKey, long[]> rollupDeltas) {
+        Interval previous = findAdjacent(SELECT_PREVIOUS, start.employeeId(), start.startedOn(), start.eventId());
+        Interval next = findAdjacent(SELECT_NEXT, start.employeeId(), start.startedOn(), start.eventId());
+
+        if (previous != null) {
+            if (previous.isClosed()) {
+                addRollupDelta(rollupDeltas, previous, -1);
+            }
+            jdbcTemplate.update(CLOSE_INTERVAL, toTimestamp(start.startedOn()), start.eventId(), previous.startEventId());
+            addRollupDelta(rollupDeltas, previous.closedAt(start.startedOn(), start.eventId()), 1);
+        }
+
+        Interval interval = new Interval(start.eventId(), departmentId, start.status(), start.startedOn(),
+            next != null ? next.startedOn() : null, next != null ? next.startEventId() : null);
+        jdbcTemplate.update(INSERT_INTERVAL, interval.startEventId(), start.employeeId(), interval.departmentId(),
+            start.status().name(), toTimestamp(start.startedOn()),
+            interval.isClosed() ? toTimestamp(interval.endedOn()) : null, interval.endEventId());
+        if (interval.isClosed()) {
+            addRollupDelta(rollupDeltas, interval, 1);
+        }
+    }
+
+    private Set<UUID> findRecorded(List<StatusStart> starts) {
+        Set<UUID> recorded = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_RECORDED);
+            statement.setArray(1, uuidArray(statement, starts.stream().map(StatusStart::eventId).toList()));
+            return statement;
+        }, resultSet -> {
+            recorded.add(resultSet.getObject("start_event_id", UUID.class));
+        });
+        return recorded;
+    }
+
+    private Map<UUID, UUID> findDepartments(Collection<UUID> employeeIds) {
+        Map<UUID, UUID> departments = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_DEPARTMENTS);
+            statement.setArray(1, uuidArray(statement, employeeIds));
+            return statement;
+        }, resultSet -> {
+            departments.put(resultSet.getObject("id", UUID.class), resultSet.getObject("department_id", UUID.class));
+        });
+        return departments;
+    }
+
+    private Interval findAdjacent(String sql, UUID employeeId, Instant startedOn, UUID eventId) {
+        List<Interval> intervals = jdbcTemplate.query(sql, EmployeeStatusAnalyticsRepositoryImpl::toInterval,
+            employeeId, toTimestamp(startedOn), eventId);
+        return intervals.isEmpty() ? null : intervals.get(0);
+    }
+
+    // Employees no longer in any department have no rollup to adjust.
+    private static void addRollupDelta(Map<RollupKey, long[]> rollupDeltas, Interval interval, int sign) {
+        if (interval.departmentId() == null) {
+            return;
+        }
+        RollupKey key = new RollupKey(interval.departmentId(),
+            YearMonth.from(interval.endedOn().atOffset(ZoneOffset.UTC)).atDay(1), interval.status());
+        long durationMs = Duration.between(interval.startedOn(), interval.endedOn()).toMillis();
+        long[] delta = rollupDeltas.computeIfAbsent(key, k -> new long[2]);
+        delta[0] += sign;
+        delta[1] += sign * durationMs;
+    }
+
+    private void adjustRollups(Map<RollupKey, long[]> rollupDeltas) {
+        List<Object[]> adjustments = rollupDeltas.entrySet().stream()
+            .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+            .map(entry -> new Object[] {
+                entry.getKey().departmentId(),
+                entry.getKey().month(),
+                entry.getKey().status().name(),
+                entry.getValue()[0],
+                entry.getValue()[1]
+            })
+            .toList();
+        if (!adjustments.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADJUST_ROLLUP, adjustments);
+        }
+    }
+
+    private static String monthRange(YearMonth from, YearMonth to, List<Object> parameters) {
+        StringBuilder range = new StringBuilder();
+        if (from != null) {
+            range.append(" AND rollup.month >= ?");
+            parameters.add(from.atDay(1));
+        }
+        if (to != null) {
+            range.append(" AND rollup.month <= ?");
+            parameters.add(to.atDay(1));
+        }
+        return range.toString();
+    }
+
+    private static StatusDurationRollup.StatusDurationRollupBuilder toRollup(ResultSet resultSet, EmployeeStatus status) throws SQLException {
+        return StatusDurationRollup.builder()
+            .departmentId(resultSet.getObject("department_id", UUID.class))
+            .status(status)
+            .closedIntervals(resultSet.getLong("closed_intervals"))
+            .totalDuration(Duration.ofMillis(resultSet.getLong("total_duration_ms")));
+    }
+
+    private static Interval toInterval(ResultSet resultSet, int rowNum) throws SQLException {
+        OffsetDateTime endedOn = resultSet.getObject("ended_on", OffsetDateTime.class);
+        return new Interval(
+            resultSet.getObject("start_event_id", UUID.class),
+            resultSet.getObject("department_id", UUID.class),
+            EmployeeStatus.valueOf(resultSet.getString("status")),
+            resultSet.getObject("started_on", OffsetDateTime.class).toInstant(),
+            endedOn != null ? endedOn.toInstant() : null,
+            resultSet.getObject("end_event_id", UUID.class));
+    }
+
+    private static Array uuidArray(PreparedStatement statement, Collection<UUID> values) throws SQLException {
+        return statement.getConnection().createArrayOf("text", values.stream().map(UUID::toString).toArray(String[]::new));
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private record Interval(UUID startEventId, UUID departmentId, EmployeeStatus status, Instant startedOn,
+                            Instant endedOn, UUID endEventId) {
+
+        boolean isClosed() {
+            return endedOn != null;
+        }
+
+        Interval closedAt(Instant endedAt, UUID endedBy) {
+            return new Interval(startEventId, departmentId, status, startedOn, endedAt, endedBy);
+        }
+    }
+
+    private record RollupKey(UUID departmentId, LocalDate month, EmployeeStatus status) {
+    }
+}
@@ -1,17 +1,138 @@
 package com.itau.hr.people_management.infrastructure.persistence.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
 import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
 
 public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, UUID> {
-    List<OutboxMessage> findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-        List<OutboxMessageStatus> statuses, Instant now, Pageable pageable
-    );
+    long countByStatusIn(Collection<OutboxMessageStatus> statuses);
+
+    /**
+     * Locks the next due messages of one relay lane, skipping rows already locked by other
+     * relays. Aggregates are hashed onto {@code laneCount} lanes, and only the oldest unsent
+     * message of each aggregate is eligible, so events of the same aggregate are never in
+     * flight concurrently. The predicates match the partial indexes of V3 and V6, so the
+     * scan only touches unsent rows.
+     */
+    String LOCK_NEXT_BATCH = """
+        SELECT o.* FROM outbox_messages o
+        WHERE o.status IN ('PENDING', 'FAILED')
+          AND o.next_attempt_at <= :now
+          AND (hashtext(CAST(o.aggregate_id AS text)) & 2147483647) % :laneCount = :lane
+          AND NOT EXISTS (
+              SELECT 1 FROM outbox_messages earlier
+              WHERE earlier.aggregate_id = o.aggregate_id
+                AND earlier.status IN ('PENDING', 'FAILED')
+                AND (earlier.occurred_on < o.occurred_on
+                     OR (earlier.occurred_on = o.occurred_on AND earlier.id < o.id))
+          )
+        ORDER BY o.occurred_on
+        LIMIT :batchSize
+        FOR UPDATE OF o SKIP LOCKED
+        """;
+
+    @Query(value = LOCK_NEXT_BATCH, nativeQuery = true)
+    List<OutboxMessage> lockNextBatch(@Param("now") Instant now,
+                                      @Param("batchSize") int batchSize,
+                                      @Param("lane") int lane,
+                                      @Param("laneCount") int laneCount);
+
+    /**
+     * One aggregate pass for the outbox gauges: message count and age of the oldest message per
+     * status, with unsent messages also split by relay lane. SENT rows are never read.
+     */
+    @Query(value = """
+        SELECT o.status AS "status",
+               CASE WHEN o.status IN ('PENDING', 'FAILED')
+                    THEN (hashtext(CAST(o.aggregate_id AS text)) & 2147483647) % :laneCount
+                    ELSE 0 END AS "lane",
+               count(*) AS "messages",
+               EXTRACT(EPOCH FROM (now() - min(o.occurred_on))) AS "oldestAgeSeconds"
+        FROM outbox_messages o
+        WHERE o.status IN ('PENDING', 'FAILED', 'DEAD_LETTER')
+        GROUP BY 1, 2
+        """, nativeQuery = true)
+    List<BacklogSummary> summarizeBacklog(@Param("laneCount") int laneCount);
+
+    interface BacklogSummary {
+        String getStatus();
+
+        int getLane();
+
+        long getMessages();
+
+        double getOldestAgeSeconds();
+    }
+
+    /**
+     * Puts one batch of FAILED/DEAD_LETTER messages matching the filters back to PENDING, due
+     * immediately and with a fresh retry budget. Null filters are ignored. Only messages that
+     * failed before {@code failedBefore} are picked, so messages failing again after being
+     * requeued are left for another job. Returns the number of rows requeued; rows locked by
+     * someone else are skipped, so only zero means nothing is left to requeue.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE outbox_messages
+        SET status = 'PENDING', retry_attempts = 0, next_attempt_at = :now, processed_at = NULL
+        WHERE (id, occurred_on) IN (
+            SELECT o.id, o.occurred_on FROM outbox_messages o
+            WHERE o.status IN (:statuses)
+              AND (CAST(:occurredFrom AS timestamptz) IS NULL OR o.occurred_on >= CAST(:occurredFrom AS timestamptz))
+              AND (CAST(:occurredTo AS timestamptz) IS NULL OR o.occurred_on < CAST(:occurredTo AS timestamptz))
+              AND (CAST(:eventType AS text) IS NULL OR o.event_type = CAST(:eventType AS text))
+              AND (CAST(:aggregateId AS uuid) IS NULL OR o.aggregate_id = CAST(:aggregateId AS uuid))
+              AND (o.processed_at IS NULL OR o.processed_at < :failedBefore)
+            ORDER BY o.occurred_on
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        )
+        """, nativeQuery = true)
+    int requeueBatch(@Param("statuses") Collection<String> statuses,
+                     @Param("occurredFrom") Instant occurredFrom,
+                     @Param("occurredTo") Instant occurredTo,
+                     @Param("eventType") String eventType,
+                     @Param("aggregateId") UUID aggregateId,
+                     @Param("failedBefore") Instant failedBefore,
+                     @Param("batchSize") int batchSize,
+                     @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE OutboxMessage o
+        SET o.status = com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus.SENT,
+            o.processedAt = :processedAt,
+            o.retryAttempts = 0,
+            o.nextAttemptAt = null
+        WHERE o.id IN :ids
+        """)
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("processedAt") Instant processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE OutboxMessage o
+        SET o.status = :status,
+            o.processedAt = :processedAt,
+            o.retryAttempts = :retryAttempts,
+            o.nextAttemptAt = :nextAttemptAt
+        WHERE o.id IN :ids
+        """)
+    int markFailed(@Param("ids") Collection<UUID> ids,
+                   @Param("status") OutboxMessageStatus status,
+                   @Param("retryAttempts") int retryAttempts,
+                   @Param("nextAttemptAt") Instant nextAttemptAt,
+                   @Param("processedAt") Instant processedAt);
 }
@@ -0,0 +1,45 @@
+package com.itau.hr.people_management.infrastructure.shared.thread;
+
+import java.util.List;
+
+/**
+ * Where a virtual thread blocked while pinned to its carrier. {@code location} is the innermost frame
+ * outside the JDK (the code that called the blocking operation, usually inside the
+ * {@code synchronized} section) and {@code source} says whether it is ours ({@code application}), a
+ * driver or other dependency ({@code library}), or only JDK frames were recorded ({@code jdk}).
+ * {@code applicationFrame} is the innermost frame of our code, when a library blocked on its behalf.
+ */
+public record PinnedSection(String source, String location, String applicationFrame) {
+    private static final String APPLICATION_PACKAGE = "com.itau.hr.people_management.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    public static PinnedSection locate(List<StackTraceElement> frames) {
+        StackTraceElement blockedAt = frames.stream()
+            .filter(frame -> !isJdk(frame))
+            .findFirst()
+            .orElse(frames.isEmpty() ? null : frames.get(0));
+        if (blockedAt == null) {
+            return new PinnedSection("jdk", "unknown", null);
+        }
+
+        String applicationFrame = frames.stream()
+            .filter(PinnedSection::isApplication)
+            .findFirst()
+            .map(PinnedSection::describe)
+            .orElse(null);
+        String source = isApplication(blockedAt) ? "application" : isJdk(blockedAt) ? "jdk" : "library";
+        return new PinnedSection(source, describe(blockedAt), applicationFrame);
+    }
+
+    private static boolean isApplication(StackTraceElement frame) {
+        return frame.getClassName().startsWith(APPLICATION_PACKAGE);
+    }
+
+    private static boolean isJdk(StackTraceElement frame) {
+        return JDK_PACKAGES.stream().anyMatch(frame.getClassName()::startsWith);
+    }
+
+    private static String describe(StackTraceElement frame) {
+        return frame.getClassName() + "." + frame.getMethodName();
+    }
+}
@@ -0,0 +1,101 @@
+package com.itau.hr.people_management.infrastructure.shared.thread;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event: a virtual thread that blocks inside a
+ * {@code synchronized} block or a native frame keeps its carrier thread, and enough of them at once
+ * starve every other virtual thread. Each pinned section longer than {@code threshold-ms} is timed
+ * in {@code jvm.threads.virtual.pinned}, tagged with where it blocked, and its first occurrence
+ * per location is logged with the stack.
+ */
+@Component
+@ConditionalOnProperty(name = "application.threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${application.threads.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public void record(List<StackTraceElement> frames, Duration pinnedFor) {
+        PinnedSection section = PinnedSection.locate(frames);
+        Timer.builder("jvm.threads.virtual.pinned")
+            .description("Time virtual threads blocked while pinned to their carrier")
+            .tag("source", section.source())
+            .tag("location", section.location())
+            .register(meterRegistry)
+            .record(pinnedFor);
+
+        if (reportedLocations.add(section.location())) {
+            log.warn("VIRTUAL_THREAD_PINNED: {} code blocked for {} ms while pinned at {} (application frame: {})\n\tat {}",
+                section.source(), pinnedFor.toMillis(), section.location(), section.applicationFrame(),
+                frames.stream().limit(LOGGED_FRAMES).map(StackTraceElement::toString).collect(Collectors.joining("\n\tat ")));
+        } else {
+            log.debug("VIRTUAL_THREAD_PINNED: {} ms at {}", pinnedFor.toMillis(), section.location());
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<StackTraceElement> frames = event.getStackTrace() == null ? List.of()
+            : event.getStackTrace().getFrames().stream().map(VirtualThreadPinningMonitor::toStackTraceElement).toList();
+        record(frames, event.getDuration());
+    }
+
+    private static StackTraceElement toStackTraceElement(RecordedFrame frame) {
+        return new StackTraceElement(frame.getMethod().getType().getName(), frame.getMethod().getName(), null, frame.getLineNumber());
+    }
+}
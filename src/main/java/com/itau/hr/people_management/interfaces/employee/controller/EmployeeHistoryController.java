@@ -0,0 +1,67 @@
+package com.itau.hr.people_management.interfaces.employee.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeHistoryPageResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetEmployeeHistoryUseCase;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryPageResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryRequestDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.EmployeeHistoryControllerMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/v1/employees")
+@Tag(name = "Employee History", description = "Audit trail of employee events")
+public class EmployeeHistoryController {
+    private final GetEmployeeHistoryUseCase getEmployeeHistoryUseCase;
+    private final EmployeeHistoryControllerMapper employeeHistoryControllerMapper;
+
+    public EmployeeHistoryController(GetEmployeeHistoryUseCase getEmployeeHistoryUseCase,
+                                     EmployeeHistoryControllerMapper employeeHistoryControllerMapper) {
+        this.getEmployeeHistoryUseCase = getEmployeeHistoryUseCase;
+        this.employeeHistoryControllerMapper = employeeHistoryControllerMapper;
+    }
+
+    @Operation(summary = "Get employee history",
+            description = "Retrieves a page of the employee's events, newest first. Pass nextCursor as cursor to get the following page")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved history page",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeHistoryPageResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or period supplied",
+            content = @Content(mediaType = "application/json"))
+    @GetMapping("/{id}/history")
+    public ResponseEntity<EmployeeHistoryPageResponseDTO> getHistory(@PathVariable("id") UUID id, EmployeeHistoryRequestDTO requestDTO) {
+        EmployeeHistoryCriteria criteria = employeeHistoryControllerMapper.toEmployeeHistoryCriteria(id, requestDTO);
+        EmployeeHistoryPageResponse applicationResponse = getEmployeeHistoryUseCase.execute(criteria);
+        EmployeeHistoryPageResponseDTO responseDTO = employeeHistoryControllerMapper.toEmployeeHistoryPageResponseDTO(applicationResponse);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+    }
+
+    @Operation(summary = "Search status transitions",
+            description = "Retrieves a page of status changes of all employees matching oldStatus and/or newStatus, newest first")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved transitions page",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeHistoryPageResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "No status, invalid cursor, limit or period supplied",
+            content = @Content(mediaType = "application/json"))
+    @GetMapping("/history")
+    public ResponseEntity<EmployeeHistoryPageResponseDTO> searchTransitions(EmployeeHistoryRequestDTO requestDTO) {
+        EmployeeHistoryCriteria criteria = employeeHistoryControllerMapper.toEmployeeHistoryCriteria(null, requestDTO);
+        EmployeeHistoryPageResponse applicationResponse = getEmployeeHistoryUseCase.searchTransitions(criteria);
+        EmployeeHistoryPageResponseDTO responseDTO = employeeHistoryControllerMapper.toEmployeeHistoryPageResponseDTO(applicationResponse);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+    }
+}
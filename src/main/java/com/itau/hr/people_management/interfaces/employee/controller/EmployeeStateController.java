@@ -0,0 +1,73 @@
+package com.itau.hr.people_management.interfaces.employee.controller;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeStateResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetEmployeeAsOfUseCase;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeStateResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.EmployeeStateControllerMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Temporal reads: the same paths as the current-state endpoints, selected by the {@code asOf}
+ * query parameter.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Employee State", description = "Employee state at a past instant, rebuilt from the history")
+public class EmployeeStateController {
+    private final GetEmployeeAsOfUseCase getEmployeeAsOfUseCase;
+    private final EmployeeStateControllerMapper employeeStateControllerMapper;
+
+    public EmployeeStateController(GetEmployeeAsOfUseCase getEmployeeAsOfUseCase,
+                                   EmployeeStateControllerMapper employeeStateControllerMapper) {
+        this.getEmployeeAsOfUseCase = getEmployeeAsOfUseCase;
+        this.employeeStateControllerMapper = employeeStateControllerMapper;
+    }
+
+    @Operation(summary = "Get employee as of an instant", description = "Rebuilds the employee's name, email and status from the events up to asOf")
+    @ApiResponse(responseCode = "200", description = "Successfully rebuilt employee state",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmployeeStateResponseDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Employee has no history up to asOf",
+            content = @Content(mediaType = "application/json"))
+    @GetMapping(value = "/employees/{id}", params = "asOf")
+    public ResponseEntity<EmployeeStateResponseDTO> getEmployeeAsOf(@PathVariable("id") UUID id,
+            @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
+        EmployeeStateResponse applicationResponse = getEmployeeAsOfUseCase.getById(id, asOf);
+        EmployeeStateResponseDTO responseDTO = employeeStateControllerMapper.toEmployeeStateResponseDTO(applicationResponse);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+    }
+
+    @Operation(summary = "Get department employees as of an instant",
+            description = "Rebuilds the state at asOf of every current employee of the department that already existed then")
+    @ApiResponse(responseCode = "200", description = "Successfully rebuilt employee states",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = EmployeeStateResponseDTO.class))))
+    @ApiResponse(responseCode = "404", description = "Department not found with the provided ID",
+            content = @Content(mediaType = "application/json"))
+    @GetMapping(value = "/departments/{id}/employees", params = "asOf")
+    public ResponseEntity<List<EmployeeStateResponseDTO>> getDepartmentEmployeesAsOf(@PathVariable("id") UUID departmentId,
+            @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
+        List<EmployeeStateResponse> applicationResponses = getEmployeeAsOfUseCase.getByDepartment(departmentId, asOf);
+        List<EmployeeStateResponseDTO> responseDTOs = employeeStateControllerMapper.toEmployeeStateResponseDTOList(applicationResponses);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDTOs);
+    }
+}
@@ -0,0 +1,71 @@
+package com.itau.hr.people_management.interfaces.employee.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.itau.hr.people_management.application.employee.dto.StatusDurationResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetStatusDurationAnalyticsUseCase;
+import com.itau.hr.people_management.interfaces.employee.dto.StatusDurationRequestDTO;
+import com.itau.hr.people_management.interfaces.employee.dto.StatusDurationResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.StatusDurationControllerMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/v1/analytics/status-durations")
+@Tag(name = "Status Analytics", description = "Time employees spend in each status, pre-aggregated per department and month")
+public class StatusDurationController {
+    private final GetStatusDurationAnalyticsUseCase getStatusDurationAnalyticsUseCase;
+    private final StatusDurationControllerMapper statusDurationControllerMapper;
+
+    public StatusDurationController(GetStatusDurationAnalyticsUseCase getStatusDurationAnalyticsUseCase,
+                                    StatusDurationControllerMapper statusDurationControllerMapper) {
+        this.getStatusDurationAnalyticsUseCase = getStatusDurationAnalyticsUseCase;
+        this.statusDurationControllerMapper = statusDurationControllerMapper;
+    }
+
+    @Operation(summary = "Get status durations per department",
+            description = "Intervals spent in the status and closed between from and to, summed per department")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved status durations",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = StatusDurationResponseDTO.class))))
+    @ApiResponse(responseCode = "400", description = "Missing status or invalid month range supplied",
+            content = @Content(mediaType = "application/json"))
+    @GetMapping
+    public ResponseEntity<List<StatusDurationResponseDTO>> getByDepartment(StatusDurationRequestDTO requestDTO) {
+        List<StatusDurationResponse> applicationResponses = getStatusDurationAnalyticsUseCase.byDepartment(
+                requestDTO.getStatus(), requestDTO.getFrom(), requestDTO.getTo());
+        List<StatusDurationResponseDTO> responseDTOs = statusDurationControllerMapper.toStatusDurationResponseDTOList(applicationResponses);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDTOs);
+    }
+
+    @Operation(summary = "Get monthly status durations of a department",
+            description = "Intervals spent in the status by the department's employees, per month they were closed in")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved monthly status durations",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = StatusDurationResponseDTO.class))))
+    @ApiResponse(responseCode = "400", description = "Missing status or invalid month range supplied",
+            content = @Content(mediaType = "application/json"))
+    @ApiResponse(responseCode = "404", description = "Department not found with the provided ID",
+            content = @Content(mediaType = "application/json"))
+    @GetMapping("/departments/{id}")
+    public ResponseEntity<List<StatusDurationResponseDTO>> getMonthly(@PathVariable("id") UUID departmentId,
+                                                                      StatusDurationRequestDTO requestDTO) {
+        List<StatusDurationResponse> applicationResponses = getStatusDurationAnalyticsUseCase.monthly(
+                departmentId, requestDTO.getStatus(), requestDTO.getFrom(), requestDTO.getTo());
+        List<StatusDurationResponseDTO> responseDTOs = statusDurationControllerMapper.toStatusDurationResponseDTOList(applicationResponses);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDTOs);
+    }
+}
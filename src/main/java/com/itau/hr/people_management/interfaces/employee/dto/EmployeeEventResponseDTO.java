@@ -0,0 +1,28 @@
+package com.itau.hr.people_management.interfaces.employee.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Response DTO for an event of an employee's history")
+public class EmployeeEventResponseDTO {
+    @Schema(description = "Unique identifier of the event", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID id;
+
+    @Schema(description = "Type of the event", example = "EMPLOYEE_STATUS_CHANGED_EVENT")
+    private String eventType;
+
+    @Schema(description = "Human readable description", example = "Employee status changed from ACTIVE to TERMINATED")
+    private String description;
+
+    @Schema(description = "When the event occurred", example = "2025-06-30T14:12:09Z")
+    private Instant occurredOn;
+
+    @Schema(description = "Event payload as JSON", example = "{\"oldStatus\":\"ACTIVE\",\"newStatus\":\"TERMINATED\"}")
+    private String eventData;
+}
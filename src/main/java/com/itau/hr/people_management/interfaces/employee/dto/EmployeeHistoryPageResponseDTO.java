@@ -0,0 +1,18 @@
+package com.itau.hr.people_management.interfaces.employee.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Response DTO for a page of an employee's event history, newest first")
+public class EmployeeHistoryPageResponseDTO {
+    @Schema(description = "Events of this page")
+    private List<EmployeeEventResponseDTO> events;
+
+    @Schema(description = "Cursor of the next page; absent on the last page", example = "MjAyNS0wNi0zMFQxNDoxMjowOVp8...")
+    private String nextCursor;
+}
@@ -0,0 +1,47 @@
+package com.itau.hr.people_management.interfaces.employee.dto;
+
+import java.time.Instant;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO for paging through an employee's event history")
+public class EmployeeHistoryRequestDTO {
+    @Schema(description = "Only events of this type", example = "EMPLOYEE_STATUS_CHANGED_EVENT")
+    private EventType eventType;
+
+    @Schema(description = "Only status changes from this status", example = "ACTIVE")
+    private EmployeeStatus oldStatus;
+
+    @Schema(description = "Only status changes to this status", example = "ON_LEAVE")
+    private EmployeeStatus newStatus;
+
+    @Schema(description = "Only events that occurred at or after this instant", example = "2025-01-01T00:00:00Z")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant from;
+
+    @Schema(description = "Only events that occurred before this instant", example = "2025-07-01T00:00:00Z")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant to;
+
+    @Schema(description = "nextCursor of the previous page", example = "MjAyNS0wNi0zMFQxNDoxMjowOVp8...")
+    private String cursor;
+
+    @Builder.Default
+    @Schema(description = "Events per page (1-200)", example = "50")
+    private int limit = 50;
+}
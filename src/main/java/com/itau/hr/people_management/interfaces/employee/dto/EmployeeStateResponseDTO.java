@@ -0,0 +1,33 @@
+package com.itau.hr.people_management.interfaces.employee.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Response DTO for an employee as it was at a past instant")
+public class EmployeeStateResponseDTO {
+    @Schema(description = "Unique identifier of the employee", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID id;
+
+    @Schema(description = "Full name of the employee at that instant", example = "João Paulo")
+    private String name;
+
+    @Schema(description = "Email address of the employee at that instant", example = "joaopaulo@email.com")
+    private String email;
+
+    @Schema(description = "Status of the employee at that instant", example = "ON_LEAVE")
+    private EmployeeStatus employeeStatus;
+
+    @Schema(description = "Instant the state refers to", example = "2025-03-31T23:59:59Z")
+    private Instant asOf;
+
+    @Schema(description = "When the last event applied to this state occurred", example = "2025-02-10T09:30:00Z")
+    private Instant lastChangedOn;
+}
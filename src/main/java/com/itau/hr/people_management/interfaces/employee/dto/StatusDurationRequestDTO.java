@@ -0,0 +1,33 @@
+package com.itau.hr.people_management.interfaces.employee.dto;
+
+import java.time.YearMonth;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO for the time employees spent in a status")
+public class StatusDurationRequestDTO {
+    @Schema(description = "Status whose intervals are measured", example = "ON_LEAVE")
+    private EmployeeStatus status;
+
+    @Schema(description = "First month (inclusive) in which intervals were closed", example = "2025-01")
+    @DateTimeFormat(pattern = "yyyy-MM")
+    private YearMonth from;
+
+    @Schema(description = "Last month (inclusive) in which intervals were closed", example = "2025-06")
+    @DateTimeFormat(pattern = "yyyy-MM")
+    private YearMonth to;
+}
@@ -0,0 +1,35 @@
+package com.itau.hr.people_management.interfaces.employee.dto;
+
+import java.util.UUID;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Response DTO for the time a department's employees spent in a status")
+public class StatusDurationResponseDTO {
+    @Schema(description = "Unique identifier of the department", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID departmentId;
+
+    @Schema(description = "Name of the department", example = "Recursos Humanos")
+    private String departmentName;
+
+    @Schema(description = "Month the intervals were closed in; absent when the months are summed", example = "2025-03")
+    private String month;
+
+    @Schema(description = "Status whose intervals are measured", example = "ON_LEAVE")
+    private EmployeeStatus employeeStatus;
+
+    @Schema(description = "Number of closed intervals", example = "12")
+    private long closedIntervals;
+
+    @Schema(description = "Time spent in the status, in days", example = "87.5")
+    private double totalDays;
+
+    @Schema(description = "Average length of an interval, in days", example = "7.29")
+    private double averageDays;
+}
@@ -0,0 +1,56 @@
+package com.itau.hr.people_management.interfaces.employee.mapper;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeEventResponse;
+import com.itau.hr.people_management.application.employee.dto.EmployeeHistoryPageResponse;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeEventResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryPageResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryRequestDTO;
+
+@Component
+public class EmployeeHistoryControllerMapper {
+
+    public EmployeeHistoryCriteria toEmployeeHistoryCriteria(UUID employeeId, EmployeeHistoryRequestDTO requestDTO) {
+        EmployeeHistoryRequestDTO request = requestDTO != null ? requestDTO : EmployeeHistoryRequestDTO.builder().build();
+        return EmployeeHistoryCriteria.builder()
+                .employeeId(employeeId)
+                .eventType(request.getEventType())
+                .oldStatus(request.getOldStatus())
+                .newStatus(request.getNewStatus())
+                .occurredFrom(request.getFrom())
+                .occurredTo(request.getTo())
+                .after(request.getCursor() != null && !request.getCursor().isBlank() ? EmployeeEventCursor.decode(request.getCursor()) : null)
+                .limit(request.getLimit())
+                .build();
+    }
+
+    public EmployeeHistoryPageResponseDTO toEmployeeHistoryPageResponseDTO(EmployeeHistoryPageResponse response) {
+        if (response == null) {
+            return null;
+        }
+
+        EmployeeHistoryPageResponseDTO responseDTO = new EmployeeHistoryPageResponseDTO();
+        responseDTO.setEvents(response.getEvents().stream().map(this::toEmployeeEventResponseDTO).toList());
+        responseDTO.setNextCursor(response.getNextCursor());
+        return responseDTO;
+    }
+
+    public EmployeeEventResponseDTO toEmployeeEventResponseDTO(EmployeeEventResponse response) {
+        if (response == null) {
+            return null;
+        }
+
+        EmployeeEventResponseDTO responseDTO = new EmployeeEventResponseDTO();
+        responseDTO.setId(response.getId());
+        responseDTO.setEventType(response.getEventType());
+        responseDTO.setDescription(response.getDescription());
+        responseDTO.setOccurredOn(response.getOccurredOn());
+        responseDTO.setEventData(response.getEventData());
+        return responseDTO;
+    }
+}
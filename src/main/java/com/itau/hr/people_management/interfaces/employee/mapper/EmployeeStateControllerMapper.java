@@ -0,0 +1,37 @@
+package com.itau.hr.people_management.interfaces.employee.mapper;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeStateResponse;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeStateResponseDTO;
+
+@Component
+public class EmployeeStateControllerMapper {
+
+    public EmployeeStateResponseDTO toEmployeeStateResponseDTO(EmployeeStateResponse response) {
+        if (response == null) {
+            return null;
+        }
+
+        EmployeeStateResponseDTO responseDTO = new EmployeeStateResponseDTO();
+        responseDTO.setId(response.getId());
+        responseDTO.setName(response.getName());
+        responseDTO.setEmail(response.getEmail());
+        responseDTO.setEmployeeStatus(response.getEmployeeStatus() != null ? EmployeeStatus.valueOf(response.getEmployeeStatus()) : null);
+        responseDTO.setAsOf(response.getAsOf());
+        responseDTO.setLastChangedOn(response.getLastChangedOn());
+        return responseDTO;
+    }
+
+    public List<EmployeeStateResponseDTO> toEmployeeStateResponseDTOList(List<EmployeeStateResponse> responses) {
+        if (responses == null) {
+            return List.of();
+        }
+        return responses.stream()
+                .map(this::toEmployeeStateResponseDTO)
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.itau.hr.people_management.interfaces.employee.mapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.application.employee.dto.StatusDurationResponse;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.interfaces.employee.dto.StatusDurationResponseDTO;
+
+@Component
+public class StatusDurationControllerMapper {
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    public StatusDurationResponseDTO toStatusDurationResponseDTO(StatusDurationResponse response) {
+        if (response == null) {
+            return null;
+        }
+
+        StatusDurationResponseDTO responseDTO = new StatusDurationResponseDTO();
+        responseDTO.setDepartmentId(response.getDepartmentId());
+        responseDTO.setDepartmentName(response.getDepartmentName());
+        responseDTO.setMonth(response.getMonth() != null ? response.getMonth().toString() : null);
+        responseDTO.setEmployeeStatus(response.getEmployeeStatus() != null ? EmployeeStatus.valueOf(response.getEmployeeStatus()) : null);
+        responseDTO.setClosedIntervals(response.getClosedIntervals());
+        responseDTO.setTotalDays(toDays(response.getTotalDuration()));
+        responseDTO.setAverageDays(toDays(response.getAverageDuration()));
+        return responseDTO;
+    }
+
+    public List<StatusDurationResponseDTO> toStatusDurationResponseDTOList(List<StatusDurationResponse> responses) {
+        if (responses == null) {
+            return List.of();
+        }
+        return responses.stream()
+                .map(this::toStatusDurationResponseDTO)
+                .toList();
+    }
+
+    // Two decimals are enough for HR reporting and keep the JSON readable.
+    private static double toDays(Duration duration) {
+        return duration == null ? 0 : Math.round(duration.toMillis() / MILLIS_PER_DAY * 100) / 100.0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.itau.hr.people_management.interfaces.kafka.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.itau.hr.people_management.infrastructure.kafka.retry.DeadLetterReplayService;
+import com.itau.hr.people_management.interfaces.kafka.dto.DeadLetterReplayResponseDTO;
+import com.itau.hr.people_management.interfaces.kafka.mapper.DeadLetterAdminControllerMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/v1/admin/kafka/dead-letters")
+@Tag(name = "Kafka Admin", description = "Operational endpoints for the employee event consumers")
+public class DeadLetterAdminController {
+    private final DeadLetterReplayService deadLetterReplayService;
+    private final DeadLetterAdminControllerMapper deadLetterAdminControllerMapper;
+
+    public DeadLetterAdminController(DeadLetterReplayService deadLetterReplayService,
+                                     DeadLetterAdminControllerMapper deadLetterAdminControllerMapper) {
+        this.deadLetterReplayService = deadLetterReplayService;
+        this.deadLetterAdminControllerMapper = deadLetterAdminControllerMapper;
+    }
+
+    @Operation(summary = "Replay dead-lettered records",
+            description = "Publishes up to maxRecords records of the topic's dead-letter topic back to the topic, oldest first")
+    @ApiResponse(responseCode = "200", description = "Records replayed",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = DeadLetterReplayResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Unknown topic or invalid maxRecords",
+            content = @Content(mediaType = "application/json"))
+    @PostMapping("/{topic}/replay")
+    public ResponseEntity<DeadLetterReplayResponseDTO> replay(@PathVariable String topic,
+                                                              @RequestParam(defaultValue = "1000") int maxRecords) {
+        return ResponseEntity.ok(deadLetterAdminControllerMapper.toReplayResponseDTO(
+                deadLetterReplayService.replay(topic, maxRecords)));
+    }
+}
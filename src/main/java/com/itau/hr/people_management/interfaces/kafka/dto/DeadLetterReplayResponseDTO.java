@@ -0,0 +1,19 @@
+package com.itau.hr.people_management.interfaces.kafka.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Response DTO describing a dead-letter replay")
+public class DeadLetterReplayResponseDTO {
+    @Schema(description = "Topic the records were published back to", example = "employee.created")
+    private String topic;
+
+    @Schema(description = "Dead-letter topic the records were read from", example = "employee.created.dlt")
+    private String deadLetterTopic;
+
+    @Schema(description = "Records replayed", example = "42")
+    private int replayed;
+}
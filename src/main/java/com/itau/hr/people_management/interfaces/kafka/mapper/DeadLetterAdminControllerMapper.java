@@ -0,0 +1,22 @@
+package com.itau.hr.people_management.interfaces.kafka.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.kafka.retry.DeadLetterReplayResult;
+import com.itau.hr.people_management.interfaces.kafka.dto.DeadLetterReplayResponseDTO;
+
+@Component
+public class DeadLetterAdminControllerMapper {
+
+    public DeadLetterReplayResponseDTO toReplayResponseDTO(DeadLetterReplayResult result) {
+        if (result == null) {
+            return null;
+        }
+
+        DeadLetterReplayResponseDTO responseDTO = new DeadLetterReplayResponseDTO();
+        responseDTO.setTopic(result.topic());
+        responseDTO.setDeadLetterTopic(result.deadLetterTopic());
+        responseDTO.setReplayed(result.replayed());
+        return responseDTO;
+    }
+}
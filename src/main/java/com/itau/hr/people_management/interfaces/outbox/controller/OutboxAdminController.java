@@ -0,0 +1,64 @@
+package com.itau.hr.people_management.interfaces.outbox.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueService;
+import com.itau.hr.people_management.interfaces.outbox.dto.OutboxRequeueJobResponseDTO;
+import com.itau.hr.people_management.interfaces.outbox.dto.OutboxRequeueRequestDTO;
+import com.itau.hr.people_management.interfaces.outbox.mapper.OutboxAdminControllerMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/v1/admin/outbox/requeue-jobs")
+@Tag(name = "Outbox Admin", description = "Operational endpoints for the transactional outbox")
+public class OutboxAdminController {
+    private final OutboxRequeueService outboxRequeueService;
+    private final OutboxAdminControllerMapper outboxAdminControllerMapper;
+
+    public OutboxAdminController(OutboxRequeueService outboxRequeueService, OutboxAdminControllerMapper outboxAdminControllerMapper) {
+        this.outboxRequeueService = outboxRequeueService;
+        this.outboxAdminControllerMapper = outboxAdminControllerMapper;
+    }
+
+    @Operation(summary = "Requeue outbox messages",
+            description = "Starts a throttled background job that puts FAILED/DEAD_LETTER messages matching the filters back to PENDING")
+    @ApiResponse(responseCode = "202", description = "Requeue job accepted",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = OutboxRequeueJobResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid filters supplied",
+            content = @Content(mediaType = "application/json"))
+    @PostMapping
+    public ResponseEntity<OutboxRequeueJobResponseDTO> requeue(@RequestBody(required = false) OutboxRequeueRequestDTO requestDTO) {
+        OutboxRequeueProgress progress = outboxRequeueService.submit(outboxAdminControllerMapper.toRequeueCriteria(requestDTO));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(outboxAdminControllerMapper.toRequeueJobResponseDTO(progress));
+    }
+
+    @Operation(summary = "Get requeue job progress", description = "Retrieves the state and number of messages requeued so far")
+    @ApiResponse(responseCode = "200", description = "Requeue job found",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = OutboxRequeueJobResponseDTO.class)))
+    @ApiResponse(responseCode = "404", description = "Requeue job not found",
+            content = @Content(mediaType = "application/json"))
+    @GetMapping("/{jobId}")
+    public ResponseEntity<OutboxRequeueJobResponseDTO> getRequeueJob(@PathVariable UUID jobId) {
+        return outboxRequeueService.find(jobId)
+                .map(outboxAdminControllerMapper::toRequeueJobResponseDTO)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
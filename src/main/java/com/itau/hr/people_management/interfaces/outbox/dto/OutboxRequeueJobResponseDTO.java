@@ -0,0 +1,28 @@
+package com.itau.hr.people_management.interfaces.outbox.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Response DTO describing an outbox requeue job")
+public class OutboxRequeueJobResponseDTO {
+    @Schema(description = "Unique identifier of the requeue job", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID jobId;
+
+    @Schema(description = "State of the job", example = "RUNNING")
+    private String state;
+
+    @Schema(description = "Messages requeued so far", example = "12500")
+    private long requeued;
+
+    @Schema(description = "When the job was submitted", example = "2025-08-02T10:15:30Z")
+    private Instant startedAt;
+
+    @Schema(description = "When the job finished, if it has", example = "2025-08-02T10:17:05Z")
+    private Instant finishedAt;
+}
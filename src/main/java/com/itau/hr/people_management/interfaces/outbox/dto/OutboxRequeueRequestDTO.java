@@ -0,0 +1,31 @@
+package com.itau.hr.people_management.interfaces.outbox.dto;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Request DTO for requeueing failed or dead-lettered outbox messages")
+public class OutboxRequeueRequestDTO {
+    @Schema(description = "Statuses to requeue (FAILED and/or DEAD_LETTER); defaults to DEAD_LETTER", example = "[\"DEAD_LETTER\"]")
+    private Set<OutboxMessageStatus> statuses;
+
+    @Schema(description = "Only messages that occurred at or after this instant", example = "2025-08-01T00:00:00Z")
+    private Instant occurredFrom;
+
+    @Schema(description = "Only messages that occurred before this instant", example = "2025-08-02T00:00:00Z")
+    private Instant occurredTo;
+
+    @Schema(description = "Only messages of this event type", example = "EMPLOYEE_CREATED_EVENT")
+    private String eventType;
+
+    @Schema(description = "Only messages of this aggregate", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID aggregateId;
+}
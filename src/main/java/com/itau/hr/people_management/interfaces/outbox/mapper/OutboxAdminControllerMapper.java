@@ -0,0 +1,39 @@
+package com.itau.hr.people_management.interfaces.outbox.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueCriteria;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress;
+import com.itau.hr.people_management.interfaces.outbox.dto.OutboxRequeueJobResponseDTO;
+import com.itau.hr.people_management.interfaces.outbox.dto.OutboxRequeueRequestDTO;
+
+@Component
+public class OutboxAdminControllerMapper {
+
+    public OutboxRequeueCriteria toRequeueCriteria(OutboxRequeueRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            return new OutboxRequeueCriteria(null, null, null, null, null);
+        }
+        return new OutboxRequeueCriteria(
+            requestDTO.getStatuses(),
+            requestDTO.getOccurredFrom(),
+            requestDTO.getOccurredTo(),
+            requestDTO.getEventType(),
+            requestDTO.getAggregateId()
+        );
+    }
+
+    public OutboxRequeueJobResponseDTO toRequeueJobResponseDTO(OutboxRequeueProgress progress) {
+        if (progress == null) {
+            return null;
+        }
+
+        OutboxRequeueJobResponseDTO responseDTO = new OutboxRequeueJobResponseDTO();
+        responseDTO.setJobId(progress.jobId());
+        responseDTO.setState(progress.state().name());
+        responseDTO.setRequeued(progress.requeued());
+        responseDTO.setStartedAt(progress.startedAt());
+        responseDTO.setFinishedAt(progress.finishedAt());
+        return responseDTO;
+    }
+}
@@ -0,0 +1,37 @@
+-- Estado do colaborador reconstruído a partir do histórico, gravado a cada N eventos aplicados, para que
+-- uma consulta asOf reaplique no máximo N eventos a partir do snapshot mais próximo.
+CREATE TABLE employee_state_snapshots (
+    employee_id UUID NOT NULL,
+    -- Posição (occurred_on, id) do último evento aplicado, na mesma ordem da reconstrução
+    occurred_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    event_id UUID NOT NULL,
+    name VARCHAR(255),
+    email VARCHAR(255),
+    status VARCHAR(50),
+    events_applied BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    PRIMARY KEY (employee_id, occurred_on, event_id)
+);
+
+-- Um evento atrasado invalida os snapshots posteriores a ele. O lock por colaborador serializa com a leitura
+-- que grava snapshots (EmployeeStateRepositoryImpl), que segura o mesmo lock em modo compartilhado: ou o
+-- DELETE enxerga o snapshot recém-gravado, ou a leitura enxerga o evento.
+CREATE OR REPLACE FUNCTION invalidate_employee_state_snapshots() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(lock_key)
+    FROM (SELECT DISTINCT hashtextextended(employee_id::text, 0) AS lock_key FROM inserted_events ORDER BY lock_key) keys;
+
+    DELETE FROM employee_state_snapshots snapshot
+    USING inserted_events event
+    WHERE snapshot.employee_id = event.employee_id
+      AND (snapshot.occurred_on, snapshot.event_id) > (event.occurred_on, event.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Gatilho por comando: um INSERT em lote do histórico executa um único DELETE
+CREATE TRIGGER trg_employee_events_history_invalidate_snapshots
+    AFTER INSERT ON employee_events_history
+    REFERENCING NEW TABLE AS inserted_events
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION invalidate_employee_state_snapshots();
@@ -0,0 +1,16 @@
+-- event_data passa a jsonb para que consultas sobre o payload (ex.: todas as transições para ON_LEAVE) usem índice
+-- em vez de varrer a tabela e interpretar o JSON na aplicação. O jsonb normaliza espaços e ordem das chaves.
+ALTER TABLE employee_events_history ALTER COLUMN event_data TYPE JSONB USING event_data::jsonb;
+
+-- A descrição é derivada do payload na leitura (EmployeeEventDescriber) em vez de gravar uma segunda cópia do evento
+ALTER TABLE employee_events_history DROP COLUMN description;
+
+-- Índices de expressão nas chaves de status consultadas, na ordem da paginação por keyset; parciais porque só
+-- mudanças de status carregam essas chaves. Criados na tabela particionada, valem para as partições atuais e futuras.
+CREATE INDEX idx_employee_events_history_new_status
+    ON employee_events_history ((event_data ->> 'newStatus'), occurred_on DESC, id DESC)
+    WHERE event_type = 'EMPLOYEE_STATUS_CHANGED_EVENT';
+
+CREATE INDEX idx_employee_events_history_old_status
+    ON employee_events_history ((event_data ->> 'oldStatus'), occurred_on DESC, id DESC)
+    WHERE event_type = 'EMPLOYEE_STATUS_CHANGED_EVENT';
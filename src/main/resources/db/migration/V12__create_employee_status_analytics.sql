@@ -0,0 +1,55 @@
+-- Projeção incremental dos status: cada evento que define um status abre um intervalo, que é fechado pelo
+-- evento seguinte do mesmo colaborador. Mantida pelo consumidor do histórico (EmployeeStatusAnalyticsProjector).
+CREATE TABLE employee_status_intervals (
+    -- Evento que abriu o intervalo; garante que um evento reentregue não abra o intervalo duas vezes
+    start_event_id UUID PRIMARY KEY,
+    employee_id UUID NOT NULL,
+    -- Departamento do colaborador quando o intervalo foi registrado; nulo se o colaborador não existe mais
+    department_id UUID,
+    status VARCHAR(50) NOT NULL,
+    started_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    ended_on TIMESTAMP WITH TIME ZONE,
+    end_event_id UUID
+);
+
+-- Linha do tempo do colaborador, na mesma ordem (occurred_on, id) do histórico
+CREATE INDEX idx_employee_status_intervals_timeline ON employee_status_intervals (employee_id, started_on, start_event_id);
+
+-- Agregado por departamento, mês e status dos intervalos fechados. O intervalo conta no mês (UTC) em que foi
+-- fechado, quando a duração passa a ser conhecida. Os endpoints de analytics leem só esta tabela.
+CREATE TABLE department_status_duration_rollups (
+    department_id UUID NOT NULL,
+    month DATE NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    closed_intervals BIGINT NOT NULL,
+    total_duration_ms BIGINT NOT NULL,
+    PRIMARY KEY (department_id, month, status)
+);
+
+CREATE INDEX idx_department_status_duration_rollups_status ON department_status_duration_rollups (status, month);
+
+-- Carga inicial a partir do histórico ainda no banco; meses já arquivados (V9) não entram
+INSERT INTO employee_status_intervals (start_event_id, employee_id, department_id, status, started_on, ended_on, end_event_id)
+SELECT history.id,
+       history.employee_id,
+       employees.department_id,
+       CASE WHEN history.event_type = 'EMPLOYEE_CREATED_EVENT' THEN 'ACTIVE' ELSE history.event_data ->> 'newStatus' END,
+       history.occurred_on,
+       LEAD(history.occurred_on) OVER timeline,
+       LEAD(history.id) OVER timeline
+FROM employee_events_history history
+LEFT JOIN employees ON employees.id = history.employee_id
+WHERE history.event_type = 'EMPLOYEE_CREATED_EVENT'
+   OR (history.event_type = 'EMPLOYEE_STATUS_CHANGED_EVENT' AND history.event_data ->> 'newStatus' IS NOT NULL)
+WINDOW timeline AS (PARTITION BY history.employee_id ORDER BY history.occurred_on, history.id)
+ON CONFLICT (start_event_id) DO NOTHING;
+
+INSERT INTO department_status_duration_rollups (department_id, month, status, closed_intervals, total_duration_ms)
+SELECT department_id,
+       date_trunc('month', ended_on AT TIME ZONE 'UTC')::date,
+       status,
+       count(*),
+       sum(floor(extract(EPOCH FROM ended_on - started_on) * 1000)::bigint)
+FROM employee_status_intervals
+WHERE ended_on IS NOT NULL AND department_id IS NOT NULL
+GROUP BY 1, 2, 3;
@@ -0,0 +1,45 @@
+-- create_outbox_partition (V5) falhava quando a partição DEFAULT já tinha linhas do mês pedido (ex.: job de
+-- manutenção parado): o PostgreSQL recusa criar a partição enquanto a DEFAULT violar o novo intervalo.
+-- Agora, nesse caso, a DEFAULT é desanexada, o mês é criado, as linhas são movidas e a DEFAULT volta.
+-- No modo cdc as linhas movidas chegariam ao relay como novos inserts (V7 publica pela tabela mãe): a transação
+-- emite a mensagem lógica 'outbox_partition_move' e o OutboxCdcRelay ignora os inserts dela.
+CREATE OR REPLACE FUNCTION create_outbox_partition(month_start TIMESTAMP WITH TIME ZONE) RETURNS TEXT AS $$
+DECLARE
+    lower_bound TIMESTAMP WITH TIME ZONE := date_trunc('month', month_start AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+    upper_bound TIMESTAMP WITH TIME ZONE := lower_bound + INTERVAL '1 month';
+    partition_name TEXT := 'outbox_messages_' || to_char(lower_bound AT TIME ZONE 'UTC', 'YYYYMM');
+    stranded BIGINT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- CREATE ... PARTITION OF e DETACH exigem ACCESS EXCLUSIVE: pegá-lo logo, na ordem das gravações (mãe e depois
+    -- DEFAULT), evita o deadlock de dois chamadores promovendo um lock mais fraco e mantém a contagem válida
+    LOCK TABLE ONLY outbox_messages IN ACCESS EXCLUSIVE MODE;
+    LOCK TABLE outbox_messages_default IN ACCESS EXCLUSIVE MODE;
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    SELECT count(*) INTO stranded FROM outbox_messages_default
+    WHERE occurred_on >= lower_bound AND occurred_on < upper_bound;
+
+    IF stranded = 0 THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF outbox_messages FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+        RETURN partition_name;
+    END IF;
+
+    RAISE WARNING 'Movendo % mensagens da partição outbox_messages_default para %', stranded, partition_name;
+    PERFORM pg_logical_emit_message(true, 'outbox_partition_move', partition_name);
+    ALTER TABLE outbox_messages DETACH PARTITION outbox_messages_default;
+    EXECUTE format('CREATE TABLE %I PARTITION OF outbox_messages FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    EXECUTE format('INSERT INTO %I SELECT * FROM outbox_messages_default WHERE occurred_on >= %L AND occurred_on < %L',
+                   partition_name, lower_bound, upper_bound);
+    DELETE FROM outbox_messages_default WHERE occurred_on >= lower_bound AND occurred_on < upper_bound;
+    ALTER TABLE outbox_messages ATTACH PARTITION outbox_messages_default DEFAULT;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
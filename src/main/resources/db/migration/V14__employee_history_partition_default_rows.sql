@@ -0,0 +1,42 @@
+-- create_employee_history_partition (V9) falhava quando a partição DEFAULT já tinha linhas do mês pedido (ex.: job
+-- de arquivamento parado ou evento atrasado): o PostgreSQL recusa criar a partição enquanto a DEFAULT violar o novo
+-- intervalo. Agora, nesse caso, a DEFAULT é desanexada, o mês é criado, as linhas são movidas e a DEFAULT volta.
+CREATE OR REPLACE FUNCTION create_employee_history_partition(month_start TIMESTAMP WITH TIME ZONE) RETURNS TEXT AS $$
+DECLARE
+    lower_bound TIMESTAMP WITH TIME ZONE := date_trunc('month', month_start AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+    upper_bound TIMESTAMP WITH TIME ZONE := lower_bound + INTERVAL '1 month';
+    partition_name TEXT := 'employee_events_history_' || to_char(lower_bound AT TIME ZONE 'UTC', 'YYYYMM');
+    stranded BIGINT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- CREATE ... PARTITION OF e DETACH exigem ACCESS EXCLUSIVE: pegá-lo logo, na ordem das gravações (mãe e depois
+    -- DEFAULT), evita o deadlock de dois chamadores promovendo um lock mais fraco e mantém a contagem válida
+    LOCK TABLE ONLY employee_events_history IN ACCESS EXCLUSIVE MODE;
+    LOCK TABLE employee_events_history_default IN ACCESS EXCLUSIVE MODE;
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    SELECT count(*) INTO stranded FROM employee_events_history_default
+    WHERE occurred_on >= lower_bound AND occurred_on < upper_bound;
+
+    IF stranded = 0 THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF employee_events_history FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+        RETURN partition_name;
+    END IF;
+
+    RAISE WARNING 'Movendo % eventos da partição employee_events_history_default para %', stranded, partition_name;
+    ALTER TABLE employee_events_history DETACH PARTITION employee_events_history_default;
+    EXECUTE format('CREATE TABLE %I PARTITION OF employee_events_history FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    EXECUTE format('INSERT INTO %I SELECT * FROM employee_events_history_default WHERE occurred_on >= %L AND occurred_on < %L',
+                   partition_name, lower_bound, upper_bound);
+    DELETE FROM employee_events_history_default WHERE occurred_on >= lower_bound AND occurred_on < upper_bound;
+    ALTER TABLE employee_events_history ATTACH PARTITION employee_events_history_default DEFAULT;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,8 @@
+-- Payload do outbox passa a ser binário (Smile por padrão, JSON como fallback de depuração)
+ALTER TABLE outbox_messages
+    ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
+
+-- Formato e versão de schema do payload, propagados como headers nas mensagens Kafka
+ALTER TABLE outbox_messages
+    ADD COLUMN payload_content_type VARCHAR(100) NOT NULL DEFAULT 'application/json',
+    ADD COLUMN payload_schema_version INT NOT NULL DEFAULT 1;
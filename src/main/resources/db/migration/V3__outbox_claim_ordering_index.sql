@@ -0,0 +1,3 @@
+-- Suporta a verificação de ordem por agregado no claim do OutboxRelay (FOR UPDATE SKIP LOCKED)
+CREATE INDEX idx_outbox_aggregate_unsent ON outbox_messages (aggregate_id, occurred_on, id)
+    WHERE status IN ('PENDING', 'FAILED');
@@ -0,0 +1,13 @@
+-- Acorda o OutboxRelay assim que a transação que gravou no outbox é confirmada.
+-- O NOTIFY só é entregue no commit e notificações idênticas na mesma transação são agrupadas.
+CREATE OR REPLACE FUNCTION notify_outbox_messages() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('outbox_messages', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_messages_notify
+    AFTER INSERT ON outbox_messages
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_outbox_messages();
@@ -0,0 +1,100 @@
+-- Outbox particionado por mês em occurred_on: mensagens SENT antigas saem com DETACH/DROP de partição
+-- em vez de DELETE, e os índices do relay passam a cobrir apenas os meses ativos.
+ALTER TABLE outbox_messages RENAME TO outbox_messages_legacy;
+ALTER INDEX idx_outbox_status_occurred_on RENAME TO idx_outbox_legacy_status_occurred_on;
+ALTER INDEX idx_outbox_next_attempt RENAME TO idx_outbox_legacy_next_attempt;
+ALTER INDEX idx_outbox_aggregate_unsent RENAME TO idx_outbox_legacy_aggregate_unsent;
+
+CREATE TABLE outbox_messages (
+    id UUID NOT NULL,
+    occurred_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id UUID,
+    event_type VARCHAR(255) NOT NULL,
+    payload BYTEA NOT NULL,
+    payload_content_type VARCHAR(100) NOT NULL DEFAULT 'application/json',
+    payload_schema_version INT NOT NULL DEFAULT 1,
+    status VARCHAR(50) NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    retry_attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    -- A chave de partição precisa fazer parte da chave primária
+    PRIMARY KEY (id, occurred_on)
+) PARTITION BY RANGE (occurred_on);
+
+CREATE INDEX idx_outbox_status_occurred_on ON outbox_messages (status, occurred_on);
+CREATE INDEX idx_outbox_next_attempt ON outbox_messages (next_attempt_at);
+CREATE INDEX idx_outbox_aggregate_unsent ON outbox_messages (aggregate_id, occurred_on, id)
+    WHERE status IN ('PENDING', 'FAILED');
+
+-- Recebe linhas fora dos meses já criados (ex.: job de manutenção parado); nunca é removida
+CREATE TABLE outbox_messages_default PARTITION OF outbox_messages DEFAULT;
+
+-- Cria (se não existir) a partição mensal que contém month_start, sempre em UTC.
+-- Usada por esta migração e pelo job OutboxPartitionMaintenance.
+CREATE OR REPLACE FUNCTION create_outbox_partition(month_start TIMESTAMP WITH TIME ZONE) RETURNS TEXT AS $$
+DECLARE
+    lower_bound TIMESTAMP WITH TIME ZONE := date_trunc('month', month_start AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+    upper_bound TIMESTAMP WITH TIME ZONE := lower_bound + INTERVAL '1 month';
+    partition_name TEXT := 'outbox_messages_' || to_char(lower_bound AT TIME ZONE 'UTC', 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF outbox_messages FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições do mês mais antigo ainda no outbox até três meses à frente
+DO $$
+DECLARE
+    first_month TIMESTAMP WITH TIME ZONE;
+    month_start TIMESTAMP WITH TIME ZONE;
+BEGIN
+    SELECT COALESCE(min(occurred_on), now()) INTO first_month FROM outbox_messages_legacy;
+    FOR month_start IN
+        SELECT generate_series(
+            date_trunc('month', first_month AT TIME ZONE 'UTC') AT TIME ZONE 'UTC',
+            date_trunc('month', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' + INTERVAL '3 months',
+            INTERVAL '1 month')
+    LOOP
+        PERFORM create_outbox_partition(month_start);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO outbox_messages (id, occurred_on, aggregate_type, aggregate_id, event_type, payload,
+                             payload_content_type, payload_schema_version, status, processed_at,
+                             retry_attempts, next_attempt_at)
+SELECT id, occurred_on, aggregate_type, aggregate_id, event_type, payload,
+       payload_content_type, payload_schema_version, status, processed_at,
+       retry_attempts, next_attempt_at
+FROM outbox_messages_legacy;
+
+DROP TABLE outbox_messages_legacy;
+
+-- O trigger de NOTIFY (V4) foi removido junto com a tabela antiga
+CREATE TRIGGER trg_outbox_messages_notify
+    AFTER INSERT ON outbox_messages
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_outbox_messages();
+
+-- Mensagens DEAD_LETTER retiradas das partições expiradas, preservadas para análise e reprocessamento
+CREATE TABLE outbox_messages_dead_letter (
+    id UUID PRIMARY KEY,
+    occurred_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id UUID,
+    event_type VARCHAR(255) NOT NULL,
+    payload BYTEA NOT NULL,
+    payload_content_type VARCHAR(100) NOT NULL,
+    payload_schema_version INT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    retry_attempts INT NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_outbox_dead_letter_aggregate ON outbox_messages_dead_letter (aggregate_id, occurred_on);
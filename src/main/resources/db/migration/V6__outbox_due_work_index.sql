@@ -0,0 +1,7 @@
+-- Índice parcial do trabalho pendente: o claim do OutboxRelay filtra por next_attempt_at e ordena por
+-- occurred_on, e só percorre mensagens PENDING/FAILED, por maior que seja o histórico de SENT.
+CREATE INDEX idx_outbox_due_work ON outbox_messages (next_attempt_at, occurred_on)
+    WHERE status IN ('PENDING', 'FAILED');
+
+-- Substituído pelo índice parcial acima; indexava também todas as mensagens já enviadas
+DROP INDEX idx_outbox_next_attempt;
@@ -0,0 +1,5 @@
+-- Publicação lida pelo relay no modo cdc (slot lógico com pgoutput). publish_via_partition_root faz as
+-- mudanças das partições mensais chegarem como da tabela outbox_messages; updates são publicados para
+-- capturar reenfileiramentos (status de volta a PENDING).
+CREATE PUBLICATION outbox_publication FOR TABLE outbox_messages
+    WITH (publish = 'insert, update', publish_via_partition_root = true);
@@ -0,0 +1,7 @@
+-- Índice da consulta paginada do histórico (GET /api/v1/employees/{id}/history): mesma ordem do keyset
+-- (occurred_on DESC, id DESC), então a página mais recente é uma varredura limitada do índice, sem sort,
+-- qualquer que seja o número de eventos do colaborador.
+CREATE INDEX idx_employee_events_history_keyset ON employee_events_history (employee_id, occurred_on DESC, id DESC);
+
+-- Coberto pelo prefixo do índice acima
+DROP INDEX idx_employee_id;
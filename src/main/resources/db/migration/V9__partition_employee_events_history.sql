@@ -0,0 +1,62 @@
+-- Histórico particionado por mês em occurred_on: os meses fora da janela quente são exportados para
+-- segmentos NDJSON.gz no disco pelo EmployeeHistoryArchiver e a partição é removida com DETACH/DROP.
+ALTER TABLE employee_events_history RENAME TO employee_events_history_legacy;
+ALTER INDEX idx_employee_events_history_keyset RENAME TO idx_employee_events_history_legacy_keyset;
+ALTER INDEX idx_event_type RENAME TO idx_employee_events_history_legacy_event_type;
+
+CREATE TABLE employee_events_history (
+    id UUID NOT NULL,
+    employee_id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    occurred_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    event_data TEXT NOT NULL,
+    -- A chave de partição precisa fazer parte da chave primária; o ON CONFLICT das gravações passa a usar (id, occurred_on)
+    PRIMARY KEY (id, occurred_on)
+) PARTITION BY RANGE (occurred_on);
+
+CREATE INDEX idx_employee_events_history_keyset ON employee_events_history (employee_id, occurred_on DESC, id DESC);
+CREATE INDEX idx_event_type ON employee_events_history (event_type);
+
+-- Recebe linhas fora dos meses existentes (job parado ou evento atrasado de um mês já arquivado); nunca é arquivada
+CREATE TABLE employee_events_history_default PARTITION OF employee_events_history DEFAULT;
+
+-- Cria (se não existir) a partição mensal que contém month_start, sempre em UTC.
+-- Usada por esta migração e pelo job EmployeeHistoryArchiver.
+CREATE OR REPLACE FUNCTION create_employee_history_partition(month_start TIMESTAMP WITH TIME ZONE) RETURNS TEXT AS $$
+DECLARE
+    lower_bound TIMESTAMP WITH TIME ZONE := date_trunc('month', month_start AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+    upper_bound TIMESTAMP WITH TIME ZONE := lower_bound + INTERVAL '1 month';
+    partition_name TEXT := 'employee_events_history_' || to_char(lower_bound AT TIME ZONE 'UTC', 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF employee_events_history FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições do evento mais antigo até três meses à frente
+DO $$
+DECLARE
+    first_month TIMESTAMP WITH TIME ZONE;
+    month_start TIMESTAMP WITH TIME ZONE;
+BEGIN
+    SELECT COALESCE(min(occurred_on), now()) INTO first_month FROM employee_events_history_legacy;
+    FOR month_start IN
+        SELECT generate_series(
+            date_trunc('month', first_month AT TIME ZONE 'UTC') AT TIME ZONE 'UTC',
+            date_trunc('month', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' + INTERVAL '3 months',
+            INTERVAL '1 month')
+    LOOP
+        PERFORM create_employee_history_partition(month_start);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO employee_events_history (id, employee_id, event_type, occurred_on, description, event_data)
+SELECT id, employee_id, event_type, occurred_on, description, event_data
+FROM employee_events_history_legacy;
+
+DROP TABLE employee_events_history_legacy;
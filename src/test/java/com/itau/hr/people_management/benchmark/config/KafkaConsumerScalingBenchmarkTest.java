@@ -0,0 +1,131 @@
+package com.itau.hr.people_management.benchmark.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+/**
+ * Mede registros/s consumidos com 1 a N partições (uma thread de consumidor por partição), com
+ * custo fixo por registro simulando a gravação do histórico, e verifica que a ordem por chave
+ * (id do colaborador) se mantém em todas as configurações.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@EmbeddedKafka
+@DisplayName("Kafka Consumer Scaling Benchmark")
+class KafkaConsumerScalingBenchmarkTest {
+
+    private static final int TOTAL_RECORDS = 20_000;
+    private static final int EMPLOYEES = 1_000;
+    private static final long WORK_NANOS_PER_RECORD = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final int[] PARTITIONS = {1, 2, 4, 8};
+
+    @Test
+    @DisplayName("Should report records per second for each partition count and keep per-key order")
+    void shouldReportRecordsPerSecondForEachPartitionCountAndKeepPerKeyOrder(EmbeddedKafkaBroker broker) throws Exception {
+        System.out.printf("%-12s %12s%n", "partitions", "records/s");
+        for (int partitions : PARTITIONS) {
+            String topic = "employee.created.p" + partitions;
+            broker.addTopics(new NewTopic(topic, partitions, (short) 1));
+            produce(broker, topic);
+
+            Result result = consume(broker, topic, partitions);
+            System.out.printf("%-12d %12.0f%n", partitions, result.recordsPerSecond());
+
+            assertThat(result.outOfOrder(), is(empty()));
+        }
+    }
+
+    private void produce(EmbeddedKafkaBroker broker, String topic) {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        try {
+            KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+            for (int sequence = 0; sequence < TOTAL_RECORDS; sequence++) {
+                String employeeId = "employee-" + (sequence % EMPLOYEES);
+                kafkaTemplate.send(new ProducerRecord<>(topic, employeeId, ByteBuffer.allocate(Integer.BYTES).putInt(sequence).array()));
+            }
+            kafkaTemplate.flush();
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    private Result consume(EmbeddedKafkaBroker broker, String topic, int partitions) throws InterruptedException {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(topic + "-group", "false", broker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        Map<String, Integer> lastSequenceByKey = new ConcurrentHashMap<>();
+        Queue<String> outOfOrder = new ConcurrentLinkedQueue<>();
+        CountDownLatch consumed = new CountDownLatch(TOTAL_RECORDS);
+
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setMessageListener((BatchMessageListener<String, byte[]>) records -> {
+            for (ConsumerRecord<String, byte[]> consumerRecord : records) {
+                int sequence = ByteBuffer.wrap(consumerRecord.value()).getInt();
+                Integer previous = lastSequenceByKey.put(consumerRecord.key(), sequence);
+                if (previous != null && previous > sequence) {
+                    outOfOrder.add(consumerRecord.key() + ": " + previous + " > " + sequence);
+                }
+                LockSupport.parkNanos(WORK_NANOS_PER_RECORD);
+                consumed.countDown();
+            }
+        });
+
+        ConcurrentMessageListenerContainer<String, byte[]> container = new ConcurrentMessageListenerContainer<>(
+            new DefaultKafkaConsumerFactory<>(consumerProps), containerProperties);
+        container.setConcurrency(partitions);
+
+        long start = System.nanoTime();
+        container.start();
+        try {
+            boolean done = consumed.await(5, TimeUnit.MINUTES);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            assertThat(done, is(true));
+            return new Result(TOTAL_RECORDS / seconds, List.copyOf(outOfOrder));
+        } finally {
+            container.stop();
+        }
+    }
+
+    private record Result(double recordsPerSecond, List<String> outOfOrder) {
+    }
+}
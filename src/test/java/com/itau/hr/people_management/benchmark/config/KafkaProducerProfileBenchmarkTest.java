@@ -0,0 +1,101 @@
+package com.itau.hr.people_management.benchmark.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import com.itau.hr.people_management.config.KafkaProducerProfile;
+
+/**
+ * Mede eventos/s e latência p99 de envio (send até ack) para cada KafkaProducerProfile
+ * contra um broker Kafka embarcado, em janelas do tamanho máximo do lote do OutboxRelay.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 3, topics = {"employee.created"})
+@DisplayName("KafkaProducerProfile Benchmark")
+class KafkaProducerProfileBenchmarkTest {
+
+    private static final int TOTAL_MESSAGES = 50_000;
+    private static final int WINDOW = 500;
+
+    private final byte[] payload = ("{\"employeeId\":\"4f1c\",\"name\":\"Maria da Silva Souza\","
+        + "\"department\":\"Engenharia\",\"position\":\"Desenvolvedora Backend\"}").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Should report events per second and p99 latency for each producer profile")
+    void shouldReportEventsPerSecondAndP99LatencyForEachProducerProfile(EmbeddedKafkaBroker broker) throws Exception {
+        System.out.printf("%-16s %12s %12s%n", "profile", "events/s", "p99 (ms)");
+        for (KafkaProducerProfile profile : KafkaProducerProfile.values()) {
+            Result result = measure(broker, profile);
+            System.out.printf("%-16s %12.0f %12.2f%n", profile, result.eventsPerSecond(), result.p99Millis());
+
+            assertThat(result.eventsPerSecond(), greaterThan(0.0));
+        }
+    }
+
+    private Result measure(EmbeddedKafkaBroker broker, KafkaProducerProfile profile) throws Exception {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        producerProps.putAll(profile.producerConfigs());
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+
+        try {
+            KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+            sendWindows(kafkaTemplate, 5_000, new long[5_000]);
+
+            long[] latencies = new long[TOTAL_MESSAGES];
+            long start = System.nanoTime();
+            sendWindows(kafkaTemplate, TOTAL_MESSAGES, latencies);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            Arrays.sort(latencies);
+            double p99 = latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1_000_000.0;
+            return new Result(TOTAL_MESSAGES / seconds, p99);
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    private void sendWindows(KafkaTemplate<String, byte[]> kafkaTemplate, int total, long[] latencies) throws Exception {
+        for (int offset = 0; offset < total; offset += WINDOW) {
+            int size = Math.min(WINDOW, total - offset);
+            CompletableFuture<?>[] window = new CompletableFuture<?>[size];
+            for (int i = 0; i < size; i++) {
+                int slot = offset + i;
+                long sentAt = System.nanoTime();
+                window[i] = kafkaTemplate.send(record())
+                    .whenComplete((result, ex) -> latencies[slot] = System.nanoTime() - sentAt);
+            }
+            kafkaTemplate.flush();
+            CompletableFuture.allOf(window).get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private ProducerRecord<String, byte[]> record() {
+        return new ProducerRecord<>("employee.created", UUID.randomUUID().toString(), payload);
+    }
+
+    private record Result(double eventsPerSecond, double p99Millis) {
+    }
+}
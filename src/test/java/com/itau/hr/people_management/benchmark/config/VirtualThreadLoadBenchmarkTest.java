@@ -0,0 +1,331 @@
+package com.itau.hr.people_management.benchmark.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.PeopleManagementApplication;
+
+/**
+ * Compara o modo de threads de plataforma com o de virtual threads (spring.threads.virtual.enabled) sob a mesma
+ * carga HTTP. A aplicação sobe em uma JVM própria por modo, com o mesmo -Xmx, PostgreSQL, Kafka e pool Hikari;
+ * CLIENTS clientes concorrentes fazem GET /api/v1/employees/{id} durante MEASURE. São reportados requisições/s,
+ * latência p50/p99, o maior número de threads do SO durante a medição e o RSS do processo da aplicação ao fim e no
+ * pico (VmRSS/VmHWM de /proc/<pid>/status; só Linux). Verifica que nenhum dos modos responde com erro.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@Testcontainers
+@EmbeddedKafka
+@DisplayName("Virtual Thread Load Benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CLIENTS = 800;
+    private static final int EMPLOYEES = 1_000;
+    private static final int POOL_SIZE = 10;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration MEASURE = Duration.ofSeconds(30);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_benchmark")
+            .withUsername("test")
+            .withPassword("test");
+
+    @TempDir
+    static Path workDirectory;
+
+    @Test
+    @DisplayName("Should report throughput, threads and RSS for platform and virtual threads")
+    void shouldReportThroughputThreadsAndRssForPlatformAndVirtualThreads(EmbeddedKafkaBroker broker) throws Exception {
+        List<UUID> employeeIds = List.of();
+        List<String> rows = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            try (Application application = Application.start(virtualThreads, broker.getBrokersAsString())) {
+                if (employeeIds.isEmpty()) {
+                    employeeIds = seedEmployees();
+                }
+                Result result = load(application, employeeIds);
+                rows.add(String.format("%-10s %10.0f %9.1f %9.1f %9s %9s %11s", virtualThreads ? "virtual" : "platform",
+                    result.requestsPerSecond(), result.p50Millis(), result.p99Millis(), orNa(result.peakOsThreads()),
+                    orNa(result.rssMb()), orNa(result.peakRssMb())));
+
+                assertThat(application.describe(), result.errors(), is(0L));
+            }
+        }
+
+        System.out.printf("%d clients, pool of %d connections%n", CLIENTS, POOL_SIZE);
+        System.out.printf("%-10s %10s %9s %9s %9s %9s %11s%n", "threads", "req/s", "p50 ms", "p99 ms", "OS thr", "RSS MB", "peak RSS MB");
+        rows.forEach(System.out::println);
+    }
+
+    private static Result load(Application application, List<UUID> employeeIds) throws Exception {
+        try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(httpExecutor)
+                .build();
+            drive(client, application, employeeIds, WARMUP);
+            return drive(client, application, employeeIds, MEASURE);
+        }
+    }
+
+    private static Result drive(HttpClient client, Application application, List<UUID> employeeIds, Duration duration) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        AtomicLong peakOsThreads = new AtomicLong(-1);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<long[]> latencies;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> sampler = clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    peakOsThreads.accumulateAndGet(application.status("Threads:"), Math::max);
+                    pause(Duration.ofMillis(250));
+                }
+            });
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                results.add(clients.submit(() -> requestUntil(client, application, employeeIds, deadline, errors)));
+            }
+            latencies = new ArrayList<>();
+            for (Future<long[]> result : results) {
+                latencies.add(result.get());
+            }
+            sampler.get();
+        }
+
+        long[] merged = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        long rssKb = application.status("VmRSS:");
+        long peakRssKb = application.status("VmHWM:");
+        return new Result(merged.length / (double) duration.toSeconds(), percentileMillis(merged, 0.50), percentileMillis(merged, 0.99),
+            errors.get(), peakOsThreads.get(), rssKb < 0 ? -1 : rssKb / 1024, peakRssKb < 0 ? -1 : peakRssKb / 1024);
+    }
+
+    private static long[] requestUntil(HttpClient client, Application application, List<UUID> employeeIds, long deadline, AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            UUID employeeId = employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size()));
+            HttpRequest request = HttpRequest.newBuilder(application.uri("/api/v1/employees/" + employeeId)).GET().build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                    continue;
+                }
+            } catch (IOException e) {
+                errors.incrementAndGet();
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static List<UUID> seedEmployees() throws SQLException {
+        UUID departmentId = UUID.randomUUID();
+        UUID positionId = UUID.randomUUID();
+        List<UUID> employeeIds = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            try (PreparedStatement department = connection.prepareStatement(
+                    "INSERT INTO departments (id, name, cost_center_code) VALUES (?, 'Benchmark', 'CC-BENCH')");
+                 PreparedStatement position = connection.prepareStatement(
+                    "INSERT INTO positions (id, title, position_level) VALUES (?, 'Analista', 'PLENO')")) {
+                department.setObject(1, departmentId);
+                department.executeUpdate();
+                position.setObject(1, positionId);
+                position.executeUpdate();
+            }
+            try (PreparedStatement employee = connection.prepareStatement("""
+                    INSERT INTO employees (id, name, email, department_id, position_id, created_at, status)
+                    VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE')
+                    """)) {
+                for (int i = 0; i < EMPLOYEES; i++) {
+                    UUID employeeId = UUID.randomUUID();
+                    employee.setObject(1, employeeId);
+                    employee.setString(2, "Colaborador " + i);
+                    employee.setString(3, "colaborador" + i + "@empresa.com.br");
+                    employee.setObject(4, departmentId);
+                    employee.setObject(5, positionId);
+                    employee.setTimestamp(6, Timestamp.from(Instant.now()));
+                    employee.addBatch();
+                    employeeIds.add(employeeId);
+                }
+                employee.executeBatch();
+            }
+        }
+        return employeeIds;
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static String orNa(long value) {
+        return value < 0 ? "n/a" : String.valueOf(value);
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(double requestsPerSecond, double p50Millis, double p99Millis, long errors,
+                          long peakOsThreads, long rssMb, long peakRssMb) {
+    }
+
+    /** The application running in its own JVM, so its threads and RSS are measured apart from the load generator. */
+    private record Application(Process process, int port, Path log) implements AutoCloseable {
+
+        static Application start(boolean virtualThreads, String kafkaBootstrapServers) throws Exception {
+            int port = freePort();
+            Path log = workDirectory.resolve((virtualThreads ? "virtual" : "platform") + ".log");
+            List<String> command = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx512m",
+                "-Dspring.devtools.restart.enabled=false",
+                "-cp", System.getProperty("java.class.path"),
+                PeopleManagementApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.kafka.bootstrap-servers=" + kafkaBootstrapServers,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.itau.hr.people_management=WARN",
+                "--logging.level.org.hibernate=WARN",
+                "--logging.level.org.postgresql=WARN",
+                "--application.history.archive.directory=" + workDirectory.resolve("archive"));
+            Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+            Application application = new Application(process, port, log);
+            application.awaitHealthy();
+            return application;
+        }
+
+        URI uri(String path) {
+            return URI.create("http://localhost:" + port + path);
+        }
+
+        /** A numeric field of /proc/<pid>/status (kB for memory), or -1 where /proc is not available. */
+        long status(String field) {
+            Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+            try {
+                return Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith(field))
+                    .map(line -> line.substring(field.length()).trim().split("\\s+")[0])
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(-1);
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+
+        String describe() {
+            try {
+                List<String> lines = Files.readAllLines(log);
+                return String.join("\n", lines.subList(Math.max(0, lines.size() - 40), lines.size()));
+            } catch (IOException e) {
+                return "application log unavailable: " + log;
+            }
+        }
+
+        private void awaitHealthy() throws InterruptedException {
+            HttpClient client = HttpClient.newHttpClient();
+            HttpRequest health = HttpRequest.newBuilder(uri("/actuator/health")).GET().build();
+            long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited during startup:\n" + describe());
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(500);
+            }
+            close();
+            throw new IllegalStateException("Application not healthy after " + STARTUP_TIMEOUT + ":\n" + describe());
+        }
+
+        @Override
+        public void close() {
+            process.destroy();
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+
+        private static int freePort() throws IOException {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                return socket.getLocalPort();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.itau.hr.people_management.benchmark.infrastructure.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHeaders;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventBinding;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelopeReader;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventHandlerRegistry;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
+
+/**
+ * Compara o caminho antigo de decodificação do consumidor (String + ObjectMapper.readValue +
+ * três chamadas reflexivas de employeeId) com o envelope tipado (ObjectReader em cache +
+ * registro de handlers), em CPU por registro.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("Employee Event Decode Benchmark")
+class EmployeeEventDecodeBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 500_000;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private ObjectMapper objectMapper;
+    private EmployeeEventEnvelopeReader envelopeReader;
+    private EmployeeEventHandlerRegistry<UUID> registry;
+    private ConsumerRecord<String, byte[]> message;
+
+    // Sink so the JIT cannot drop the decoded values.
+    private long blackhole;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        OutboxPayloadCodec codec = new OutboxPayloadCodec(objectMapper, OutboxPayloadFormat.JSON);
+        envelopeReader = new EmployeeEventEnvelopeReader(codec);
+        registry = new EmployeeEventHandlerRegistry<UUID>()
+            .on(EmployeeEventBinding.EMPLOYEE_CREATED, EmployeeCreatedEvent::employeeId)
+            .on(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, EmployeeStatusChangedEvent::employeeId);
+
+        EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "Maria da Silva Souza", "maria.souza@empresa.com.br");
+        message = new ConsumerRecord<>("employee.created", 0, 0L, event.employeeId().toString(), codec.encode(event, OutboxPayloadFormat.JSON));
+        EmployeeEventHeaders.write(message.headers(), EventType.EMPLOYEE_CREATED_EVENT.name(),
+            OutboxPayloadFormat.JSON.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION);
+    }
+
+    @Test
+    @DisplayName("Should report CPU per record for reflective and typed decode paths")
+    void shouldReportCpuPerRecordForReflectiveAndTypedDecodePaths() throws Exception {
+        long reflective = measure(this::reflectiveDecode);
+        long typed = measure(this::typedDecode);
+
+        System.out.printf("%-12s %14s%n", "path", "cpu ns/record");
+        System.out.printf("%-12s %14d%n", "reflective", reflective);
+        System.out.printf("%-12s %14d%n", "typed", typed);
+
+        assertThat(typed, lessThan(reflective));
+    }
+
+    private void reflectiveDecode() throws Exception {
+        Object event = objectMapper.readValue(new String(message.value(), StandardCharsets.UTF_8), EmployeeCreatedEvent.class);
+        for (int i = 0; i < 3; i++) {
+            Method employeeId = event.getClass().getMethod("employeeId");
+            blackhole += employeeId.invoke(event).hashCode();
+        }
+    }
+
+    private void typedDecode() throws Exception {
+        EmployeeEventEnvelope<?> envelope = envelopeReader.read(message, EventType.EMPLOYEE_CREATED_EVENT);
+        if (envelope.isComplete()) {
+            blackhole += envelope.employeeId().hashCode() + registry.dispatch(envelope).hashCode();
+        }
+    }
+
+    private long measure(DecodePath path) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            path.decode();
+        }
+
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            path.decode();
+        }
+        return (threadMXBean.getCurrentThreadCpuTime() - start) / MEASURED_ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface DecodePath {
+        void decode() throws Exception;
+    }
+}
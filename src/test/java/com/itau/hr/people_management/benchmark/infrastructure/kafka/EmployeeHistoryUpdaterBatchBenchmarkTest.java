@@ -0,0 +1,158 @@
+package com.itau.hr.people_management.benchmark.infrastructure.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventDispatcher;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHeaders;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeHistoryUpdater;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelopeReader;
+import com.itau.hr.people_management.infrastructure.kafka.keyed.KeyedRecordExecutor;
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeEventRepositoryImpl;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+/**
+ * Mede registros/s gravados no histórico pelo EmployeeHistoryUpdater para vários tamanhos de poll
+ * contra um PostgreSQL real; o lote de 1 registro equivale ao listener por registro anterior. Mede também
+ * o modo keyed (um registro por vez, em virtual threads por colaborador) para vários limites de in-flight.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeEventRepositoryImpl.class, EmployeeHistoryArchive.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EmployeeHistoryUpdater Batch Benchmark")
+class EmployeeHistoryUpdaterBatchBenchmarkTest {
+
+    private static final int TOTAL_RECORDS = 20_000;
+    private static final int[] BATCH_SIZES = {1, 50, 200, 500};
+    private static final int KEYED_RECORDS = 5_000;
+    private static final int[] MAX_IN_FLIGHT = {1, 4, 8};
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("logging.level.com.itau.hr.people_management.infrastructure.kafka", () -> "WARN");
+    }
+
+    @Autowired
+    private EmployeeEventRepositoryImpl employeeEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private OutboxPayloadCodec codec;
+    private EmployeeEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        codec = new OutboxPayloadCodec(new ObjectMapper().findAndRegisterModules(), OutboxPayloadFormat.SMILE);
+        EmployeeHistoryUpdater historyUpdater = new EmployeeHistoryUpdater(employeeEventRepository, codec);
+        dispatcher = new EmployeeEventDispatcher(new EmployeeEventEnvelopeReader(codec), codec,
+            new EmployeeEventRetryTopics(List.of(1_000L)), List.of(historyUpdater), Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Should report records per second for each poll size")
+    void shouldReportRecordsPerSecondForEachPollSize() throws Exception {
+        consume(records(2_000), 200);
+
+        System.out.printf("%-12s %12s%n", "poll size", "records/s");
+        for (int batchSize : BATCH_SIZES) {
+            List<ConsumerRecord<String, byte[]>> records = records(TOTAL_RECORDS);
+            jdbcTemplate.execute("TRUNCATE employee_events_history");
+
+            long start = System.nanoTime();
+            consume(records, batchSize);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("%-12d %12.0f%n", batchSize, TOTAL_RECORDS / seconds);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM employee_events_history", Long.class), is((long) TOTAL_RECORDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Should report records per second of keyed processing for each in-flight bound")
+    void shouldReportRecordsPerSecondOfKeyedProcessingForEachInFlightBound() throws Exception {
+        EmployeeHistoryUpdater historyUpdater = new EmployeeHistoryUpdater(employeeEventRepository, codec);
+
+        System.out.printf("%-12s %12s%n", "in-flight", "records/s");
+        for (int maxInFlight : MAX_IN_FLIGHT) {
+            KeyedRecordExecutor keyedRecordExecutor = new KeyedRecordExecutor(maxInFlight);
+            dispatcher = new EmployeeEventDispatcher(new EmployeeEventEnvelopeReader(codec), codec,
+                new EmployeeEventRetryTopics(List.of(1_000L)), List.of(historyUpdater), Optional.of(keyedRecordExecutor));
+            List<ConsumerRecord<String, byte[]>> records = records(KEYED_RECORDS);
+            jdbcTemplate.execute("TRUNCATE employee_events_history");
+
+            long start = System.nanoTime();
+            consume(records, 500);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            keyedRecordExecutor.shutdown();
+
+            System.out.printf("%-12d %12.0f%n", maxInFlight, KEYED_RECORDS / seconds);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM employee_events_history", Long.class), is((long) KEYED_RECORDS));
+        }
+    }
+
+    private void consume(List<ConsumerRecord<String, byte[]>> records, int batchSize) {
+        for (int from = 0; from < records.size(); from += batchSize) {
+            dispatcher.dispatchEmployeeCreatedEvents(records.subList(from, Math.min(from + batchSize, records.size())));
+        }
+    }
+
+    private List<ConsumerRecord<String, byte[]>> records(int count) throws Exception {
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset++) {
+            EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "Maria da Silva Souza", "maria.souza@empresa.com.br");
+            ConsumerRecord<String, byte[]> consumerRecord = new ConsumerRecord<>(
+                "employee.created", 0, offset, event.employeeId().toString(), codec.encode(event, OutboxPayloadFormat.SMILE));
+            EmployeeEventHeaders.write(consumerRecord.headers(), EventType.EMPLOYEE_CREATED_EVENT.name(), OutboxPayloadFormat.SMILE.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION);
+            records.add(consumerRecord);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,151 @@
+package com.itau.hr.people_management.benchmark.infrastructure.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.kafka.OutboxRelay;
+import com.itau.hr.people_management.infrastructure.outbox.claim.OutboxMessageClaimer;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.metrics.OutboxRelayMetrics;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compara o envio mensagem a mensagem (aguardando cada ack) com o ciclo em lote do OutboxRelay
+ * contra um broker Kafka embarcado.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 3, topics = {"employee.created", "employee.status.changed"})
+@DisplayName("OutboxRelay Throughput Benchmark")
+class OutboxRelayThroughputBenchmarkTest {
+
+    private static final int TOTAL_MESSAGES = 20_000;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final byte[] payload = "{\"employeeId\":\"4f1c\",\"name\":\"Maria da Silva Souza\"}".getBytes(StandardCharsets.UTF_8);
+
+    private DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        producerProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        producerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Should report messages per second for per-message and batched relay cycles")
+    void shouldReportMessagesPerSecondForPerMessageAndBatchedRelayCycles() throws Exception {
+        warmUp();
+
+        double perMessage = measurePerMessageSends();
+        double batched = measureBatchedRelay();
+
+        System.out.printf("%-24s %12s%n", "mode", "msgs/s");
+        System.out.printf("%-24s %12.0f%n", "per-message await", perMessage);
+        System.out.printf("%-24s %12.0f%n", "adaptive batched relay", batched);
+
+        assertThat(batched, greaterThan(perMessage));
+    }
+
+    private void warmUp() throws Exception {
+        for (int i = 0; i < 1_000; i++) {
+            kafkaTemplate.send(record()).get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private double measurePerMessageSends() throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < TOTAL_MESSAGES; i++) {
+            kafkaTemplate.send(record()).get(10, TimeUnit.SECONDS);
+        }
+        return throughput(start);
+    }
+
+    private double measureBatchedRelay() {
+        OutboxMessageRepository repository = mock(OutboxMessageRepository.class);
+        OutboxMessageClaimer claimer = mock(OutboxMessageClaimer.class);
+        AtomicInteger remaining = new AtomicInteger(TOTAL_MESSAGES);
+        when(claimer.claim(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int size = Math.min(invocation.getArgument(0), remaining.get());
+            remaining.addAndGet(-size);
+            return batch(size);
+        });
+
+        OutboxRelay relay = new OutboxRelay(repository, claimer, kafkaTemplate,
+            new OutboxRelayMetrics(new SimpleMeterRegistry(), repository, 1), 5, "5,10,30,60,300");
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "maxBatchSize", MAX_BATCH_SIZE);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 30_000L);
+
+        // A single scheduled cycle: the adaptive loop keeps draining while batches come back full.
+        long start = System.nanoTime();
+        relay.processOutbox();
+        return throughput(start);
+    }
+
+    private List<OutboxMessage> batch(int size) {
+        Instant now = Instant.now();
+        return IntStream.range(0, size)
+            .mapToObj(i -> OutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(UUID.randomUUID())
+                .aggregateType("Employee")
+                .eventType(EventType.EMPLOYEE_CREATED_EVENT.name())
+                .payload(payload)
+                .status(OutboxMessageStatus.PENDING)
+                .occurredOn(now)
+                .nextAttemptAt(now.plusSeconds(30))
+                .build())
+            .toList();
+    }
+
+    private ProducerRecord<String, byte[]> record() {
+        return new ProducerRecord<>("employee.created", UUID.randomUUID().toString(), payload);
+    }
+
+    private static double throughput(long startNanos) {
+        return TOTAL_MESSAGES / ((System.nanoTime() - startNanos) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.itau.hr.people_management.benchmark.infrastructure.outbox.codec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
+
+/**
+ * Mede tamanho e custo de CPU (encode + decode) por tipo de evento em cada formato.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("OutboxPayloadCodec Benchmark")
+class OutboxPayloadCodecBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private OutboxPayloadCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new OutboxPayloadCodec(new ObjectMapper().findAndRegisterModules(), OutboxPayloadFormat.SMILE);
+    }
+
+    @Test
+    @DisplayName("Should report bytes and CPU per event type for JSON and Smile")
+    void shouldReportBytesAndCpuPerEventType() throws Exception {
+        EmployeeCreatedEvent createdEvent = new EmployeeCreatedEvent(UUID.randomUUID(), "Maria da Silva Souza", "maria.souza@empresa.com.br");
+        EmployeeStatusChangedEvent statusEvent = new EmployeeStatusChangedEvent(UUID.randomUUID(), EmployeeStatus.ACTIVE, EmployeeStatus.ON_VACATION);
+
+        System.out.printf("%-28s %-6s %8s %14s%n", "event", "format", "bytes", "cpu ns/event");
+        int createdSmile = report("EmployeeCreatedEvent", createdEvent, OutboxPayloadFormat.SMILE);
+        int createdJson = report("EmployeeCreatedEvent", createdEvent, OutboxPayloadFormat.JSON);
+        int statusSmile = report("EmployeeStatusChangedEvent", statusEvent, OutboxPayloadFormat.SMILE);
+        int statusJson = report("EmployeeStatusChangedEvent", statusEvent, OutboxPayloadFormat.JSON);
+
+        assertThat(createdSmile, lessThan(createdJson));
+        assertThat(statusSmile, lessThan(statusJson));
+    }
+
+    private <T> int report(String name, T event, OutboxPayloadFormat format) throws Exception {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) event.getClass();
+        byte[] payload = codec.encode(event, format);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            codec.decode(codec.encode(event, format), format.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION, type);
+        }
+
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            codec.decode(codec.encode(event, format), format.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION, type);
+        }
+        long cpuNanosPerEvent = (threadMXBean.getCurrentThreadCpuTime() - start) / MEASURED_ITERATIONS;
+
+        System.out.printf("%-28s %-6s %8d %14d%n", name, format, payload.length, cpuNanosPerEvent);
+        return payload.length;
+    }
+}
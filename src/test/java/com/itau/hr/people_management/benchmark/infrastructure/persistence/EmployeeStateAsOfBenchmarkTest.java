@@ -0,0 +1,168 @@
+package com.itau.hr.people_management.benchmark.infrastructure.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeEventRepositoryImpl;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeStateRepositoryImpl;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+/**
+ * Mede a latência (p50/p99) de consultas asOf em colaboradores com históricos longos contra um PostgreSQL
+ * real: sem snapshots (reaplica o histórico inteiro a cada consulta), a primeira consulta com snapshots
+ * (reaplica tudo e grava os snapshots) e as consultas seguintes em instantes aleatórios do histórico.
+ * Executar com: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeStateRepositoryImpl.class, EmployeeEventRepositoryImpl.class, EmployeeHistoryArchive.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Employee State AsOf Benchmark")
+class EmployeeStateAsOfBenchmarkTest {
+
+    private static final int SNAPSHOT_INTERVAL = 100;
+    private static final int[] HISTORY_LENGTHS = {100, 1_000, 10_000, 50_000};
+    private static final int QUERIES = 200;
+    private static final Instant HIRED_ON = Instant.parse("2020-01-06T09:00:00Z");
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.history.snapshot.interval", () -> String.valueOf(SNAPSHOT_INTERVAL));
+    }
+
+    @Autowired
+    private EmployeeStateRepositoryImpl employeeStateRepository;
+
+    @Autowired
+    private EmployeeEventRepositoryImpl employeeEventRepository;
+
+    @Autowired
+    private EmployeeHistoryArchive archive;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should report asOf latency for each history length with and without snapshots")
+    void shouldReportAsOfLatencyForEachHistoryLengthWithAndWithoutSnapshots() {
+        // An interval no history reaches: every query replays from the first event.
+        EmployeeStateRepositoryImpl withoutSnapshots = new EmployeeStateRepositoryImpl(jdbcTemplate, archive, Integer.MAX_VALUE);
+
+        System.out.printf("%-10s %16s %16s %14s %16s %16s%n",
+            "events", "full p50 (ms)", "full p99 (ms)", "first (ms)", "snap p50 (ms)", "snap p99 (ms)");
+        for (int length : HISTORY_LENGTHS) {
+            UUID employeeId = UUID.randomUUID();
+            List<EmployeeEvent> events = history(employeeId, length);
+            employeeEventRepository.saveAll(events);
+            Instant latest = events.get(length - 1).getOccurredOn();
+
+            double[] full = measure(() -> asOf(withoutSnapshots, employeeId, randomInstant(events)), Math.max(10, QUERIES / (length / 1_000 + 1)));
+            long start = System.nanoTime();
+            EmployeeState first = asOf(employeeStateRepository, employeeId, latest);
+            double firstMillis = (System.nanoTime() - start) / 1_000_000.0;
+            double[] snapshots = measure(() -> asOf(employeeStateRepository, employeeId, randomInstant(events)), QUERIES);
+
+            System.out.printf("%-10d %16.2f %16.2f %14.2f %16.2f %16.2f%n",
+                length, percentile(full, 0.50), percentile(full, 0.99), firstMillis, percentile(snapshots, 0.50), percentile(snapshots, 0.99));
+            assertThat(first.getEventsApplied(), is((long) length));
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM employee_state_snapshots WHERE employee_id = ?", Long.class, employeeId), is((long) length / SNAPSHOT_INTERVAL));
+        }
+    }
+
+    private EmployeeState asOf(EmployeeStateRepositoryImpl repository, UUID employeeId, Instant asOf) {
+        return transactionTemplate.execute(status -> repository.findAsOf(Set.of(employeeId), asOf).get(employeeId));
+    }
+
+    private static double[] measure(Runnable query, int count) {
+        double[] millis = new double[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            query.run();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static Instant randomInstant(List<EmployeeEvent> events) {
+        return events.get(ThreadLocalRandom.current().nextInt(events.size())).getOccurredOn();
+    }
+
+    private static List<EmployeeEvent> history(UUID employeeId, int length) {
+        EmployeeStatus[] statuses = {EmployeeStatus.ON_VACATION, EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE, EmployeeStatus.ACTIVE};
+        List<EmployeeEvent> events = new ArrayList<>(length);
+        events.add(EmployeeEvent.builder()
+            .id(UUID.randomUUID())
+            .employeeId(employeeId)
+            .eventType(EventType.EMPLOYEE_CREATED_EVENT)
+            .occurredOn(HIRED_ON)
+            .description("Colaborador 'Maria da Silva Souza' criado com e-mail: maria.souza@empresa.com.br")
+            .eventData("{\"employeeId\":\"" + employeeId + "\",\"employeeName\":\"Maria da Silva Souza\",\"employeeEmail\":\"maria.souza@empresa.com.br\"}")
+            .build());
+        for (int i = 1; i < length; i++) {
+            EmployeeStatus newStatus = statuses[i % statuses.length];
+            events.add(EmployeeEvent.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+                .occurredOn(HIRED_ON.plusSeconds(600L * i))
+                .description("Status do colaborador alterado para '" + newStatus + "'")
+                .eventData("{\"employeeId\":\"" + employeeId + "\",\"newStatus\":\"" + newStatus + "\"}")
+                .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,155 @@
+package com.itau.hr.people_management.integration.infrastructure.kafka;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventLogger;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
+import com.itau.hr.people_management.integration.infrastructure.kafka.support.TestLogAppender;
+
+import ch.qos.logback.classic.Logger;
+
+@SpringBootTest(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "spring.kafka.consumer.auto-offset-reset=earliest",
+    "spring.kafka.consumer.group-id=${random.uuid}",
+    "spring.kafka.producer.retries=0",
+    "spring.kafka.producer.acks=1",
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "logging.level.org.springframework.kafka=WARN"
+})
+@EmbeddedKafka(
+    partitions = 3,
+    controlledShutdown = false,
+    topics = {"employee.created", "employee.status.changed"},
+    brokerProperties = {
+        "offsets.topic.replication.factor=1",
+        "auto.create.topics.enable=true"
+    }
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("EmployeeEventDispatcher Integration Tests with Embedded Kafka")
+class EmployeeEventDispatcherIntegrationTest {
+
+    private static final int EVENTS = 30;
+
+    @Autowired
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Autowired
+    private OutboxPayloadCodec payloadCodec;
+
+    @MockitoBean
+    private EmployeeEventRepository employeeEventRepository;
+
+    // Status analytics need PostgreSQL; their projection is covered by its own integration test.
+    @MockitoBean
+    private EmployeeStatusAnalyticsRepository employeeStatusAnalyticsRepository;
+
+    private final Set<UUID> storedEventIds = ConcurrentHashMap.newKeySet();
+    private TestLogAppender testLogAppender;
+    private Logger employeeEventLoggerLogger;
+
+    @BeforeEach
+    void setUp() {
+        employeeEventLoggerLogger = (Logger) LoggerFactory.getLogger(EmployeeEventLogger.class);
+        testLogAppender = new TestLogAppender();
+        testLogAppender.start();
+        employeeEventLoggerLogger.addAppender(testLogAppender);
+        doAnswer(invocation -> {
+            List<EmployeeEvent> events = invocation.getArgument(0);
+            events.forEach(event -> storedEventIds.add(event.getId()));
+            return events.size();
+        }).when(employeeEventRepository).saveAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeEventLoggerLogger.detachAppender(testLogAppender);
+        testLogAppender.stop();
+    }
+
+    @Test
+    @DisplayName("Should store and log every record across all partitions of the topic")
+    void shouldStoreAndLogEveryRecordAcrossAllPartitionsOfTheTopic() throws Exception {
+        // Arrange
+        List<UUID> eventIds = new ArrayList<>();
+        List<EmployeeCreatedEvent> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "Employee " + i, "employee" + i + "@example.com");
+            events.add(event);
+            eventIds.add(event.eventId());
+        }
+
+        // Act
+        for (EmployeeCreatedEvent event : events) {
+            kafkaTemplate.send("employee.created", event.employeeId().toString(), payloadCodec.encode(event, OutboxPayloadFormat.JSON));
+        }
+
+        // Assert
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(storedEventIds, containsInAnyOrder(eventIds.toArray()));
+            assertThat(testLogAppender.getInfoMessages().stream()
+                .filter(message -> message.startsWith("EVENT_RECEIVED: EMPLOYEE_CREATED_EVENT"))
+                .distinct()
+                .toList(), hasSize(EVENTS));
+        });
+    }
+
+    @Test
+    @DisplayName("Should still log records when the history handler fails")
+    void shouldStillLogRecordsWhenTheHistoryHandlerFails() throws Exception {
+        // Arrange
+        EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+        doThrow(new IllegalStateException("Database down")).when(employeeEventRepository).saveAll(anyList());
+
+        // Act
+        kafkaTemplate.send("employee.created", event.employeeId().toString(), payloadCodec.encode(event, OutboxPayloadFormat.JSON));
+
+        // Assert
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(employeeEventRepository, atLeastOnce()).saveAll(anyList());
+            assertThat(testLogAppender.getInfoMessages().stream()
+                .filter(message -> message.contains("EventId: " + event.eventId()))
+                .toList(), hasSize(greaterThan(0)));
+        });
+    }
+}
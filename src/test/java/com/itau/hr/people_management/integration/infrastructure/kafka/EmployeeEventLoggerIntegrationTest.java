@@ -8,6 +8,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -21,11 +22,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
 import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
 import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventDispatcher;
 import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventLogger;
 import com.itau.hr.people_management.integration.infrastructure.kafka.support.TestLogAppender;
 
@@ -78,13 +83,21 @@ import ch.qos.logback.classic.Logger;
 class EmployeeEventLoggerIntegrationTest {
 
     @Autowired
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @MockitoBean
+    private EmployeeEventRepository employeeEventRepository;
+
+    // Status analytics need PostgreSQL; their projection is covered by its own integration test.
+    @MockitoBean
+    private EmployeeStatusAnalyticsRepository employeeStatusAnalyticsRepository;
+
     private TestLogAppender testLogAppender;
     private Logger employeeEventLoggerLogger;
+    private Logger employeeEventDispatcherLogger;
 
     @BeforeEach
     void setUp() {
@@ -93,6 +106,9 @@ class EmployeeEventLoggerIntegrationTest {
         testLogAppender = new TestLogAppender();
         testLogAppender.start();
         employeeEventLoggerLogger.addAppender(testLogAppender);
+        // Erros de decodificação são registrados pelo dispatcher antes do fan-out
+        employeeEventDispatcherLogger = (Logger) LoggerFactory.getLogger(EmployeeEventDispatcher.class);
+        employeeEventDispatcherLogger.addAppender(testLogAppender);
     }
 
     @AfterEach
@@ -100,6 +116,7 @@ class EmployeeEventLoggerIntegrationTest {
         // Limpar configuração após cada teste
         if (employeeEventLoggerLogger != null && testLogAppender != null) {
             employeeEventLoggerLogger.detachAppender(testLogAppender);
+            employeeEventDispatcherLogger.detachAppender(testLogAppender);
             testLogAppender.stop();
         }
     }
@@ -113,7 +130,7 @@ class EmployeeEventLoggerIntegrationTest {
         String eventJson = objectMapper.writeValueAsString(event);
 
         // Act
-        kafkaTemplate.send("employee.created", eventJson);
+        kafkaTemplate.send("employee.created", eventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
@@ -140,7 +157,7 @@ class EmployeeEventLoggerIntegrationTest {
         String eventJson = objectMapper.writeValueAsString(event);
 
         // Act
-        kafkaTemplate.send("employee.status.changed", eventJson);
+        kafkaTemplate.send("employee.status.changed", eventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
@@ -163,14 +180,14 @@ class EmployeeEventLoggerIntegrationTest {
         String malformedJson = "{\"invalid\":\"json\",\"missing\":";
 
         // Act
-        kafkaTemplate.send("employee.created", malformedJson);
+        kafkaTemplate.send("employee.created", malformedJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
             
             String errorMessage = testLogAppender.getLastErrorMessage();
-            assertThat(errorMessage, containsString("KAFKA_ERROR: Failed to process EmployeeCreatedEvent for logging"));
+            assertThat(errorMessage, containsString("DESERIALIZATION_ERROR: Failed to deserialize EMPLOYEE_CREATED_EVENT"));
         });
     }
 
@@ -183,14 +200,14 @@ class EmployeeEventLoggerIntegrationTest {
         );
 
         // Act
-        kafkaTemplate.send("employee.created", invalidEventJson);
+        kafkaTemplate.send("employee.created", invalidEventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
             
             String errorMessage = testLogAppender.getLastErrorMessage();
-            assertThat(errorMessage, containsString("KAFKA_ERROR: Invalid EmployeeCreatedEvent received."));
+            assertThat(errorMessage, containsString("KAFKA_ERROR: Invalid EMPLOYEE_CREATED_EVENT received."));
         });
     }
 
@@ -198,14 +215,14 @@ class EmployeeEventLoggerIntegrationTest {
     @DisplayName("Should handle empty message gracefully and log error")
     void shouldHandleEmptyMessageGracefullyAndLogError() {
         // Act
-        kafkaTemplate.send("employee.created", "");
+        kafkaTemplate.send("employee.created", new byte[0]);
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
             
             String errorMessage = testLogAppender.getLastErrorMessage();
-            assertThat(errorMessage, containsString("KAFKA_ERROR: Failed to process EmployeeCreatedEvent for logging"));
+            assertThat(errorMessage, containsString("KAFKA_ERROR: Error decoding EMPLOYEE_CREATED_EVENT"));
         });
     }
 
@@ -216,7 +233,7 @@ class EmployeeEventLoggerIntegrationTest {
         String nullEventJson = "null";
 
         // Act
-        kafkaTemplate.send("employee.created", nullEventJson);
+        kafkaTemplate.send("employee.created", nullEventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
@@ -245,8 +262,8 @@ class EmployeeEventLoggerIntegrationTest {
         String statusEventJson = objectMapper.writeValueAsString(statusEvent);
 
         // Act
-        kafkaTemplate.send("employee.created", createdEventJson);
-        kafkaTemplate.send("employee.status.changed", statusEventJson);
+        kafkaTemplate.send("employee.created", createdEventJson.getBytes(StandardCharsets.UTF_8));
+        kafkaTemplate.send("employee.status.changed", statusEventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert
         await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
@@ -272,7 +289,7 @@ class EmployeeEventLoggerIntegrationTest {
         String eventJson = objectMapper.writeValueAsString(event);
 
         // Act
-        kafkaTemplate.send("employee.created", eventJson);
+        kafkaTemplate.send("employee.created", eventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar integração completa
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
@@ -5,10 +5,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doThrow;
@@ -16,10 +17,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,8 +42,12 @@ import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
 import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
-import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
 import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventDispatcher;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHeaders;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
 import com.itau.hr.people_management.integration.infrastructure.kafka.support.TestLogAppender;
 
 import ch.qos.logback.classic.Logger;
@@ -90,16 +99,24 @@ import ch.qos.logback.classic.Logger;
 class EmployeeHistoryUpdaterIntegrationTest {
 
     @Autowired
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private OutboxPayloadCodec payloadCodec;
+
     @MockitoBean
     private EmployeeEventRepository employeeEventRepository;
 
+    // Status analytics need PostgreSQL; their projection is covered by its own integration test.
+    @MockitoBean
+    private EmployeeStatusAnalyticsRepository employeeStatusAnalyticsRepository;
+
     private TestLogAppender testLogAppender;
     private Logger employeeHistoryUpdaterLogger;
+    private Logger employeeEventDispatcherLogger;
 
     @BeforeEach
     void setUp() {
@@ -107,12 +124,16 @@ class EmployeeHistoryUpdaterIntegrationTest {
         testLogAppender = new TestLogAppender();
         testLogAppender.start();
         employeeHistoryUpdaterLogger.addAppender(testLogAppender);
+        employeeEventDispatcherLogger = (Logger) LoggerFactory.getLogger(EmployeeEventDispatcher.class);
+        employeeEventDispatcherLogger.addAppender(testLogAppender);
+        when(employeeEventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0, List.class).size());
     }
 
     @AfterEach
     void tearDown() {
         if (employeeHistoryUpdaterLogger != null && testLogAppender != null) {
             employeeHistoryUpdaterLogger.detachAppender(testLogAppender);
+            employeeEventDispatcherLogger.detachAppender(testLogAppender);
             testLogAppender.stop();
         }
         reset(employeeEventRepository);
@@ -127,25 +148,22 @@ class EmployeeHistoryUpdaterIntegrationTest {
         String eventJson = objectMapper.writeValueAsString(event);
 
         // Act
-        kafkaTemplate.send("employee.created", eventJson);
+        kafkaTemplate.send("employee.created", eventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar integração completa: Kafka → Deserialization → Repository Save
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(employeeEventRepository, times(1)).save(argThat(savedEvent -> 
+            verify(employeeEventRepository, times(1)).saveAll(argThat(savedEvents -> savedEvents.stream().anyMatch(savedEvent ->
                 savedEvent.getId().equals(event.eventId()) &&
-                savedEvent.getEmployeeId().equals(event.employeeId()) &&
+                savedEvent.getEmployeeId().equals(employeeId) &&
                 savedEvent.getEventType() == EventType.EMPLOYEE_CREATED_EVENT &&
-                savedEvent.getDescription().contains("John Doe") &&
-                savedEvent.getDescription().contains("john.doe@example.com") &&
                 savedEvent.getOccurredOn().equals(event.occurredOn()) &&
                 savedEvent.getEventData().equals(eventJson)
-            ));
+            )));
 
             // Verificar logs de processamento
             assertThat(testLogAppender.getInfoMessages(), hasSize(greaterThan(0)));
             String infoMessage = testLogAppender.getLastInfoMessage();
-            assertThat(infoMessage, containsString("KAFKA_CONSUMER: Handling EMPLOYEE_CREATED_EVENT for history update"));
-            assertThat(infoMessage, containsString("Employee ID: " + employeeId));
+            assertThat(infoMessage, containsString("KAFKA_CONSUMER: Stored 1 EMPLOYEE_CREATED_EVENT history events"));
         });
     }
 
@@ -160,25 +178,69 @@ class EmployeeHistoryUpdaterIntegrationTest {
         String eventJson = objectMapper.writeValueAsString(event);
 
         // Act
-        kafkaTemplate.send("employee.status.changed", eventJson);
+        kafkaTemplate.send("employee.status.changed", eventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar integração completa
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(employeeEventRepository, times(1)).save(argThat(savedEvent -> 
+            verify(employeeEventRepository, times(1)).saveAll(argThat(savedEvents -> savedEvents.stream().anyMatch(savedEvent ->
                 savedEvent.getId().equals(event.eventId()) &&
-                savedEvent.getEmployeeId().equals(event.employeeId()) &&
+                savedEvent.getEmployeeId().equals(employeeId) &&
                 savedEvent.getEventType() == EventType.EMPLOYEE_STATUS_CHANGED_EVENT &&
-                savedEvent.getDescription().contains("ACTIVE") &&
-                savedEvent.getDescription().contains("TERMINATED") &&
                 savedEvent.getOccurredOn().equals(event.occurredOn()) &&
                 savedEvent.getEventData().equals(eventJson)
-            ));
+            )));
 
             // Verificar logs de processamento
             assertThat(testLogAppender.getInfoMessages(), hasSize(greaterThan(0)));
             String infoMessage = testLogAppender.getLastInfoMessage();
-            assertThat(infoMessage, containsString("KAFKA_CONSUMER: Handling EMPLOYEE_STATUS_CHANGED_EVENT for history update"));
-            assertThat(infoMessage, containsString("Employee ID: " + employeeId));
+            assertThat(infoMessage, containsString("KAFKA_CONSUMER: Stored 1 EMPLOYEE_STATUS_CHANGED_EVENT history events"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should negotiate Smile payload through record headers and store history as JSON")
+    void shouldNegotiateSmilePayloadThroughRecordHeadersAndStoreHistoryAsJson() throws Exception {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+        EmployeeCreatedEvent event = new EmployeeCreatedEvent(employeeId, "Smile User", "smile@example.com");
+        ProducerRecord<String, byte[]> smileRecord = new ProducerRecord<>(
+            "employee.created", employeeId.toString(), payloadCodec.encode(event, OutboxPayloadFormat.SMILE)
+        );
+        EmployeeEventHeaders.write(smileRecord.headers(), EventType.EMPLOYEE_CREATED_EVENT.name(), OutboxPayloadFormat.SMILE.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION);
+
+        // Act
+        kafkaTemplate.send(smileRecord);
+
+        // Assert
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> 
+            verify(employeeEventRepository, times(1)).saveAll(argThat(savedEvents -> savedEvents.stream().anyMatch(savedEvent ->
+                savedEvent.getId().equals(event.eventId()) &&
+                savedEvent.getEventData().contains("Smile User") &&
+                savedEvent.getEventData().startsWith("{") &&
+                savedEvent.getEventData().contains("\"employeeId\":\"" + employeeId + "\"")
+            )))
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject payload with unsupported schema version")
+    void shouldRejectPayloadWithUnsupportedSchemaVersion() throws Exception {
+        // Arrange
+        EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "Future User", "future@example.com");
+        ProducerRecord<String, byte[]> futureRecord = new ProducerRecord<>(
+            "employee.created", event.employeeId().toString(), payloadCodec.encode(event, OutboxPayloadFormat.JSON)
+        );
+        EmployeeEventHeaders.write(futureRecord.headers(), EventType.EMPLOYEE_CREATED_EVENT.name(), OutboxPayloadFormat.JSON.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION + 1);
+
+        // Act
+        kafkaTemplate.send(futureRecord);
+
+        // Assert
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(employeeEventRepository, never()).saveAll(anyList());
+
+            assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
+            assertThat(testLogAppender.getLastErrorMessage(), containsString("KAFKA_ERROR: Error decoding EMPLOYEE_CREATED_EVENT"));
         });
     }
 
@@ -189,17 +251,17 @@ class EmployeeHistoryUpdaterIntegrationTest {
         String malformedJson = "{\"invalid\":\"json\",\"missing\":";
 
         // Act
-        kafkaTemplate.send("employee.created", malformedJson);
+        kafkaTemplate.send("employee.created", malformedJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar error handling e logging
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             // Verificar que não foi salvo no repository
-            verify(employeeEventRepository, never()).save(any(EmployeeEvent.class));
+            verify(employeeEventRepository, never()).saveAll(anyList());
 
             // Verificar logs de erro
             assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
             String errorMessage = testLogAppender.getLastErrorMessage();
-            assertThat(errorMessage, containsString("DESERIALIZATION_ERROR: Failed to deserialize EMPLOYEE_CREATED_EVENT for history"));
+            assertThat(errorMessage, containsString("DESERIALIZATION_ERROR: Failed to deserialize EMPLOYEE_CREATED_EVENT"));
             assertThat(errorMessage, containsString("Invalid JSON"));
         });
     }
@@ -211,19 +273,17 @@ class EmployeeHistoryUpdaterIntegrationTest {
         UUID employeeId = UUID.randomUUID();
         EmployeeCreatedEvent event = new EmployeeCreatedEvent(employeeId, "John Doe", "john.doe@example.com");
         String eventJson = objectMapper.writeValueAsString(event);
-        doThrow(new NullPointerException("Failed to save event")).when(employeeEventRepository).save(any(EmployeeEvent.class));
+        doThrow(new NullPointerException("Failed to save event")).when(employeeEventRepository).saveAll(anyList());
 
         // Act
-        kafkaTemplate.send("employee.created", eventJson);
+        kafkaTemplate.send("employee.created", eventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar error handling
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(employeeEventRepository, times(1)).save(any(EmployeeEvent.class));
+            verify(employeeEventRepository, atLeast(1)).saveAll(anyList());
 
             // Verificar logs de erro
-            assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
-            String errorMessage = testLogAppender.getLastErrorMessage();
-            assertThat(errorMessage, containsString("HISTORY_SAVE_ERROR: Failed to save EMPLOYEE_CREATED_EVENT for history"));
+            assertThat(testLogAppender.getErrorMessages(), hasItem(containsString("HISTORY_SAVE_ERROR: Failed to save EMPLOYEE_CREATED_EVENT for history")));
         });
     }
 
@@ -231,32 +291,32 @@ class EmployeeHistoryUpdaterIntegrationTest {
     @DisplayName("Should handle empty message and log error")
     void shouldHandleEmptyMessageAndLogError() {
         // Act
-        kafkaTemplate.send("employee.created", "");
+        kafkaTemplate.send("employee.created", new byte[0]);
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(employeeEventRepository, never()).save(any(EmployeeEvent.class));
+            verify(employeeEventRepository, never()).saveAll(anyList());
 
             assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
             String errorMessage = testLogAppender.getLastErrorMessage();
-            assertThat(errorMessage, containsString("KAFKA_ERROR: Error handling EMPLOYEE_CREATED_EVENT for history"));
+            assertThat(errorMessage, containsString("KAFKA_ERROR: Error decoding EMPLOYEE_CREATED_EVENT"));
         });
     }
 
     @Test
-    @DisplayName("Should handle invalid event structure and log reflection error")
-    void shouldHandleInvalidEventStructureAndLogReflectionError() throws Exception {
-        // Arrange - JSON válido mas sem métodos esperados (employeeId, eventId, occurredOn)
+    @DisplayName("Should handle invalid event structure and log error")
+    void shouldHandleInvalidEventStructureAndLogError() throws Exception {
+        // Arrange - JSON válido mas sem os campos obrigatórios (employeeId, eventId)
         String invalidEventJson = objectMapper.writeValueAsString(
             new InvalidEvent("not-an-uuid", "invalid-structure")
         );
 
         // Act
-        kafkaTemplate.send("employee.created", invalidEventJson);
+        kafkaTemplate.send("employee.created", invalidEventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(employeeEventRepository, never()).save(any(EmployeeEvent.class));
+            verify(employeeEventRepository, never()).saveAll(anyList());
 
             assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
             String errorMessage = testLogAppender.getLastErrorMessage();
@@ -279,54 +339,55 @@ class EmployeeHistoryUpdaterIntegrationTest {
         String statusEventJson = objectMapper.writeValueAsString(statusEvent);
 
         // Act
-        kafkaTemplate.send("employee.created", createdEventJson);
-        kafkaTemplate.send("employee.status.changed", statusEventJson);
+        kafkaTemplate.send("employee.created", createdEventJson.getBytes(StandardCharsets.UTF_8));
+        kafkaTemplate.send("employee.status.changed", statusEventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar que ambos os eventos foram processados independentemente
         await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(employeeEventRepository, atLeast(1)).save(any(EmployeeEvent.class));
+            verify(employeeEventRepository).saveAll(argThat(savedEvents -> savedEvents.stream()
+                .anyMatch(savedEvent -> savedEvent.getEmployeeId().equals(createdEvent.employeeId()))));
+            verify(employeeEventRepository).saveAll(argThat(savedEvents -> savedEvents.stream()
+                .anyMatch(savedEvent -> savedEvent.getEmployeeId().equals(statusEvent.employeeId()))));
 
             // Verificar logs para ambos os eventos
             assertThat(testLogAppender.getInfoMessages(), hasSize(greaterThanOrEqualTo(2)));
             
             assertThat(testLogAppender.getInfoMessages().stream()
-                .anyMatch(msg -> msg.contains("EMPLOYEE_CREATED_EVENT") && msg.contains(createdEvent.employeeId().toString())), 
+                .anyMatch(msg -> msg.contains("EMPLOYEE_CREATED_EVENT")), 
                 is(true));
             
             assertThat(testLogAppender.getInfoMessages().stream()
-                .anyMatch(msg -> msg.contains("EMPLOYEE_STATUS_CHANGED_EVENT") && msg.contains(statusEvent.employeeId().toString())), 
+                .anyMatch(msg -> msg.contains("EMPLOYEE_STATUS_CHANGED_EVENT")), 
                 is(true));
         });
     }
 
     @Test
-    @DisplayName("Should verify complete integration chain: Kafka → Deserialization → Reflection → Repository → Transaction")
-    void shouldVerifyCompleteIntegrationChainKafkaToDeserializationToReflectionToRepositoryToTransaction() throws Exception {
+    @DisplayName("Should verify complete integration chain: Kafka → Deserialization → Dispatch → Repository → Transaction")
+    void shouldVerifyCompleteIntegrationChainKafkaToDeserializationToDispatchToRepositoryToTransaction() throws Exception {
         // Arrange
         UUID employeeId = UUID.randomUUID();
         EmployeeCreatedEvent event = new EmployeeCreatedEvent(employeeId, "Integration Test User", "integration@test.com");
         String eventJson = objectMapper.writeValueAsString(event);
 
         // Act
-        kafkaTemplate.send("employee.created", eventJson);
+        kafkaTemplate.send("employee.created", eventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar cadeia completa de integração
          await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
             // 1. Verificar que o repository foi chamado com dados corretos
-            verify(employeeEventRepository, times(1)).save(argThat(savedEvent -> {
-                return savedEvent.getId().equals(event.eventId()) &&
-                       savedEvent.getEmployeeId().equals(event.employeeId()) &&
-                       savedEvent.getEventType() == EventType.EMPLOYEE_CREATED_EVENT &&
-                       savedEvent.getDescription().equals("Colaborador 'Integration Test User' criado com e-mail: integration@test.com") &&
-                       savedEvent.getOccurredOn().equals(event.occurredOn()) &&
-                       savedEvent.getEventData().equals(eventJson);
-            }));
-
-            // 2. Verificar logs de processamento (INFO level)
+            verify(employeeEventRepository, times(1)).saveAll(argThat(savedEvents -> savedEvents.size() == 1 && savedEvents.stream().allMatch(savedEvent ->
+                savedEvent.getId().equals(event.eventId()) &&
+                savedEvent.getEmployeeId().equals(employeeId) &&
+                savedEvent.getEventType() == EventType.EMPLOYEE_CREATED_EVENT &&
+                savedEvent.getOccurredOn().equals(event.occurredOn()) &&
+                savedEvent.getEventData().equals(eventJson)
+            )));
+
+            // 2. Verificar logs de processamento (INFO level, um por lote)
             assertThat(testLogAppender.getInfoMessages(), hasSize(1));
             String infoMessage = testLogAppender.getLastInfoMessage();
-            assertThat(infoMessage, containsString("KAFKA_CONSUMER: Handling EMPLOYEE_CREATED_EVENT for history update"));
-            assertThat(infoMessage, containsString("Employee ID: " + employeeId));
+            assertThat(infoMessage, containsString("KAFKA_CONSUMER: Stored 1 EMPLOYEE_CREATED_EVENT history events (0 already stored)"));
 
             // 3. Verificar que não há logs de erro
             assertThat(testLogAppender.getErrorMessages(), hasSize(0));
@@ -344,11 +405,11 @@ class EmployeeHistoryUpdaterIntegrationTest {
         );
 
         // Act
-        kafkaTemplate.send("employee.created", largeEventJson);
+        kafkaTemplate.send("employee.created", largeEventJson.getBytes(StandardCharsets.UTF_8));
 
         // Assert - Verificar truncamento de mensagens grandes em logs de erro
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(employeeEventRepository, never()).save(any(EmployeeEvent.class));
+            verify(employeeEventRepository, never()).saveAll(anyList());
 
             assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
             String errorMessage = testLogAppender.getLastErrorMessage();
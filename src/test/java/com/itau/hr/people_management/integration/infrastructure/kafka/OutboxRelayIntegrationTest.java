@@ -5,8 +5,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -15,12 +17,15 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,7 +33,6 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.kafka.test.context.EmbeddedKafka;
@@ -100,7 +104,7 @@ class OutboxRelayIntegrationTest {
     private OutboxMessageRepository outboxMessageRepository;
 
     @MockitoBean
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Autowired
     private OutboxRelay outboxRelay;
@@ -116,7 +120,7 @@ class OutboxRelayIntegrationTest {
         testLogAppender.start();
         outboxRelayLogger.addAppender(testLogAppender);
 
-        when(kafkaTemplate.send(any(String.class), any(String.class), any(String.class)))
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
             .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
     }
 
@@ -139,8 +143,7 @@ class OutboxRelayIntegrationTest {
             0
         );
         
-        when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), any(PageRequest.class)))
+        when(outboxMessageRepository.lockNextBatch(any(), anyInt(), anyInt(), anyInt()))
             .thenReturn(List.of(pendingMessage))
             .thenReturn(List.of());
 
@@ -149,23 +152,19 @@ class OutboxRelayIntegrationTest {
 
         // Assert 
         await().atMost(4, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(outboxMessageRepository, atMost(4)).findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                argThat(statuses -> statuses.contains(OutboxMessageStatus.PENDING) && 
-                                   statuses.contains(OutboxMessageStatus.FAILED)),
-                any(), any());
-
-            verify(kafkaTemplate, times(1)).send(
-                "employee.created",
-                pendingMessage.getAggregateId().toString(),
-                pendingMessage.getPayload()
-            );
-
-            verify(outboxMessageRepository, times(1)).save(argThat(savedMessage ->
-                savedMessage.getStatus() == OutboxMessageStatus.SENT &&
-                savedMessage.getProcessedAt() != null &&
-                savedMessage.getNextAttemptAt() == null
+            verify(outboxMessageRepository, atMost(4)).lockNextBatch(any(), anyInt(), anyInt(), anyInt());
+
+            verify(kafkaTemplate, times(1)).send(argThat((ProducerRecord<String, byte[]> sentRecord) ->
+                sentRecord.topic().equals("employee.created") &&
+                sentRecord.key().equals(pendingMessage.getAggregateId().toString()) &&
+                sentRecord.value() == pendingMessage.getPayload() &&
+                sentRecord.headers().lastHeader("content-type") != null
             ));
 
+            verify(outboxMessageRepository, times(1)).markSent(
+                argThat((Collection<UUID> ids) -> ids.contains(pendingMessage.getId())),
+                any(Instant.class));
+
             assertThat(testLogAppender.getLastInfoMessage(), 
                        containsString("Processing 1 pending outbox messages"));
         });
@@ -181,25 +180,25 @@ class OutboxRelayIntegrationTest {
             0
         );
         
-        when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), any(PageRequest.class)))
+        when(outboxMessageRepository.lockNextBatch(any(), anyInt(), anyInt(), anyInt()))
             .thenReturn(List.of(pendingMessage));
 
-        CompletableFuture<SendResult<String, String>> failedFuture = new CompletableFuture<>();
+        CompletableFuture<SendResult<String, byte[]>> failedFuture = new CompletableFuture<>();
         failedFuture.completeExceptionally(new RuntimeException("Kafka broker unavailable"));
-        when(kafkaTemplate.send(any(), any(), any())).thenReturn(failedFuture);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failedFuture);
 
         // Act
         outboxRelay.processOutbox();
 
         // Assert 
         await().atMost(4, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(outboxMessageRepository, times(1)).save(argThat(savedMessage ->
-                savedMessage.getStatus() == OutboxMessageStatus.FAILED &&
-                savedMessage.getRetryAttempts() == 1 &&
-                savedMessage.getNextAttemptAt() != null &&
-                savedMessage.getNextAttemptAt().isAfter(Instant.now().plusSeconds(1)) // 2s backoff from config
-            ));
+            verify(outboxMessageRepository, times(1)).markFailed(
+                argThat((Collection<UUID> ids) -> ids.contains(pendingMessage.getId())),
+                eq(OutboxMessageStatus.FAILED),
+                eq(1),
+                argThat(nextAttemptAt -> nextAttemptAt != null &&
+                    nextAttemptAt.isAfter(Instant.now().plusSeconds(1))), // 2s backoff from config
+                any(Instant.class));
 
             assertThat(testLogAppender.getLogEvents().stream()
                 .anyMatch(event -> event.getLevel().toString().equals("WARN") &&
@@ -218,24 +217,24 @@ class OutboxRelayIntegrationTest {
             5
         );
         
-        when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), any()))
+        when(outboxMessageRepository.lockNextBatch(any(), anyInt(), anyInt(), anyInt()))
             .thenReturn(List.of(failedMessage));
 
-        CompletableFuture<SendResult<String, String>> failedFuture = new CompletableFuture<>();
+        CompletableFuture<SendResult<String, byte[]>> failedFuture = new CompletableFuture<>();
         failedFuture.completeExceptionally(new RuntimeException("Kafka broker unavailable"));
-        when(kafkaTemplate.send(any(), any(), any())).thenReturn(failedFuture);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failedFuture);
 
         // Act
         outboxRelay.processOutbox();
 
         // Assert
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(outboxMessageRepository, times(1)).save(argThat(savedMessage ->
-                savedMessage.getStatus() == OutboxMessageStatus.DEAD_LETTER &&
-                savedMessage.getRetryAttempts() == 6 &&
-                savedMessage.getNextAttemptAt() == null
-            ));
+            verify(outboxMessageRepository, times(1)).markFailed(
+                argThat((Collection<UUID> ids) -> ids.contains(failedMessage.getId())),
+                eq(OutboxMessageStatus.DEAD_LETTER),
+                eq(6),
+                isNull(),
+                any(Instant.class));
 
             assertThat(testLogAppender.getLastErrorMessage(), 
                        containsString("moved to DEAD_LETTER after 6 retries"));
@@ -243,8 +242,8 @@ class OutboxRelayIntegrationTest {
     }
 
     @Test
-    @DisplayName("Should handle unknown event type and mark as failed")
-    void shouldHandleUnknownEventTypeAndMarkAsFailed() {
+    @DisplayName("Should handle unknown event type and move it to dead letter")
+    void shouldHandleUnknownEventTypeAndMoveItToDeadLetter() {
         // Arrange
         OutboxMessage unknownEventMessage = createTestOutboxMessage(
             OutboxMessageStatus.PENDING,
@@ -252,8 +251,7 @@ class OutboxRelayIntegrationTest {
             0
         );
         
-        when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), any()))
+        when(outboxMessageRepository.lockNextBatch(any(), anyInt(), anyInt(), anyInt()))
             .thenReturn(List.of(unknownEventMessage));
 
         // Act
@@ -261,11 +259,14 @@ class OutboxRelayIntegrationTest {
 
         // Assert
         await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(kafkaTemplate, never()).send(any(), any(), any());
+            verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
 
-            verify(outboxMessageRepository, times(1)).save(argThat(savedMessage ->
-                savedMessage.getStatus() == OutboxMessageStatus.FAILED
-            ));
+            verify(outboxMessageRepository, times(1)).markFailed(
+                argThat((Collection<UUID> ids) -> ids.contains(unknownEventMessage.getId())),
+                eq(OutboxMessageStatus.DEAD_LETTER),
+                anyInt(),
+                isNull(),
+                any(Instant.class));
 
             assertThat(testLogAppender.getLastErrorMessage(), 
                        containsString("No Kafka topic mapped for event type: com.unknown.EventType"));
@@ -282,16 +283,15 @@ class OutboxRelayIntegrationTest {
         OutboxMessage failMessage = createTestOutboxMessage(
             OutboxMessageStatus.PENDING, EventType.EMPLOYEE_STATUS_CHANGED_EVENT.name(), 0);
         
-        when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), any()))
+        when(outboxMessageRepository.lockNextBatch(any(), anyInt(), anyInt(), anyInt()))
             .thenReturn(List.of(successMessage, failMessage));
 
-        when(kafkaTemplate.send(eq("employee.created"), any(), any()))
+        when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> sentRecord) -> sentRecord != null && sentRecord.topic().equals("employee.created"))))
             .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
         
-        CompletableFuture<SendResult<String, String>> failedFuture = new CompletableFuture<>();
+        CompletableFuture<SendResult<String, byte[]>> failedFuture = new CompletableFuture<>();
         failedFuture.completeExceptionally(new RuntimeException("Network timeout"));
-        when(kafkaTemplate.send(eq("employee.status.changed"), any(), any()))
+        when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> sentRecord) -> sentRecord != null && sentRecord.topic().equals("employee.status.changed"))))
             .thenReturn(failedFuture);
 
         // Act
@@ -299,8 +299,14 @@ class OutboxRelayIntegrationTest {
 
         // Assert
         await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(kafkaTemplate, times(2)).send(any(), any(), any());
-            verify(outboxMessageRepository, times(2)).save(any());
+            verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+            verify(kafkaTemplate, times(1)).flush();
+            verify(outboxMessageRepository, times(1)).markSent(
+                argThat((Collection<UUID> ids) -> ids.equals(List.of(successMessage.getId()))),
+                any(Instant.class));
+            verify(outboxMessageRepository, times(1)).markFailed(
+                argThat((Collection<UUID> ids) -> ids.equals(List.of(failMessage.getId()))),
+                eq(OutboxMessageStatus.FAILED), eq(1), any(), any(Instant.class));
             
             assertThat(testLogAppender.getLastInfoMessage(), 
                        containsString("Processing 2 pending outbox messages"));
@@ -311,16 +317,16 @@ class OutboxRelayIntegrationTest {
     @DisplayName("Should handle empty result and skip processing")
     void shouldHandleEmptyResultAndSkipProcessing() {
         // Arrange
-        when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), any()))
+        when(outboxMessageRepository.lockNextBatch(any(), anyInt(), anyInt(), anyInt()))
             .thenReturn(List.of());
 
         // Act
         outboxRelay.processOutbox();
 
         // Assert
-        verify(kafkaTemplate, never()).send(any(), any(), any());
-        verify(outboxMessageRepository, never()).save(any());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        verify(outboxMessageRepository, never()).markSent(any(), any());
+        verify(outboxMessageRepository, never()).markFailed(any(), any(), anyInt(), any(), any());
         
         assertThat(testLogAppender.getLogEvents().stream()
             .anyMatch(event -> event.getLevel().toString().equals("DEBUG") &&
@@ -332,18 +338,14 @@ class OutboxRelayIntegrationTest {
     @DisplayName("Should respect batch size configuration from properties")
     void shouldRespectBatchSizeConfigurationFromProperties() {
         // Arrange
-        when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), any()))
+        when(outboxMessageRepository.lockNextBatch(any(), anyInt(), anyInt(), anyInt()))
             .thenReturn(List.of());
 
         // Act
         outboxRelay.processOutbox();
 
         // Assert
-        verify(outboxMessageRepository, atMost(4)).findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-            any(), any(), 
-            argThat(pageRequest -> pageRequest.getPageSize() == 5) // From properties above
-        );
+        verify(outboxMessageRepository, atMost(4)).lockNextBatch(any(), eq(5), anyInt(), anyInt()); // From properties above
     }
 
     private OutboxMessage createTestOutboxMessage(OutboxMessageStatus status, String eventType, int retryAttempts) {
@@ -355,7 +357,7 @@ class OutboxRelayIntegrationTest {
         message.setAggregateId(aggregateId);
         message.setAggregateType("Employee");
         message.setEventType(eventType);
-        message.setPayload("{\"employeeId\":\"" + aggregateId + "\",\"name\":\"Test Employee\"}");
+        message.setPayload(("{\"employeeId\":\"" + aggregateId + "\",\"name\":\"Test Employee\"}").getBytes(StandardCharsets.UTF_8));
         message.setStatus(status);
         message.setOccurredOn(Instant.now().minusSeconds(10));
         message.setRetryAttempts(retryAttempts);
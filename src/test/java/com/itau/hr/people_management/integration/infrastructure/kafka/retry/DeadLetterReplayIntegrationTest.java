@@ -0,0 +1,156 @@
+package com.itau.hr.people_management.integration.infrastructure.kafka.retry;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventDeserializationException;
+import com.itau.hr.people_management.infrastructure.kafka.retry.DeadLetterReplayResult;
+import com.itau.hr.people_management.infrastructure.kafka.retry.DeadLetterReplayService;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+
+@SpringBootTest(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "spring.kafka.consumer.auto-offset-reset=earliest",
+    "spring.kafka.consumer.group-id=${random.uuid}",
+    "spring.kafka.producer.retries=0",
+    "spring.kafka.producer.acks=1",
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "application.kafka.retry.delays-ms=100,200",
+    "application.kafka.retry.in-place-attempts=0",
+    "logging.level.org.springframework.kafka=WARN"
+})
+@EmbeddedKafka(
+    partitions = 1,
+    controlledShutdown = false,
+    topics = {"employee.created", "employee.status.changed"},
+    brokerProperties = {
+        "offsets.topic.replication.factor=1",
+        "auto.create.topics.enable=true"
+    }
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("Retry and Dead-Letter Integration Tests with Embedded Kafka")
+class DeadLetterReplayIntegrationTest {
+
+    @Autowired
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Autowired
+    private OutboxPayloadCodec payloadCodec;
+
+    @Autowired
+    private DeadLetterReplayService deadLetterReplayService;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @MockitoBean
+    private EmployeeEventRepository employeeEventRepository;
+
+    // Status analytics need PostgreSQL; their projection is covered by its own integration test.
+    @MockitoBean
+    private EmployeeStatusAnalyticsRepository employeeStatusAnalyticsRepository;
+
+    private final Set<UUID> storedEventIds = ConcurrentHashMap.newKeySet();
+
+    @Test
+    @DisplayName("Should send an undecodable record straight to the dead-letter topic with its origin")
+    void shouldSendAnUndecodableRecordStraightToTheDeadLetterTopicWithItsOrigin() throws Exception {
+        // Act
+        kafkaTemplate.send("employee.created", "key", "{invalid json".getBytes(StandardCharsets.UTF_8)).get();
+
+        // Assert
+        ConsumerRecord<String, byte[]> deadLetter = readDeadLetter();
+        assertThat(header(deadLetter, KafkaHeaders.DLT_ORIGINAL_TOPIC), is("employee.created"));
+        assertThat(ByteBuffer.wrap(deadLetter.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_OFFSET).value()).getLong(), is(0L));
+        assertThat(header(deadLetter, KafkaHeaders.DLT_EXCEPTION_STACKTRACE), containsString(EmployeeEventDeserializationException.class.getName()));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a record after every retry level fails and store it once replayed")
+    void shouldDeadLetterARecordAfterEveryRetryLevelFailsAndStoreItOnceReplayed() throws Exception {
+        // Arrange
+        EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+        doThrow(new IllegalStateException("Database down")).when(employeeEventRepository).saveAll(anyList());
+        kafkaTemplate.send("employee.created", event.employeeId().toString(), payloadCodec.encode(event)).get();
+        ConsumerRecord<String, byte[]> deadLetter = readDeadLetter();
+        assertThat(header(deadLetter, KafkaHeaders.DLT_ORIGINAL_TOPIC), is("employee.created"));
+        doAnswer(invocation -> {
+            List<EmployeeEvent> events = invocation.getArgument(0);
+            events.forEach(stored -> storedEventIds.add(stored.getId()));
+            return events.size();
+        }).when(employeeEventRepository).saveAll(anyList());
+
+        // Act
+        DeadLetterReplayResult result = deadLetterReplayService.replay("employee.created", 10);
+
+        // Assert
+        assertThat(result.replayed(), is(1));
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> assertThat(storedEventIds, contains(event.eventId())));
+        assertThat(deadLetterReplayService.replay("employee.created", 10).replayed(), is(0));
+    }
+
+    @Test
+    @DisplayName("Should reject replay of an unknown topic")
+    void shouldRejectReplayOfAnUnknownTopic() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> deadLetterReplayService.replay("payroll.closed", 10));
+    }
+
+    private ConsumerRecord<String, byte[]> readDeadLetter() {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(UUID.randomUUID().toString(), "false", embeddedKafka);
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<String, byte[]>(consumerProps,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, "employee.created.dlt");
+            return KafkaTestUtils.getSingleRecord(consumer, "employee.created.dlt", Duration.ofSeconds(30));
+        }
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> message, String name) {
+        return new String(message.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+}
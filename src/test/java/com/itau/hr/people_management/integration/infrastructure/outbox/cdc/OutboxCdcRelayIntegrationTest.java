@@ -0,0 +1,283 @@
+package com.itau.hr.people_management.integration.infrastructure.outbox.cdc;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.OutboxCdcRelay;
+import com.itau.hr.people_management.infrastructure.outbox.claim.OutboxMessageClaimer;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.metrics.OutboxRelayMetrics;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxCdcRelay.class, OutboxMessageClaimer.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxCdcRelay Integration Tests with TestContainers")
+class OutboxCdcRelayIntegrationTest {
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("postgres", "-c", "fsync=off", "-c", "wal_level=logical");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.outbox.relay-mode", () -> "cdc");
+        registry.add("application.outbox.cdc.retry-delay-ms", () -> "100");
+        registry.add("application.outbox.max-retries", () -> "20");
+        registry.add("application.outbox.cdc.reconnect-delay-ms", () -> "100");
+    }
+
+    @MockitoBean
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @MockitoBean
+    private OutboxRelayMetrics relayMetrics;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxCdcRelay outboxCdcRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+        // Changes committed before the relay starts streaming are not in the slot.
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_replication_slots WHERE slot_name = 'outbox_cdc_slot' AND active",
+            Long.class), is(1L)));
+    }
+
+    @Test
+    @DisplayName("Should publish committed outbox insert and mark it sent")
+    void shouldPublishCommittedOutboxInsertAndMarkItSent() {
+        // Arrange
+        OutboxMessage message = createMessage();
+
+        // Act
+        outboxMessageRepository.save(message);
+
+        // Assert
+        awaitStatus(message.getId(), OutboxMessageStatus.SENT);
+        verify(kafkaTemplate).send(argThat((ProducerRecord<String, byte[]> sent) ->
+            sent.topic().equals("employee.created") && sent.key().equals(message.getAggregateId().toString())));
+    }
+
+    @Test
+    @DisplayName("Should advance the replication slot only after the message is acknowledged")
+    void shouldAdvanceTheReplicationSlotOnlyAfterTheMessageIsAcknowledged() {
+        // Arrange
+        OutboxMessage message = createMessage();
+        outboxMessageRepository.save(message);
+        String insertedLsn = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+
+        // Act
+        awaitStatus(message.getId(), OutboxMessageStatus.SENT);
+
+        // Assert
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> assertThat(jdbcTemplate.queryForObject(
+            "SELECT confirmed_flush_lsn >= ?::pg_lsn FROM pg_replication_slots WHERE slot_name = 'outbox_cdc_slot'",
+            Boolean.class, insertedLsn), is(true)));
+    }
+
+    @Test
+    @DisplayName("Should publish again when a message is requeued to pending")
+    void shouldPublishAgainWhenAMessageIsRequeuedToPending() {
+        // Arrange
+        OutboxMessage message = createMessage();
+        outboxMessageRepository.save(message);
+        awaitStatus(message.getId(), OutboxMessageStatus.SENT);
+
+        // Act
+        jdbcTemplate.update("UPDATE outbox_messages SET status = 'PENDING', processed_at = NULL WHERE id = ?", message.getId());
+
+        // Assert
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> verify(kafkaTemplate, times(2))
+            .send(argThat((ProducerRecord<String, byte[]> sent) -> sent.key().equals(message.getAggregateId().toString()))));
+        awaitStatus(message.getId(), OutboxMessageStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("Should retry until Kafka acknowledges the message")
+    void shouldRetryUntilKafkaAcknowledgesTheMessage() {
+        // Arrange
+        OutboxMessage message = createMessage();
+        when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> sent) ->
+                sent != null && sent.key().equals(message.getAggregateId().toString()))))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+            .thenReturn(acknowledged());
+
+        // Act
+        outboxMessageRepository.save(message);
+
+        // Assert
+        awaitStatus(message.getId(), OutboxMessageStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a message Kafka never acknowledges and relay the ones behind it")
+    void shouldDeadLetterAMessageKafkaNeverAcknowledgesAndRelayTheOnesBehindIt() {
+        // Arrange
+        OutboxMessage poison = createMessage();
+        OutboxMessage next = createMessage();
+        when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> sent) ->
+                sent != null && sent.key().equals(poison.getAggregateId().toString()))))
+            .thenAnswer(invocation -> CompletableFuture.failedFuture(new IllegalStateException("record too large")));
+
+        // Act
+        outboxMessageRepository.save(poison);
+        awaitStatus(poison.getId(), OutboxMessageStatus.DEAD_LETTER);
+        outboxMessageRepository.save(next);
+
+        // Assert
+        awaitStatus(next.getId(), OutboxMessageStatus.SENT);
+        assertThat(outboxMessageRepository.findById(poison.getId()).orElseThrow().getRetryAttempts(), is(20));
+        verify(kafkaTemplate, times(20))
+            .send(argThat((ProducerRecord<String, byte[]> sent) -> sent.key().equals(poison.getAggregateId().toString())));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter messages without a mapped topic")
+    void shouldDeadLetterMessagesWithoutAMappedTopic() {
+        // Arrange
+        OutboxMessage message = createMessage();
+        message.setEventType("UNKNOWN_EVENT");
+
+        // Act
+        outboxMessageRepository.save(message);
+
+        // Assert
+        awaitStatus(message.getId(), OutboxMessageStatus.DEAD_LETTER);
+    }
+
+    @Test
+    @DisplayName("Should relay overdue failed messages the replication slot never delivers")
+    void shouldRelayOverdueFailedMessagesTheReplicationSlotNeverDelivers() {
+        // Arrange - a retry left behind by the polling relay; FAILED rows are not streamed
+        OutboxMessage message = createMessage();
+        message.setStatus(OutboxMessageStatus.FAILED);
+        message.setRetryAttempts(1);
+        message.setNextAttemptAt(Instant.now().minus(Duration.ofMinutes(5)));
+        outboxMessageRepository.save(message);
+
+        // Act
+        outboxCdcRelay.relayOverdueMessages();
+
+        // Assert - the claim lease update is not streamed back as a second send
+        awaitStatus(message.getId(), OutboxMessageStatus.SENT);
+        await().during(Duration.ofSeconds(1)).atMost(Duration.ofSeconds(5)).untilAsserted(() -> verify(kafkaTemplate, times(1))
+            .send(argThat((ProducerRecord<String, byte[]> sent) -> sent.key().equals(message.getAggregateId().toString()))));
+    }
+
+    @Test
+    @DisplayName("Should not relay again pending messages moved out of the default partition")
+    void shouldNotRelayAgainPendingMessagesMovedOutOfTheDefaultPartition() {
+        // Arrange - no partition for the month yet, and Kafka keeps the message pending until the move
+        OutboxMessage message = createMessage();
+        message.setOccurredOn(Instant.parse("2015-07-10T00:00:00Z"));
+        AtomicBoolean brokerDown = new AtomicBoolean(true);
+        AtomicInteger acknowledged = new AtomicInteger();
+        when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> sent) ->
+                sent != null && sent.key().equals(message.getAggregateId().toString()))))
+            .thenAnswer(invocation -> {
+                if (brokerDown.get()) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+                }
+                acknowledged.incrementAndGet();
+                return acknowledged();
+            });
+        outboxMessageRepository.save(message);
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> verify(kafkaTemplate, atLeastOnce())
+            .send(argThat((ProducerRecord<String, byte[]> sent) -> sent.key().equals(message.getAggregateId().toString()))));
+
+        // Act
+        jdbcTemplate.queryForObject("SELECT create_outbox_partition(?::timestamptz)", String.class, "2015-07-01T00:00:00Z");
+        brokerDown.set(false);
+
+        // Assert
+        awaitStatus(message.getId(), OutboxMessageStatus.SENT);
+        assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM outbox_messages WHERE id = ?",
+            String.class, message.getId()), is("outbox_messages_201507"));
+        await().during(Duration.ofSeconds(2)).atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(acknowledged.get(), is(1)));
+    }
+
+    private void awaitStatus(UUID id, OutboxMessageStatus status) {
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() ->
+            assertThat(outboxMessageRepository.findById(id).orElseThrow().getStatus(), is(status)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<SendResult<String, byte[]>> acknowledged() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+
+    private OutboxMessage createMessage() {
+        UUID aggregateId = UUID.randomUUID();
+        return OutboxMessage.builder()
+            .id(UUID.randomUUID())
+            .aggregateId(aggregateId)
+            .aggregateType("Employee")
+            .eventType(EventType.EMPLOYEE_CREATED_EVENT.name())
+            .payload(("{\"employeeId\":\"" + aggregateId + "\"}").getBytes(StandardCharsets.UTF_8))
+            .status(OutboxMessageStatus.PENDING)
+            .occurredOn(Instant.now())
+            .nextAttemptAt(Instant.now())
+            .retryAttempts(0)
+            .build();
+    }
+}
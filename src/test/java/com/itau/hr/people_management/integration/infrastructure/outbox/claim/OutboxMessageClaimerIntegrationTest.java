@@ -0,0 +1,234 @@
+package com.itau.hr.people_management.integration.infrastructure.outbox.claim;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.outbox.claim.OutboxMessageClaimer;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxMessageClaimer.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxMessageClaimer Integration Tests with TestContainers")
+class OutboxMessageClaimerIntegrationTest {
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.outbox.lease-seconds", () -> "30");
+    }
+
+    @Autowired
+    private OutboxMessageClaimer outboxMessageClaimer;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Instant baseTimestamp;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository.deleteAll();
+        baseTimestamp = Instant.now().minusSeconds(120).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should hand disjoint batches to concurrent relays")
+    void shouldHandDisjointBatchesToConcurrentRelays() throws Exception {
+        // Arrange
+        for (int i = 0; i < 6; i++) {
+            save(UUID.randomUUID(), baseTimestamp.plusSeconds(i), OutboxMessageStatus.PENDING, baseTimestamp);
+        }
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Act
+        CompletableFuture<List<UUID>> firstRelay = CompletableFuture.supplyAsync(() ->
+            transactionTemplate.execute(status -> {
+                List<UUID> ids = ids(outboxMessageClaimer.claim(3, 0, 1));
+                firstClaimed.countDown();
+                await(releaseFirst);
+                return ids;
+            }));
+        await(firstClaimed);
+        List<UUID> secondRelay = ids(outboxMessageClaimer.claim(10, 0, 1));
+        releaseFirst.countDown();
+
+        // Assert
+        List<UUID> firstIds = firstRelay.get(10, TimeUnit.SECONDS);
+        assertThat(firstIds, hasSize(3));
+        assertThat(secondRelay, hasSize(3));
+        assertThat(secondRelay.stream().anyMatch(firstIds::contains), is(false));
+    }
+
+    @Test
+    @DisplayName("Should not claim message again while its lease is active")
+    void shouldNotClaimMessageAgainWhileItsLeaseIsActive() {
+        // Arrange
+        OutboxMessage message = save(UUID.randomUUID(), baseTimestamp, OutboxMessageStatus.PENDING, baseTimestamp);
+
+        // Act
+        List<OutboxMessage> first = outboxMessageClaimer.claim(10, 0, 1);
+        List<OutboxMessage> second = outboxMessageClaimer.claim(10, 0, 1);
+
+        // Assert
+        assertThat(ids(first), contains(message.getId()));
+        assertThat(second, is(empty()));
+        OutboxMessage leased = outboxMessageRepository.findById(message.getId()).orElseThrow();
+        assertThat(leased.getNextAttemptAt().isAfter(Instant.now()), is(true));
+    }
+
+    @Test
+    @DisplayName("Should reclaim message whose lease has expired")
+    void shouldReclaimMessageWhoseLeaseHasExpired() {
+        // Arrange
+        OutboxMessage abandoned = save(UUID.randomUUID(), baseTimestamp, OutboxMessageStatus.PENDING,
+            Instant.now().minusSeconds(1));
+
+        // Act
+        List<OutboxMessage> claimed = outboxMessageClaimer.claim(10, 0, 1);
+
+        // Assert
+        assertThat(ids(claimed), contains(abandoned.getId()));
+    }
+
+    @Test
+    @DisplayName("Should only claim the oldest unsent message of each aggregate")
+    void shouldOnlyClaimTheOldestUnsentMessageOfEachAggregate() {
+        // Arrange
+        UUID aggregateA = UUID.randomUUID();
+        UUID aggregateB = UUID.randomUUID();
+        OutboxMessage headA = save(aggregateA, baseTimestamp, OutboxMessageStatus.FAILED,
+            Instant.now().plusSeconds(300));
+        save(aggregateA, baseTimestamp.plusSeconds(1), OutboxMessageStatus.PENDING, baseTimestamp);
+        OutboxMessage headB = save(aggregateB, baseTimestamp.plusSeconds(2), OutboxMessageStatus.PENDING, baseTimestamp);
+        save(aggregateB, baseTimestamp.plusSeconds(3), OutboxMessageStatus.PENDING, baseTimestamp);
+        OutboxMessage sentC = save(UUID.randomUUID(), baseTimestamp, OutboxMessageStatus.SENT, baseTimestamp);
+
+        // Act
+        List<OutboxMessage> claimed = outboxMessageClaimer.claim(10, 0, 1);
+
+        // Assert
+        assertThat(ids(claimed), containsInAnyOrder(headB.getId()));
+        assertThat(ids(claimed).contains(headA.getId()), is(false));
+        assertThat(ids(claimed).contains(sentC.getId()), is(false));
+    }
+
+    @Test
+    @DisplayName("Should split aggregates across lanes without overlap")
+    void shouldSplitAggregatesAcrossLanesWithoutOverlap() {
+        // Arrange
+        List<UUID> all = IntStream.range(0, 20)
+            .mapToObj(i -> save(UUID.randomUUID(), baseTimestamp.plusSeconds(i), OutboxMessageStatus.PENDING, baseTimestamp).getId())
+            .toList();
+
+        // Act
+        List<UUID> laneZero = ids(outboxMessageClaimer.claim(50, 0, 2));
+        List<UUID> laneOne = ids(outboxMessageClaimer.claim(50, 1, 2));
+
+        // Assert
+        assertThat(laneZero.stream().anyMatch(laneOne::contains), is(false));
+        assertThat(Stream.concat(laneZero.stream(), laneOne.stream()).toList(), containsInAnyOrder(all.toArray()));
+    }
+
+    @Test
+    @DisplayName("Should keep every message of an aggregate on the same lane")
+    void shouldKeepEveryMessageOfAnAggregateOnTheSameLane() {
+        // Arrange
+        UUID aggregateId = UUID.randomUUID();
+        OutboxMessage first = save(aggregateId, baseTimestamp, OutboxMessageStatus.PENDING, baseTimestamp);
+        OutboxMessage second = save(aggregateId, baseTimestamp.plusSeconds(1), OutboxMessageStatus.PENDING, baseTimestamp);
+        int lane = IntStream.range(0, 4)
+            .filter(candidate -> ids(outboxMessageClaimer.claim(10, candidate, 4)).contains(first.getId()))
+            .findFirst()
+            .orElseThrow();
+        outboxMessageRepository.markSent(List.of(first.getId()), Instant.now());
+
+        // Act
+        List<UUID> claimed = ids(outboxMessageClaimer.claim(10, lane, 4));
+
+        // Assert
+        assertThat(claimed, contains(second.getId()));
+    }
+
+    private OutboxMessage save(UUID aggregateId, Instant occurredOn, OutboxMessageStatus status, Instant nextAttemptAt) {
+        return outboxMessageRepository.save(OutboxMessage.builder()
+            .id(UUID.randomUUID())
+            .aggregateId(aggregateId)
+            .aggregateType("Employee")
+            .eventType(EventType.EMPLOYEE_CREATED_EVENT.name())
+            .payload(("{\"employeeId\":\"" + aggregateId + "\"}").getBytes(StandardCharsets.UTF_8))
+            .status(status)
+            .occurredOn(occurredOn)
+            .nextAttemptAt(nextAttemptAt)
+            .retryAttempts(0)
+            .build());
+    }
+
+    private static List<UUID> ids(List<OutboxMessage> messages) {
+        return messages.stream().map(OutboxMessage::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.itau.hr.people_management.integration.infrastructure.outbox.maintenance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.maintenance.OutboxPartitionMaintenance;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxPartitionMaintenance.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxPartitionMaintenance Integration Tests with TestContainers")
+class OutboxPartitionMaintenanceIntegrationTest {
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.outbox.partitioning.maintenance-enabled", () -> "true");
+        registry.add("application.outbox.partitioning.premake-months", () -> "3");
+        registry.add("application.outbox.partitioning.retention-days", () -> "90");
+    }
+
+    @Autowired
+    private OutboxPartitionMaintenance partitionMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should create partitions for the current month and the configured months ahead")
+    void shouldCreatePartitionsForTheCurrentMonthAndTheConfiguredMonthsAhead() {
+        // Act
+        partitionMaintenance.createUpcomingPartitions();
+
+        // Assert
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int offset = 0; offset <= 3; offset++) {
+            assertThat(partitionExists(partitionName(current.plusMonths(offset))), is(true));
+        }
+    }
+
+    @Test
+    @DisplayName("Should archive dead letters and drop expired partition of sent messages")
+    void shouldArchiveDeadLettersAndDropExpiredPartitionOfSentMessages() {
+        // Arrange
+        YearMonth expired = YearMonth.of(2020, 1);
+        createPartition(expired);
+        UUID sentId = insert(expired, OutboxMessageStatus.SENT);
+        UUID deadLetterId = insert(expired, OutboxMessageStatus.DEAD_LETTER);
+
+        // Act
+        partitionMaintenance.retireExpiredPartitions();
+
+        // Assert
+        assertThat(partitionExists(partitionName(expired)), is(false));
+        assertThat(count("SELECT count(*) FROM outbox_messages WHERE id = ?", sentId), is(0L));
+        assertThat(count("SELECT count(*) FROM outbox_messages_dead_letter WHERE id = ?", deadLetterId), is(1L));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT archived_at FROM outbox_messages_dead_letter WHERE id = ?", OffsetDateTime.class, deadLetterId),
+            is(notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Should keep expired partition that still holds unsent messages without archiving its dead letters")
+    void shouldKeepExpiredPartitionThatStillHoldsUnsentMessagesWithoutArchivingItsDeadLetters() {
+        // Arrange
+        YearMonth expired = YearMonth.of(2020, 2);
+        createPartition(expired);
+        UUID pendingId = insert(expired, OutboxMessageStatus.PENDING);
+        UUID deadLetterId = insert(expired, OutboxMessageStatus.DEAD_LETTER);
+
+        // Act
+        partitionMaintenance.retireExpiredPartitions();
+
+        // Assert
+        assertThat(partitionExists(partitionName(expired)), is(true));
+        assertThat(count("SELECT count(*) FROM outbox_messages WHERE id = ?", pendingId), is(1L));
+        assertThat(count("SELECT count(*) FROM outbox_messages WHERE id = ?", deadLetterId), is(1L));
+        assertThat(count("SELECT count(*) FROM outbox_messages_dead_letter WHERE id = ?", deadLetterId), is(0L));
+    }
+
+    @Test
+    @DisplayName("Should keep partitions within retention")
+    void shouldKeepPartitionsWithinRetention() {
+        // Arrange
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        partitionMaintenance.createUpcomingPartitions();
+        insert(current, OutboxMessageStatus.SENT);
+
+        // Act
+        partitionMaintenance.retireExpiredPartitions();
+
+        // Assert
+        assertThat(partitionExists(partitionName(current)), is(true));
+        assertThat(partitionExists("outbox_messages_default"), is(true));
+    }
+
+    @Test
+    @DisplayName("Should route rows outside created months to the default partition")
+    void shouldRouteRowsOutsideCreatedMonthsToTheDefaultPartition() {
+        // Arrange
+        YearMonth distant = YearMonth.of(2015, 6);
+
+        // Act
+        UUID id = insert(distant, OutboxMessageStatus.SENT);
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT tableoid::regclass::text FROM outbox_messages WHERE id = ?", String.class, id),
+            is("outbox_messages_default"));
+        assertThat(partitionExists(partitionName(distant)), is(false));
+    }
+
+    @Test
+    @DisplayName("Should move default partition rows into the month partition when it is created")
+    void shouldMoveDefaultPartitionRowsIntoTheMonthPartitionWhenItIsCreated() {
+        // Arrange
+        YearMonth late = YearMonth.of(2016, 3);
+        UUID strandedId = insert(late, OutboxMessageStatus.PENDING);
+        UUID otherMonthId = insert(late.plusMonths(1), OutboxMessageStatus.SENT);
+
+        // Act
+        createPartition(late);
+
+        // Assert
+        assertThat(partitionExists(partitionName(late)), is(true));
+        assertThat(partitionOf(strandedId), is(partitionName(late)));
+        assertThat(partitionOf(otherMonthId), is("outbox_messages_default"));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT partdefid::regclass::text FROM pg_partitioned_table WHERE partrelid = 'outbox_messages'::regclass",
+            String.class), is("outbox_messages_default"));
+    }
+
+    private String partitionOf(UUID id) {
+        return jdbcTemplate.queryForObject(
+            "SELECT tableoid::regclass::text FROM outbox_messages WHERE id = ?", String.class, id);
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.queryForObject("SELECT create_outbox_partition(?)", String.class, monthStart(month));
+    }
+
+    private UUID insert(YearMonth month, OutboxMessageStatus status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO outbox_messages (id, occurred_on, aggregate_type, aggregate_id, event_type, payload, status, retry_attempts)
+            VALUES (?, ?, 'Employee', ?, 'EMPLOYEE_CREATED_EVENT', ?, ?, 0)
+            """, id, monthStart(month).plusDays(9), UUID.randomUUID(),
+            "{}".getBytes(StandardCharsets.UTF_8), status.name());
+        return id;
+    }
+
+    private boolean partitionExists(String name) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name);
+    }
+
+    private long count(String sql, UUID id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private static OffsetDateTime monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "outbox_messages_" + month.format(DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.itau.hr.people_management.integration.infrastructure.outbox.notify;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.kafka.OutboxRelay;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.notify.OutboxNotificationListener;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxNotificationListener.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxNotificationListener Integration Tests with TestContainers")
+class OutboxNotificationListenerIntegrationTest {
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.outbox.notify.enabled", () -> "true");
+        registry.add("application.outbox.notify.poll-timeout-ms", () -> "100");
+    }
+
+    @MockitoBean
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Waits until the listener is subscribed, whether or not the context was reused.
+        outboxMessageRepository.save(createMessage());
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> verify(outboxRelay, atLeastOnce()).processOutbox());
+        clearInvocations(outboxRelay);
+    }
+
+    @Test
+    @DisplayName("Should wake relay within milliseconds of an outbox insert commit")
+    void shouldWakeRelayWithinMillisecondsOfAnOutboxInsertCommit() {
+        // Act
+        outboxMessageRepository.save(createMessage());
+
+        // Assert
+        await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(10))
+            .untilAsserted(() -> verify(outboxRelay, atLeastOnce()).processOutbox());
+    }
+
+    @Test
+    @DisplayName("Should not wake relay when nothing is inserted")
+    void shouldNotWakeRelayWhenNothingIsInserted() {
+        // Act
+        outboxMessageRepository.count();
+
+        // Assert
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(1))
+            .untilAsserted(() -> verify(outboxRelay, never()).processOutbox());
+    }
+
+    private OutboxMessage createMessage() {
+        UUID aggregateId = UUID.randomUUID();
+        return OutboxMessage.builder()
+            .id(UUID.randomUUID())
+            .aggregateId(aggregateId)
+            .aggregateType("Employee")
+            .eventType(EventType.EMPLOYEE_CREATED_EVENT.name())
+            .payload(("{\"employeeId\":\"" + aggregateId + "\"}").getBytes(StandardCharsets.UTF_8))
+            .status(OutboxMessageStatus.PENDING)
+            .occurredOn(Instant.now())
+            .nextAttemptAt(Instant.now())
+            .retryAttempts(0)
+            .build();
+    }
+}
@@ -33,6 +33,8 @@ import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
 import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
 import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
 import com.itau.hr.people_management.infrastructure.outbox.publisher.OutboxEventPublisher;
 import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
@@ -52,8 +54,7 @@ class OutboxEventPublisherIntegrationTest {
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
             .withDatabaseName("people_management_test")
             .withUsername("test")
-            .withPassword("test")
-            .withInitScript("db/migration/V1__create_initial_tables.sql");
+            .withPassword("test");
 
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
@@ -62,7 +63,7 @@ class OutboxEventPublisherIntegrationTest {
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
-        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
     }
 
     @Autowired
@@ -74,6 +75,9 @@ class OutboxEventPublisherIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private OutboxPayloadCodec payloadCodec;
+
     @Autowired
     private TransactionTemplate transactionTemplate;
 
@@ -138,8 +142,10 @@ class OutboxEventPublisherIntegrationTest {
         assertThat(savedMessage.getStatus(), is(OutboxMessageStatus.PENDING));
         assertThat(savedMessage.getNextAttemptAt(), is(notNullValue()));
 
-        // Verificar JSON payload real
-        String payload = savedMessage.getPayload();
+        // Verificar payload binário (Smile por padrão) convertido para JSON
+        assertThat(savedMessage.getPayloadContentType(), is(OutboxPayloadFormat.SMILE.contentType()));
+        assertThat(savedMessage.getPayloadSchemaVersion(), is(OutboxPayloadCodec.CURRENT_SCHEMA_VERSION));
+        String payload = payloadCodec.toJson(savedMessage.getPayload(), savedMessage.getPayloadContentType());
         assertThat(payload, is(notNullValue()));
         
         JsonNode jsonNode = objectMapper.readTree(payload);
@@ -182,7 +188,7 @@ class OutboxEventPublisherIntegrationTest {
         assertThat(savedMessage.getStatus(), is(OutboxMessageStatus.PENDING));
 
         // Verificar JSON payload específico do evento
-        String payload = savedMessage.getPayload();
+        String payload = payloadCodec.toJson(savedMessage.getPayload(), savedMessage.getPayloadContentType());
         JsonNode jsonNode = objectMapper.readTree(payload);
         assertThat(jsonNode.get("employeeId").asText(), is(employeeId.toString()));
         assertThat(jsonNode.get("oldStatus").asText(), is("ACTIVE"));
@@ -311,7 +317,8 @@ class OutboxEventPublisherIntegrationTest {
         List<OutboxMessage> savedMessages = outboxMessageRepository.findAll();
         assertThat(savedMessages, hasSize(1));
 
-        String payload = savedMessages.get(0).getPayload();
+        OutboxMessage savedMessage = savedMessages.get(0);
+        String payload = payloadCodec.toJson(savedMessage.getPayload(), savedMessage.getPayloadContentType());
         
         // Verificar que JSON segue padrões do Spring Boot (camelCase, etc.)
         JsonNode jsonNode = objectMapper.readTree(payload);
@@ -351,9 +358,9 @@ class OutboxEventPublisherIntegrationTest {
         assertThat(savedMessages, hasSize(1));
 
         OutboxMessage savedMessage = savedMessages.get(0);
-        assertThat(savedMessage.getPayload().length(), greaterThan(1000));
+        assertThat(savedMessage.getPayload().length, greaterThan(1000));
         
-        JsonNode jsonNode = objectMapper.readTree(savedMessage.getPayload());
+        JsonNode jsonNode = objectMapper.readTree(payloadCodec.toJson(savedMessage.getPayload(), savedMessage.getPayloadContentType()));
         assertThat(jsonNode.get("employeeName").asText(), is(largeEmployeeName));
         assertThat(jsonNode.get("employeeName").asText().length(), is(1000));
     }
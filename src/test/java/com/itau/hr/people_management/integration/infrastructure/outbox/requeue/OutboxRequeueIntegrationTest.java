@@ -0,0 +1,178 @@
+package com.itau.hr.people_management.integration.infrastructure.outbox.requeue;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueCriteria;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress.State;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueService;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxRequeueService.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxRequeueService Integration Tests with TestContainers")
+class OutboxRequeueIntegrationTest {
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.outbox.requeue.batch-size", () -> "2");
+        registry.add("application.outbox.requeue.max-rate-per-second", () -> "0");
+        registry.add("application.outbox.requeue.max-backlog", () -> "0");
+    }
+
+    @Autowired
+    private OutboxRequeueService outboxRequeueService;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    private Instant baseTimestamp;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository.deleteAll();
+        baseTimestamp = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should requeue every dead letter across several batches with a fresh retry budget")
+    void shouldRequeueEveryDeadLetterAcrossSeveralBatchesWithAFreshRetryBudget() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            save(UUID.randomUUID(), baseTimestamp.plusSeconds(i), EventType.EMPLOYEE_CREATED_EVENT, OutboxMessageStatus.DEAD_LETTER);
+        }
+        OutboxMessage failed = save(UUID.randomUUID(), baseTimestamp, EventType.EMPLOYEE_CREATED_EVENT, OutboxMessageStatus.FAILED);
+        OutboxMessage sent = save(UUID.randomUUID(), baseTimestamp, EventType.EMPLOYEE_CREATED_EVENT, OutboxMessageStatus.SENT);
+
+        // Act
+        OutboxRequeueProgress progress = awaitFinished(outboxRequeueService.submit(
+            new OutboxRequeueCriteria(null, null, null, null, null)));
+
+        // Assert
+        assertThat(progress.state(), is(State.COMPLETED));
+        assertThat(progress.requeued(), is(5L));
+        assertThat(outboxMessageRepository.countByStatusIn(Set.of(OutboxMessageStatus.DEAD_LETTER)), is(0L));
+        assertThat(outboxMessageRepository.countByStatusIn(Set.of(OutboxMessageStatus.PENDING)), is(5L));
+        assertThat(reload(failed).getStatus(), is(OutboxMessageStatus.FAILED));
+        assertThat(reload(sent).getStatus(), is(OutboxMessageStatus.SENT));
+        outboxMessageRepository.findAll().stream()
+            .filter(message -> message.getStatus() == OutboxMessageStatus.PENDING)
+            .forEach(message -> {
+                assertThat(message.getRetryAttempts(), is(0));
+                assertThat(message.getProcessedAt(), is(nullValue()));
+                assertThat(message.getNextAttemptAt().isAfter(Instant.now()), is(false));
+            });
+    }
+
+    @Test
+    @DisplayName("Should only requeue messages matching time range, event type and aggregate")
+    void shouldOnlyRequeueMessagesMatchingTimeRangeEventTypeAndAggregate() {
+        // Arrange
+        UUID aggregateId = UUID.randomUUID();
+        OutboxMessage match = save(aggregateId, baseTimestamp.plusSeconds(10), EventType.EMPLOYEE_STATUS_CHANGED_EVENT, OutboxMessageStatus.FAILED);
+        OutboxMessage otherType = save(aggregateId, baseTimestamp.plusSeconds(11), EventType.EMPLOYEE_CREATED_EVENT, OutboxMessageStatus.FAILED);
+        OutboxMessage outOfRange = save(aggregateId, baseTimestamp.plusSeconds(60), EventType.EMPLOYEE_STATUS_CHANGED_EVENT, OutboxMessageStatus.FAILED);
+        OutboxMessage otherAggregate = save(UUID.randomUUID(), baseTimestamp.plusSeconds(12), EventType.EMPLOYEE_STATUS_CHANGED_EVENT, OutboxMessageStatus.FAILED);
+
+        // Act
+        OutboxRequeueProgress progress = awaitFinished(outboxRequeueService.submit(new OutboxRequeueCriteria(
+            Set.of(OutboxMessageStatus.FAILED), baseTimestamp, baseTimestamp.plusSeconds(30),
+            EventType.EMPLOYEE_STATUS_CHANGED_EVENT.name(), aggregateId)));
+
+        // Assert
+        assertThat(progress.requeued(), is(1L));
+        assertThat(reload(match).getStatus(), is(OutboxMessageStatus.PENDING));
+        assertThat(reload(otherType).getStatus(), is(OutboxMessageStatus.FAILED));
+        assertThat(reload(outOfRange).getStatus(), is(OutboxMessageStatus.FAILED));
+        assertThat(reload(otherAggregate).getStatus(), is(OutboxMessageStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("Should leave messages that failed after the job started")
+    void shouldLeaveMessagesThatFailedAfterTheJobStarted() {
+        // Arrange
+        OutboxMessage failedEarlier = save(UUID.randomUUID(), baseTimestamp, EventType.EMPLOYEE_CREATED_EVENT, OutboxMessageStatus.FAILED);
+        OutboxMessage failedLater = save(UUID.randomUUID(), baseTimestamp, EventType.EMPLOYEE_CREATED_EVENT, OutboxMessageStatus.FAILED);
+        failedLater.setProcessedAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        outboxMessageRepository.save(failedLater);
+
+        // Act
+        OutboxRequeueProgress progress = awaitFinished(outboxRequeueService.submit(
+            new OutboxRequeueCriteria(Set.of(OutboxMessageStatus.FAILED), null, null, null, null)));
+
+        // Assert
+        assertThat(progress.requeued(), is(1L));
+        assertThat(reload(failedEarlier).getStatus(), is(OutboxMessageStatus.PENDING));
+        assertThat(reload(failedLater).getStatus(), is(OutboxMessageStatus.FAILED));
+    }
+
+    private OutboxRequeueProgress awaitFinished(OutboxRequeueProgress submitted) {
+        await().atMost(Duration.ofSeconds(10))
+            .until(() -> outboxRequeueService.find(submitted.jobId()).orElseThrow().state() != State.RUNNING);
+        return outboxRequeueService.find(submitted.jobId()).orElseThrow();
+    }
+
+    private OutboxMessage reload(OutboxMessage message) {
+        return outboxMessageRepository.findById(message.getId()).orElseThrow();
+    }
+
+    private OutboxMessage save(UUID aggregateId, Instant occurredOn, EventType eventType, OutboxMessageStatus status) {
+        return outboxMessageRepository.save(OutboxMessage.builder()
+            .id(UUID.randomUUID())
+            .aggregateId(aggregateId)
+            .aggregateType("Employee")
+            .eventType(eventType.name())
+            .payload(("{\"employeeId\":\"" + aggregateId + "\"}").getBytes(StandardCharsets.UTF_8))
+            .status(status)
+            .occurredOn(occurredOn)
+            .processedAt(status == OutboxMessageStatus.PENDING ? null : occurredOn)
+            .retryAttempts(status == OutboxMessageStatus.DEAD_LETTER ? 5 : 2)
+            .nextAttemptAt(status == OutboxMessageStatus.FAILED ? Instant.now().plusSeconds(300) : null)
+            .build());
+    }
+}
@@ -0,0 +1,263 @@
+package com.itau.hr.people_management.integration.infrastructure.persistence.archive;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchiver;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistoryOrder;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeEventRepositoryImpl;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeHistoryArchiver.class, EmployeeHistoryArchive.class, EmployeeEventRepositoryImpl.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EmployeeHistoryArchiver Integration Tests with TestContainers")
+class EmployeeHistoryArchiverIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.history.archive.enabled", () -> "true");
+        registry.add("application.history.archive.directory", () -> archiveDirectory.toString());
+        registry.add("application.history.archive.hot-days", () -> "90");
+        registry.add("application.history.archive.premake-months", () -> "3");
+        registry.add("application.history.archive.rows-per-block", () -> "16");
+    }
+
+    @Autowired
+    private EmployeeHistoryArchiver archiver;
+
+    @Autowired
+    private EmployeeHistoryArchive archive;
+
+    @Autowired
+    private EmployeeEventRepositoryImpl employeeEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should create partitions for the current month and the configured months ahead")
+    void shouldCreatePartitionsForTheCurrentMonthAndTheConfiguredMonthsAhead() {
+        // Act
+        archiver.createUpcomingPartitions();
+
+        // Assert
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int offset = 0; offset <= 3; offset++) {
+            assertThat(partitionExists(current.plusMonths(offset)), is(true));
+        }
+    }
+
+    @Test
+    @DisplayName("Should export an expired month to a segment and drop its partition")
+    void shouldExportAnExpiredMonthToASegmentAndDropItsPartition() {
+        // Arrange
+        YearMonth expired = YearMonth.now(ZoneOffset.UTC).minusMonths(6);
+        List<EmployeeEvent> events = eventsIn(expired, employeeId, 40);
+        employeeEventRepository.saveAll(events);
+        employeeEventRepository.saveAll(eventsIn(expired, UUID.randomUUID(), 40));
+
+        // Act
+        archiver.archiveExpiredPartitions();
+
+        // Assert
+        assertThat(partitionExists(expired), is(false));
+        assertThat(Files.exists(archive.segmentFile(expired)), is(true));
+        assertThat(Files.exists(archive.indexFile(expired)), is(true));
+        assertThat(archive.archivedUntil().orElseThrow().isAfter(events.get(0).getOccurredOn()), is(true));
+        assertThat(ids(employeeEventRepository.findHistory(criteria().limit(100).build())), is(ids(sorted(events))));
+    }
+
+    @Test
+    @DisplayName("Should keep months inside the hot window in the database")
+    void shouldKeepMonthsInsideTheHotWindowInTheDatabase() {
+        // Arrange
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        archiver.createUpcomingPartitions();
+
+        // Act
+        archiver.archiveExpiredPartitions();
+
+        // Assert
+        assertThat(partitionExists(current), is(true));
+        assertThat(Files.exists(archive.segmentFile(current)), is(false));
+        assertThat(Files.exists(archive.segmentFile(current.minusMonths(1))), is(false));
+    }
+
+    @Test
+    @DisplayName("Should page from hot events into archived ones with the same cursor")
+    void shouldPageFromHotEventsIntoArchivedOnesWithTheSameCursor() {
+        // Arrange
+        YearMonth expired = YearMonth.now(ZoneOffset.UTC).minusMonths(8);
+        List<EmployeeEvent> archived = eventsIn(expired, employeeId, 25);
+        employeeEventRepository.saveAll(archived);
+        archiver.archiveExpiredPartitions();
+        List<EmployeeEvent> hot = eventsIn(YearMonth.now(ZoneOffset.UTC), employeeId, 7);
+        employeeEventRepository.saveAll(hot);
+
+        // Act
+        List<UUID> paged = new ArrayList<>();
+        EmployeeEventCursor after = null;
+        List<EmployeeEvent> page;
+        do {
+            page = employeeEventRepository.findHistory(criteria().after(after).limit(5).build());
+            page.forEach(event -> paged.add(event.getId()));
+            after = page.isEmpty() ? null : EmployeeEventCursor.of(page.get(page.size() - 1));
+        } while (page.size() == 5);
+
+        // Assert
+        List<EmployeeEvent> all = new ArrayList<>(hot);
+        all.addAll(archived);
+        assertThat(paged, is(ids(sorted(all))));
+    }
+
+    @Test
+    @DisplayName("Should return a late event of an archived month only once")
+    void shouldReturnALateEventOfAnArchivedMonthOnlyOnce() {
+        // Arrange
+        YearMonth expired = YearMonth.now(ZoneOffset.UTC).minusMonths(10);
+        List<EmployeeEvent> events = eventsIn(expired, employeeId, 3);
+        employeeEventRepository.saveAll(events);
+        archiver.archiveExpiredPartitions();
+
+        // Act - A redelivered event now lands in the default partition
+        employeeEventRepository.saveAll(List.of(events.get(0)));
+        List<EmployeeEvent> history = employeeEventRepository.findHistory(criteria()
+            .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT).limit(10).build());
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM employee_events_history_default WHERE id = ?", Long.class, events.get(0).getId()), is(1L));
+        assertThat(ids(history), is(ids(sorted(events))));
+    }
+
+    @Test
+    @DisplayName("Should move default partition rows into the month partition when it is created")
+    void shouldMoveDefaultPartitionRowsIntoTheMonthPartitionWhenItIsCreated() {
+        // Arrange - no partition for the month yet, so the events land in the default partition
+        YearMonth stranded = YearMonth.of(2016, 3);
+        List<EmployeeEvent> events = eventsWithoutPartition(stranded, employeeId, 3);
+        employeeEventRepository.saveAll(events);
+        assertThat(partitionOf(events.get(0).getId()), is("employee_events_history_default"));
+
+        // Act
+        String partition = jdbcTemplate.queryForObject("SELECT create_employee_history_partition(?)", String.class,
+            stranded.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC));
+
+        // Assert
+        assertThat(partition, is("employee_events_history_201603"));
+        for (EmployeeEvent event : events) {
+            assertThat(partitionOf(event.getId()), is(partition));
+        }
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM employee_events_history_default WHERE employee_id = ?", Long.class, employeeId), is(0L));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_inherits WHERE inhrelid = 'employee_events_history_default'::regclass", Long.class), is(1L));
+    }
+
+    private EmployeeHistoryCriteria.EmployeeHistoryCriteriaBuilder criteria() {
+        return EmployeeHistoryCriteria.builder().employeeId(employeeId);
+    }
+
+    private boolean partitionExists(YearMonth month) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+            "employee_events_history_" + month.format(PARTITION_SUFFIX));
+    }
+
+    // Creates the month's partition like V9 would have, so the rows do not land in the default partition.
+    private List<EmployeeEvent> eventsIn(YearMonth month, UUID employee, int count) {
+        OffsetDateTime monthStart = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        jdbcTemplate.queryForObject("SELECT create_employee_history_partition(?)", String.class, monthStart);
+        return eventsWithoutPartition(month, employee, count);
+    }
+
+    private List<EmployeeEvent> eventsWithoutPartition(YearMonth month, UUID employee, int count) {
+        OffsetDateTime monthStart = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        Instant newest = monthStart.plusDays(10).plusNanos(123_456_000).toInstant();
+        List<EmployeeEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(EmployeeEvent.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employee)
+                .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+                .occurredOn(newest.minusSeconds(i / 2))
+                .description("Status changed " + i)
+                .eventData("{\"newStatus\":\"ACTIVE\"}")
+                .build());
+        }
+        return events;
+    }
+
+    private String partitionOf(UUID eventId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT tableoid::regclass::text FROM employee_events_history WHERE id = ?", String.class, eventId);
+    }
+
+    private static List<EmployeeEvent> sorted(List<EmployeeEvent> events) {
+        return events.stream().sorted(HistoryOrder.NEWEST_FIRST).toList();
+    }
+
+    private static List<UUID> ids(List<EmployeeEvent> events) {
+        return events.stream().map(EmployeeEvent::getId).toList();
+    }
+}
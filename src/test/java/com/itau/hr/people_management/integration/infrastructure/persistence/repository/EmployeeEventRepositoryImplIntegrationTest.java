@@ -8,6 +8,13 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 
 import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,22 +25,27 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
 import com.itau.hr.people_management.infrastructure.persistence.entity.EmployeeEventJpaEntity;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
 import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeEventRepositoryImpl;
 import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
 
 @DataJpaTest
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({EmployeeEventRepositoryImpl.class, SpringDomainMessageSource.class})
+@Import({EmployeeEventRepositoryImpl.class, EmployeeHistoryArchive.class, SpringDomainMessageSource.class})
 @DisplayName("EmployeeEventRepositoryImpl Integration Tests with TestContainers")
 class EmployeeEventRepositoryImplIntegrationTest {
 
@@ -42,8 +54,7 @@ class EmployeeEventRepositoryImplIntegrationTest {
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
             .withDatabaseName("people_management_test")
             .withUsername("test")
-            .withPassword("test")
-            .withInitScript("db/migration/V1__create_initial_tables.sql");
+            .withPassword("test");
 
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
@@ -52,7 +63,7 @@ class EmployeeEventRepositoryImplIntegrationTest {
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
-        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
     }
 
     @Autowired
@@ -61,6 +72,9 @@ class EmployeeEventRepositoryImplIntegrationTest {
     @Autowired
     private EmployeeEventRepositoryImpl employeeEventRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private EmployeeEvent testEmployeeEvent;
     private UUID eventId;
     private UUID employeeId;
@@ -96,7 +110,6 @@ class EmployeeEventRepositoryImplIntegrationTest {
         assertThat(jpaEntity.getEmployeeId(), is(employeeId));
         assertThat(jpaEntity.getEventType(), is(EventType.EMPLOYEE_CREATED_EVENT));
         assertThat(jpaEntity.getOccurredOn(), is(eventTimestamp));
-        assertThat(jpaEntity.getDescription(), is("Employee was created successfully"));
         assertThat(jpaEntity.getEventData(), is("{\"name\":\"John Doe\",\"email\":\"john.doe@example.com\"}"));
     }
 
@@ -120,7 +133,6 @@ class EmployeeEventRepositoryImplIntegrationTest {
         // Assert - Verify complex mapping
         EmployeeEventJpaEntity jpaEntity = entityManager.find(EmployeeEventJpaEntity.class, complexEvent.getId());
         assertThat(jpaEntity.getEventType(), is(EventType.EMPLOYEE_STATUS_CHANGED_EVENT));
-        assertThat(jpaEntity.getDescription(), containsString("status changed"));
         assertThat(jpaEntity.getEventData(), containsString("previousStatus"));
         assertThat(jpaEntity.getEventData(), containsString("newStatus"));
     }
@@ -223,6 +235,35 @@ class EmployeeEventRepositoryImplIntegrationTest {
         assertThat(entity2.getOccurredOn(), is(lessThan(entity3.getOccurredOn())));
     }
 
+    @Test
+    @DisplayName("Should bulk insert events and skip already stored ids on replay")
+    void shouldBulkInsertEventsAndSkipAlreadyStoredIdsOnReplay() {
+        // Arrange
+        EmployeeEvent newEvent = EmployeeEvent.builder()
+            .id(UUID.randomUUID())
+            .employeeId(employeeId)
+            .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+            .occurredOn(Instant.parse("2024-03-01T12:00:00Z"))
+            .description("Status changed")
+            .eventData("{\"newStatus\":\"TERMINATED\"}")
+            .build();
+        int firstInsert = employeeEventRepository.saveAll(List.of(testEmployeeEvent));
+
+        // Act
+        int replayInsert = employeeEventRepository.saveAll(List.of(testEmployeeEvent, newEvent));
+        entityManager.clear();
+
+        // Assert
+        assertThat(firstInsert, is(1));
+        assertThat(replayInsert, is(1));
+        EmployeeEventJpaEntity stored = entityManager.find(EmployeeEventJpaEntity.class, newEvent.getId());
+        assertThat(stored.getEventType(), is(EventType.EMPLOYEE_STATUS_CHANGED_EVENT));
+        assertThat(stored.getOccurredOn(), is(Instant.parse("2024-03-01T12:00:00Z")));
+        // jsonb hands the payload back normalized
+        assertThat(stored.getEventData(), is("{\"newStatus\": \"TERMINATED\"}"));
+        assertThat(entityManager.find(EmployeeEventJpaEntity.class, eventId).getEventData(), is("{\"name\": \"John Doe\", \"email\": \"john.doe@example.com\"}"));
+    }
+
     @Test
     @DisplayName("Should handle PostgreSQL specific timestamp precision")
     void shouldHandlePostgreSqlSpecificTimestampPrecision() {
@@ -288,4 +329,167 @@ class EmployeeEventRepositoryImplIntegrationTest {
         assertThat(entityManager.find(EmployeeEventJpaEntity.class, updateEvent.getId()), is(notNullValue()));
         assertThat(entityManager.find(EmployeeEventJpaEntity.class, deleteEvent.getId()), is(notNullValue()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should page through history newest first without gaps or repeats")
+    void shouldPageThroughHistoryNewestFirstWithoutGapsOrRepeats() {
+        // Arrange - Pairs of events share a timestamp, so the id breaks the tie
+        List<EmployeeEvent> stored = history(employeeId, 25);
+        employeeEventRepository.saveAll(stored);
+
+        // Act
+        List<UUID> paged = new ArrayList<>();
+        EmployeeEventCursor after = null;
+        List<EmployeeEvent> page;
+        do {
+            page = employeeEventRepository.findHistory(EmployeeHistoryCriteria.builder().employeeId(employeeId).after(after).limit(10).build());
+            page.forEach(event -> paged.add(event.getId()));
+            after = page.isEmpty() ? null : EmployeeEventCursor.of(page.get(page.size() - 1));
+        } while (page.size() == 10);
+
+        // Assert
+        List<UUID> expected = stored.stream()
+            .sorted(Comparator.comparing(EmployeeEvent::getOccurredOn)
+                .thenComparing(EmployeeEvent::getId, EmployeeEventRepositoryImplIntegrationTest::compareUuid)
+                .reversed())
+            .map(EmployeeEvent::getId)
+            .toList();
+        assertThat(paged, is(expected));
+    }
+
+    @Test
+    @DisplayName("Should filter history by event type and period")
+    void shouldFilterHistoryByEventTypeAndPeriod() {
+        // Arrange
+        List<EmployeeEvent> stored = history(employeeId, 20);
+        employeeEventRepository.saveAll(stored);
+        Instant from = stored.get(15).getOccurredOn();
+        Instant to = stored.get(5).getOccurredOn();
+
+        // Act
+        List<EmployeeEvent> events = employeeEventRepository.findHistory(EmployeeHistoryCriteria.builder()
+            .employeeId(employeeId)
+            .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+            .occurredFrom(from)
+            .occurredTo(to)
+            .limit(50)
+            .build());
+
+        // Assert
+        assertThat(events.isEmpty(), is(false));
+        events.forEach(event -> {
+            assertThat(event.getEventType(), is(EventType.EMPLOYEE_STATUS_CHANGED_EVENT));
+            assertThat(event.getOccurredOn().isBefore(from), is(false));
+            assertThat(event.getOccurredOn().isBefore(to), is(true));
+        });
+    }
+
+    @Test
+    @DisplayName("Should read the latest page with a bounded scan of the keyset index")
+    void shouldReadTheLatestPageWithABoundedScanOfTheKeysetIndex() {
+        // Arrange
+        employeeEventRepository.saveAll(history(employeeId, 5_000));
+        for (int other = 0; other < 50; other++) {
+            employeeEventRepository.saveAll(history(UUID.randomUUID(), 100));
+        }
+        jdbcTemplate.execute("ANALYZE employee_events_history");
+
+        // Act
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+            "EXPLAIN SELECT * FROM employee_events_history WHERE employee_id = ? ORDER BY occurred_on DESC, id DESC LIMIT 51",
+            String.class, employeeId));
+
+        // Assert - Each monthly partition (V9) carries its own copy of idx_employee_events_history_keyset
+        String partition = "employee_events_history_" + YearMonth.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("yyyyMM"));
+        assertThat(plan, containsString("Limit"));
+        assertThat(plan, containsString("Index Scan using " + partition + "_employee_id_occurred_on_id_idx"));
+        assertThat(plan.contains("Seq Scan on " + partition), is(false));
+    }
+
+    @Test
+    @DisplayName("Should find status transitions across employees and derive their description")
+    void shouldFindStatusTransitionsAcrossEmployeesAndDeriveTheirDescription() {
+        // Arrange
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        UUID otherEmployeeId = UUID.randomUUID();
+        EmployeeEvent toLeave = transition(employeeId, EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE, now.minusSeconds(30));
+        EmployeeEvent otherToLeave = transition(otherEmployeeId, EmployeeStatus.ON_VACATION, EmployeeStatus.ON_LEAVE, now.minusSeconds(20));
+        EmployeeEvent backFromLeave = transition(employeeId, EmployeeStatus.ON_LEAVE, EmployeeStatus.ACTIVE, now.minusSeconds(10));
+        employeeEventRepository.saveAll(List.of(toLeave, otherToLeave, backFromLeave));
+
+        // Act
+        List<EmployeeEvent> intoLeave = employeeEventRepository.findHistory(EmployeeHistoryCriteria.builder()
+            .newStatus(EmployeeStatus.ON_LEAVE).limit(10).build());
+        List<EmployeeEvent> fromActive = employeeEventRepository.findHistory(EmployeeHistoryCriteria.builder()
+            .oldStatus(EmployeeStatus.ACTIVE).newStatus(EmployeeStatus.ON_LEAVE).limit(10).build());
+        List<EmployeeEvent> employeeOutOfLeave = employeeEventRepository.findHistory(EmployeeHistoryCriteria.builder()
+            .employeeId(employeeId).oldStatus(EmployeeStatus.ON_LEAVE).limit(10).build());
+
+        // Assert
+        assertThat(ids(intoLeave), is(List.of(otherToLeave.getId(), toLeave.getId())));
+        assertThat(ids(fromActive), is(List.of(toLeave.getId())));
+        assertThat(ids(employeeOutOfLeave), is(List.of(backFromLeave.getId())));
+        assertThat(employeeOutOfLeave.get(0).getDescription(), is("Status do colaborador alterado de 'ON_LEAVE' para 'ACTIVE'"));
+    }
+
+    @Test
+    @DisplayName("Should answer a transition query from the payload expression index")
+    void shouldAnswerATransitionQueryFromThePayloadExpressionIndex() {
+        // Arrange - Few transitions into ON_LEAVE among many other events
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<EmployeeEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            EmployeeStatus newStatus = i % 100 == 0 ? EmployeeStatus.ON_LEAVE : EmployeeStatus.ON_VACATION;
+            events.add(transition(UUID.randomUUID(), EmployeeStatus.ACTIVE, newStatus, now.minusMillis(i)));
+        }
+        employeeEventRepository.saveAll(events);
+        jdbcTemplate.execute("ANALYZE employee_events_history");
+
+        // Act
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+            "EXPLAIN SELECT * FROM employee_events_history WHERE event_type = 'EMPLOYEE_STATUS_CHANGED_EVENT'"
+                + " AND event_data ->> 'newStatus' = ? ORDER BY occurred_on DESC, id DESC LIMIT 51",
+            String.class, EmployeeStatus.ON_LEAVE.name()));
+
+        // Assert - Each monthly partition carries its own copy of the V11 expression indexes
+        String partition = "employee_events_history_" + YearMonth.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("yyyyMM"));
+        assertThat(plan, containsString(partition + "_expr_occurred_on_id_idx"));
+        assertThat(plan.contains("Seq Scan on " + partition), is(false));
+    }
+
+    private static EmployeeEvent transition(UUID employeeId, EmployeeStatus oldStatus, EmployeeStatus newStatus, Instant occurredOn) {
+        return EmployeeEvent.builder()
+            .id(UUID.randomUUID())
+            .employeeId(employeeId)
+            .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+            .occurredOn(occurredOn)
+            .eventData("{\"employeeId\":\"" + employeeId + "\",\"oldStatus\":\"" + oldStatus + "\",\"newStatus\":\"" + newStatus + "\"}")
+            .build();
+    }
+
+    private static List<UUID> ids(List<EmployeeEvent> events) {
+        return events.stream().map(EmployeeEvent::getId).toList();
+    }
+
+    private static List<EmployeeEvent> history(UUID employeeId, int count) {
+        Instant newest = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<EmployeeEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(EmployeeEvent.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .eventType(i % 2 == 0 ? EventType.EMPLOYEE_CREATED_EVENT : EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+                .occurredOn(newest.minusSeconds(i / 2))
+                .description("Event " + i)
+                .eventData("{}")
+                .build());
+        }
+        return events;
+    }
+
+    // PostgreSQL orders uuid by its unsigned bytes; UUID.compareTo compares signed longs.
+    private static int compareUuid(UUID left, UUID right) {
+        int high = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
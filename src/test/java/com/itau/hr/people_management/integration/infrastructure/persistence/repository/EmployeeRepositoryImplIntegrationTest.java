@@ -52,8 +52,7 @@ class EmployeeRepositoryImplIntegrationTest {
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
             .withDatabaseName("people_management_test")
             .withUsername("test")
-            .withPassword("test")
-            .withInitScript("db/migration/V1__create_initial_tables.sql");
+            .withPassword("test");
 
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
@@ -62,7 +61,7 @@ class EmployeeRepositoryImplIntegrationTest {
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
-        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
     }
 
     @Autowired
@@ -0,0 +1,286 @@
+package com.itau.hr.people_management.integration.infrastructure.persistence.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistorySegmentWriter;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeEventRepositoryImpl;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeStateRepositoryImpl;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeStateRepositoryImpl.class, EmployeeEventRepositoryImpl.class, EmployeeHistoryArchive.class, SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EmployeeStateRepositoryImpl Integration Tests with TestContainers")
+class EmployeeStateRepositoryImplIntegrationTest {
+
+    private static final int SNAPSHOT_INTERVAL = 5;
+    private static final Instant HIRED_ON = Instant.parse("2025-01-06T09:00:00Z");
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("application.history.archive.directory", () -> archiveDirectory.toString());
+        registry.add("application.history.snapshot.interval", () -> String.valueOf(SNAPSHOT_INTERVAL));
+    }
+
+    @Autowired
+    private EmployeeStateRepositoryImpl employeeStateRepository;
+
+    @Autowired
+    private EmployeeEventRepositoryImpl employeeEventRepository;
+
+    @Autowired
+    private EmployeeHistoryArchive archive;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("Replay Tests")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Should rebuild the status the employee had at each instant")
+        void shouldRebuildTheStatusTheEmployeeHadAtEachInstant() {
+            // Arrange
+            employeeEventRepository.saveAll(List.of(
+                created(employeeId, HIRED_ON),
+                statusChanged(employeeId, HIRED_ON.plusSeconds(86_400), EmployeeStatus.ON_LEAVE),
+                statusChanged(employeeId, HIRED_ON.plusSeconds(2 * 86_400), EmployeeStatus.TERMINATED)));
+
+            // Act & Assert
+            assertThat(stateAsOf(HIRED_ON).getStatus(), is(EmployeeStatus.ACTIVE));
+            assertThat(stateAsOf(HIRED_ON.plusSeconds(86_400)).getStatus(), is(EmployeeStatus.ON_LEAVE));
+            assertThat(stateAsOf(HIRED_ON.plusSeconds(86_400 + 1)).getStatus(), is(EmployeeStatus.ON_LEAVE));
+            EmployeeState latest = stateAsOf(Instant.now());
+            assertThat(latest.getStatus(), is(EmployeeStatus.TERMINATED));
+            assertThat(latest.getName(), is("Maria Souza"));
+            assertThat(latest.getEventsApplied(), is(3L));
+        }
+
+        @Test
+        @DisplayName("Should leave out an employee with no history up to the instant")
+        void shouldLeaveOutAnEmployeeWithNoHistoryUpToTheInstant() {
+            // Arrange
+            employeeEventRepository.saveAll(List.of(created(employeeId, HIRED_ON)));
+
+            // Act
+            Map<UUID, EmployeeState> states = employeeStateRepository.findAsOf(Set.of(employeeId), HIRED_ON.minusNanos(1_000));
+
+            // Assert
+            assertThat(states.isEmpty(), is(true));
+        }
+
+        @Test
+        @DisplayName("Should rebuild several employees with one query per step")
+        void shouldRebuildSeveralEmployeesWithOneQueryPerStep() {
+            // Arrange
+            UUID other = UUID.randomUUID();
+            UUID notHiredYet = UUID.randomUUID();
+            employeeEventRepository.saveAll(List.of(
+                created(employeeId, HIRED_ON),
+                created(other, HIRED_ON),
+                statusChanged(other, HIRED_ON.plusSeconds(60), EmployeeStatus.ON_VACATION),
+                created(notHiredYet, HIRED_ON.plusSeconds(86_400))));
+
+            // Act
+            Map<UUID, EmployeeState> states = employeeStateRepository.findAsOf(List.of(employeeId, other, notHiredYet), HIRED_ON.plusSeconds(3_600));
+
+            // Assert
+            assertThat(states.keySet(), is(Set.of(employeeId, other)));
+            assertThat(states.get(employeeId).getStatus(), is(EmployeeStatus.ACTIVE));
+            assertThat(states.get(other).getStatus(), is(EmployeeStatus.ON_VACATION));
+        }
+
+        @Test
+        @DisplayName("Should replay archived months before the events still in the database")
+        void shouldReplayArchivedMonthsBeforeTheEventsStillInTheDatabase() throws Exception {
+            // Arrange
+            YearMonth archivedMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(10);
+            Instant hiredOn = archivedMonth.atDay(3).atStartOfDay().toInstant(ZoneOffset.UTC);
+            writeSegment(archivedMonth, List.of(
+                created(employeeId, hiredOn),
+                statusChanged(employeeId, hiredOn.plusSeconds(60), EmployeeStatus.ON_LEAVE)));
+            employeeEventRepository.saveAll(List.of(statusChanged(employeeId, Instant.now().minusSeconds(60), EmployeeStatus.ACTIVE)));
+
+            // Act
+            EmployeeState inArchive = stateAsOf(hiredOn.plusSeconds(120));
+            EmployeeState latest = stateAsOf(Instant.now());
+
+            // Assert
+            assertThat(inArchive.getStatus(), is(EmployeeStatus.ON_LEAVE));
+            assertThat(latest.getName(), is("Maria Souza"));
+            assertThat(latest.getStatus(), is(EmployeeStatus.ACTIVE));
+            assertThat(latest.getEventsApplied(), is(3L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should store a snapshot every interval events and replay from the nearest one")
+        void shouldStoreASnapshotEveryIntervalEventsAndReplayFromTheNearestOne() {
+            // Arrange
+            employeeEventRepository.saveAll(longHistory(employeeId, 12));
+
+            // Act
+            EmployeeState first = stateAsOf(Instant.now());
+            EmployeeState second = stateAsOf(Instant.now());
+
+            // Assert
+            assertThat(snapshotCounts(), is(List.of(5L, 10L)));
+            assertThat(second.getEventsApplied(), is(12L));
+            assertThat(second.getStatus(), is(first.getStatus()));
+            assertThat(second.getLastEventId(), is(first.getLastEventId()));
+        }
+
+        @Test
+        @DisplayName("Should not use a snapshot taken after the instant")
+        void shouldNotUseASnapshotTakenAfterTheInstant() {
+            // Arrange
+            List<EmployeeEvent> events = longHistory(employeeId, 12);
+            employeeEventRepository.saveAll(events);
+            stateAsOf(Instant.now());
+
+            // Act
+            EmployeeState state = stateAsOf(events.get(6).getOccurredOn());
+
+            // Assert
+            assertThat(state.getEventsApplied(), is(7L));
+            assertThat(state.getLastEventId(), is(events.get(6).getId()));
+        }
+
+        @Test
+        @DisplayName("Should drop the snapshots after a late event and rebuild them with it")
+        void shouldDropTheSnapshotsAfterALateEventAndRebuildThemWithIt() {
+            // Arrange
+            List<EmployeeEvent> events = longHistory(employeeId, 12);
+            employeeEventRepository.saveAll(events);
+            stateAsOf(Instant.now());
+
+            // Act - Arrives after the snapshots were taken but occurred between the 3rd and 4th events
+            EmployeeEvent late = statusChanged(employeeId, events.get(2).getOccurredOn().plusMillis(1), EmployeeStatus.TERMINATED);
+            employeeEventRepository.saveAll(List.of(late));
+
+            // Assert
+            assertThat(snapshotCounts(), is(List.of()));
+            EmployeeState state = stateAsOf(late.getOccurredOn());
+            assertThat(state.getStatus(), is(EmployeeStatus.TERMINATED));
+            assertThat(stateAsOf(Instant.now()).getEventsApplied(), is(13L));
+            assertThat(snapshotCounts(), is(List.of(5L, 10L)));
+        }
+    }
+
+    private EmployeeState stateAsOf(Instant asOf) {
+        return employeeStateRepository.findAsOf(Set.of(employeeId), asOf).get(employeeId);
+    }
+
+    private List<Long> snapshotCounts() {
+        return jdbcTemplate.queryForList(
+            "SELECT events_applied FROM employee_state_snapshots WHERE employee_id = ? ORDER BY events_applied", Long.class, employeeId);
+    }
+
+    private void writeSegment(YearMonth month, List<EmployeeEvent> events) throws Exception {
+        Files.createDirectories(archive.directory());
+        try (HistorySegmentWriter writer = new HistorySegmentWriter(archive.segmentFile(month), archive.indexFile(month), 16)) {
+            for (EmployeeEvent event : events) {
+                writer.append(event);
+            }
+            writer.finish();
+        }
+        archive.refresh();
+    }
+
+    private static List<EmployeeEvent> longHistory(UUID employee, int count) {
+        EmployeeStatus[] statuses = {EmployeeStatus.ON_VACATION, EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE};
+        List<EmployeeEvent> events = new ArrayList<>();
+        events.add(created(employee, HIRED_ON));
+        for (int i = 1; i < count; i++) {
+            events.add(statusChanged(employee, HIRED_ON.plusSeconds(3_600L * i), statuses[i % statuses.length]));
+        }
+        return events;
+    }
+
+    private static EmployeeEvent created(UUID employee, Instant occurredOn) {
+        return EmployeeEvent.builder()
+            .id(UUID.randomUUID())
+            .employeeId(employee)
+            .eventType(EventType.EMPLOYEE_CREATED_EVENT)
+            .occurredOn(occurredOn)
+            .description("Colaborador 'Maria Souza' criado")
+            .eventData("{\"employeeId\":\"" + employee + "\",\"employeeName\":\"Maria Souza\",\"employeeEmail\":\"maria.souza@empresa.com.br\"}")
+            .build();
+    }
+
+    private static EmployeeEvent statusChanged(UUID employee, Instant occurredOn, EmployeeStatus newStatus) {
+        return EmployeeEvent.builder()
+            .id(UUID.randomUUID())
+            .employeeId(employee)
+            .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+            .occurredOn(occurredOn)
+            .description("Status do colaborador alterado para '" + newStatus + "'")
+            .eventData("{\"employeeId\":\"" + employee + "\",\"newStatus\":\"" + newStatus + "\"}")
+            .build();
+    }
+}
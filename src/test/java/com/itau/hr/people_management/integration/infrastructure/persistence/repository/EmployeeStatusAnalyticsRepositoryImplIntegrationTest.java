@@ -0,0 +1,264 @@
+package com.itau.hr.people_management.integration.infrastructure.persistence.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.domain.employee.analytics.StatusDurationRollup;
+import com.itau.hr.people_management.domain.employee.analytics.StatusStart;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeStatusAnalyticsRepositoryImpl;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmployeeStatusAnalyticsRepositoryImpl.class)
+@DisplayName("EmployeeStatusAnalyticsRepositoryImpl Integration Tests with TestContainers")
+class EmployeeStatusAnalyticsRepositoryImplIntegrationTest {
+
+    private static final Instant HIRED_ON = Instant.parse("2025-01-06T09:00:00Z");
+    private static final Duration DAY = Duration.ofDays(1);
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private EmployeeStatusAnalyticsRepositoryImpl analyticsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID departmentId;
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUp() {
+        departmentId = insertDepartment("Recursos Humanos");
+        employeeId = insertEmployee(departmentId);
+    }
+
+    @Nested
+    @DisplayName("Projection Tests")
+    class ProjectionTests {
+
+        @Test
+        @DisplayName("Should roll up the interval in the month it was closed")
+        void shouldRollUpTheIntervalInTheMonthItWasClosed() {
+            // Arrange
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ACTIVE, HIRED_ON);
+            Instant leaveStart = Instant.parse("2025-01-28T09:00:00Z");
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ON_LEAVE, leaveStart);
+
+            // Act
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ACTIVE, leaveStart.plus(DAY.multipliedBy(10)));
+
+            // Assert
+            List<StatusDurationRollup> monthly = analyticsRepository.findMonthly(departmentId, EmployeeStatus.ON_LEAVE, null, null);
+            assertThat(monthly, hasSize(1));
+            assertThat(monthly.get(0).getMonth(), is(YearMonth.of(2025, 2)));
+            assertThat(monthly.get(0).getClosedIntervals(), is(1L));
+            assertThat(monthly.get(0).getTotalDuration(), is(DAY.multipliedBy(10)));
+        }
+
+        @Test
+        @DisplayName("Should not count an interval that is still open")
+        void shouldNotCountAnIntervalThatIsStillOpen() {
+            // Act
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ON_LEAVE, HIRED_ON);
+
+            // Assert
+            assertThat(analyticsRepository.findMonthly(departmentId, EmployeeStatus.ON_LEAVE, null, null), is(empty()));
+            assertThat(analyticsRepository.findByDepartment(EmployeeStatus.ON_LEAVE, null, null), is(empty()));
+        }
+
+        @Test
+        @DisplayName("Should ignore a redelivered event")
+        void shouldIgnoreARedeliveredEvent() {
+            // Arrange
+            UUID leaveEventId = UUID.randomUUID();
+            analyticsRepository.recordStatusStart(leaveEventId, employeeId, EmployeeStatus.ON_LEAVE, HIRED_ON);
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ACTIVE, HIRED_ON.plus(DAY.multipliedBy(3)));
+
+            // Act
+            boolean recorded = analyticsRepository.recordStatusStart(leaveEventId, employeeId, EmployeeStatus.ON_LEAVE, HIRED_ON);
+
+            // Assert
+            assertThat(recorded, is(false));
+            StatusDurationRollup rollup = analyticsRepository.findByDepartment(EmployeeStatus.ON_LEAVE, null, null).get(0);
+            assertThat(rollup.getClosedIntervals(), is(1L));
+            assertThat(rollup.getTotalDuration(), is(DAY.multipliedBy(3)));
+        }
+
+        @Test
+        @DisplayName("Should split the interval a late event falls in and move the rollups")
+        void shouldSplitTheIntervalALateEventFallsInAndMoveTheRollups() {
+            // Arrange
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ON_LEAVE, HIRED_ON);
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.TERMINATED, HIRED_ON.plus(DAY.multipliedBy(40)));
+
+            // Act
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ACTIVE, HIRED_ON.plus(DAY.multipliedBy(5)));
+
+            // Assert
+            List<StatusDurationRollup> leave = analyticsRepository.findMonthly(departmentId, EmployeeStatus.ON_LEAVE, null, null);
+            assertThat(leave, hasSize(1));
+            assertThat(leave.get(0).getMonth(), is(YearMonth.of(2025, 1)));
+            assertThat(leave.get(0).getTotalDuration(), is(DAY.multipliedBy(5)));
+
+            List<StatusDurationRollup> active = analyticsRepository.findMonthly(departmentId, EmployeeStatus.ACTIVE, null, null);
+            assertThat(active, hasSize(1));
+            assertThat(active.get(0).getMonth(), is(YearMonth.of(2025, 2)));
+            assertThat(active.get(0).getTotalDuration(), is(DAY.multipliedBy(35)));
+        }
+
+        @Test
+        @DisplayName("Should close a late event that arrives before the first interval at its start")
+        void shouldCloseALateEventThatArrivesBeforeTheFirstIntervalAtItsStart() {
+            // Arrange
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ON_VACATION, HIRED_ON.plus(DAY.multipliedBy(2)));
+
+            // Act
+            analyticsRepository.recordStatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ACTIVE, HIRED_ON);
+
+            // Assert
+            StatusDurationRollup rollup = analyticsRepository.findByDepartment(EmployeeStatus.ACTIVE, null, null).get(0);
+            assertThat(rollup.getClosedIntervals(), is(1L));
+            assertThat(rollup.getTotalDuration(), is(DAY.multipliedBy(2)));
+        }
+
+        @Test
+        @DisplayName("Should record a batch of several employees, out of order and with repeats, like one event at a time")
+        void shouldRecordABatchLikeOneEventAtATime() {
+            // Arrange
+            UUID otherEmployeeId = insertEmployee(departmentId);
+            UUID recordedEventId = UUID.randomUUID();
+            UUID repeatedEventId = UUID.randomUUID();
+            analyticsRepository.recordStatusStart(recordedEventId, employeeId, EmployeeStatus.ACTIVE, HIRED_ON);
+
+            // Act
+            int recorded = analyticsRepository.recordStatusStarts(List.of(
+                new StatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ACTIVE, HIRED_ON.plus(DAY.multipliedBy(9))),
+                new StatusStart(repeatedEventId, otherEmployeeId, EmployeeStatus.ON_LEAVE, HIRED_ON),
+                new StatusStart(UUID.randomUUID(), employeeId, EmployeeStatus.ON_LEAVE, HIRED_ON.plus(DAY.multipliedBy(4))),
+                new StatusStart(recordedEventId, employeeId, EmployeeStatus.ACTIVE, HIRED_ON),
+                new StatusStart(repeatedEventId, otherEmployeeId, EmployeeStatus.ON_LEAVE, HIRED_ON),
+                new StatusStart(UUID.randomUUID(), otherEmployeeId, EmployeeStatus.ACTIVE, HIRED_ON.plus(DAY.multipliedBy(2)))));
+
+            // Assert
+            assertThat(recorded, is(4));
+            StatusDurationRollup leave = analyticsRepository.findByDepartment(EmployeeStatus.ON_LEAVE, null, null).get(0);
+            assertThat(leave.getClosedIntervals(), is(2L));
+            assertThat(leave.getTotalDuration(), is(DAY.multipliedBy(7)));
+            StatusDurationRollup active = analyticsRepository.findByDepartment(EmployeeStatus.ACTIVE, null, null).get(0);
+            assertThat(active.getClosedIntervals(), is(1L));
+            assertThat(active.getTotalDuration(), is(DAY.multipliedBy(4)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should sum the months in range per department, ordered by name")
+        void shouldSumTheMonthsInRangePerDepartmentOrderedByName() {
+            // Arrange
+            UUID financeId = insertDepartment("Financeiro");
+            UUID analystId = insertEmployee(financeId);
+            leave(employeeId, Instant.parse("2025-01-10T00:00:00Z"), DAY.multipliedBy(2));
+            leave(employeeId, Instant.parse("2025-02-10T00:00:00Z"), DAY.multipliedBy(4));
+            leave(employeeId, Instant.parse("2025-04-10T00:00:00Z"), DAY.multipliedBy(8));
+            leave(analystId, Instant.parse("2025-02-03T00:00:00Z"), DAY);
+
+            // Act
+            List<StatusDurationRollup> rollups = analyticsRepository.findByDepartment(EmployeeStatus.ON_LEAVE,
+                YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+
+            // Assert
+            assertThat(rollups.stream().map(StatusDurationRollup::getDepartmentName).toList(), contains("Financeiro", "Recursos Humanos"));
+            StatusDurationRollup humanResources = rollups.get(1);
+            assertThat(humanResources.getDepartmentId(), is(departmentId));
+            assertThat(humanResources.getClosedIntervals(), is(2L));
+            assertThat(humanResources.getTotalDuration(), is(DAY.multipliedBy(6)));
+            assertThat(humanResources.averageDuration(), is(DAY.multipliedBy(3)));
+        }
+
+        @Test
+        @DisplayName("Should return the department's months in order, within the range")
+        void shouldReturnTheDepartmentsMonthsInOrderWithinTheRange() {
+            // Arrange
+            leave(employeeId, Instant.parse("2025-01-10T00:00:00Z"), DAY);
+            leave(employeeId, Instant.parse("2025-03-10T00:00:00Z"), DAY);
+            leave(employeeId, Instant.parse("2025-05-10T00:00:00Z"), DAY);
+
+            // Act
+            List<StatusDurationRollup> monthly = analyticsRepository.findMonthly(departmentId, EmployeeStatus.ON_LEAVE,
+                YearMonth.of(2025, 3), null);
+
+            // Assert
+            assertThat(monthly.stream().map(StatusDurationRollup::getMonth).toList(),
+                contains(YearMonth.of(2025, 3), YearMonth.of(2025, 5)));
+        }
+    }
+
+    private void leave(UUID employee, Instant startedOn, Duration duration) {
+        analyticsRepository.recordStatusStart(UUID.randomUUID(), employee, EmployeeStatus.ON_LEAVE, startedOn);
+        analyticsRepository.recordStatusStart(UUID.randomUUID(), employee, EmployeeStatus.ACTIVE, startedOn.plus(duration));
+    }
+
+    private UUID insertDepartment(String name) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO departments (id, name, cost_center_code) VALUES (?, ?, ?)",
+            id, name, "CC-" + id.toString().substring(0, 8));
+        return id;
+    }
+
+    private UUID insertEmployee(UUID department) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO employees (id, name, email, department_id, created_at, status)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, id, "Maria Souza", id + "@empresa.com.br", department,
+            OffsetDateTime.ofInstant(HIRED_ON, ZoneOffset.UTC), EmployeeStatus.ACTIVE.name());
+        return id;
+    }
+}
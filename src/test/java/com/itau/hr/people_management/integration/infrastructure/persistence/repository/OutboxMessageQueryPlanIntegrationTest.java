@@ -0,0 +1,111 @@
+package com.itau.hr.people_management.integration.infrastructure.persistence.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+import com.itau.hr.people_management.infrastructure.shared.message.SpringDomainMessageSource;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SpringDomainMessageSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxMessageRepository Query Plan Integration Tests with TestContainers")
+class OutboxMessageQueryPlanIntegrationTest {
+
+    private static final int SENT_ROWS = 200_000;
+    private static final int DUE_ROWS = 50;
+
+    @SuppressWarnings("resource")
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("people_management_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should claim through the due-work index of the partition when the outbox holds many sent messages")
+    void shouldClaimThroughTheDueWorkIndexOfThePartitionWhenTheOutboxHoldsManySentMessages() {
+        // Arrange
+        seed(SENT_ROWS, "SENT", "NULL");
+        seed(DUE_ROWS, "PENDING", "now() - INTERVAL '1 minute'");
+        jdbcTemplate.execute("ANALYZE outbox_messages");
+        String currentPartition = "outbox_messages_"
+            + YearMonth.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("yyyyMM"));
+        String dueWorkIndex = partitionIndexOf("idx_outbox_due_work", currentPartition);
+
+        // Act
+        String plan = String.join("\n", new NamedParameterJdbcTemplate(jdbcTemplate).queryForList(
+            "EXPLAIN " + OutboxMessageRepository.LOCK_NEXT_BATCH,
+            Map.of("now", OffsetDateTime.now(ZoneOffset.UTC), "batchSize", 10, "lane", 0, "laneCount", 1),
+            String.class));
+
+        // Assert
+        assertThat(plan, containsString("Index Scan using " + dueWorkIndex + " on " + currentPartition));
+        assertThat(plan, not(containsString("Seq Scan on " + currentPartition)));
+    }
+
+    /**
+     * EXPLAIN names the per-partition copy of a partitioned index, so the V6 index is resolved
+     * to the copy attached to {@code partition}.
+     */
+    private String partitionIndexOf(String parentIndex, String partition) {
+        return jdbcTemplate.queryForObject("""
+            SELECT child.relname
+            FROM pg_inherits
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            JOIN pg_index ON pg_index.indexrelid = child.oid
+            WHERE pg_inherits.inhparent = to_regclass(?)
+              AND pg_index.indrelid = to_regclass(?)
+            """, String.class, parentIndex, partition);
+    }
+
+    private void seed(int rows, String status, String nextAttemptAt) {
+        jdbcTemplate.update("""
+            INSERT INTO outbox_messages (id, occurred_on, aggregate_type, aggregate_id, event_type, payload,
+                                         status, processed_at, retry_attempts, next_attempt_at)
+            SELECT gen_random_uuid(),
+                   date_trunc('month', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' + g * INTERVAL '1 millisecond',
+                   'Employee', gen_random_uuid(), 'EMPLOYEE_CREATED_EVENT', '\\x7b7d'::bytea,
+                   '%s', NULL, 0, %s
+            FROM generate_series(1, %d) AS g
+            """.formatted(status, nextAttemptAt, rows));
+    }
+}
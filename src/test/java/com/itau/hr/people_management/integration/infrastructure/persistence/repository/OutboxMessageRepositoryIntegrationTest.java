@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -27,8 +28,6 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -52,8 +51,7 @@ class OutboxMessageRepositoryIntegrationTest {
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
             .withDatabaseName("people_management_test")
             .withUsername("test")
-            .withPassword("test")
-            .withInitScript("db/migration/V1__create_initial_tables.sql");
+            .withPassword("test");
 
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
@@ -62,7 +60,7 @@ class OutboxMessageRepositoryIntegrationTest {
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
-        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
     }
 
     @Autowired
@@ -82,7 +80,7 @@ class OutboxMessageRepositoryIntegrationTest {
             .aggregateId(UUID.randomUUID())
             .aggregateType("Employee")
             .eventType(EventType.EMPLOYEE_CREATED_EVENT.name())
-            .payload("{\"employeeId\":\"" + UUID.randomUUID() + "\",\"name\":\"John Doe\"}")
+            .payload(("{\"employeeId\":\"" + UUID.randomUUID() + "\",\"name\":\"John Doe\"}").getBytes(StandardCharsets.UTF_8))
             .status(OutboxMessageStatus.PENDING)
             .occurredOn(baseTimestamp)
             .nextAttemptAt(baseTimestamp.plusSeconds(60))
@@ -111,7 +109,7 @@ class OutboxMessageRepositoryIntegrationTest {
         assertThat(persistedMessage, is(notNullValue()));
         assertThat(persistedMessage.getAggregateType(), is("Employee"));
         assertThat(persistedMessage.getEventType(), is(EventType.EMPLOYEE_CREATED_EVENT.name()));
-        assertThat(persistedMessage.getPayload(), containsString("John Doe"));
+        assertThat(new String(persistedMessage.getPayload(), StandardCharsets.UTF_8), containsString("John Doe"));
     }
 
     @Test
@@ -147,8 +145,8 @@ class OutboxMessageRepositoryIntegrationTest {
     }
 
     @Test
-    @DisplayName("Should find messages by status and next attempt time with ordering")
-    void shouldFindMessagesByStatusAndNextAttemptTimeWithOrdering() {
+    @DisplayName("Should lock due unsent messages ordered by occurrence")
+    void shouldLockDueUnsentMessagesOrderedByOccurrence() {
         // Arrange
         Instant now = Instant.now();
         Instant pastTime = now.minusSeconds(300);
@@ -159,7 +157,7 @@ class OutboxMessageRepositoryIntegrationTest {
             .aggregateId(UUID.randomUUID())
             .aggregateType("Employee")
             .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT.name())
-            .payload("{\"test\":\"data1\"}")
+            .payload("{\"test\":\"data1\"}".getBytes(StandardCharsets.UTF_8))
             .status(OutboxMessageStatus.PENDING)
             .occurredOn(now.minusSeconds(600))
             .nextAttemptAt(pastTime)
@@ -171,7 +169,7 @@ class OutboxMessageRepositoryIntegrationTest {
             .aggregateId(UUID.randomUUID())
             .aggregateType("Employee")
             .eventType(EventType.EMPLOYEE_CREATED_EVENT.name())
-            .payload("{\"test\":\"data2\"}")
+            .payload("{\"test\":\"data2\"}".getBytes(StandardCharsets.UTF_8))
             .status(OutboxMessageStatus.PENDING)
             .occurredOn(now.minusSeconds(300))
             .nextAttemptAt(pastTime.minusSeconds(60))
@@ -183,7 +181,7 @@ class OutboxMessageRepositoryIntegrationTest {
             .aggregateId(UUID.randomUUID())
             .aggregateType("Employee")
             .eventType("EmployeeDeleted")
-            .payload("{\"test\":\"future\"}")
+            .payload("{\"test\":\"future\"}".getBytes(StandardCharsets.UTF_8))
             .status(OutboxMessageStatus.PENDING)
             .occurredOn(now.minusSeconds(100))
             .nextAttemptAt(futureTime)
@@ -195,7 +193,7 @@ class OutboxMessageRepositoryIntegrationTest {
             .aggregateId(UUID.randomUUID())
             .aggregateType("Employee")
             .eventType("EmployeeProcessed")
-            .payload("{\"test\":\"processed\"}")
+            .payload("{\"test\":\"processed\"}".getBytes(StandardCharsets.UTF_8))
             .status(OutboxMessageStatus.SENT)
             .occurredOn(now.minusSeconds(200))
             .nextAttemptAt(pastTime)
@@ -209,10 +207,7 @@ class OutboxMessageRepositoryIntegrationTest {
         entityManager.flush();
 
         // Act
-        List<OutboxMessageStatus> statuses = List.of(OutboxMessageStatus.PENDING, OutboxMessageStatus.FAILED);
-        Pageable pageable = PageRequest.of(0, 10);
-        List<OutboxMessage> result = outboxMessageRepository
-            .findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(statuses, now, pageable);
+        List<OutboxMessage> result = outboxMessageRepository.lockNextBatch(now, 10, 0, 1);
 
         // Assert
         assertThat(result, hasSize(2)); // Only pending messages with past nextAttemptAt
@@ -227,24 +222,21 @@ class OutboxMessageRepositoryIntegrationTest {
     }
 
     @Test
-    @DisplayName("Should handle empty result for status and timing query")
-    void shouldHandleEmptyResultForStatusAndTimingQuery() {
+    @DisplayName("Should lock nothing when no message is due yet")
+    void shouldLockNothingWhenNoMessageIsDueYet() {
         // Arrange
-        Instant futureTime = Instant.now().plusSeconds(3600);
-        List<OutboxMessageStatus> statuses = List.of(OutboxMessageStatus.PENDING);
-        Pageable pageable = PageRequest.of(0, 10);
+        entityManager.persistAndFlush(testOutboxMessage);
 
-        // Act - Query with future time (no messages should be ready)
-        List<OutboxMessage> result = outboxMessageRepository
-            .findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(statuses, futureTime.minusSeconds(7200), pageable);
+        // Act - The only message is due in the future
+        List<OutboxMessage> result = outboxMessageRepository.lockNextBatch(baseTimestamp, 10, 0, 1);
 
         // Assert
         assertThat(result, is(empty()));
     }
 
     @Test
-    @DisplayName("Should respect pagination in status and timing query")
-    void shouldRespectPaginationInStatusAndTimingQuery() {
+    @DisplayName("Should respect batch size when locking due messages")
+    void shouldRespectBatchSizeWhenLockingDueMessages() {
         // Arrange
         Instant now = Instant.now();
         Instant pastTime = now.minusSeconds(300);
@@ -256,7 +248,7 @@ class OutboxMessageRepositoryIntegrationTest {
                 .aggregateId(UUID.randomUUID())
                 .aggregateType("Employee")
                 .eventType("EmployeeEvent" + i)
-                .payload("{\"index\":" + i + "}")
+                .payload(("{\"index\":" + i + "}").getBytes(StandardCharsets.UTF_8))
                 .status(OutboxMessageStatus.PENDING)
                 .occurredOn(Instant.now().minusSeconds(i * 60)) // Staggered occurredOn
                 .nextAttemptAt(pastTime)
@@ -267,13 +259,10 @@ class OutboxMessageRepositoryIntegrationTest {
         entityManager.flush();
 
         // Act - Request only 3 messages
-        List<OutboxMessageStatus> statuses = List.of(OutboxMessageStatus.PENDING);
-        Pageable pageable = PageRequest.of(0, 3);
-        List<OutboxMessage> result = outboxMessageRepository
-            .findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(statuses, now, pageable);
+        List<OutboxMessage> result = outboxMessageRepository.lockNextBatch(now, 3, 0, 1);
 
         // Assert
-        assertThat(result, hasSize(3)); // Respects page size
+        assertThat(result, hasSize(3)); // Respects batch size
         assertThat(result.get(0).getEventType(), is("EmployeeEvent4")); // Ordered by occurredOn ASC (oldest first)
         assertThat(result.get(1).getEventType(), is("EmployeeEvent3"));
         assertThat(result.get(2).getEventType(), is("EmployeeEvent2"));
@@ -319,7 +308,7 @@ class OutboxMessageRepositoryIntegrationTest {
             .aggregateId(UUID.randomUUID())
             .aggregateType("Employee")
             .eventType("EmployeeCreatedWithDetails")
-            .payload(largePayload)
+            .payload(largePayload.getBytes(StandardCharsets.UTF_8))
             .status(OutboxMessageStatus.PENDING)
             .occurredOn(baseTimestamp)
             .nextAttemptAt(baseTimestamp.plusSeconds(60))
@@ -330,14 +319,15 @@ class OutboxMessageRepositoryIntegrationTest {
         OutboxMessage savedMessage = outboxMessageRepository.save(messageWithLargePayload);
 
         // Assert - Verify large payload handling
-        assertThat(savedMessage.getPayload(), containsString("employeeData"));
-        assertThat(savedMessage.getPayload(), containsString("personalInfo"));
-        assertThat(savedMessage.getPayload(), containsString("professionalInfo"));
-        assertThat(savedMessage.getPayload().length(), is(greaterThan(1000)));
+        String savedPayload = new String(savedMessage.getPayload(), StandardCharsets.UTF_8);
+        assertThat(savedPayload, containsString("employeeData"));
+        assertThat(savedPayload, containsString("personalInfo"));
+        assertThat(savedPayload, containsString("professionalInfo"));
+        assertThat(savedMessage.getPayload().length, is(greaterThan(1000)));
 
         // Verify persistence
         OutboxMessage persistedMessage = entityManager.find(OutboxMessage.class, savedMessage.getId());
-        assertThat(persistedMessage.getPayload(), is(equalTo(largePayload)));
+        assertThat(new String(persistedMessage.getPayload(), StandardCharsets.UTF_8), is(equalTo(largePayload)));
     }
 
     @Test
@@ -0,0 +1,187 @@
+package com.itau.hr.people_management.unit.application.employee.usecase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeStateResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetEmployeeAsOfUseCase;
+import com.itau.hr.people_management.domain.department.entity.Department;
+import com.itau.hr.people_management.domain.department.repository.DepartmentRepository;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeSearchCriteria;
+import com.itau.hr.people_management.domain.employee.entity.Employee;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeRepository;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStateRepository;
+import com.itau.hr.people_management.domain.shared.exception.NotFoundException;
+import com.itau.hr.people_management.domain.shared.message.DomainMessageSource;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetEmployeeAsOfUseCase Unit Tests")
+class GetEmployeeAsOfUseCaseTest {
+
+    private static final Instant AS_OF = Instant.parse("2025-03-31T23:59:59Z");
+
+    @Mock
+    private EmployeeStateRepository employeeStateRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private DomainMessageSource messageSource;
+
+    @Captor
+    private ArgumentCaptor<EmployeeSearchCriteria> criteriaCaptor;
+
+    private GetEmployeeAsOfUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetEmployeeAsOfUseCase(employeeStateRepository, employeeRepository, departmentRepository, messageSource);
+    }
+
+    @Nested
+    @DisplayName("GetById Tests")
+    class GetByIdTests {
+
+        @Test
+        @DisplayName("Should return the state rebuilt for the instant")
+        void shouldReturnTheStateRebuiltForTheInstant() {
+            // Arrange
+            UUID employeeId = UUID.randomUUID();
+            when(employeeStateRepository.findAsOf(Set.of(employeeId), AS_OF)).thenReturn(Map.of(employeeId, state(employeeId, EmployeeStatus.ON_LEAVE)));
+
+            // Act
+            EmployeeStateResponse response = useCase.getById(employeeId, AS_OF);
+
+            // Assert
+            assertThat(response.getId(), is(employeeId));
+            assertThat(response.getEmployeeStatus(), is("ON_LEAVE"));
+            assertThat(response.getAsOf(), is(AS_OF));
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException when the employee has no history up to the instant")
+        void shouldThrowNotFoundExceptionWhenTheEmployeeHasNoHistoryUpToTheInstant() {
+            // Arrange
+            UUID employeeId = UUID.randomUUID();
+            when(employeeStateRepository.findAsOf(Set.of(employeeId), AS_OF)).thenReturn(Map.of());
+
+            // Act & Assert
+            NotFoundException exception = assertThrows(NotFoundException.class, () -> useCase.getById(employeeId, AS_OF));
+            assertThat(exception.getMessageKey(), is("error.employee.asof.notfound"));
+        }
+
+        @Test
+        @DisplayName("Should reject a null instant")
+        void shouldRejectANullInstant() {
+            // Arrange
+            when(messageSource.getMessage("validation.employee.asof.null")).thenReturn("asOf is required");
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> useCase.getById(UUID.randomUUID(), null));
+            assertThat(exception.getMessage(), is("asOf is required"));
+            verifyNoInteractions(employeeStateRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a null employee id")
+        void shouldRejectANullEmployeeId() {
+            // Arrange
+            when(messageSource.getMessage("validation.employee.id.null")).thenReturn("id is required");
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> useCase.getById(null, AS_OF));
+            verifyNoInteractions(employeeStateRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("GetByDepartment Tests")
+    class GetByDepartmentTests {
+
+        @Mock
+        private Department department;
+
+        @Mock
+        private Employee hiredBefore;
+
+        @Mock
+        private Employee hiredAfter;
+
+        @Test
+        @DisplayName("Should return the states of current employees that existed at the instant")
+        void shouldReturnTheStatesOfCurrentEmployeesThatExistedAtTheInstant() {
+            // Arrange
+            UUID departmentId = UUID.randomUUID();
+            UUID hiredBeforeId = UUID.randomUUID();
+            UUID hiredAfterId = UUID.randomUUID();
+            when(departmentRepository.findById(departmentId)).thenReturn(Optional.of(department));
+            when(hiredBefore.getId()).thenReturn(hiredBeforeId);
+            when(hiredAfter.getId()).thenReturn(hiredAfterId);
+            when(employeeRepository.search(any())).thenReturn(List.of(hiredBefore, hiredAfter));
+            when(employeeStateRepository.findAsOf(List.of(hiredBeforeId, hiredAfterId), AS_OF))
+                .thenReturn(Map.of(hiredBeforeId, state(hiredBeforeId, EmployeeStatus.ACTIVE)));
+
+            // Act
+            List<EmployeeStateResponse> responses = useCase.getByDepartment(departmentId, AS_OF);
+
+            // Assert
+            verify(employeeRepository).search(criteriaCaptor.capture());
+            assertThat(criteriaCaptor.getValue().getDepartmentId().orElseThrow(), is(departmentId));
+            assertThat(responses.stream().map(EmployeeStateResponse::getId).toList(), contains(hiredBeforeId));
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException when the department does not exist")
+        void shouldThrowNotFoundExceptionWhenTheDepartmentDoesNotExist() {
+            // Arrange
+            UUID departmentId = UUID.randomUUID();
+            when(departmentRepository.findById(departmentId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            NotFoundException exception = assertThrows(NotFoundException.class, () -> useCase.getByDepartment(departmentId, AS_OF));
+            assertThat(exception.getMessageKey(), is("error.department.notfound"));
+            verifyNoInteractions(employeeStateRepository);
+        }
+    }
+
+    private static EmployeeState state(UUID employeeId, EmployeeStatus status) {
+        return EmployeeState.builder()
+            .employeeId(employeeId)
+            .name("Maria Souza")
+            .email("maria.souza@empresa.com.br")
+            .status(status)
+            .lastEventId(UUID.randomUUID())
+            .lastEventOccurredOn(AS_OF.minusSeconds(3_600))
+            .eventsApplied(2)
+            .build();
+    }
+}
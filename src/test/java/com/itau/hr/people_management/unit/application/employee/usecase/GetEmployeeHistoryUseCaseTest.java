@@ -0,0 +1,196 @@
+package com.itau.hr.people_management.unit.application.employee.usecase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeHistoryPageResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetEmployeeHistoryUseCase;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
+import com.itau.hr.people_management.domain.shared.message.DomainMessageSource;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetEmployeeHistoryUseCase Unit Tests")
+class GetEmployeeHistoryUseCaseTest {
+
+    @Mock
+    private EmployeeEventRepository employeeEventRepository;
+
+    @Mock
+    private DomainMessageSource messageSource;
+
+    @Captor
+    private ArgumentCaptor<EmployeeHistoryCriteria> criteriaCaptor;
+
+    private GetEmployeeHistoryUseCase useCase;
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetEmployeeHistoryUseCase(employeeEventRepository, messageSource);
+        employeeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should return a full page with the cursor of its last event when more events follow")
+    void shouldReturnAFullPageWithTheCursorOfItsLastEventWhenMoreEventsFollow() {
+        // Arrange
+        List<EmployeeEvent> events = events(3);
+        when(employeeEventRepository.findHistory(any())).thenReturn(events);
+
+        // Act
+        EmployeeHistoryPageResponse page = useCase.execute(criteria(2));
+
+        // Assert
+        verify(employeeEventRepository).findHistory(criteriaCaptor.capture());
+        assertThat(criteriaCaptor.getValue().getLimit(), is(3));
+        assertThat(page.getEvents(), hasSize(2));
+        assertThat(page.getNextCursor(), is(EmployeeEventCursor.of(events.get(1)).encode()));
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor on the last page")
+    void shouldNotReturnACursorOnTheLastPage() {
+        // Arrange
+        when(employeeEventRepository.findHistory(any())).thenReturn(events(2));
+
+        // Act
+        EmployeeHistoryPageResponse page = useCase.execute(criteria(2));
+
+        // Assert
+        assertThat(page.getEvents(), hasSize(2));
+        assertThat(page.getNextCursor(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should reject a page size above the maximum")
+    void shouldRejectAPageSizeAboveTheMaximum() {
+        // Arrange
+        when(messageSource.getMessage("validation.employee.history.limit", 1, GetEmployeeHistoryUseCase.MAX_LIMIT))
+            .thenReturn("Invalid limit");
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> useCase.execute(criteria(GetEmployeeHistoryUseCase.MAX_LIMIT + 1)));
+
+        // Assert
+        assertThat(exception.getMessage(), is("Invalid limit"));
+        verifyNoInteractions(employeeEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a period that does not start before it ends")
+    void shouldRejectAPeriodThatDoesNotStartBeforeItEnds() {
+        // Arrange
+        Instant instant = Instant.parse("2025-06-30T00:00:00Z");
+        EmployeeHistoryCriteria criteria = criteria(50).toBuilder().occurredFrom(instant).occurredTo(instant).build();
+        when(messageSource.getMessage("validation.employee.history.period")).thenReturn("Invalid period");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(criteria));
+        verifyNoInteractions(employeeEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a history page without an employee")
+    void shouldRejectAHistoryPageWithoutAnEmployee() {
+        // Arrange
+        EmployeeHistoryCriteria criteria = criteria(50).toBuilder().employeeId(null).newStatus(EmployeeStatus.ON_LEAVE).build();
+        when(messageSource.getMessage("validation.employee.id.null")).thenReturn("Employee id is required");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(criteria));
+        verifyNoInteractions(employeeEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should search status transitions of all employees")
+    void shouldSearchStatusTransitionsOfAllEmployees() {
+        // Arrange
+        EmployeeHistoryCriteria criteria = EmployeeHistoryCriteria.builder().newStatus(EmployeeStatus.ON_LEAVE).limit(2).build();
+        when(employeeEventRepository.findHistory(any())).thenReturn(events(3));
+
+        // Act
+        EmployeeHistoryPageResponse page = useCase.searchTransitions(criteria);
+
+        // Assert
+        verify(employeeEventRepository).findHistory(criteriaCaptor.capture());
+        assertThat(criteriaCaptor.getValue().getEmployeeId(), is(nullValue()));
+        assertThat(criteriaCaptor.getValue().getNewStatus().orElseThrow(), is(EmployeeStatus.ON_LEAVE));
+        assertThat(criteriaCaptor.getValue().getLimit(), is(3));
+        assertThat(page.getEvents(), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Should reject a transition search without old or new status")
+    void shouldRejectATransitionSearchWithoutOldOrNewStatus() {
+        // Arrange
+        when(messageSource.getMessage("validation.employee.history.transition.status")).thenReturn("Status is required");
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> useCase.searchTransitions(EmployeeHistoryCriteria.builder().limit(50).build()));
+
+        // Assert
+        assertThat(exception.getMessage(), is("Status is required"));
+        verifyNoInteractions(employeeEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should apply the page size limit to transition searches")
+    void shouldApplyThePageSizeLimitToTransitionSearches() {
+        // Arrange
+        EmployeeHistoryCriteria criteria = EmployeeHistoryCriteria.builder().oldStatus(EmployeeStatus.ACTIVE).limit(0).build();
+        when(messageSource.getMessage("validation.employee.history.limit", 1, GetEmployeeHistoryUseCase.MAX_LIMIT))
+            .thenReturn("Invalid limit");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> useCase.searchTransitions(criteria));
+        verifyNoInteractions(employeeEventRepository);
+    }
+
+    private EmployeeHistoryCriteria criteria(int limit) {
+        return EmployeeHistoryCriteria.builder().employeeId(employeeId).limit(limit).build();
+    }
+
+    private List<EmployeeEvent> events(int count) {
+        List<EmployeeEvent> events = new ArrayList<>();
+        Instant newest = Instant.parse("2025-06-30T14:12:09Z");
+        for (int i = 0; i < count; i++) {
+            events.add(EmployeeEvent.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+                .occurredOn(newest.minusSeconds(i))
+                .description("Status changed")
+                .eventData("{}")
+                .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,175 @@
+package com.itau.hr.people_management.unit.application.employee.usecase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.application.employee.dto.StatusDurationResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetStatusDurationAnalyticsUseCase;
+import com.itau.hr.people_management.domain.department.entity.Department;
+import com.itau.hr.people_management.domain.department.repository.DepartmentRepository;
+import com.itau.hr.people_management.domain.employee.analytics.StatusDurationRollup;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.domain.shared.exception.NotFoundException;
+import com.itau.hr.people_management.domain.shared.message.DomainMessageSource;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetStatusDurationAnalyticsUseCase Unit Tests")
+class GetStatusDurationAnalyticsUseCaseTest {
+
+    private static final YearMonth FROM = YearMonth.of(2025, 1);
+    private static final YearMonth TO = YearMonth.of(2025, 6);
+
+    @Mock
+    private EmployeeStatusAnalyticsRepository analyticsRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private DomainMessageSource messageSource;
+
+    private GetStatusDurationAnalyticsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetStatusDurationAnalyticsUseCase(analyticsRepository, departmentRepository, messageSource);
+    }
+
+    @Nested
+    @DisplayName("ByDepartment Tests")
+    class ByDepartmentTests {
+
+        @Test
+        @DisplayName("Should return one response per department rollup")
+        void shouldReturnOneResponsePerDepartmentRollup() {
+            // Arrange
+            UUID departmentId = UUID.randomUUID();
+            when(analyticsRepository.findByDepartment(EmployeeStatus.ON_LEAVE, FROM, TO))
+                .thenReturn(List.of(rollup(departmentId, "Recursos Humanos", null)));
+
+            // Act
+            List<StatusDurationResponse> responses = useCase.byDepartment(EmployeeStatus.ON_LEAVE, FROM, TO);
+
+            // Assert
+            assertThat(responses, hasSize(1));
+            StatusDurationResponse response = responses.get(0);
+            assertThat(response.getDepartmentId(), is(departmentId));
+            assertThat(response.getDepartmentName(), is("Recursos Humanos"));
+            assertThat(response.getEmployeeStatus(), is("ON_LEAVE"));
+            assertThat(response.getClosedIntervals(), is(2L));
+            assertThat(response.getTotalDuration(), is(Duration.ofDays(6)));
+            assertThat(response.getAverageDuration(), is(Duration.ofDays(3)));
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the status is null")
+        void shouldThrowIllegalArgumentExceptionWhenTheStatusIsNull() {
+            // Arrange
+            when(messageSource.getMessage("validation.analytics.status.null")).thenReturn("Status is required");
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> useCase.byDepartment(null, FROM, TO));
+            assertThat(exception.getMessage(), is("Status is required"));
+            verifyNoInteractions(analyticsRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the period is reversed")
+        void shouldThrowIllegalArgumentExceptionWhenThePeriodIsReversed() {
+            // Arrange
+            when(messageSource.getMessage("validation.analytics.period")).thenReturn("Invalid period");
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> useCase.byDepartment(EmployeeStatus.ON_LEAVE, TO, FROM));
+            assertThat(exception.getMessage(), is("Invalid period"));
+            verifyNoInteractions(analyticsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Monthly Tests")
+    class MonthlyTests {
+
+        @Mock
+        private Department department;
+
+        @Test
+        @DisplayName("Should return the monthly rollups named after the department")
+        void shouldReturnTheMonthlyRollupsNamedAfterTheDepartment() {
+            // Arrange
+            UUID departmentId = UUID.randomUUID();
+            when(departmentRepository.findById(departmentId)).thenReturn(Optional.of(department));
+            when(department.getName()).thenReturn("Recursos Humanos");
+            when(analyticsRepository.findMonthly(departmentId, EmployeeStatus.ON_VACATION, null, null))
+                .thenReturn(List.of(rollup(departmentId, null, YearMonth.of(2025, 2)), rollup(departmentId, null, YearMonth.of(2025, 3))));
+
+            // Act
+            List<StatusDurationResponse> responses = useCase.monthly(departmentId, EmployeeStatus.ON_VACATION, null, null);
+
+            // Assert
+            assertThat(responses, hasSize(2));
+            assertThat(responses.get(0).getMonth(), is(YearMonth.of(2025, 2)));
+            assertThat(responses.get(1).getMonth(), is(YearMonth.of(2025, 3)));
+            assertThat(responses.get(1).getDepartmentName(), is("Recursos Humanos"));
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the department id is null")
+        void shouldThrowIllegalArgumentExceptionWhenTheDepartmentIdIsNull() {
+            // Arrange
+            when(messageSource.getMessage("validation.department.id.null")).thenReturn("Department ID is required");
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> useCase.monthly(null, EmployeeStatus.ON_LEAVE, FROM, TO));
+            assertThat(exception.getMessage(), is("Department ID is required"));
+            verifyNoInteractions(departmentRepository, analyticsRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException when the department does not exist")
+        void shouldThrowNotFoundExceptionWhenTheDepartmentDoesNotExist() {
+            // Arrange
+            UUID departmentId = UUID.randomUUID();
+            when(departmentRepository.findById(departmentId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> useCase.monthly(departmentId, EmployeeStatus.ON_LEAVE, FROM, TO));
+            assertThat(exception.getMessageKey(), is("error.department.notfound"));
+            verifyNoInteractions(analyticsRepository);
+        }
+    }
+
+    private static StatusDurationRollup rollup(UUID departmentId, String departmentName, YearMonth month) {
+        return StatusDurationRollup.builder()
+            .departmentId(departmentId)
+            .departmentName(departmentName)
+            .month(month)
+            .status(EmployeeStatus.ON_LEAVE)
+            .closedIntervals(2)
+            .totalDuration(Duration.ofDays(6))
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.itau.hr.people_management.unit.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import com.itau.hr.people_management.config.KafkaProducerProfile;
+
+@DisplayName("KafkaProducerProfile Tests")
+class KafkaProducerProfileTest {
+
+    private static final String BASE_PROPERTIES = "application.properties";
+
+    static Stream<Arguments> profilesAndPropertyFiles() {
+        return Stream.of(KafkaProducerProfile.values())
+            .flatMap(profile -> Stream.of(BASE_PROPERTIES, "application-dev.properties",
+                    "application-docker.properties", "application-prd.properties")
+                .map(file -> Arguments.of(profile, file)));
+    }
+
+    @ParameterizedTest(name = "{0} with {1}")
+    @MethodSource("profilesAndPropertyFiles")
+    @DisplayName("Should build a Kafka producer for every profile on top of every properties file")
+    void shouldBuildAKafkaProducerForEveryProfileOnTopOfEveryPropertiesFile(KafkaProducerProfile profile, String file)
+            throws IOException {
+        // Arrange
+        Map<String, Object> configs = new HashMap<>(producerProperties(file));
+        configs.putAll(profile.producerConfigs());
+        // Only the timeouts and tuning matter here; the producer must not depend on a resolvable broker host
+        configs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+
+        // Act & Assert - KafkaProducer is where delivery.timeout.ms is checked against linger + request timeout
+        assertDoesNotThrow(() -> new KafkaProducer<>(configs).close(Duration.ZERO));
+        ProducerConfig producerConfig = new ProducerConfig(configs);
+        // linger.ms is a LONG config; the two timeouts are INT
+        long deliveryTimeoutMs = producerConfig.getInt(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG);
+        long lingerMs = producerConfig.getLong(ProducerConfig.LINGER_MS_CONFIG);
+        long requestTimeoutMs = producerConfig.getInt(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG);
+        assertThat(deliveryTimeoutMs >= lingerMs + requestTimeoutMs, is(true));
+    }
+
+    /**
+     * Producer properties as Spring Boot builds them, with {@code file} layered over the base
+     * {@code application.properties} like an active profile.
+     */
+    private static Map<String, Object> producerProperties(String file) throws IOException {
+        MutablePropertySources propertySources = new MutablePropertySources();
+        propertySources.addLast(new ResourcePropertySource(new ClassPathResource(file)));
+        if (!BASE_PROPERTIES.equals(file)) {
+            propertySources.addLast(new ResourcePropertySource(new ClassPathResource(BASE_PROPERTIES)));
+        }
+
+        Binder binder = new Binder(ConfigurationPropertySources.from(propertySources),
+            new PropertySourcesPlaceholdersResolver(propertySources));
+        KafkaProperties kafkaProperties = binder.bindOrCreate("spring.kafka", KafkaProperties.class);
+        return kafkaProperties.buildProducerProperties(null);
+    }
+}
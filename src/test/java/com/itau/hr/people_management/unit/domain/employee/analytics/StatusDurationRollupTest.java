@@ -0,0 +1,44 @@
+package com.itau.hr.people_management.unit.domain.employee.analytics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.domain.employee.analytics.StatusDurationRollup;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+
+@DisplayName("StatusDurationRollup Unit Tests")
+class StatusDurationRollupTest {
+
+    @Test
+    @DisplayName("Should average the duration over the closed intervals")
+    void shouldAverageTheDurationOverTheClosedIntervals() {
+        // Arrange
+        StatusDurationRollup rollup = StatusDurationRollup.builder()
+            .status(EmployeeStatus.ON_LEAVE)
+            .closedIntervals(4)
+            .totalDuration(Duration.ofDays(10))
+            .build();
+
+        // Act & Assert
+        assertThat(rollup.averageDuration(), is(Duration.ofHours(60)));
+    }
+
+    @Test
+    @DisplayName("Should average to zero when no interval was closed")
+    void shouldAverageToZeroWhenNoIntervalWasClosed() {
+        // Arrange
+        StatusDurationRollup rollup = StatusDurationRollup.builder()
+            .status(EmployeeStatus.ON_LEAVE)
+            .closedIntervals(0)
+            .totalDuration(Duration.ZERO)
+            .build();
+
+        // Act & Assert
+        assertThat(rollup.averageDuration(), is(Duration.ZERO));
+    }
+}
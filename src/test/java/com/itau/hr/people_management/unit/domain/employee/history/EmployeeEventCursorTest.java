@@ -0,0 +1,48 @@
+package com.itau.hr.people_management.unit.domain.employee.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+
+@DisplayName("EmployeeEventCursor Unit Tests")
+class EmployeeEventCursorTest {
+
+    @Test
+    @DisplayName("Should decode the position it encoded, keeping microseconds")
+    void shouldDecodeThePositionItEncodedKeepingMicroseconds() {
+        // Arrange
+        EmployeeEventCursor cursor = new EmployeeEventCursor(Instant.parse("2025-06-30T14:12:09.123456Z"), UUID.randomUUID());
+
+        // Act
+        EmployeeEventCursor decoded = EmployeeEventCursor.decode(cursor.encode());
+
+        // Assert
+        assertThat(decoded, is(cursor));
+    }
+
+    @Test
+    @DisplayName("Should produce a URL-safe token")
+    void shouldProduceAUrlSafeToken() {
+        // Act
+        String token = new EmployeeEventCursor(Instant.parse("2025-06-30T14:12:09Z"), UUID.randomUUID()).encode();
+
+        // Assert
+        assertThat(token.matches("[A-Za-z0-9_-]+"), is(true));
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered token")
+    void shouldRejectATamperedToken() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmployeeEventCursor.decode("bm90LWEtY3Vyc29y"));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeEventCursor.decode("%%%"));
+    }
+}
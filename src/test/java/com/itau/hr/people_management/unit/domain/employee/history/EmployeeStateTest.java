@@ -0,0 +1,142 @@
+package com.itau.hr.people_management.unit.domain.employee.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+
+@DisplayName("EmployeeState Unit Tests")
+class EmployeeStateTest {
+
+    private UUID employeeId;
+    private EmployeeState state;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = UUID.randomUUID();
+        state = EmployeeState.initial(employeeId);
+    }
+
+    @Nested
+    @DisplayName("Apply Tests")
+    class ApplyTests {
+
+        @Test
+        @DisplayName("Should start as an employee that does not exist yet")
+        void shouldStartAsAnEmployeeThatDoesNotExistYet() {
+            // Assert
+            assertThat(state.getEmployeeId(), is(employeeId));
+            assertThat(state.exists(), is(false));
+            assertThat(state.getStatus(), is(nullValue()));
+            assertThat(state.getEventsApplied(), is(0L));
+        }
+
+        @Test
+        @DisplayName("Should take name and email from the created event and start as active")
+        void shouldTakeNameAndEmailFromTheCreatedEventAndStartAsActive() {
+            // Arrange
+            EmployeeEvent created = event(EventType.EMPLOYEE_CREATED_EVENT, Instant.parse("2025-01-10T09:00:00Z"));
+
+            // Act
+            state.applyCreated(created, "Maria Souza", "maria.souza@empresa.com.br");
+
+            // Assert
+            assertThat(state.exists(), is(true));
+            assertThat(state.getName(), is("Maria Souza"));
+            assertThat(state.getEmail(), is("maria.souza@empresa.com.br"));
+            assertThat(state.getStatus(), is(EmployeeStatus.ACTIVE));
+            assertThat(state.getLastEventId(), is(created.getId()));
+            assertThat(state.getLastEventOccurredOn(), is(created.getOccurredOn()));
+            assertThat(state.getEventsApplied(), is(1L));
+        }
+
+        @Test
+        @DisplayName("Should keep name and email when the status changes")
+        void shouldKeepNameAndEmailWhenTheStatusChanges() {
+            // Arrange
+            state.applyCreated(event(EventType.EMPLOYEE_CREATED_EVENT, Instant.parse("2025-01-10T09:00:00Z")), "Maria Souza", "maria.souza@empresa.com.br");
+            EmployeeEvent changed = event(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, Instant.parse("2025-02-01T09:00:00Z"));
+
+            // Act
+            state.applyStatusChanged(changed, EmployeeStatus.ON_LEAVE);
+
+            // Assert
+            assertThat(state.getName(), is("Maria Souza"));
+            assertThat(state.getStatus(), is(EmployeeStatus.ON_LEAVE));
+            assertThat(state.getLastEventId(), is(changed.getId()));
+            assertThat(state.getEventsApplied(), is(2L));
+        }
+
+        @Test
+        @DisplayName("Should advance the position over a skipped event without changing fields")
+        void shouldAdvanceThePositionOverASkippedEventWithoutChangingFields() {
+            // Arrange
+            EmployeeEvent unreadable = event(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, Instant.parse("2025-02-01T09:00:00Z"));
+
+            // Act
+            state.skip(unreadable);
+
+            // Assert
+            assertThat(state.getStatus(), is(nullValue()));
+            assertThat(state.getLastEventId(), is(unreadable.getId()));
+            assertThat(state.getEventsApplied(), is(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should be due for a snapshot on every multiple of the interval")
+        void shouldBeDueForASnapshotOnEveryMultipleOfTheInterval() {
+            // Assert
+            assertThat(state.isSnapshotDue(3), is(false));
+            assertThat(withEventsApplied(2).isSnapshotDue(3), is(false));
+            assertThat(withEventsApplied(3).isSnapshotDue(3), is(true));
+            assertThat(withEventsApplied(6).isSnapshotDue(3), is(true));
+        }
+
+        @Test
+        @DisplayName("Should copy the state so later events do not change a taken snapshot")
+        void shouldCopyTheStateSoLaterEventsDoNotChangeATakenSnapshot() {
+            // Arrange
+            state.applyCreated(event(EventType.EMPLOYEE_CREATED_EVENT, Instant.parse("2025-01-10T09:00:00Z")), "Maria Souza", "maria.souza@empresa.com.br");
+            EmployeeState snapshot = state.toBuilder().build();
+
+            // Act
+            state.applyStatusChanged(event(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, Instant.parse("2025-02-01T09:00:00Z")), EmployeeStatus.TERMINATED);
+
+            // Assert
+            assertThat(snapshot.getStatus(), is(EmployeeStatus.ACTIVE));
+            assertThat(snapshot.getEventsApplied(), is(1L));
+        }
+
+        private EmployeeState withEventsApplied(long eventsApplied) {
+            return state.toBuilder().eventsApplied(eventsApplied).build();
+        }
+    }
+
+    private EmployeeEvent event(EventType eventType, Instant occurredOn) {
+        return EmployeeEvent.builder()
+            .id(UUID.randomUUID())
+            .employeeId(employeeId)
+            .eventType(eventType)
+            .occurredOn(occurredOn)
+            .description("event")
+            .eventData("{}")
+            .build();
+    }
+}
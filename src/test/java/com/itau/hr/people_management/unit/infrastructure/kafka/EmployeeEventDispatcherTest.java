@@ -0,0 +1,436 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventDispatcher;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHandler;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelopeReader;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventDeserializationException;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventProcessingException;
+import com.itau.hr.people_management.infrastructure.kafka.keyed.KeyedRecordExecutor;
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
+import com.itau.hr.people_management.integration.infrastructure.kafka.support.TestLogAppender;
+
+import ch.qos.logback.classic.Logger;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeEventDispatcher Unit Tests")
+class EmployeeEventDispatcherTest {
+
+    @Mock
+    private EmployeeEventHandler historyHandler;
+
+    @Mock
+    private EmployeeEventHandler loggingHandler;
+
+    @Captor
+    private ArgumentCaptor<List<EmployeeEventRecord>> recordsCaptor;
+
+    private OutboxPayloadCodec payloadCodec;
+    private EmployeeEventDispatcher dispatcher;
+
+    private TestLogAppender testLogAppender;
+    private Logger dispatcherLogger;
+
+    @BeforeEach
+    void setUp() {
+        payloadCodec = spy(new OutboxPayloadCodec(new ObjectMapper().findAndRegisterModules(), OutboxPayloadFormat.JSON));
+        dispatcher = new EmployeeEventDispatcher(new EmployeeEventEnvelopeReader(payloadCodec), payloadCodec,
+            new EmployeeEventRetryTopics(List.of(1_000L, 10_000L)), List.of(historyHandler, loggingHandler), Optional.empty());
+
+        dispatcherLogger = (Logger) LoggerFactory.getLogger(EmployeeEventDispatcher.class);
+        testLogAppender = new TestLogAppender();
+        testLogAppender.start();
+        dispatcherLogger.addAppender(testLogAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcherLogger.detachAppender(testLogAppender);
+        testLogAppender.stop();
+    }
+
+    @Nested
+    @DisplayName("Fan-out Tests")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("Should decode each record once and hand the same batch to every handler in order")
+        void shouldDecodeEachRecordOnceAndHandTheSameBatchToEveryHandlerInOrder() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent first = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            EmployeeCreatedEvent second = new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com");
+
+            // Act
+            dispatcher.dispatchEmployeeCreatedEvents(List.of(record("employee.created", first), record("employee.created", second)));
+
+            // Assert
+            verify(payloadCodec, times(2)).decode(any(), any(), any(), eq(EmployeeCreatedEvent.class));
+            InOrder inOrder = inOrder(historyHandler, loggingHandler);
+            inOrder.verify(historyHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), recordsCaptor.capture());
+            inOrder.verify(loggingHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), recordsCaptor.capture());
+            assertThat(recordsCaptor.getAllValues().get(0), is(sameInstance(recordsCaptor.getAllValues().get(1))));
+            assertThat(recordsCaptor.getValue(), hasSize(2));
+            assertThat(recordsCaptor.getValue().get(0).envelope().event(), is(first));
+            assertThat(recordsCaptor.getValue().get(1).envelope().event(), is(second));
+        }
+
+        @Test
+        @DisplayName("Should decode status changed topic with its binding")
+        void shouldDecodeStatusChangedTopicWithItsBinding() throws IOException {
+            // Arrange
+            EmployeeStatusChangedEvent event = new EmployeeStatusChangedEvent(UUID.randomUUID(), EmployeeStatus.ACTIVE, EmployeeStatus.TERMINATED);
+
+            // Act
+            dispatcher.dispatchEmployeeStatusChangedEvents(List.of(record("employee.status.changed", event)));
+
+            // Assert
+            verify(historyHandler).handle(eq(EventType.EMPLOYEE_STATUS_CHANGED_EVENT), recordsCaptor.capture());
+            assertThat(recordsCaptor.getValue().get(0).envelope().event(), is(event));
+        }
+
+        @Test
+        @DisplayName("Should skip incomplete events and log them once")
+        void shouldSkipIncompleteEventsAndLogThemOnce() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent valid = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            ConsumerRecord<String, byte[]> nullEvent = new ConsumerRecord<>("employee.created", 0, 1L, "key", "null".getBytes(StandardCharsets.UTF_8));
+
+            // Act
+            dispatcher.dispatchEmployeeCreatedEvents(List.of(nullEvent, record("employee.created", valid)));
+
+            // Assert
+            verify(historyHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), recordsCaptor.capture());
+            assertThat(recordsCaptor.getValue(), hasSize(1));
+            assertThat(testLogAppender.getErrorMessages(), hasSize(1));
+            assertThat(testLogAppender.getLastErrorMessage(), containsString("KAFKA_ERROR: Invalid EMPLOYEE_CREATED_EVENT received."));
+        }
+
+        @Test
+        @DisplayName("Should not call handlers when nothing in the batch is valid")
+        void shouldNotCallHandlersWhenNothingInTheBatchIsValid() {
+            // Arrange
+            ConsumerRecord<String, byte[]> nullEvent = new ConsumerRecord<>("employee.created", 0, 0L, "key", "null".getBytes(StandardCharsets.UTF_8));
+
+            // Act
+            dispatcher.dispatchEmployeeCreatedEvents(List.of(nullEvent));
+
+            // Assert
+            verifyNoInteractions(historyHandler, loggingHandler);
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Isolation Tests")
+    class ErrorIsolationTests {
+
+        @Test
+        @DisplayName("Should run remaining handlers when one fails and then rethrow its failure")
+        void shouldRunRemainingHandlersWhenOneFailsAndThenRethrowItsFailure() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            RuntimeException failure = new IllegalStateException("Database down");
+            doThrow(failure).when(historyHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+
+            // Act
+            RuntimeException exception = assertThrows(
+                RuntimeException.class,
+                () -> dispatcher.dispatchEmployeeCreatedEvents(List.of(record("employee.created", event)))
+            );
+
+            // Assert
+            assertThat(exception, is(sameInstance(failure)));
+            verify(loggingHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+            assertThat(testLogAppender.getLastErrorMessage(), containsString("KAFKA_HANDLER_ERROR"));
+        }
+
+        @Test
+        @DisplayName("Should rethrow the failure at the earliest record when several handlers fail")
+        void shouldRethrowTheFailureAtTheEarliestRecordWhenSeveralHandlersFail() throws IOException {
+            // Arrange
+            ConsumerRecord<String, byte[]> first = keyed(new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com"), 0L);
+            ConsumerRecord<String, byte[]> second = keyed(new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com"), 1L);
+            BatchListenerFailedException late = new BatchListenerFailedException("history failed", new IllegalStateException(), second);
+            BatchListenerFailedException early = new BatchListenerFailedException("analytics failed", new IllegalStateException(), first);
+            doThrow(late).when(historyHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+            doThrow(early).when(loggingHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+
+            // Act
+            BatchListenerFailedException exception = assertThrows(
+                BatchListenerFailedException.class,
+                () -> dispatcher.dispatchEmployeeCreatedEvents(List.of(first, second))
+            );
+
+            // Assert
+            assertThat(exception, is(sameInstance(early)));
+            assertThat(exception.getSuppressed(), is(arrayContaining((Throwable) late)));
+        }
+
+        @Test
+        @DisplayName("Should rethrow a failure of the whole batch over one at a record")
+        void shouldRethrowAFailureOfTheWholeBatchOverOneAtARecord() throws IOException {
+            // Arrange
+            ConsumerRecord<String, byte[]> first = keyed(new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com"), 0L);
+            ConsumerRecord<String, byte[]> second = keyed(new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com"), 1L);
+            BatchListenerFailedException atRecord = new BatchListenerFailedException("history failed", new IllegalStateException(), second);
+            RuntimeException wholeBatch = new IllegalStateException("Database down");
+            doThrow(atRecord).when(historyHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+            doThrow(wholeBatch).when(loggingHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+
+            // Act
+            RuntimeException exception = assertThrows(
+                RuntimeException.class,
+                () -> dispatcher.dispatchEmployeeCreatedEvents(List.of(first, second))
+            );
+
+            // Assert
+            assertThat(exception, is(sameInstance(wholeBatch)));
+            assertThat(exception.getSuppressed(), is(arrayContaining((Throwable) atRecord)));
+        }
+
+        @Test
+        @DisplayName("Should hand out records preceding an undecodable one and report its index")
+        void shouldHandOutRecordsPrecedingAnUndecodableOneAndReportItsIndex() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            ConsumerRecord<String, byte[]> invalidJson = new ConsumerRecord<>("employee.created", 0, 1L, "key", "{invalid json".getBytes(StandardCharsets.UTF_8));
+
+            // Act
+            BatchListenerFailedException exception = assertThrows(
+                BatchListenerFailedException.class,
+                () -> dispatcher.dispatchEmployeeCreatedEvents(List.of(record("employee.created", event), invalidJson, record("employee.created", event)))
+            );
+
+            // Assert
+            assertThat(exception.getIndex(), is(1));
+            assertThat(exception.getCause(), is(instanceOf(EmployeeEventDeserializationException.class)));
+            assertThat(exception.getCause().getMessage(), containsString("Failed to deserialize EMPLOYEE_CREATED_EVENT"));
+            verify(historyHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), recordsCaptor.capture());
+            verify(loggingHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+            assertThat(recordsCaptor.getValue(), hasSize(1));
+            assertThat(testLogAppender.getLastErrorMessage(), containsString("DESERIALIZATION_ERROR: Failed to deserialize EMPLOYEE_CREATED_EVENT"));
+        }
+
+        @Test
+        @DisplayName("Should report processing failure for null message")
+        void shouldReportProcessingFailureForNullMessage() {
+            // Act & Assert
+            BatchListenerFailedException exception = assertThrows(
+                BatchListenerFailedException.class,
+                () -> dispatcher.dispatchEmployeeCreatedEvents(Collections.singletonList(null))
+            );
+
+            assertThat(exception.getIndex(), is(0));
+            assertThat(exception.getCause(), is(instanceOf(EmployeeEventProcessingException.class)));
+            assertThat(exception.getCause().getCause(), is(instanceOf(IllegalArgumentException.class)));
+            verifyNoInteractions(historyHandler, loggingHandler);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry Topic Tests")
+    class RetryTopicTests {
+
+        @Mock
+        private Acknowledgment acknowledgment;
+
+        @Test
+        @DisplayName("Should dispatch retries that are already due in a single batch and acknowledge them")
+        void shouldDispatchRetriesThatAreAlreadyDueInASingleBatchAndAcknowledgeThem() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent first = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            EmployeeCreatedEvent second = new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com");
+            long dueAt = System.currentTimeMillis() - 1_000;
+
+            // Act
+            dispatcher.dispatchRetries(List.of(retry(first, dueAt), retry(second, dueAt)), acknowledgment, EventType.EMPLOYEE_CREATED_EVENT);
+
+            // Assert
+            verify(historyHandler, times(1)).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), recordsCaptor.capture());
+            assertThat(recordsCaptor.getValue(), hasSize(2));
+            verify(acknowledgment).acknowledge();
+            verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("Should hand out due records and nack from the first one not due without waiting")
+        void shouldHandOutDueRecordsAndNackFromTheFirstOneNotDueWithoutWaiting() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent due = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            EmployeeCreatedEvent later = new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com");
+            EmployeeCreatedEvent last = new EmployeeCreatedEvent(UUID.randomUUID(), "Jim Doe", "jim.doe@example.com");
+            long start = System.currentTimeMillis();
+
+            // Act
+            dispatcher.dispatchRetries(List.of(retry(due, start - 1_000), retry(later, start + 5_000), retry(last, start - 1_000)),
+                acknowledgment, EventType.EMPLOYEE_CREATED_EVENT);
+
+            // Assert
+            assertThat(System.currentTimeMillis() - start, is(lessThan(1_000L)));
+            verify(historyHandler, times(1)).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), recordsCaptor.capture());
+            assertThat(recordsCaptor.getValue(), hasSize(1));
+            assertThat(recordsCaptor.getValue().get(0).envelope().event(), is(due));
+            ArgumentCaptor<Duration> sleepCaptor = ArgumentCaptor.forClass(Duration.class);
+            verify(acknowledgment).nack(eq(1), sleepCaptor.capture());
+            assertThat(sleepCaptor.getValue().toMillis(), is(both(greaterThan(4_000L)).and(lessThanOrEqualTo(5_000L))));
+            verify(acknowledgment, never()).acknowledge();
+        }
+
+        @Test
+        @DisplayName("Should nack the whole poll when its first record is not due")
+        void shouldNackTheWholePollWhenItsFirstRecordIsNotDue() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent later = new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com");
+
+            // Act
+            dispatcher.dispatchRetries(List.of(retry(later, System.currentTimeMillis() + 5_000)),
+                acknowledgment, EventType.EMPLOYEE_CREATED_EVENT);
+
+            // Assert
+            verify(acknowledgment).nack(eq(0), any(Duration.class));
+            verifyNoInteractions(historyHandler, loggingHandler);
+        }
+
+        @Test
+        @DisplayName("Should report the index within the whole poll when a due retry cannot be decoded")
+        void shouldReportTheIndexWithinTheWholePollWhenADueRetryCannotBeDecoded() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            ConsumerRecord<String, byte[]> invalidJson = new ConsumerRecord<>("employee.created.retry-1", 0, 1L, "key", "{invalid json".getBytes(StandardCharsets.UTF_8));
+            invalidJson.headers().add(EmployeeEventRetryTopics.RETRY_DUE_AT, dueAtBytes(System.currentTimeMillis() - 50));
+
+            // Act
+            BatchListenerFailedException exception = assertThrows(
+                BatchListenerFailedException.class,
+                () -> dispatcher.dispatchRetries(List.of(retry(event, System.currentTimeMillis() - 1_000), invalidJson),
+                    acknowledgment, EventType.EMPLOYEE_CREATED_EVENT)
+            );
+
+            // Assert
+            assertThat(exception.getIndex(), is(1));
+            verify(historyHandler, times(1)).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+            verifyNoInteractions(acknowledgment);
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyed Processing Tests")
+    class KeyedProcessingTests {
+
+        private KeyedRecordExecutor keyedRecordExecutor;
+
+        @BeforeEach
+        void setUp() {
+            keyedRecordExecutor = new KeyedRecordExecutor(4);
+            dispatcher = new EmployeeEventDispatcher(new EmployeeEventEnvelopeReader(payloadCodec), payloadCodec,
+                new EmployeeEventRetryTopics(List.of(1_000L)), List.of(historyHandler, loggingHandler), Optional.of(keyedRecordExecutor));
+        }
+
+        @AfterEach
+        void tearDown() {
+            keyedRecordExecutor.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should hand each record to every handler on its own")
+        void shouldHandEachRecordToEveryHandlerOnItsOwn() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent first = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            EmployeeCreatedEvent second = new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com");
+
+            // Act
+            dispatcher.dispatchEmployeeCreatedEvents(List.of(keyed(first, 0), keyed(second, 1)));
+
+            // Assert
+            verify(historyHandler, times(2)).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), recordsCaptor.capture());
+            verify(loggingHandler, times(2)).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+            assertThat(recordsCaptor.getAllValues().get(0), hasSize(1));
+            assertThat(recordsCaptor.getAllValues().get(1), hasSize(1));
+        }
+
+        @Test
+        @DisplayName("Should report the first record that did not complete so nothing past it is committed")
+        void shouldReportTheFirstRecordThatDidNotCompleteSoNothingPastItIsCommitted() throws IOException {
+            // Arrange
+            EmployeeCreatedEvent healthy = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+            EmployeeCreatedEvent failing = new EmployeeCreatedEvent(UUID.randomUUID(), "Jane Doe", "jane.doe@example.com");
+            RuntimeException failure = new IllegalStateException("Database down");
+            doAnswer(invocation -> {
+                List<EmployeeEventRecord> records = invocation.getArgument(1);
+                if (records.get(0).envelope().event().equals(failing)) {
+                    throw failure;
+                }
+                return null;
+            }).when(historyHandler).handle(eq(EventType.EMPLOYEE_CREATED_EVENT), anyList());
+            ConsumerRecord<String, byte[]> failingRecord = keyed(failing, 1);
+
+            // Act
+            BatchListenerFailedException exception = assertThrows(
+                BatchListenerFailedException.class,
+                () -> dispatcher.dispatchEmployeeCreatedEvents(List.of(keyed(healthy, 0), failingRecord, keyed(healthy, 2)))
+            );
+
+            // Assert
+            assertThat(exception.getRecord(), is(sameInstance(failingRecord)));
+            assertThat(exception.getCause(), is(sameInstance(failure)));
+        }
+    }
+
+    private ConsumerRecord<String, byte[]> keyed(EmployeeCreatedEvent event, long offset) throws IOException {
+        return new ConsumerRecord<>("employee.created", 0, offset, event.employeeId().toString(), payloadCodec.encode(event, OutboxPayloadFormat.JSON));
+    }
+
+    private ConsumerRecord<String, byte[]> retry(Object event, long dueAt) throws IOException {
+        ConsumerRecord<String, byte[]> retry = record("employee.created.retry-1", event);
+        retry.headers().add(EmployeeEventRetryTopics.RETRY_DUE_AT, dueAtBytes(dueAt));
+        return retry;
+    }
+
+    private static byte[] dueAtBytes(long dueAt) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array();
+    }
+
+    private ConsumerRecord<String, byte[]> record(String topic, Object event) throws IOException {
+        return new ConsumerRecord<>(topic, 0, 0L, "key", payloadCodec.encode(event, OutboxPayloadFormat.JSON));
+    }
+}
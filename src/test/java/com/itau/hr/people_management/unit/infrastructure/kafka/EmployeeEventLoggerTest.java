@@ -1,13 +1,14 @@
 package com.itau.hr.people_management.unit.infrastructure.kafka;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,19 +17,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
 import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
 import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventLogger;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventBinding;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EmployeeEventLogger Unit Tests")
 class EmployeeEventLoggerTest {
 
     @Mock
-    private ObjectMapper objectMapper;
+    private OutboxPayloadCodec payloadCodec;
 
     @Mock
     private EmployeeCreatedEvent employeeCreatedEvent;
@@ -38,129 +42,74 @@ class EmployeeEventLoggerTest {
 
     private EmployeeEventLogger eventLogger;
 
-    private String jsonMessage;
+    private byte[] payload;
+    private ConsumerRecord<String, byte[]> message;
 
     @BeforeEach
     void setUp() {
-        eventLogger = new EmployeeEventLogger(objectMapper);
-        jsonMessage = "{\"eventId\":\"123\",\"employeeId\":\"456\"}";
+        eventLogger = new EmployeeEventLogger(payloadCodec);
+        payload = "{\"eventId\":\"123\",\"employeeId\":\"456\"}".getBytes(StandardCharsets.UTF_8);
+        message = new ConsumerRecord<>("employee.created", 0, 0L, "456", payload);
     }
 
     @Nested
-    @DisplayName("ListenEmployeeCreated Tests")
-    class ListenEmployeeCreatedTests {
+    @DisplayName("EmployeeCreatedEvent Tests")
+    class EmployeeCreatedEventTests {
 
         @Test
-        @DisplayName("Should process valid EmployeeCreatedEvent message")
-        void shouldProcessValidEmployeeCreatedEventMessage() throws JsonProcessingException {
+        @DisplayName("Should log valid EmployeeCreatedEvent")
+        void shouldLogValidEmployeeCreatedEvent() {
             // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeCreatedEvent.class))
-                .thenReturn(employeeCreatedEvent);
             setupEmployeeCreatedEventMocks();
 
             // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeCreated(jsonMessage));
+            assertDoesNotThrow(() -> eventLogger.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of(createdRecord())));
 
             // Assert
-            verify(objectMapper).readValue(jsonMessage, EmployeeCreatedEvent.class);
-            verify(employeeCreatedEvent, atLeast(1)).eventId();
+            verify(employeeCreatedEvent, atLeast(1)).getEventId();
             verify(employeeCreatedEvent, atLeast(1)).employeeId();
             verify(employeeCreatedEvent, atLeast(1)).employeeName();
             verify(employeeCreatedEvent, atLeast(1)).employeeEmail();
             verify(employeeCreatedEvent, atLeast(1)).occurredOn();
+            verifyNoInteractions(payloadCodec);
         }
 
         @Test
-        @DisplayName("Should handle JsonProcessingException gracefully")
-        void shouldHandleJsonProcessingExceptionGracefully() throws JsonProcessingException {
+        @DisplayName("Should log every record of the batch")
+        void shouldLogEveryRecordOfTheBatch() {
             // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeCreatedEvent.class))
-                .thenThrow(new JsonProcessingException("Parse error") {});
-
-            // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeCreated(jsonMessage));
-
-            // Assert
-            verify(objectMapper).readValue(jsonMessage, EmployeeCreatedEvent.class);
-        }
-
-        @Test
-        @DisplayName("Should handle null event gracefully")
-        void shouldHandleNullEventGracefully() throws JsonProcessingException {
-            // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeCreatedEvent.class))
-                .thenReturn(null);
+            setupEmployeeCreatedEventMocks();
 
             // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeCreated(jsonMessage));
+            eventLogger.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of(createdRecord(), createdRecord(), createdRecord()));
 
             // Assert
-            verify(objectMapper).readValue(jsonMessage, EmployeeCreatedEvent.class);
-        }
-
-        @Test
-        @DisplayName("Should handle runtime exception gracefully")
-        void shouldHandleRuntimeExceptionGracefully() throws JsonProcessingException {
-            // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeCreatedEvent.class))
-                .thenThrow(new RuntimeException("Unexpected error"));
-
-            // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeCreated(jsonMessage));
+            verify(employeeCreatedEvent, times(3)).employeeName();
         }
     }
 
     @Nested
-    @DisplayName("ListenEmployeeStatusChanged Tests")
-    class ListenEmployeeStatusChangedTests {
+    @DisplayName("EmployeeStatusChangedEvent Tests")
+    class EmployeeStatusChangedEventTests {
 
         @Test
-        @DisplayName("Should process valid EmployeeStatusChangedEvent message")
-        void shouldProcessValidEmployeeStatusChangedEventMessage() throws JsonProcessingException {
+        @DisplayName("Should log valid EmployeeStatusChangedEvent")
+        void shouldLogValidEmployeeStatusChangedEvent() {
             // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeStatusChangedEvent.class))
-                .thenReturn(employeeStatusChangedEvent);
             setupEmployeeStatusChangedEventMocks();
+            EmployeeEventRecord statusRecord = new EmployeeEventRecord(message,
+                new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, employeeStatusChangedEvent));
 
             // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeStatusChanged(jsonMessage));
+            assertDoesNotThrow(() -> eventLogger.handle(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, List.of(statusRecord)));
 
             // Assert
-            verify(objectMapper).readValue(jsonMessage, EmployeeStatusChangedEvent.class);
-            verify(employeeStatusChangedEvent, atLeast(1)).eventId();
+            verify(employeeStatusChangedEvent, atLeast(1)).getEventId();
             verify(employeeStatusChangedEvent, atLeast(1)).employeeId();
             verify(employeeStatusChangedEvent, atLeast(1)).oldStatus();
             verify(employeeStatusChangedEvent, atLeast(1)).newStatus();
             verify(employeeStatusChangedEvent, atLeast(1)).occurredOn();
         }
-
-        @Test
-        @DisplayName("Should handle JsonProcessingException gracefully")
-        void shouldHandleJsonProcessingExceptionGracefully() throws JsonProcessingException {
-            // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeStatusChangedEvent.class))
-                .thenThrow(new JsonProcessingException("Parse error") {});
-
-            // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeStatusChanged(jsonMessage));
-
-            // Assert
-            verify(objectMapper).readValue(jsonMessage, EmployeeStatusChangedEvent.class);
-        }
-
-        @Test
-        @DisplayName("Should handle null event gracefully")
-        void shouldHandleNullEventGracefully() throws JsonProcessingException {
-            // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeStatusChangedEvent.class))
-                .thenReturn(null);
-
-            // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeStatusChanged(jsonMessage));
-
-            // Assert
-            verify(objectMapper).readValue(jsonMessage, EmployeeStatusChangedEvent.class);
-        }
     }
 
     @Nested
@@ -168,37 +117,38 @@ class EmployeeEventLoggerTest {
     class EdgeCasesTests {
 
         @Test
-        @DisplayName("Should handle null message string")
-        void shouldHandleNullMessageString() throws JsonProcessingException {
-            // Arrange
-            when(objectMapper.readValue((String) isNull(), eq(EmployeeCreatedEvent.class)))
-                .thenThrow(new JsonProcessingException("Parse error") {});
-
+        @DisplayName("Should handle empty batch")
+        void shouldHandleEmptyBatch() {
             // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeCreated(null));
+            assertDoesNotThrow(() -> eventLogger.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of()));
 
             // Assert
-            verify(objectMapper).readValue((String) isNull(), eq(EmployeeCreatedEvent.class));
+            verifyNoInteractions(payloadCodec);
         }
 
         @Test
-        @DisplayName("Should handle exception in event processing")
-        void shouldHandleExceptionInEventProcessing() throws JsonProcessingException {
+        @DisplayName("Should keep logging the batch when one event fails")
+        void shouldKeepLoggingTheBatchWhenOneEventFails() {
             // Arrange
-            when(objectMapper.readValue(jsonMessage, EmployeeCreatedEvent.class))
-                .thenReturn(employeeCreatedEvent);
-            when(employeeCreatedEvent.eventId()).thenThrow(new RuntimeException("Event processing error"));
+            when(employeeCreatedEvent.getEventId())
+                .thenThrow(new RuntimeException("Event processing error"))
+                .thenReturn(UUID.randomUUID());
 
             // Act
-            assertDoesNotThrow(() -> eventLogger.listenEmployeeCreated(jsonMessage));
+            assertDoesNotThrow(() -> eventLogger.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of(createdRecord(), createdRecord())));
 
             // Assert
-            verify(employeeCreatedEvent).eventId();
+            verify(employeeCreatedEvent, times(2)).getEventId();
+            verify(payloadCodec).describe(payload, null);
         }
     }
 
+    private EmployeeEventRecord createdRecord() {
+        return new EmployeeEventRecord(message, new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_CREATED, employeeCreatedEvent));
+    }
+
     private void setupEmployeeCreatedEventMocks() {
-        when(employeeCreatedEvent.eventId()).thenReturn(UUID.randomUUID());
+        when(employeeCreatedEvent.getEventId()).thenReturn(UUID.randomUUID());
         when(employeeCreatedEvent.employeeId()).thenReturn(UUID.randomUUID());
         when(employeeCreatedEvent.employeeName()).thenReturn("John Doe");
         when(employeeCreatedEvent.employeeEmail()).thenReturn("john.doe@example.com");
@@ -206,10 +156,10 @@ class EmployeeEventLoggerTest {
     }
 
     private void setupEmployeeStatusChangedEventMocks() {
-        when(employeeStatusChangedEvent.eventId()).thenReturn(UUID.randomUUID());
+        when(employeeStatusChangedEvent.getEventId()).thenReturn(UUID.randomUUID());
         when(employeeStatusChangedEvent.employeeId()).thenReturn(UUID.randomUUID());
         when(employeeStatusChangedEvent.oldStatus()).thenReturn(EmployeeStatus.ACTIVE);
         when(employeeStatusChangedEvent.newStatus()).thenReturn(EmployeeStatus.TERMINATED);
         when(employeeStatusChangedEvent.occurredOn()).thenReturn(Instant.now());
     }
-}
\ No newline at end of file
+}
@@ -4,11 +4,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,22 +21,24 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
 import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
 import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
 import com.itau.hr.people_management.domain.employee.repository.EmployeeEventRepository;
 import com.itau.hr.people_management.infrastructure.kafka.EmployeeHistoryUpdater;
-import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventDeserializationException;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventBinding;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
 import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventProcessingException;
 import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeHistoryEventSaveException;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
 import com.itau.hr.people_management.integration.infrastructure.kafka.support.TestLogAppender;
 
 import ch.qos.logback.classic.Logger;
@@ -44,7 +51,7 @@ class EmployeeHistoryUpdaterTest {
     private EmployeeEventRepository employeeEventRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private OutboxPayloadCodec payloadCodec;
 
     @Mock
     private EmployeeCreatedEvent employeeCreatedEvent;
@@ -52,24 +59,31 @@ class EmployeeHistoryUpdaterTest {
     @Mock
     private EmployeeStatusChangedEvent employeeStatusChangedEvent;
 
+    @Captor
+    private ArgumentCaptor<List<EmployeeEvent>> historyEventsCaptor;
+
     private EmployeeHistoryUpdater historyUpdater;
 
     private TestLogAppender testLogAppender;
     private Logger employeeHistoryUpdaterLogger;
 
     private String validJsonMessage;
+    private byte[] validPayload;
+    private ConsumerRecord<String, byte[]> validMessage;
     private UUID eventId;
     private UUID employeeId;
     private Instant occurredOn;
 
     @BeforeEach
     void setUp() {
-        historyUpdater = new EmployeeHistoryUpdater(employeeEventRepository, objectMapper);
+        historyUpdater = new EmployeeHistoryUpdater(employeeEventRepository, payloadCodec);
         
         eventId = UUID.randomUUID();
         employeeId = UUID.randomUUID();
         occurredOn = Instant.now();
         validJsonMessage = "{\"eventId\":\"123\",\"employeeId\":\"456\"}";
+        validPayload = validJsonMessage.getBytes(StandardCharsets.UTF_8);
+        validMessage = new ConsumerRecord<>("employee.created", 0, 0L, "456", validPayload);
 
         employeeHistoryUpdaterLogger = (Logger) LoggerFactory.getLogger("com.itau.hr.people_management.infrastructure.kafka.EmployeeHistoryUpdater");
         testLogAppender = new TestLogAppender();
@@ -87,137 +101,121 @@ class EmployeeHistoryUpdaterTest {
     }
 
     @Nested
-    @DisplayName("HandleEmployeeCreatedEvent Tests")
-    class HandleEmployeeCreatedEventTests {
+    @DisplayName("EmployeeCreatedEvent Tests")
+    class EmployeeCreatedEventTests {
 
         @Test
-        @DisplayName("Should process valid EmployeeCreatedEvent message")
-        void shouldProcessValidEmployeeCreatedEventMessage() throws JsonProcessingException {
+        @DisplayName("Should store valid EmployeeCreatedEvent")
+        void shouldStoreValidEmployeeCreatedEvent() throws IOException {
             // Arrange
             setupEmployeeCreatedEventMocks();
-            when(objectMapper.readValue(validJsonMessage, EmployeeCreatedEvent.class))
-                .thenReturn(employeeCreatedEvent);
 
             // Act
-            assertDoesNotThrow(() -> historyUpdater.handleEmployeeCreatedEvent(validJsonMessage));
+            assertDoesNotThrow(() -> historyUpdater.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of(createdRecord(validMessage))));
 
             // Assert
-            verify(objectMapper).readValue(validJsonMessage, EmployeeCreatedEvent.class);
-            verify(employeeEventRepository).save(any(EmployeeEvent.class));
-        }
-
-        @Test
-        @DisplayName("Should throw EmployeeEventDeserializationException for invalid JSON")
-        void shouldThrowDeserializationExceptionForInvalidJson() throws JsonProcessingException {
-            // Arrange
-            String invalidJson = "{invalid json";
-            JsonProcessingException jsonException = mock(JsonProcessingException.class);
-            when(objectMapper.readValue(invalidJson, EmployeeCreatedEvent.class))
-                .thenThrow(jsonException);
-
-            // Act & Assert
-            EmployeeEventDeserializationException exception = assertThrows(
-                EmployeeEventDeserializationException.class,
-                () -> historyUpdater.handleEmployeeCreatedEvent(invalidJson)
-            );
-
-            assertThat(exception.getMessage(), containsString("Failed to deserialize EMPLOYEE_CREATED_EVENT"));
-            assertThat(exception.getCause(), is(sameInstance(jsonException)));
-        }
-
-        @Test
-        @DisplayName("Should throw EmployeeEventProcessingException for null message")
-        void shouldThrowProcessingExceptionForNullMessage() {
-            // Act & Assert
-            EmployeeEventProcessingException exception = assertThrows(
-                EmployeeEventProcessingException.class,
-                () -> historyUpdater.handleEmployeeCreatedEvent(null)
-            );
-
-            assertThat(exception.getMessage(), containsString("Failed to process EMPLOYEE_CREATED_EVENT"));
-            assertThat(exception.getCause(), is(instanceOf(IllegalArgumentException.class)));
+            verify(employeeEventRepository).saveAll(anyList());
+            verify(payloadCodec, never()).decode(any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("Should create history event with correct data")
-        void shouldCreateHistoryEventWithCorrectData() throws JsonProcessingException {
+        void shouldCreateHistoryEventWithCorrectData() {
             // Arrange
             setupEmployeeCreatedEventMocks();
-            when(objectMapper.readValue(validJsonMessage, EmployeeCreatedEvent.class))
-                .thenReturn(employeeCreatedEvent);
-
-            ArgumentCaptor<EmployeeEvent> historyEventCaptor = ArgumentCaptor.forClass(EmployeeEvent.class);
 
             // Act
-            historyUpdater.handleEmployeeCreatedEvent(validJsonMessage);
+            historyUpdater.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of(createdRecord(validMessage)));
 
             // Assert
-            verify(employeeEventRepository).save(historyEventCaptor.capture());
-            EmployeeEvent savedEvent = historyEventCaptor.getValue();
+            verify(employeeEventRepository).saveAll(historyEventsCaptor.capture());
+            EmployeeEvent savedEvent = historyEventsCaptor.getValue().get(0);
             
             assertThat(savedEvent.getId(), is(eventId));
             assertThat(savedEvent.getEmployeeId(), is(employeeId));
             assertThat(savedEvent.getEventType(), is(EventType.EMPLOYEE_CREATED_EVENT));
+            assertThat(savedEvent.getOccurredOn(), is(occurredOn));
             assertThat(savedEvent.getEventData(), is(validJsonMessage));
         }
 
         @Test
-        @DisplayName("Should handle null deserialized event")
-        void shouldHandleNullDeserializedEvent() throws JsonProcessingException {
+        @DisplayName("Should store the whole batch with a single bulk save")
+        void shouldStoreTheWholeBatchWithASingleBulkSave() {
             // Arrange
-            when(objectMapper.readValue(validJsonMessage, EmployeeCreatedEvent.class))
-                .thenReturn(null);
+            setupEmployeeCreatedEventMocks();
+            when(employeeEventRepository.saveAll(anyList())).thenReturn(2);
 
-            // Act & Assert
-            historyUpdater.handleEmployeeCreatedEvent(validJsonMessage);
+            // Act
+            historyUpdater.handle(EventType.EMPLOYEE_CREATED_EVENT,
+                List.of(createdRecord(validMessage), createdRecord(validMessage), createdRecord(validMessage)));
 
-            //Assert
-            assertThat(testLogAppender.getErrorMessages(), hasSize(greaterThan(0)));
-            String errorMessage = testLogAppender.getLastErrorMessage();
-            assertThat(errorMessage, containsString("KAFKA_ERROR: Invalid EMPLOYEE_CREATED_EVENT received."));
+            // Assert
+            verify(employeeEventRepository, times(1)).saveAll(historyEventsCaptor.capture());
+            assertThat(historyEventsCaptor.getValue(), hasSize(3));
+            assertThat(testLogAppender.getLastInfoMessage(), containsString("Stored 2 EMPLOYEE_CREATED_EVENT history events (1 already stored)"));
         }
-    }
-
-    @Nested
-    @DisplayName("HandleEmployeeStatusChangedEvent Tests")
-    class HandleEmployeeStatusChangedEventTests {
 
         @Test
-        @DisplayName("Should process valid EmployeeStatusChangedEvent message")
-        void shouldProcessValidEmployeeStatusChangedEventMessage() throws JsonProcessingException {
+        @DisplayName("Should store records preceding the failing one before reporting it")
+        void shouldStoreRecordsPrecedingTheFailingOneBeforeReportingIt() throws IOException {
             // Arrange
-            setupEmployeeStatusChangedEventMocks();
-            when(objectMapper.readValue(validJsonMessage, EmployeeStatusChangedEvent.class))
-                .thenReturn(employeeStatusChangedEvent);
+            setupEmployeeCreatedEventMocks();
+            byte[] unreadablePayload = "unreadable".getBytes(StandardCharsets.UTF_8);
+            ConsumerRecord<String, byte[]> unreadableMessage = new ConsumerRecord<>("employee.created", 0, 1L, "789", unreadablePayload);
+            IOException conversionError = new IOException("Cannot convert payload");
+            when(payloadCodec.toJson(unreadablePayload, null)).thenThrow(conversionError);
 
             // Act
-            assertDoesNotThrow(() -> historyUpdater.handleEmployeeStatusChangedEvent(validJsonMessage));
+            BatchListenerFailedException exception = assertThrows(
+                BatchListenerFailedException.class,
+                () -> historyUpdater.handle(EventType.EMPLOYEE_CREATED_EVENT,
+                    List.of(createdRecord(validMessage), createdRecord(unreadableMessage), createdRecord(validMessage)))
+            );
 
             // Assert
-            verify(objectMapper).readValue(validJsonMessage, EmployeeStatusChangedEvent.class);
-            verify(employeeEventRepository).save(any(EmployeeEvent.class));
+            assertThat(exception.getRecord(), is(sameInstance(unreadableMessage)));
+            assertThat(exception.getCause(), is(instanceOf(EmployeeEventProcessingException.class)));
+            assertThat(exception.getCause().getMessage(), containsString("Failed to process EMPLOYEE_CREATED_EVENT"));
+            assertThat(exception.getCause().getCause(), is(sameInstance(conversionError)));
+            verify(employeeEventRepository).saveAll(historyEventsCaptor.capture());
+            assertThat(historyEventsCaptor.getValue(), hasSize(1));
+            assertThat(historyEventsCaptor.getValue().get(0).getId(), is(eventId));
         }
 
+        @Test
+        @DisplayName("Should not save an empty batch")
+        void shouldNotSaveAnEmptyBatch() {
+            // Act
+            historyUpdater.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of());
+
+            // Assert
+            verify(employeeEventRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("EmployeeStatusChangedEvent Tests")
+    class EmployeeStatusChangedEventTests {
+
         @Test
         @DisplayName("Should create history event with correct status data")
-        void shouldCreateHistoryEventWithCorrectStatusData() throws JsonProcessingException {
+        void shouldCreateHistoryEventWithCorrectStatusData() {
             // Arrange
             setupEmployeeStatusChangedEventMocks();
-            when(objectMapper.readValue(validJsonMessage, EmployeeStatusChangedEvent.class))
-                .thenReturn(employeeStatusChangedEvent);
-
-            ArgumentCaptor<EmployeeEvent> historyEventCaptor = ArgumentCaptor.forClass(EmployeeEvent.class);
+            EmployeeEventRecord statusRecord = new EmployeeEventRecord(validMessage,
+                new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, employeeStatusChangedEvent));
 
             // Act
-            historyUpdater.handleEmployeeStatusChangedEvent(validJsonMessage);
+            historyUpdater.handle(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, List.of(statusRecord));
 
             // Assert
-            verify(employeeEventRepository).save(historyEventCaptor.capture());
-            EmployeeEvent savedEvent = historyEventCaptor.getValue();
+            verify(employeeEventRepository).saveAll(historyEventsCaptor.capture());
+            EmployeeEvent savedEvent = historyEventsCaptor.getValue().get(0);
             
             assertThat(savedEvent.getEventType(), is(EventType.EMPLOYEE_STATUS_CHANGED_EVENT));
-            assertThat(savedEvent.getDescription(), containsString("ACTIVE"));
-            assertThat(savedEvent.getDescription(), containsString("TERMINATED"));
+            assertThat(savedEvent.getEmployeeId(), is(employeeId));
+            assertThat(savedEvent.getEventData(), is(validJsonMessage));
+            assertThat(savedEvent.getDescription(), is(nullValue()));
         }
     }
 
@@ -227,55 +225,47 @@ class EmployeeHistoryUpdaterTest {
 
         @Test
         @DisplayName("Should throw EmployeeHistoryEventSaveException when repository save fails")
-        void shouldThrowSaveExceptionWhenRepositorySaveFails() throws JsonProcessingException {
+        void shouldThrowSaveExceptionWhenRepositorySaveFails() {
             // Arrange
             setupEmployeeCreatedEventMocks();
-            when(objectMapper.readValue(validJsonMessage, EmployeeCreatedEvent.class))
-                .thenReturn(employeeCreatedEvent);
-            
             RuntimeException repositoryException = new RuntimeException("Database error");
-            doThrow(repositoryException).when(employeeEventRepository).save(any(EmployeeEvent.class));
+            doThrow(repositoryException).when(employeeEventRepository).saveAll(anyList());
 
             // Act & Assert
-            Throwable exception = assertThrows(
+            EmployeeHistoryEventSaveException exception = assertThrows(
                 EmployeeHistoryEventSaveException.class,
-                () -> historyUpdater.handleEmployeeCreatedEvent(validJsonMessage)
-            ).getCause();
+                () -> historyUpdater.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of(createdRecord(validMessage)))
+            );
 
-            assertThat(exception.getMessage(), is("Failed to save employee history event"));
+            assertThat(exception.getMessage(), is("Failed to save EMPLOYEE_CREATED_EVENT for history update."));
             assertThat(exception.getCause(), is(sameInstance(repositoryException)));
+            assertThat(testLogAppender.getLastErrorMessage(), containsString("HISTORY_SAVE_ERROR: Failed to save EMPLOYEE_CREATED_EVENT for history"));
         }
+    }
 
-        @Test
-        @DisplayName("Should handle unexpected runtime exceptions")
-        void shouldHandleUnexpectedRuntimeExceptions() throws JsonProcessingException {
-            // Arrange
-            when(objectMapper.readValue(validJsonMessage, EmployeeCreatedEvent.class))
-                .thenThrow(new RuntimeException("Unexpected error"));
-
-            // Act & Assert
-            EmployeeEventProcessingException exception = assertThrows(
-                EmployeeEventProcessingException.class,
-                () -> historyUpdater.handleEmployeeCreatedEvent(validJsonMessage)
-            );
-
-            assertThat(exception.getMessage(), containsString("Failed to process EMPLOYEE_CREATED_EVENT"));
-        }
+    private EmployeeEventRecord createdRecord(ConsumerRecord<String, byte[]> message) {
+        return new EmployeeEventRecord(message, new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_CREATED, employeeCreatedEvent));
     }
 
     private void setupEmployeeCreatedEventMocks() {
-        when(employeeCreatedEvent.eventId()).thenReturn(eventId);
+        when(employeeCreatedEvent.getEventId()).thenReturn(eventId);
         when(employeeCreatedEvent.employeeId()).thenReturn(employeeId);
-        when(employeeCreatedEvent.employeeName()).thenReturn("John Doe");
-        when(employeeCreatedEvent.employeeEmail()).thenReturn("john.doe@example.com");
-        when(employeeCreatedEvent.occurredOn()).thenReturn(occurredOn);
+        when(employeeCreatedEvent.getOccurredOn()).thenReturn(occurredOn);
+        stubJsonConversion();
     }
 
     private void setupEmployeeStatusChangedEventMocks() {
-        when(employeeStatusChangedEvent.eventId()).thenReturn(eventId);
+        when(employeeStatusChangedEvent.getEventId()).thenReturn(eventId);
         when(employeeStatusChangedEvent.employeeId()).thenReturn(employeeId);
-        when(employeeStatusChangedEvent.oldStatus()).thenReturn(EmployeeStatus.ACTIVE);
-        when(employeeStatusChangedEvent.newStatus()).thenReturn(EmployeeStatus.TERMINATED);
-        when(employeeStatusChangedEvent.occurredOn()).thenReturn(occurredOn);
+        when(employeeStatusChangedEvent.getOccurredOn()).thenReturn(occurredOn);
+        stubJsonConversion();
+    }
+
+    private void stubJsonConversion() {
+        try {
+            when(payloadCodec.toJson(validPayload, null)).thenReturn(validJsonMessage);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import com.itau.hr.people_management.domain.employee.analytics.StatusStart;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.domain.employee.repository.EmployeeStatusAnalyticsRepository;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeStatusAnalyticsProjector;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventBinding;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+import com.itau.hr.people_management.infrastructure.kafka.exception.EmployeeEventProcessingException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeStatusAnalyticsProjector Unit Tests")
+class EmployeeStatusAnalyticsProjectorTest {
+
+    private static final Instant OCCURRED_ON = Instant.parse("2025-03-10T12:00:00Z");
+
+    @Mock
+    private EmployeeStatusAnalyticsRepository analyticsRepository;
+
+    private EmployeeStatusAnalyticsProjector projector;
+
+    private UUID employeeId;
+    private ConsumerRecord<String, byte[]> message;
+
+    @BeforeEach
+    void setUp() {
+        projector = new EmployeeStatusAnalyticsProjector(analyticsRepository);
+        employeeId = UUID.randomUUID();
+        message = new ConsumerRecord<>("employee.status-changed", 0, 0L, employeeId.toString(),
+            "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("Projection Tests")
+    class ProjectionTests {
+
+        @Test
+        @DisplayName("Should start an ACTIVE interval when the employee is created")
+        void shouldStartAnActiveIntervalWhenTheEmployeeIsCreated() {
+            // Arrange
+            EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), OCCURRED_ON,
+                EventType.EMPLOYEE_CREATED_EVENT, employeeId, "John Doe", "john.doe@example.com");
+
+            // Act
+            projector.handle(EventType.EMPLOYEE_CREATED_EVENT, List.of(createdRecord(event)));
+
+            // Assert
+            verify(analyticsRepository).recordStatusStarts(
+                List.of(new StatusStart(event.eventId(), employeeId, EmployeeStatus.ACTIVE, OCCURRED_ON)));
+        }
+
+        @Test
+        @DisplayName("Should start an interval in the new status when the status changes")
+        void shouldStartAnIntervalInTheNewStatusWhenTheStatusChanges() {
+            // Arrange
+            EmployeeStatusChangedEvent event = statusChanged(OCCURRED_ON);
+
+            // Act
+            projector.handle(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, List.of(statusRecord(event)));
+
+            // Assert
+            verify(analyticsRepository).recordStatusStarts(
+                List.of(new StatusStart(event.eventId(), employeeId, EmployeeStatus.ON_LEAVE, OCCURRED_ON)));
+        }
+
+        @Test
+        @DisplayName("Should project the whole batch at once, including already projected records")
+        void shouldProjectTheWholeBatchAtOnce() {
+            // Arrange
+            EmployeeStatusChangedEvent first = statusChanged(OCCURRED_ON);
+            EmployeeStatusChangedEvent second = statusChanged(OCCURRED_ON.plusSeconds(60));
+            when(analyticsRepository.recordStatusStarts(anyList())).thenReturn(1);
+
+            // Act
+            projector.handle(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, List.of(statusRecord(first), statusRecord(second)));
+
+            // Assert
+            verify(analyticsRepository).recordStatusStarts(List.of(
+                new StatusStart(first.eventId(), employeeId, EmployeeStatus.ON_LEAVE, first.occurredOn()),
+                new StatusStart(second.eventId(), employeeId, EmployeeStatus.ON_LEAVE, second.occurredOn())));
+            verify(analyticsRepository, never()).recordStatusStart(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should skip events without occurredOn")
+        void shouldSkipEventsWithoutOccurredOn() {
+            // Act
+            projector.handle(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, List.of(statusRecord(statusChanged(null))));
+
+            // Assert
+            verifyNoInteractions(analyticsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Handling Tests")
+    class ErrorHandlingTests {
+
+        @Test
+        @DisplayName("Should fail the batch at the record that could not be projected")
+        void shouldFailTheBatchAtTheRecordThatCouldNotBeProjected() {
+            // Arrange
+            when(analyticsRepository.recordStatusStarts(anyList())).thenThrow(new RuntimeException("Database error"));
+            when(analyticsRepository.recordStatusStart(any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("Database error"));
+
+            // Act
+            BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> projector.handle(EventType.EMPLOYEE_STATUS_CHANGED_EVENT,
+                    List.of(statusRecord(statusChanged(OCCURRED_ON)), statusRecord(statusChanged(OCCURRED_ON)))));
+
+            // Assert
+            assertThat(exception.getCause(), instanceOf(EmployeeEventProcessingException.class));
+            assertThat(exception.getRecord(), is(message));
+            verify(analyticsRepository, times(1)).recordStatusStart(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should project one by one after a failed batch and keep the records before the failing one")
+        void shouldProjectOneByOneAfterAFailedBatch() {
+            // Arrange
+            ConsumerRecord<String, byte[]> failing = new ConsumerRecord<>("employee.status-changed", 0, 1L,
+                employeeId.toString(), "{}".getBytes(StandardCharsets.UTF_8));
+            EmployeeStatusChangedEvent first = statusChanged(OCCURRED_ON);
+            EmployeeStatusChangedEvent second = statusChanged(OCCURRED_ON.plusSeconds(60));
+            when(analyticsRepository.recordStatusStarts(anyList())).thenThrow(new RuntimeException("Database error"));
+            when(analyticsRepository.recordStatusStart(first.eventId(), employeeId, EmployeeStatus.ON_LEAVE, OCCURRED_ON))
+                .thenReturn(true);
+            when(analyticsRepository.recordStatusStart(second.eventId(), employeeId, EmployeeStatus.ON_LEAVE, second.occurredOn()))
+                .thenThrow(new RuntimeException("Database error"));
+
+            // Act
+            BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> projector.handle(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, List.of(statusRecord(first),
+                    new EmployeeEventRecord(failing, new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, second)))));
+
+            // Assert
+            assertThat(exception.getRecord(), is(failing));
+            verify(analyticsRepository).recordStatusStart(first.eventId(), employeeId, EmployeeStatus.ON_LEAVE, OCCURRED_ON);
+        }
+    }
+
+    private EmployeeStatusChangedEvent statusChanged(Instant occurredOn) {
+        return new EmployeeStatusChangedEvent(UUID.randomUUID(), occurredOn, EventType.EMPLOYEE_STATUS_CHANGED_EVENT,
+            employeeId, EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE);
+    }
+
+    private EmployeeEventRecord createdRecord(EmployeeCreatedEvent event) {
+        return new EmployeeEventRecord(message, new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_CREATED, event));
+    }
+
+    private EmployeeEventRecord statusRecord(EmployeeStatusChangedEvent event) {
+        return new EmployeeEventRecord(message, new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, event));
+    }
+}
@@ -1,28 +1,45 @@
 package com.itau.hr.people_management.unit.infrastructure.kafka;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doAnswer;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -30,8 +47,12 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHeaders;
 import com.itau.hr.people_management.infrastructure.kafka.OutboxRelay;
+import com.itau.hr.people_management.infrastructure.outbox.claim.OutboxMessageClaimer;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
 import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.metrics.OutboxRelayMetrics;
 import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
 import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
 
@@ -43,26 +64,30 @@ class OutboxRelayTest {
     private OutboxMessageRepository outboxMessageRepository;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private OutboxMessageClaimer outboxMessageClaimer;
 
     @Mock
-    private OutboxMessage outboxMessage;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Mock
-    private CompletableFuture<SendResult<String, String>> future;
+    private OutboxRelayMetrics relayMetrics;
+
+    @Mock
+    private SendResult<String, byte[]> sendResult;
 
     private OutboxRelay outboxRelay;
 
     private UUID aggregateId;
-    private String payload;
+    private byte[] payload;
 
     @BeforeEach
     void setUp() {
-        outboxRelay = new OutboxRelay(outboxMessageRepository, kafkaTemplate, 5, "5,10,30,60,300");
+        outboxRelay = new OutboxRelay(outboxMessageRepository, outboxMessageClaimer, kafkaTemplate, relayMetrics, 5, "5,10,30,60,300");
         ReflectionTestUtils.setField(outboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
 
         aggregateId = UUID.randomUUID();
-        payload = "{\"eventId\":\"123\",\"employeeId\":\"456\"}";
+        payload = "{\"eventId\":\"123\",\"employeeId\":\"456\"}".getBytes(StandardCharsets.UTF_8);
     }
 
     @Nested
@@ -73,51 +98,84 @@ class OutboxRelayTest {
         @DisplayName("Should handle empty message list")
         void shouldHandleEmptyMessageList() {
             // Arrange
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(Collections.emptyList());
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(Collections.emptyList());
 
             // Act
             assertDoesNotThrow(() -> outboxRelay.processOutbox());
 
             // Assert
-            verify(kafkaTemplate, never()).send(any(), any(), any());
+            verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+            verify(kafkaTemplate, never()).flush();
         }
 
         @Test
         @DisplayName("Should process pending messages")
         void shouldProcessPendingMessages() {
             // Arrange
-            setupOutboxMessage234(EventType.EMPLOYEE_CREATED_EVENT);
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
-            when(kafkaTemplate.send("employee.created", aggregateId.toString(), payload))
-                .thenReturn(future);
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            ProducerRecord<String, byte[]> sent = captureSentRecords().get(0);
+            assertThat(sent.topic(), is("employee.created"));
+            assertThat(sent.key(), is(aggregateId.toString()));
+            assertThat(sent.value(), is(payload));
+        }
+
+        @Test
+        @DisplayName("Should propagate event type, payload content type and schema version as record headers")
+        void shouldPropagateEventTypePayloadContentTypeAndSchemaVersionAsRecordHeaders() {
+            // Arrange
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            message.setPayloadContentType(OutboxPayloadFormat.SMILE.contentType());
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            ProducerRecord<String, byte[]> sent = captureSentRecords().get(0);
+            assertThat(EmployeeEventHeaders.contentType(sent.headers()), is(OutboxPayloadFormat.SMILE.contentType()));
+            assertThat(EmployeeEventHeaders.schemaVersion(sent.headers()), is(1));
+            assertThat(EmployeeEventHeaders.eventType(sent.headers()), is(EventType.EMPLOYEE_CREATED_EVENT));
+        }
+
+        @Test
+        @DisplayName("Should claim messages with configured batch size")
+        void shouldClaimMessagesWithConfiguredBatchSize() {
+            // Arrange
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(Collections.emptyList());
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(kafkaTemplate).send("employee.created", aggregateId.toString(), payload);
+            verify(outboxMessageClaimer).claim(10, 0, 1);
+            verify(outboxMessageRepository, never()).markSent(anyCollection(), any());
         }
 
         @Test
-        @DisplayName("Should fetch messages with correct status filter")
-        void shouldFetchMessagesWithCorrectStatusFilter() {
+        @DisplayName("Should send whole batch and flush before applying results")
+        void shouldSendWholeBatchAndFlushBeforeApplyingResults() {
             // Arrange
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(Collections.emptyList());
+            OutboxMessage first = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            OutboxMessage second = createMessage(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, 0);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(first, second));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            @SuppressWarnings("unchecked")
-            ArgumentCaptor<List<OutboxMessageStatus>> statusCaptor = ArgumentCaptor.forClass(List.class);
-            verify(outboxMessageRepository).findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                statusCaptor.capture(), any(), any());
-            
-            assertThat(statusCaptor.getValue(), 
-                containsInAnyOrder(OutboxMessageStatus.PENDING, OutboxMessageStatus.FAILED));
+            InOrder order = inOrder(kafkaTemplate, outboxMessageRepository);
+            order.verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+            order.verify(kafkaTemplate).flush();
+            order.verify(outboxMessageRepository).markSent(anyCollection(), any(Instant.class));
         }
     }
 
@@ -129,50 +187,47 @@ class OutboxRelayTest {
         @DisplayName("Should map EmployeeCreatedEvent to correct topic")
         void shouldMapEmployeeCreatedEventToCorrectTopic() {
             // Arrange
-            setupOutboxMessage234(EventType.EMPLOYEE_CREATED_EVENT);
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
-            when(kafkaTemplate.send(eq("employee.created"), any(), any())).thenReturn(future);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0)));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(kafkaTemplate).send("employee.created", aggregateId.toString(), payload);
+            assertThat(captureSentRecords().get(0).topic(), is("employee.created"));
         }
 
         @Test
         @DisplayName("Should map EmployeeStatusChangedEvent to correct topic")
         void shouldMapEmployeeStatusChangedEventToCorrectTopic() {
             // Arrange
-            setupOutboxMessage234(EventType.EMPLOYEE_STATUS_CHANGED_EVENT);
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
-            when(kafkaTemplate.send(eq("employee.status.changed"), any(), any())).thenReturn(future);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(createMessage(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, 0)));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(kafkaTemplate).send("employee.status.changed", aggregateId.toString(), payload);
+            assertThat(captureSentRecords().get(0).topic(), is("employee.status.changed"));
         }
 
         @Test
-        @DisplayName("Should handle unknown event type")
-        void shouldHandleUnknownEventType() {
+        @DisplayName("Should move unknown event type straight to dead letter")
+        void shouldMoveUnknownEventTypeStraightToDeadLetter() {
             // Arrange
-            when(outboxMessage.getId()).thenReturn(UUID.randomUUID());
-            when(outboxMessage.getEventType()).thenReturn("unkown.event.type");
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            message.setEventType("unkown.event.type");
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(outboxMessage).setStatus(OutboxMessageStatus.FAILED);
-            verify(outboxMessage).setProcessedAt(any(Instant.class));
-            verify(outboxMessageRepository).save(outboxMessage);
+            verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+            verify(kafkaTemplate, never()).flush();
+            assertThat(message.getStatus(), is(OutboxMessageStatus.DEAD_LETTER));
+            verify(outboxMessageRepository).markFailed(eq(List.of(message.getId())), eq(OutboxMessageStatus.DEAD_LETTER),
+                eq(0), isNull(), any(Instant.class));
         }
     }
 
@@ -181,78 +236,304 @@ class OutboxRelayTest {
     class KafkaResultHandlingTests {
 
         @Test
-        @DisplayName("Should handle successful Kafka send")
-        void shouldHandleSuccessfulKafkaSend() {
+        @DisplayName("Should mark acknowledged messages as sent in one update")
+        void shouldMarkAcknowledgedMessagesAsSentInOneUpdate() {
             // Arrange
-            setupOutboxMessage1234(EventType.EMPLOYEE_CREATED_EVENT);
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
-            when(kafkaTemplate.send(any(), any(), any())).thenReturn(future);
-            
-            doAnswer(invocation -> {
-                java.util.function.BiConsumer<SendResult<String, String>, Throwable> callback = invocation.getArgument(0);
-                callback.accept(null, null); // Success
-                return null;
-            }).when(future).whenComplete(any());
+            OutboxMessage first = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            OutboxMessage second = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 2);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(first, second));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(outboxMessage).setStatus(OutboxMessageStatus.SENT);
-            verify(outboxMessage).setProcessedAt(any(Instant.class));
-            verify(outboxMessage).setRetryAttempts(0);
-            verify(outboxMessage).setNextAttemptAt(null);
+            assertThat(captureMarkedSentIds(), containsInAnyOrder(first.getId(), second.getId()));
+            verify(outboxMessageRepository, never()).markFailed(anyCollection(), any(), anyInt(), any(), any());
         }
 
         @Test
         @DisplayName("Should handle failed Kafka send with retry")
         void shouldHandleFailedKafkaSendWithRetry() {
             // Arrange
-            setupOutboxMessage(EventType.EMPLOYEE_CREATED_EVENT);
-            when(outboxMessage.getRetryAttempts()).thenReturn(1, 2);
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
-            when(kafkaTemplate.send(any(), any(), any())).thenReturn(future);
-            
-            doAnswer(invocation -> {
-                java.util.function.BiConsumer<SendResult<String, String>, Throwable> callback = invocation.getArgument(0);
-                callback.accept(null, new RuntimeException("Send failed"));
-                return null;
-            }).when(future).whenComplete(any());
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 1);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Send failed")));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(outboxMessage).setRetryAttempts(2);
-            verify(outboxMessage).setStatus(OutboxMessageStatus.FAILED);
-            verify(outboxMessage).setNextAttemptAt(any(Instant.class));
+            assertThat(message.getRetryAttempts(), is(2));
+            assertThat(message.getStatus(), is(OutboxMessageStatus.FAILED));
+            assertThat(message.getNextAttemptAt(), is(notNullValue()));
+            verify(outboxMessageRepository).markFailed(eq(List.of(message.getId())), eq(OutboxMessageStatus.FAILED),
+                eq(2), eq(message.getNextAttemptAt()), any(Instant.class));
+            verify(outboxMessageRepository, never()).markSent(anyCollection(), any());
         }
 
         @Test
         @DisplayName("Should move to dead letter after max retries")
         void shouldMoveToDeadLetterAfterMaxRetries() {
             // Arrange
-            setupOutboxMessage(EventType.EMPLOYEE_CREATED_EVENT);
-            when(outboxMessage.getRetryAttempts()).thenReturn(4, 5);
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
-            when(kafkaTemplate.send(any(), any(), any())).thenReturn(future);
-            
-            doAnswer(invocation -> {
-                java.util.function.BiConsumer<SendResult<String, String>, Throwable> callback = invocation.getArgument(0);
-                callback.accept(null, new RuntimeException("Send failed"));
-                return null;
-            }).when(future).whenComplete(any());
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 4);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Send failed")));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            assertThat(message.getRetryAttempts(), is(5));
+            assertThat(message.getStatus(), is(OutboxMessageStatus.DEAD_LETTER));
+            assertThat(message.getNextAttemptAt(), is(nullValue()));
+            verify(outboxMessageRepository).markFailed(eq(List.of(message.getId())), eq(OutboxMessageStatus.DEAD_LETTER),
+                eq(5), isNull(), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("Should group failures with the same outcome into one update")
+        void shouldGroupFailuresWithTheSameOutcomeIntoOneUpdate() {
+            // Arrange
+            OutboxMessage first = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            OutboxMessage second = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            OutboxMessage exhausted = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 4);
+            OutboxMessage delivered = createMessage(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, 0);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(first, second, exhausted, delivered));
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Send failed")))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Send failed")))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Send failed")))
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            verify(outboxMessageRepository).markFailed(eq(List.of(first.getId(), second.getId())),
+                eq(OutboxMessageStatus.FAILED), eq(1), eq(first.getNextAttemptAt()), any(Instant.class));
+            verify(outboxMessageRepository).markFailed(eq(List.of(exhausted.getId())),
+                eq(OutboxMessageStatus.DEAD_LETTER), eq(5), isNull(), any(Instant.class));
+            assertThat(captureMarkedSentIds(), contains(delivered.getId()));
+        }
+
+        @Test
+        @DisplayName("Should schedule retry when broker does not acknowledge before the deadline")
+        void shouldScheduleRetryWhenBrokerDoesNotAcknowledgeBeforeTheDeadline() {
+            // Arrange
+            ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 10L);
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            assertThat(message.getStatus(), is(OutboxMessageStatus.FAILED));
+            assertThat(message.getRetryAttempts(), is(1));
+            verify(outboxMessageRepository, never()).markSent(anyCollection(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive Drain Tests")
+    class AdaptiveDrainTests {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+            ReflectionTestUtils.setField(outboxRelay, "maxBatchSize", 8);
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
+        }
+
+        @Test
+        @DisplayName("Should keep draining and double batch size while batches come back full")
+        void shouldKeepDrainingAndDoubleBatchSizeWhileBatchesComeBackFull() {
+            // Arrange
+            when(outboxMessageClaimer.claim(2, 0, 1)).thenReturn(createMessages(2));
+            when(outboxMessageClaimer.claim(4, 0, 1)).thenReturn(createMessages(4));
+            when(outboxMessageClaimer.claim(8, 0, 1)).thenReturn(createMessages(1));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            InOrder order = inOrder(outboxMessageClaimer);
+            order.verify(outboxMessageClaimer).claim(2, 0, 1);
+            order.verify(outboxMessageClaimer).claim(4, 0, 1);
+            order.verify(outboxMessageClaimer).claim(8, 0, 1);
+            verify(outboxMessageRepository, times(3)).markSent(anyCollection(), any(Instant.class));
+            verify(relayMetrics).recordDrainLoop(eq(0), eq(7L), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should cap batch size at the configured ceiling")
+        void shouldCapBatchSizeAtTheConfiguredCeiling() {
+            // Arrange
+            ReflectionTestUtils.setField(outboxRelay, "maxBatchSize", 4);
+            when(outboxMessageClaimer.claim(2, 0, 1)).thenReturn(createMessages(2));
+            when(outboxMessageClaimer.claim(4, 0, 1)).thenReturn(createMessages(4)).thenReturn(createMessages(3));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            verify(outboxMessageClaimer, times(1)).claim(2, 0, 1);
+            verify(outboxMessageClaimer, times(2)).claim(4, 0, 1);
+            verify(relayMetrics, times(2)).recordBatchSize(0, 4);
+        }
+
+        @Test
+        @DisplayName("Should halve batch size when a drain comes back empty")
+        void shouldHalveBatchSizeWhenADrainComesBackEmpty() {
+            // Arrange
+            when(outboxMessageClaimer.claim(2, 0, 1)).thenReturn(createMessages(2));
+            when(outboxMessageClaimer.claim(4, 0, 1)).thenReturn(createMessages(4));
+            when(outboxMessageClaimer.claim(8, 0, 1)).thenReturn(Collections.emptyList());
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            InOrder order = inOrder(relayMetrics);
+            order.verify(relayMetrics).recordBatchSize(0, 4);
+            order.verify(relayMetrics).recordBatchSize(0, 8);
+            order.verify(relayMetrics).recordBatchSize(0, 4);
+        }
+
+        @Test
+        @DisplayName("Should stop draining after a partial batch")
+        void shouldStopDrainingAfterAPartialBatch() {
+            // Arrange
+            when(outboxMessageClaimer.claim(2, 0, 1)).thenReturn(createMessages(1));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(outboxMessage).setRetryAttempts(5);
-            verify(outboxMessage).setStatus(OutboxMessageStatus.DEAD_LETTER);
-            verify(outboxMessage).setNextAttemptAt(null);
+            verify(outboxMessageClaimer, times(1)).claim(anyInt(), anyInt(), anyInt());
+            verify(relayMetrics, never()).recordBatchSize(anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should respect the configured maximum rate")
+        void shouldRespectTheConfiguredMaximumRate() {
+            // Arrange
+            ReflectionTestUtils.setField(outboxRelay, "maxBatchSize", 2);
+            ReflectionTestUtils.setField(outboxRelay, "maxRatePerSecond", 20L);
+            when(outboxMessageClaimer.claim(2, 0, 1))
+                .thenReturn(createMessages(2))
+                .thenReturn(createMessages(2))
+                .thenReturn(Collections.emptyList());
+
+            // Act
+            long start = System.nanoTime();
+            outboxRelay.processOutbox();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Assert
+            assertThat(elapsedMillis, is(greaterThanOrEqualTo(150L)));
+            verify(outboxMessageClaimer, times(3)).claim(2, 0, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lane Tests")
+    class LaneTests {
+
+        @Test
+        @DisplayName("Should drain every lane with its own hash partition")
+        void shouldDrainEveryLaneWithItsOwnHashPartition() {
+            // Arrange
+            ReflectionTestUtils.setField(outboxRelay, "laneCount", 3);
+            when(outboxMessageClaimer.claim(anyInt(), anyInt(), eq(3))).thenReturn(Collections.emptyList());
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            verify(outboxMessageClaimer).claim(10, 0, 3);
+            verify(outboxMessageClaimer).claim(10, 1, 3);
+            verify(outboxMessageClaimer).claim(10, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Should drain again when woken up while the lane is busy")
+        void shouldDrainAgainWhenWokenUpWhileTheLaneIsBusy() {
+            // Arrange
+            when(outboxMessageClaimer.claim(10, 0, 1))
+                .thenAnswer(invocation -> {
+                    outboxRelay.processOutbox();
+                    return Collections.emptyList();
+                })
+                .thenReturn(Collections.emptyList());
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            verify(outboxMessageClaimer, times(2)).claim(10, 0, 1);
+        }
+
+        @Test
+        @DisplayName("Should keep draining other lanes when one lane fails")
+        void shouldKeepDrainingOtherLanesWhenOneLaneFails() {
+            // Arrange
+            ReflectionTestUtils.setField(outboxRelay, "laneCount", 2);
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            when(outboxMessageClaimer.claim(10, 0, 2)).thenThrow(new IllegalStateException("lock timeout"));
+            when(outboxMessageClaimer.claim(10, 1, 2)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
+
+            // Act
+            assertDoesNotThrow(() -> outboxRelay.processOutbox());
+
+            // Assert
+            assertThat(captureMarkedSentIds(), contains(message.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should record ack latency and sent outcome per event type")
+        void shouldRecordAckLatencyAndSentOutcomePerEventType() {
+            // Arrange
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, 0);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            verify(relayMetrics).recordAck(eq("EMPLOYEE_STATUS_CHANGED_EVENT"), any(Duration.class), anyLong());
+            verify(relayMetrics).recordOutcome("EMPLOYEE_STATUS_CHANGED_EVENT", "sent");
+            verify(relayMetrics).recordCycle(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should record failed and dead letter outcomes without ack latency")
+        void shouldRecordFailedAndDeadLetterOutcomesWithoutAckLatency() {
+            // Arrange
+            OutboxMessage retried = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            OutboxMessage exhausted = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 4);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(retried, exhausted));
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            verify(relayMetrics).recordOutcome("EMPLOYEE_CREATED_EVENT", "failed");
+            verify(relayMetrics).recordOutcome("EMPLOYEE_CREATED_EVENT", "dead_letter");
+            verify(relayMetrics, never()).recordAck(any(), any(), anyLong());
         }
     }
 
@@ -265,46 +546,79 @@ class OutboxRelayTest {
         void shouldHandleInvalidBackoffDurationFormat() {
             // Act & Assert
             assertThrows(NumberFormatException.class, () -> {
-                new OutboxRelay(outboxMessageRepository, kafkaTemplate, 1, "invalid,format");
+                new OutboxRelay(outboxMessageRepository, outboxMessageClaimer, kafkaTemplate, relayMetrics, 1, "invalid,format");
             });
         }
 
         @Test
-        @DisplayName("Should handle unexpected processing exception")
-        void shouldHandleUnexpectedProcessingException() {
+        @DisplayName("Should schedule retry with backoff on unexpected processing exception")
+        void shouldScheduleRetryWithBackoffOnUnexpectedProcessingException() {
+            // Arrange
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0);
+            Instant leaseUntil = message.getNextAttemptAt();
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenThrow(new RuntimeException("Kafka error"));
+
+            // Act
+            outboxRelay.processOutbox();
+
+            // Assert
+            assertThat(message.getStatus(), is(OutboxMessageStatus.FAILED));
+            assertThat(message.getRetryAttempts(), is(1));
+            assertThat(message.getNextAttemptAt().equals(leaseUntil), is(false));
+            verify(outboxMessageRepository).markFailed(eq(List.of(message.getId())), eq(OutboxMessageStatus.FAILED),
+                eq(1), eq(message.getNextAttemptAt()), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("Should dead letter after max retries on unexpected processing exception")
+        void shouldDeadLetterAfterMaxRetriesOnUnexpectedProcessingException() {
             // Arrange
-            setupOutboxMessage1234(EventType.EMPLOYEE_CREATED_EVENT);
-            when(outboxMessageRepository.findByStatusInAndNextAttemptAtBeforeOrderByOccurredOnAsc(
-                any(), any(), any())).thenReturn(List.of(outboxMessage));
-            when(kafkaTemplate.send(any(), any(), any())).thenThrow(new RuntimeException("Kafka error"));
+            OutboxMessage message = createMessage(EventType.EMPLOYEE_CREATED_EVENT, 4);
+            when(outboxMessageClaimer.claim(10, 0, 1)).thenReturn(List.of(message));
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenThrow(new RuntimeException("Kafka error"));
 
             // Act
             outboxRelay.processOutbox();
 
             // Assert
-            verify(outboxMessage).setStatus(OutboxMessageStatus.FAILED);
-            verify(outboxMessage).setProcessedAt(any(Instant.class));
+            assertThat(message.getStatus(), is(OutboxMessageStatus.DEAD_LETTER));
+            verify(outboxMessageRepository).markFailed(eq(List.of(message.getId())), eq(OutboxMessageStatus.DEAD_LETTER),
+                eq(5), isNull(), any(Instant.class));
         }
     }
 
-    private void setupOutboxMessage(EventType eventType) {
-        when(outboxMessage.getId()).thenReturn(UUID.randomUUID());
-        when(outboxMessage.getAggregateId()).thenReturn(aggregateId);
-        when(outboxMessage.getPayload()).thenReturn(payload);
-        when(outboxMessage.getEventType()).thenReturn(eventType.name());
-        when(outboxMessage.getRetryAttempts()).thenReturn(0);
+    @SuppressWarnings("unchecked")
+    private List<ProducerRecord<String, byte[]>> captureSentRecords() {
+        ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, atLeastOnce()).send(recordCaptor.capture());
+        return recordCaptor.getAllValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<UUID> captureMarkedSentIds() {
+        ArgumentCaptor<Collection<UUID>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxMessageRepository).markSent(idsCaptor.capture(), any(Instant.class));
+        return idsCaptor.getValue();
     }
 
-    private void setupOutboxMessage234(EventType eventType) {
-        when(outboxMessage.getAggregateId()).thenReturn(aggregateId);
-        when(outboxMessage.getPayload()).thenReturn(payload);
-        when(outboxMessage.getEventType()).thenReturn(eventType.name());
+    private List<OutboxMessage> createMessages(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> createMessage(EventType.EMPLOYEE_CREATED_EVENT, 0))
+            .toList();
     }
 
-     private void setupOutboxMessage1234(EventType eventType) {
-        when(outboxMessage.getId()).thenReturn(UUID.randomUUID());
-        when(outboxMessage.getAggregateId()).thenReturn(aggregateId);
-        when(outboxMessage.getPayload()).thenReturn(payload);
-        when(outboxMessage.getEventType()).thenReturn(eventType.name());
-     }
-}
\ No newline at end of file
+    private OutboxMessage createMessage(EventType eventType, int retryAttempts) {
+        return OutboxMessage.builder()
+            .id(UUID.randomUUID())
+            .aggregateId(aggregateId)
+            .aggregateType("Employee")
+            .eventType(eventType.name())
+            .payload(payload)
+            .status(retryAttempts == 0 ? OutboxMessageStatus.PENDING : OutboxMessageStatus.FAILED)
+            .occurredOn(Instant.now())
+            .nextAttemptAt(Instant.now().plusSeconds(30))
+            .retryAttempts(retryAttempts)
+            .build();
+    }
+}
@@ -0,0 +1,234 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka.backpressure;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import com.itau.hr.people_management.infrastructure.kafka.backpressure.ConsumerBackpressureController;
+import com.itau.hr.people_management.infrastructure.kafka.metrics.EmployeeConsumerMetrics;
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConsumerBackpressureController Unit Tests")
+class ConsumerBackpressureControllerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger pendingThreads;
+    private Timer connectionAcquire;
+    private ConsumerBackpressureController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pendingThreads = new AtomicInteger();
+        Gauge.builder("hikaricp.connections.pending", pendingThreads, AtomicInteger::get).tag("pool", "HikariPool-1").register(meterRegistry);
+        connectionAcquire = Timer.builder("hikaricp.connections.acquire").tag("pool", "HikariPool-1").register(meterRegistry);
+        controller = controller(true);
+    }
+
+    @Nested
+    @DisplayName("Pause Tests")
+    class PauseTests {
+
+        @Test
+        @DisplayName("Should pause every container when threads wait for connections")
+        void shouldPauseEveryContainerWhenThreadsWaitForConnections() {
+            // Arrange
+            when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+            when(container.getContainerProperties()).thenReturn(new ContainerProperties("employee.created"));
+            pendingThreads.set(5);
+
+            // Act
+            controller.check();
+
+            // Assert
+            verify(container).pause();
+            assertThat(controller.isPaused(), is(true));
+            assertThat(meterRegistry.get("kafka.consumer.backpressure.paused").gauge().value(), is(1.0));
+        }
+
+        @Test
+        @DisplayName("Should pause when acquiring a connection takes longer than the latency threshold")
+        void shouldPauseWhenAcquiringAConnectionTakesLongerThanTheLatencyThreshold() {
+            // Arrange
+            when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+            when(container.getContainerProperties()).thenReturn(new ContainerProperties("employee.created"));
+            connectionAcquire.record(800, TimeUnit.MILLISECONDS);
+            connectionAcquire.record(600, TimeUnit.MILLISECONDS);
+
+            // Act
+            controller.check();
+
+            // Assert
+            verify(container).pause();
+        }
+
+        @Test
+        @DisplayName("Should not pause while connections are slow to return but quick to acquire")
+        void shouldNotPauseWhileConnectionsAreSlowToReturnButQuickToAcquire() {
+            // Arrange
+            Timer connectionUsage = Timer.builder("hikaricp.connections.usage").tag("pool", "HikariPool-1").register(meterRegistry);
+            connectionUsage.record(2, TimeUnit.SECONDS);
+            connectionAcquire.record(1, TimeUnit.MILLISECONDS);
+
+            // Act
+            controller.check();
+
+            // Assert
+            assertThat(controller.isPaused(), is(false));
+            verifyNoInteractions(listenerRegistry);
+        }
+
+        @Test
+        @DisplayName("Should only consider connection acquire time since the previous check")
+        void shouldOnlyConsiderConnectionAcquireTimeSinceThePreviousCheck() {
+            // Arrange
+            connectionAcquire.record(300, TimeUnit.MILLISECONDS);
+            controller.check();
+            connectionAcquire.record(20, TimeUnit.MILLISECONDS);
+
+            // Act
+            controller.check();
+
+            // Assert
+            assertThat(controller.isPaused(), is(false));
+            verifyNoInteractions(listenerRegistry);
+        }
+
+        @Test
+        @DisplayName("Should pause when threads wait at the connection bulkhead")
+        void shouldPauseWhenThreadsWaitAtTheConnectionBulkhead() {
+            // Arrange
+            when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+            when(container.getContainerProperties()).thenReturn(new ContainerProperties("employee.created"));
+            AtomicInteger bulkheadWaiting = new AtomicInteger(3);
+            Gauge.builder("datasource.bulkhead.waiting", bulkheadWaiting, AtomicInteger::get).register(meterRegistry);
+            pendingThreads.set(2);
+
+            // Act
+            controller.check();
+
+            // Assert
+            verify(container).pause();
+            assertThat(controller.isPaused(), is(true));
+        }
+
+        @Test
+        @DisplayName("Should leave retry-level containers and containers paused by someone else alone")
+        void shouldLeaveRetryLevelContainersAndContainersPausedBySomeoneElseAlone() {
+            // Arrange
+            MessageListenerContainer retryLevel = mock(MessageListenerContainer.class);
+            MessageListenerContainer pausedElsewhere = mock(MessageListenerContainer.class);
+            when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container, retryLevel, pausedElsewhere));
+            when(container.getContainerProperties()).thenReturn(new ContainerProperties("employee.created"));
+            when(retryLevel.getContainerProperties()).thenReturn(new ContainerProperties("employee.created.retry-2"));
+            when(pausedElsewhere.isPauseRequested()).thenReturn(true);
+            pendingThreads.set(5);
+
+            // Act
+            controller.check();
+            pendingThreads.set(0);
+            controller.check();
+
+            // Assert
+            verify(container).pause();
+            verify(container).resume();
+            verify(retryLevel, never()).pause();
+            verify(retryLevel, never()).resume();
+            verify(pausedElsewhere, never()).pause();
+            verify(pausedElsewhere, never()).resume();
+        }
+
+        @Test
+        @DisplayName("Should not pause when backpressure is disabled")
+        void shouldNotPauseWhenBackpressureIsDisabled() {
+            // Arrange
+            ConsumerBackpressureController disabled = controller(false);
+            pendingThreads.set(50);
+
+            // Act
+            disabled.check();
+
+            // Assert
+            verifyNoInteractions(listenerRegistry);
+        }
+    }
+
+    @Nested
+    @DisplayName("Resume Tests")
+    class ResumeTests {
+
+        @BeforeEach
+        void pause() {
+            when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+            when(container.getContainerProperties()).thenReturn(new ContainerProperties("employee.created"));
+            pendingThreads.set(8);
+            controller.check();
+        }
+
+        @Test
+        @DisplayName("Should stay paused between the resume and pause thresholds")
+        void shouldStayPausedBetweenTheResumeAndPauseThresholds() {
+            // Arrange
+            pendingThreads.set(3);
+
+            // Act
+            controller.check();
+
+            // Assert
+            assertThat(controller.isPaused(), is(true));
+            verify(container, never()).resume();
+        }
+
+        @Test
+        @DisplayName("Should resume once the pool drains and record the pause time")
+        void shouldResumeOnceThePoolDrainsAndRecordThePauseTime() {
+            // Arrange
+            pendingThreads.set(0);
+
+            // Act
+            controller.check();
+
+            // Assert
+            assertThat(controller.isPaused(), is(false));
+            verify(container, times(1)).resume();
+            assertThat(meterRegistry.get("kafka.consumer.backpressure.paused").gauge().value(), is(0.0));
+            assertThat(meterRegistry.get("kafka.consumer.backpressure.pause").timer().count(), is(1L));
+        }
+    }
+
+    private ConsumerBackpressureController controller(boolean enabled) {
+        return new ConsumerBackpressureController(listenerRegistry, meterRegistry, new EmployeeConsumerMetrics(meterRegistry),
+            new EmployeeEventRetryTopics(List.of(1_000L, 10_000L)), enabled, 5, 0, 500, 100);
+    }
+}
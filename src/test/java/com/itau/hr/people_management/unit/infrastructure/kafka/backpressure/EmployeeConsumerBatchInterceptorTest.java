@@ -0,0 +1,93 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka.backpressure;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.infrastructure.kafka.backpressure.EmployeeConsumerBatchInterceptor;
+import com.itau.hr.people_management.infrastructure.kafka.metrics.EmployeeConsumerMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeConsumerBatchInterceptor Unit Tests")
+class EmployeeConsumerBatchInterceptorTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("employee.created", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("employee.created", 1);
+
+    @Mock
+    private Consumer<Object, Object> consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeConsumerBatchInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new EmployeeConsumerBatchInterceptor(new EmployeeConsumerMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Should publish the lag of the polled partitions summed per topic")
+    void shouldPublishTheLagOfThePolledPartitionsSummedPerTopic() {
+        // Arrange
+        ConsumerRecords<Object, Object> records = records();
+        when(consumer.currentLag(PARTITION_0)).thenReturn(OptionalLong.of(120));
+        when(consumer.currentLag(PARTITION_1)).thenReturn(OptionalLong.of(30));
+
+        // Act
+        ConsumerRecords<Object, Object> intercepted = interceptor.intercept(records, consumer);
+
+        // Assert
+        assertThat(intercepted, is(sameInstance(records)));
+        assertThat(meterRegistry.get("kafka.consumer.lag").tag("topic", "employee.created").gauge().value(), is(150.0));
+    }
+
+    @Test
+    @DisplayName("Should count records in flight until the listener finishes")
+    void shouldCountRecordsInFlightUntilTheListenerFinishes() {
+        // Arrange
+        ConsumerRecords<Object, Object> records = records();
+        when(consumer.currentLag(PARTITION_0)).thenReturn(OptionalLong.empty());
+        when(consumer.currentLag(PARTITION_1)).thenReturn(OptionalLong.empty());
+
+        // Act
+        interceptor.intercept(records, consumer);
+
+        // Assert
+        assertThat(meterRegistry.get("kafka.consumer.in.flight").gauge().value(), is(3.0));
+
+        // Act
+        interceptor.failure(records, new IllegalStateException("Database down"), consumer);
+
+        // Assert
+        assertThat(meterRegistry.get("kafka.consumer.in.flight").gauge().value(), is(0.0));
+    }
+
+    private static ConsumerRecords<Object, Object> records() {
+        return new ConsumerRecords<>(Map.of(
+            PARTITION_0, List.of(record(PARTITION_0, 0), record(PARTITION_0, 1)),
+            PARTITION_1, List.of(record(PARTITION_1, 0))));
+    }
+
+    private static ConsumerRecord<Object, Object> record(TopicPartition partition, long offset) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", new byte[0]);
+    }
+}
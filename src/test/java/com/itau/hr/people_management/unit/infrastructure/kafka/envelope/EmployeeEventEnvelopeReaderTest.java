@@ -0,0 +1,116 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka.envelope;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.kafka.EmployeeEventHeaders;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelopeReader;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
+
+@DisplayName("EmployeeEventEnvelopeReader Unit Tests")
+class EmployeeEventEnvelopeReaderTest {
+
+    private OutboxPayloadCodec codec;
+    private EmployeeEventEnvelopeReader reader;
+
+    @BeforeEach
+    void setUp() {
+        codec = new OutboxPayloadCodec(new ObjectMapper().findAndRegisterModules(), OutboxPayloadFormat.SMILE);
+        reader = new EmployeeEventEnvelopeReader(codec);
+    }
+
+    @Test
+    @DisplayName("Should decode using the event type header")
+    void shouldDecodeUsingTheEventTypeHeader() throws IOException {
+        // Arrange
+        EmployeeStatusChangedEvent event = new EmployeeStatusChangedEvent(UUID.randomUUID(), EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE);
+        ConsumerRecord<String, byte[]> message = record(codec.encode(event, OutboxPayloadFormat.SMILE));
+        EmployeeEventHeaders.write(message.headers(), EventType.EMPLOYEE_STATUS_CHANGED_EVENT.name(),
+            OutboxPayloadFormat.SMILE.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION);
+
+        // Act
+        EmployeeEventEnvelope<?> envelope = reader.read(message, EventType.EMPLOYEE_CREATED_EVENT);
+
+        // Assert
+        assertThat(envelope.eventType(), is(EventType.EMPLOYEE_STATUS_CHANGED_EVENT));
+        assertThat(envelope.event(), is(event));
+        assertThat(envelope.eventId(), is(event.eventId()));
+        assertThat(envelope.employeeId(), is(event.employeeId()));
+        assertThat(envelope.occurredOn(), is(event.occurredOn()));
+        assertThat(envelope.isComplete(), is(true));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the topic event type when the header is absent")
+    void shouldFallBackToTheTopicEventTypeWhenTheHeaderIsAbsent() throws IOException {
+        // Arrange
+        EmployeeCreatedEvent event = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+        ConsumerRecord<String, byte[]> message = record(codec.encode(event, OutboxPayloadFormat.JSON));
+
+        // Act
+        EmployeeEventEnvelope<?> envelope = reader.read(message, EventType.EMPLOYEE_CREATED_EVENT);
+
+        // Assert
+        assertThat(envelope.eventType(), is(EventType.EMPLOYEE_CREATED_EVENT));
+        assertThat(envelope.event(), is(event));
+    }
+
+    @Test
+    @DisplayName("Should report incomplete envelope when required fields are missing")
+    void shouldReportIncompleteEnvelopeWhenRequiredFieldsAreMissing() throws IOException {
+        // Arrange
+        EmployeeStatusChangedEvent event = new EmployeeStatusChangedEvent(UUID.randomUUID(), EmployeeStatus.ACTIVE, null);
+        ConsumerRecord<String, byte[]> message = record(codec.encode(event, OutboxPayloadFormat.JSON));
+
+        // Act
+        EmployeeEventEnvelope<?> envelope = reader.read(message, EventType.EMPLOYEE_STATUS_CHANGED_EVENT);
+
+        // Assert
+        assertThat(envelope.isComplete(), is(false));
+    }
+
+    @Test
+    @DisplayName("Should report incomplete envelope for null payload")
+    void shouldReportIncompleteEnvelopeForNullPayload() throws IOException {
+        // Arrange
+        ConsumerRecord<String, byte[]> message = record("null".getBytes());
+
+        // Act
+        EmployeeEventEnvelope<?> envelope = reader.read(message, EventType.EMPLOYEE_CREATED_EVENT);
+
+        // Assert
+        assertThat(envelope.isComplete(), is(false));
+    }
+
+    @Test
+    @DisplayName("Should throw when the event type has no binding")
+    void shouldThrowWhenTheEventTypeHasNoBinding() {
+        // Arrange
+        ConsumerRecord<String, byte[]> message = record("{}".getBytes());
+        EmployeeEventHeaders.write(message.headers(), "UNKNOWN_EVENT",
+            OutboxPayloadFormat.JSON.contentType(), OutboxPayloadCodec.CURRENT_SCHEMA_VERSION);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> reader.read(message, EventType.EMPLOYEE_CREATED_EVENT));
+    }
+
+    private static ConsumerRecord<String, byte[]> record(byte[] payload) {
+        return new ConsumerRecord<>("employee.events", 0, 0L, "key", payload);
+    }
+}
@@ -0,0 +1,52 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka.envelope;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventBinding;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventEnvelope;
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventHandlerRegistry;
+
+@DisplayName("EmployeeEventHandlerRegistry Unit Tests")
+class EmployeeEventHandlerRegistryTest {
+
+    private final EmployeeEventHandlerRegistry<String> registry = new EmployeeEventHandlerRegistry<String>()
+        .on(EmployeeEventBinding.EMPLOYEE_CREATED, EmployeeCreatedEvent::employeeName)
+        .on(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED, event -> event.oldStatus() + "->" + event.newStatus());
+
+    @Test
+    @DisplayName("Should dispatch each envelope to the handler of its event type")
+    void shouldDispatchEachEnvelopeToTheHandlerOfItsEventType() {
+        // Arrange
+        EmployeeEventEnvelope<EmployeeCreatedEvent> created = new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_CREATED,
+            new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com"));
+        EmployeeEventEnvelope<EmployeeStatusChangedEvent> statusChanged = new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED,
+            new EmployeeStatusChangedEvent(UUID.randomUUID(), EmployeeStatus.ACTIVE, EmployeeStatus.TERMINATED));
+
+        // Act & Assert
+        assertThat(registry.dispatch(created), is("John Doe"));
+        assertThat(registry.dispatch(statusChanged), is("ACTIVE->TERMINATED"));
+    }
+
+    @Test
+    @DisplayName("Should throw when no handler is registered for the event type")
+    void shouldThrowWhenNoHandlerIsRegisteredForTheEventType() {
+        // Arrange
+        EmployeeEventHandlerRegistry<String> createdOnly = new EmployeeEventHandlerRegistry<String>()
+            .on(EmployeeEventBinding.EMPLOYEE_CREATED, EmployeeCreatedEvent::employeeName);
+        EmployeeEventEnvelope<EmployeeStatusChangedEvent> statusChanged = new EmployeeEventEnvelope<>(EmployeeEventBinding.EMPLOYEE_STATUS_CHANGED,
+            new EmployeeStatusChangedEvent(UUID.randomUUID(), EmployeeStatus.ACTIVE, EmployeeStatus.TERMINATED));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> createdOnly.dispatch(statusChanged));
+    }
+}
@@ -0,0 +1,124 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka.keyed;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.infrastructure.kafka.envelope.EmployeeEventRecord;
+import com.itau.hr.people_management.infrastructure.kafka.keyed.KeyedRecordExecutor;
+import com.itau.hr.people_management.infrastructure.kafka.keyed.PollOffsetTracker;
+
+@DisplayName("KeyedRecordExecutor Unit Tests")
+class KeyedRecordExecutorTest {
+
+    private static final int MAX_IN_FLIGHT = 3;
+
+    private KeyedRecordExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyedRecordExecutor(MAX_IN_FLIGHT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should keep records of the same key in offset order")
+    void shouldKeepRecordsOfTheSameKeyInOffsetOrder() {
+        // Arrange
+        List<EmployeeEventRecord> records = new ArrayList<>();
+        for (int offset = 0; offset < 60; offset++) {
+            records.add(record("employee-" + offset % 4, offset));
+        }
+        Map<String, List<Long>> processed = new ConcurrentHashMap<>();
+
+        // Act
+        PollOffsetTracker tracker = executor.process(records, eventRecord -> {
+            sleep(1);
+            processed.computeIfAbsent(eventRecord.message().key(), key -> new CopyOnWriteArrayList<>()).add(eventRecord.message().offset());
+        });
+
+        // Assert
+        assertThat(tracker.firstIncomplete(), is(OptionalInt.empty()));
+        assertThat(processed.get("employee-1"), contains(1L, 5L, 9L, 13L, 17L, 21L, 25L, 29L, 33L, 37L, 41L, 45L, 49L, 53L, 57L));
+    }
+
+    @Test
+    @DisplayName("Should never run more records at once than the in-flight bound")
+    void shouldNeverRunMoreRecordsAtOnceThanTheInFlightBound() {
+        // Arrange
+        List<EmployeeEventRecord> records = new ArrayList<>();
+        for (int offset = 0; offset < 40; offset++) {
+            records.add(record("employee-" + offset, offset));
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // Act
+        executor.process(records, eventRecord -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+        });
+
+        // Assert
+        assertThat(maxRunning.get(), is(lessThanOrEqualTo(MAX_IN_FLIGHT)));
+    }
+
+    @Test
+    @DisplayName("Should stop a key at its first failure and report the earliest incomplete record")
+    void shouldStopAKeyAtItsFirstFailureAndReportTheEarliestIncompleteRecord() {
+        // Arrange
+        List<EmployeeEventRecord> records = List.of(
+            record("employee-a", 0), record("employee-b", 1), record("employee-a", 2), record("employee-b", 3), record("employee-a", 4));
+        RuntimeException failure = new IllegalStateException("Database down");
+        List<Long> processed = new CopyOnWriteArrayList<>();
+
+        // Act
+        PollOffsetTracker tracker = executor.process(records, eventRecord -> {
+            if (eventRecord.message().offset() == 2) {
+                throw failure;
+            }
+            processed.add(eventRecord.message().offset());
+        });
+
+        // Assert
+        assertThat(tracker.firstIncomplete(), is(OptionalInt.of(2)));
+        assertThat(tracker.failure(2), is(sameInstance(failure)));
+        assertThat(tracker.failure(4), is(nullValue()));
+        assertThat(processed.contains(4L), is(false));
+        assertThat(processed.containsAll(List.of(0L, 1L, 3L)), is(true));
+    }
+
+    private static EmployeeEventRecord record(String key, long offset) {
+        return new EmployeeEventRecord(new ConsumerRecord<>("employee.created", 0, offset, key, new byte[0]), null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
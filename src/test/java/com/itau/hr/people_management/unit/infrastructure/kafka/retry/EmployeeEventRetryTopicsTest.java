@@ -0,0 +1,109 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka.retry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.infrastructure.kafka.retry.EmployeeEventRetryTopics;
+
+@DisplayName("EmployeeEventRetryTopics Unit Tests")
+class EmployeeEventRetryTopicsTest {
+
+    private EmployeeEventRetryTopics retryTopics;
+
+    @BeforeEach
+    void setUp() {
+        retryTopics = new EmployeeEventRetryTopics(List.of(1_000L, 10_000L, 60_000L));
+    }
+
+    @Nested
+    @DisplayName("Topic Chain Tests")
+    class TopicChainTests {
+
+        @Test
+        @DisplayName("Should name one retry topic per delay followed by the dead-letter topic")
+        void shouldNameOneRetryTopicPerDelayFollowedByTheDeadLetterTopic() {
+            // Act
+            List<String> topics = retryTopics.allTopics("employee.created");
+
+            // Assert
+            assertThat(topics, contains("employee.created.retry-1", "employee.created.retry-2",
+                "employee.created.retry-3", "employee.created.dlt"));
+        }
+
+        @Test
+        @DisplayName("Should move a record one retry level further on each failure")
+        void shouldMoveARecordOneRetryLevelFurtherOnEachFailure() {
+            // Act & Assert
+            assertThat(retryTopics.nextTopic("employee.status.changed"), is("employee.status.changed.retry-1"));
+            assertThat(retryTopics.nextTopic("employee.status.changed.retry-1"), is("employee.status.changed.retry-2"));
+            assertThat(retryTopics.nextTopic("employee.status.changed.retry-3"), is("employee.status.changed.dlt"));
+        }
+
+        @Test
+        @DisplayName("Should resolve the main topic of every topic in the chain")
+        void shouldResolveTheMainTopicOfEveryTopicInTheChain() {
+            // Act & Assert
+            assertThat(retryTopics.mainTopic("employee.created"), is("employee.created"));
+            assertThat(retryTopics.mainTopic("employee.created.retry-2"), is("employee.created"));
+            assertThat(retryTopics.mainTopic("employee.created.dlt"), is("employee.created"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Due Time Tests")
+    class DueTimeTests {
+
+        @Test
+        @DisplayName("Should stamp the delay of the destination retry level")
+        void shouldStampTheDelayOfTheDestinationRetryLevel() {
+            // Arrange
+            long before = System.currentTimeMillis();
+
+            // Act
+            Headers headers = retryTopics.dueAtHeader("employee.created.retry-2");
+
+            // Assert
+            long dueAt = ByteBuffer.wrap(headers.lastHeader(EmployeeEventRetryTopics.RETRY_DUE_AT).value()).getLong();
+            assertThat(dueAt - before, is(greaterThan(9_000L)));
+            assertThat(dueAt - before, is(lessThanOrEqualTo(11_000L)));
+        }
+
+        @Test
+        @DisplayName("Should not stamp records sent to the dead-letter topic")
+        void shouldNotStampRecordsSentToTheDeadLetterTopic() {
+            // Act
+            Headers headers = retryTopics.dueAtHeader("employee.created.dlt");
+
+            // Assert
+            assertThat(headers.lastHeader(EmployeeEventRetryTopics.RETRY_DUE_AT), is(nullValue()));
+        }
+
+        @Test
+        @DisplayName("Should report the time left until the record is due")
+        void shouldReportTheTimeLeftUntilTheRecordIsDue() {
+            // Arrange
+            ConsumerRecord<String, byte[]> pending = new ConsumerRecord<>("employee.created.retry-1", 0, 0L, "key", new byte[0]);
+            pending.headers().add(retryTopics.dueAtHeader("employee.created.retry-1").lastHeader(EmployeeEventRetryTopics.RETRY_DUE_AT));
+            ConsumerRecord<String, byte[]> unstamped = new ConsumerRecord<>("employee.created.retry-1", 0, 1L, "key", new byte[0]);
+
+            // Act & Assert
+            assertThat(retryTopics.remainingDelayMs(pending), is(greaterThan(0L)));
+            assertThat(retryTopics.remainingDelayMs(pending), is(lessThanOrEqualTo(1_000L)));
+            assertThat(retryTopics.remainingDelayMs(unstamped), is(0L));
+        }
+    }
+}
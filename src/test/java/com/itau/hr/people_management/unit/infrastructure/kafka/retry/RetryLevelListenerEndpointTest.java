@@ -0,0 +1,58 @@
+package com.itau.hr.people_management.unit.infrastructure.kafka.retry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ContainerPostProcessor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+
+import com.itau.hr.people_management.infrastructure.kafka.retry.RetryLevelListenerEndpoint;
+
+@DisplayName("RetryLevelListenerEndpoint Unit Tests")
+class RetryLevelListenerEndpointTest {
+
+    @SuppressWarnings("unchecked")
+    private final BatchAcknowledgingMessageListener<String, byte[]> listener = mock(BatchAcknowledgingMessageListener.class);
+
+    private final RetryLevelListenerEndpoint endpoint =
+        new RetryLevelListenerEndpoint("employee.created.retry-2", "people-management-service-group", listener);
+
+    @Test
+    @DisplayName("Should listen to its retry topic alone as a batch listener")
+    void shouldListenToItsRetryTopicAloneAsABatchListener() {
+        // Assert
+        assertThat(endpoint.getId(), is("employee.created.retry-2"));
+        assertThat(endpoint.getGroupId(), is("people-management-service-group"));
+        assertThat(endpoint.getTopics(), contains("employee.created.retry-2"));
+        assertThat(endpoint.getBatchListener(), is(true));
+    }
+
+    @Test
+    @DisplayName("Should switch its container to manual acknowledgment so records can be nacked")
+    @SuppressWarnings("unchecked")
+    void shouldSwitchItsContainerToManualAcknowledgmentSoRecordsCanBeNacked() {
+        // Arrange
+        AbstractMessageListenerContainer<Object, Object> container = mock(AbstractMessageListenerContainer.class);
+        ContainerProperties containerProperties = new ContainerProperties("employee.created.retry-2");
+        containerProperties.setAckMode(AckMode.BATCH);
+        when(container.getContainerProperties()).thenReturn(containerProperties);
+
+        // Act
+        endpoint.setupListenerContainer(container, null);
+        ((ContainerPostProcessor<Object, Object, AbstractMessageListenerContainer<Object, Object>>)
+            endpoint.getContainerPostProcessor()).postProcess(container);
+
+        // Assert
+        verify(container).setupMessageListener(listener);
+        assertThat(containerProperties.getAckMode(), is(AckMode.MANUAL));
+    }
+}
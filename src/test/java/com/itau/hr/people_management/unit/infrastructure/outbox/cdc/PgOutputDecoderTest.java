@@ -0,0 +1,243 @@
+package com.itau.hr.people_management.unit.infrastructure.outbox.cdc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Begin;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Commit;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Event;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Ignored;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.LogicalMessage;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.Operation;
+import com.itau.hr.people_management.infrastructure.outbox.cdc.PgOutputDecoder.RowChange;
+
+@DisplayName("PgOutputDecoder Unit Tests")
+class PgOutputDecoderTest {
+
+    private static final int RELATION_ID = 16_384;
+
+    private PgOutputDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new PgOutputDecoder();
+    }
+
+    @Nested
+    @DisplayName("Transaction Boundaries")
+    class TransactionBoundaries {
+
+        @Test
+        @DisplayName("Should decode begin with final LSN and commit time")
+        void shouldDecodeBeginWithFinalLsnAndCommitTime() throws IOException {
+            // Arrange - commit time is in microseconds since 2000-01-01
+            Message message = new Message('B').putLong(0x16B3748L).putLong(1_500_000L).putInt(750);
+
+            // Act
+            Event event = decoder.decode(message.toBuffer());
+
+            // Assert
+            assertThat(event, is(new Begin(0x16B3748L, Instant.parse("2000-01-01T00:00:01.500Z"))));
+        }
+
+        @Test
+        @DisplayName("Should decode commit with commit and end LSN")
+        void shouldDecodeCommitWithCommitAndEndLsn() throws IOException {
+            // Arrange
+            Message message = new Message('C').putByte(0).putLong(0x16B3748L).putLong(0x16B3778L).putLong(0L);
+
+            // Act
+            Event event = decoder.decode(message.toBuffer());
+
+            // Assert
+            assertThat(event, is(new Commit(0x16B3748L, 0x16B3778L)));
+        }
+
+        @Test
+        @DisplayName("Should decode logical message with prefix and content")
+        void shouldDecodeLogicalMessageWithPrefixAndContent() throws IOException {
+            // Arrange
+            byte[] content = "outbox_messages_201603".getBytes(StandardCharsets.UTF_8);
+            Message message = new Message('M').putByte(1).putLong(0x16B3748L).string("outbox_partition_move")
+                .putInt(content.length).putBytes(content);
+
+            // Act
+            Event event = decoder.decode(message.toBuffer());
+
+            // Assert
+            assertThat(event, is(new LogicalMessage(true, "outbox_partition_move", "outbox_messages_201603")));
+        }
+
+        @Test
+        @DisplayName("Should ignore message types the relay does not need")
+        void shouldIgnoreMessageTypesTheRelayDoesNotNeed() throws IOException {
+            // Act
+            Event event = decoder.decode(new Message('Y').putInt(1).toBuffer());
+
+            // Assert
+            assertThat(event, is(new Ignored('Y')));
+        }
+    }
+
+    @Nested
+    @DisplayName("Row Changes")
+    class RowChanges {
+
+        @BeforeEach
+        void sendRelation() throws IOException {
+            Event event = decoder.decode(relation("outbox_messages", "id", "status", "payload").toBuffer());
+            assertThat(event, instanceOf(Ignored.class));
+        }
+
+        @Test
+        @DisplayName("Should decode insert with text values of the cached relation")
+        void shouldDecodeInsertWithTextValuesOfTheCachedRelation() throws IOException {
+            // Arrange
+            Message message = new Message('I').putInt(RELATION_ID).putByte('N')
+                .putShort(3).text("6f1c7d1e-1a2b-4c3d-8e9f-0a1b2c3d4e5f").text("PENDING").text("\\x7b7d");
+
+            // Act
+            RowChange change = (RowChange) decoder.decode(message.toBuffer());
+
+            // Assert
+            assertThat(change.table(), is("outbox_messages"));
+            assertThat(change.operation(), is(Operation.INSERT));
+            assertThat(change.values(), hasEntry("status", "PENDING"));
+            assertThat(change.values(), hasEntry("payload", "\\x7b7d"));
+            assertThat(change.unchangedColumns(), is(empty()));
+        }
+
+        @Test
+        @DisplayName("Should decode update new tuple skipping the old key tuple")
+        void shouldDecodeUpdateNewTupleSkippingTheOldKeyTuple() throws IOException {
+            // Arrange
+            Message message = new Message('U').putInt(RELATION_ID)
+                .putByte('K').putShort(3).text("6f1c7d1e-1a2b-4c3d-8e9f-0a1b2c3d4e5f").nullValue().nullValue()
+                .putByte('N').putShort(3).text("6f1c7d1e-1a2b-4c3d-8e9f-0a1b2c3d4e5f").text("PENDING").unchanged();
+
+            // Act
+            RowChange change = (RowChange) decoder.decode(message.toBuffer());
+
+            // Assert
+            assertThat(change.operation(), is(Operation.UPDATE));
+            assertThat(change.values(), hasEntry("status", "PENDING"));
+            assertThat(change.unchangedColumns(), contains("payload"));
+        }
+
+        @Test
+        @DisplayName("Should decode null values")
+        void shouldDecodeNullValues() throws IOException {
+            // Arrange
+            Message message = new Message('I').putInt(RELATION_ID).putByte('N')
+                .putShort(3).text("6f1c7d1e-1a2b-4c3d-8e9f-0a1b2c3d4e5f").text("PENDING").nullValue();
+
+            // Act
+            RowChange change = (RowChange) decoder.decode(message.toBuffer());
+
+            // Assert
+            assertThat(change.values().containsKey("payload"), is(true));
+            assertThat(change.values().get("payload"), nullValue());
+        }
+
+        @Test
+        @DisplayName("Should throw when change refers to an unknown relation")
+        void shouldThrowWhenChangeRefersToAnUnknownRelation() throws IOException {
+            // Arrange
+            Message message = new Message('I').putInt(RELATION_ID + 1).putByte('N').putShort(0);
+
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> decoder.decode(message.toBuffer()));
+        }
+    }
+
+    private static Message relation(String table, String... columns) throws IOException {
+        Message message = new Message('R').putInt(RELATION_ID).string("public").string(table).putByte('d')
+            .putShort(columns.length);
+        for (String column : List.of(columns)) {
+            message.putByte(column.equals("id") ? 1 : 0).string(column).putInt(25).putInt(-1);
+        }
+        return message;
+    }
+
+    private static final class Message {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        Message(char type) throws IOException {
+            out.writeByte(type);
+        }
+
+        Message putByte(int value) throws IOException {
+            out.writeByte(value);
+            return this;
+        }
+
+        Message putShort(int value) throws IOException {
+            out.writeShort(value);
+            return this;
+        }
+
+        Message putInt(int value) throws IOException {
+            out.writeInt(value);
+            return this;
+        }
+
+        Message putLong(long value) throws IOException {
+            out.writeLong(value);
+            return this;
+        }
+
+        Message putBytes(byte[] value) throws IOException {
+            out.write(value);
+            return this;
+        }
+
+        Message string(String value) throws IOException {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+            out.writeByte(0);
+            return this;
+        }
+
+        Message text(String value) throws IOException {
+            byte[] data = value.getBytes(StandardCharsets.UTF_8);
+            out.writeByte('t');
+            out.writeInt(data.length);
+            out.write(data);
+            return this;
+        }
+
+        Message nullValue() throws IOException {
+            out.writeByte('n');
+            return this;
+        }
+
+        Message unchanged() throws IOException {
+            out.writeByte('u');
+            return this;
+        }
+
+        ByteBuffer toBuffer() {
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+}
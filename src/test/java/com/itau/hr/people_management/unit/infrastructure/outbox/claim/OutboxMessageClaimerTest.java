@@ -0,0 +1,131 @@
+package com.itau.hr.people_management.unit.infrastructure.outbox.claim;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.infrastructure.outbox.claim.OutboxMessageClaimer;
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.persistence.entity.OutboxMessage;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxMessageClaimer Unit Tests")
+class OutboxMessageClaimerTest {
+
+    private static final long LEASE_SECONDS = 30;
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    private OutboxMessageClaimer outboxMessageClaimer;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageClaimer = new OutboxMessageClaimer(outboxMessageRepository, LEASE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should lock batch with requested size")
+    void shouldLockBatchWithRequestedSize() {
+        // Arrange
+        when(outboxMessageRepository.lockNextBatch(any(), eq(25), eq(0), eq(1))).thenReturn(Collections.emptyList());
+
+        // Act
+        List<OutboxMessage> claimed = outboxMessageClaimer.claim(25, 0, 1);
+
+        // Assert
+        assertThat(claimed, is(empty()));
+        ArgumentCaptor<Instant> nowCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxMessageRepository).lockNextBatch(nowCaptor.capture(), eq(25), eq(0), eq(1));
+        assertThat(nowCaptor.getValue().isAfter(Instant.now()), is(false));
+    }
+
+    @Test
+    @DisplayName("Should push next attempt of claimed messages to the end of the lease")
+    void shouldPushNextAttemptOfClaimedMessagesToTheEndOfTheLease() {
+        // Arrange
+        Instant before = Instant.now();
+        OutboxMessage message = createMessage(before.minusSeconds(5));
+        when(outboxMessageRepository.lockNextBatch(any(), eq(10), eq(0), eq(1))).thenReturn(List.of(message));
+
+        // Act
+        outboxMessageClaimer.claim(10, 0, 1);
+
+        // Assert
+        Instant after = Instant.now();
+        assertThat(message.getNextAttemptAt().compareTo(before.plusSeconds(LEASE_SECONDS)), is(greaterThanOrEqualTo(0)));
+        assertThat(message.getNextAttemptAt().compareTo(after.plusSeconds(LEASE_SECONDS)), is(lessThanOrEqualTo(0)));
+        assertThat(message.getStatus(), is(OutboxMessageStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should return claimed messages ordered by occurrence")
+    void shouldReturnClaimedMessagesOrderedByOccurrence() {
+        // Arrange
+        Instant base = Instant.now().minusSeconds(60);
+        OutboxMessage latest = createMessage(base.plusSeconds(20));
+        OutboxMessage earliest = createMessage(base);
+        OutboxMessage middle = createMessage(base.plusSeconds(10));
+        when(outboxMessageRepository.lockNextBatch(any(), eq(10), eq(0), eq(1))).thenReturn(List.of(latest, earliest, middle));
+
+        // Act
+        List<OutboxMessage> claimed = outboxMessageClaimer.claim(10, 0, 1);
+
+        // Assert
+        assertThat(claimed, contains(earliest, middle, latest));
+    }
+
+    @Test
+    @DisplayName("Should only lock messages overdue by the requested margin but lease from now")
+    void shouldOnlyLockMessagesOverdueByTheRequestedMarginButLeaseFromNow() {
+        // Arrange
+        Instant before = Instant.now();
+        OutboxMessage message = createMessage(before.minusSeconds(300));
+        when(outboxMessageRepository.lockNextBatch(any(), eq(10), eq(0), eq(1))).thenReturn(List.of(message));
+
+        // Act
+        outboxMessageClaimer.claim(10, 0, 1, Duration.ofMinutes(1));
+
+        // Assert
+        ArgumentCaptor<Instant> dueBeforeCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxMessageRepository).lockNextBatch(dueBeforeCaptor.capture(), eq(10), eq(0), eq(1));
+        assertThat(dueBeforeCaptor.getValue().isAfter(Instant.now().minusSeconds(60)), is(false));
+        assertThat(dueBeforeCaptor.getValue().isBefore(before.minusSeconds(60)), is(false));
+        assertThat(message.getNextAttemptAt().compareTo(before.plusSeconds(LEASE_SECONDS)), is(greaterThanOrEqualTo(0)));
+    }
+
+    private OutboxMessage createMessage(Instant occurredOn) {
+        return OutboxMessage.builder()
+            .id(UUID.randomUUID())
+            .aggregateId(UUID.randomUUID())
+            .aggregateType("Employee")
+            .eventType("EMPLOYEE_CREATED_EVENT")
+            .payload(new byte[] {1})
+            .status(OutboxMessageStatus.PENDING)
+            .occurredOn(occurredOn)
+            .nextAttemptAt(occurredOn)
+            .build();
+    }
+}
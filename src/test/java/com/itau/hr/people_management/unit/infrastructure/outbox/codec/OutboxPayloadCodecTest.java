@@ -0,0 +1,173 @@
+package com.itau.hr.people_management.unit.infrastructure.outbox.codec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
+import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
+import com.itau.hr.people_management.infrastructure.outbox.exception.UnsupportedPayloadFormatException;
+
+@DisplayName("OutboxPayloadCodec Unit Tests")
+class OutboxPayloadCodecTest {
+
+    private ObjectMapper objectMapper;
+    private OutboxPayloadCodec codec;
+    private EmployeeCreatedEvent createdEvent;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        codec = new OutboxPayloadCodec(objectMapper, OutboxPayloadFormat.SMILE);
+        createdEvent = new EmployeeCreatedEvent(UUID.randomUUID(), "John Doe", "john.doe@example.com");
+    }
+
+    @Nested
+    @DisplayName("Encode/Decode Tests")
+    class EncodeDecodeTests {
+
+        @Test
+        @DisplayName("Should round-trip EmployeeCreatedEvent through Smile")
+        void shouldRoundTripEmployeeCreatedEventThroughSmile() throws IOException {
+            // Act
+            byte[] payload = codec.encode(createdEvent);
+            EmployeeCreatedEvent decoded = codec.decode(payload, OutboxPayloadFormat.SMILE.contentType(), 1, EmployeeCreatedEvent.class);
+
+            // Assert
+            assertThat(decoded, is(createdEvent));
+        }
+
+        @Test
+        @DisplayName("Should decode Smile payloads written with binary UUIDs")
+        void shouldDecodeSmilePayloadsWrittenWithBinaryUuids() throws IOException {
+            // Arrange - payloads already in the outbox or on Kafka before UUIDs were written as text
+            byte[] payload = objectMapper.copyWith(new SmileFactory()).writeValueAsBytes(createdEvent);
+
+            // Act
+            EmployeeCreatedEvent decoded = codec.decode(payload, OutboxPayloadFormat.SMILE.contentType(), 1, EmployeeCreatedEvent.class);
+
+            // Assert
+            assertThat(decoded, is(createdEvent));
+        }
+
+        @Test
+        @DisplayName("Should round-trip EmployeeStatusChangedEvent through JSON")
+        void shouldRoundTripEmployeeStatusChangedEventThroughJson() throws IOException {
+            // Arrange
+            EmployeeStatusChangedEvent event = new EmployeeStatusChangedEvent(UUID.randomUUID(), EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE);
+
+            // Act
+            byte[] payload = codec.encode(event, OutboxPayloadFormat.JSON);
+            EmployeeStatusChangedEvent decoded = codec.decode(payload, OutboxPayloadFormat.JSON.contentType(), 1, EmployeeStatusChangedEvent.class);
+
+            // Assert
+            assertThat(decoded, is(event));
+        }
+
+        @Test
+        @DisplayName("Should produce a smaller Smile payload than JSON")
+        void shouldProduceSmallerSmilePayloadThanJson() throws IOException {
+            // Act
+            byte[] smile = codec.encode(createdEvent, OutboxPayloadFormat.SMILE);
+            byte[] json = codec.encode(createdEvent, OutboxPayloadFormat.JSON);
+
+            // Assert
+            assertThat(smile.length, is(lessThan(json.length)));
+        }
+
+        @Test
+        @DisplayName("Should fall back to JSON when content type is missing")
+        void shouldFallBackToJsonWhenContentTypeIsMissing() throws IOException {
+            // Arrange
+            byte[] payload = objectMapper.writeValueAsBytes(createdEvent);
+
+            // Act
+            EmployeeCreatedEvent decoded = codec.decode(payload, null, null, EmployeeCreatedEvent.class);
+
+            // Assert
+            assertThat(decoded, is(createdEvent));
+        }
+
+        @Test
+        @DisplayName("Should reject newer schema versions")
+        void shouldRejectNewerSchemaVersions() throws IOException {
+            // Arrange
+            byte[] payload = codec.encode(createdEvent);
+            int futureVersion = OutboxPayloadCodec.CURRENT_SCHEMA_VERSION + 1;
+
+            // Act & Assert
+            UnsupportedPayloadFormatException exception = assertThrows(
+                UnsupportedPayloadFormatException.class,
+                () -> codec.decode(payload, OutboxPayloadFormat.SMILE.contentType(), futureVersion, EmployeeCreatedEvent.class)
+            );
+
+            assertThat(exception.getMessage(), containsString("schema version: " + futureVersion));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown content types")
+        void shouldRejectUnknownContentTypes() {
+            // Act & Assert
+            assertThrows(
+                UnsupportedPayloadFormatException.class,
+                () -> codec.decode(new byte[] {1}, "application/avro", 1, EmployeeCreatedEvent.class)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON Conversion Tests")
+    class JsonConversionTests {
+
+        @Test
+        @DisplayName("Should convert Smile payload to JSON text")
+        void shouldConvertSmilePayloadToJsonText() throws IOException {
+            // Arrange
+            byte[] payload = codec.encode(createdEvent, OutboxPayloadFormat.SMILE);
+
+            // Act
+            String json = codec.toJson(payload, OutboxPayloadFormat.SMILE.contentType());
+
+            // Assert
+            assertThat(objectMapper.readTree(json), is(objectMapper.readTree(objectMapper.writeValueAsString(createdEvent))));
+            assertThat(objectMapper.readTree(json).get("employeeId").asText(), is(createdEvent.employeeId().toString()));
+        }
+
+        @Test
+        @DisplayName("Should return JSON payload untouched")
+        void shouldReturnJsonPayloadUntouched() throws IOException {
+            // Arrange
+            String original = "{\"eventId\":\"123\"}";
+
+            // Act
+            String json = codec.toJson(original.getBytes(StandardCharsets.UTF_8), OutboxPayloadFormat.JSON.contentType());
+
+            // Assert
+            assertThat(json, is(original));
+        }
+
+        @Test
+        @DisplayName("Should describe undecodable payload by size and content type")
+        void shouldDescribeUndecodablePayloadBySizeAndContentType() {
+            // Act
+            String description = codec.describe(new byte[] {1, 2, 3}, OutboxPayloadFormat.SMILE.contentType());
+
+            // Assert
+            assertThat(description, is("<3 bytes of application/x-jackson-smile>"));
+        }
+    }
+}
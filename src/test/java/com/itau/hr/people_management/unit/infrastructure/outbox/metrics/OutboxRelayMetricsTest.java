@@ -0,0 +1,191 @@
+package com.itau.hr.people_management.unit.infrastructure.outbox.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.infrastructure.outbox.metrics.OutboxRelayMetrics;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository.BacklogSummary;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelayMetrics Unit Tests")
+class OutboxRelayMetricsTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelayMetrics relayMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relayMetrics = new OutboxRelayMetrics(meterRegistry, outboxMessageRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Should expose counts per status and backlog from a single aggregate query")
+    void shouldExposeCountsPerStatusAndBacklogFromASingleAggregateQuery() {
+        // Arrange
+        when(outboxMessageRepository.summarizeBacklog(2)).thenReturn(List.of(
+            summary("PENDING", 0, 1_000, 30.0),
+            summary("PENDING", 1, 200, 12.0),
+            summary("FAILED", 1, 50, 90.5),
+            summary("DEAD_LETTER", 0, 7, 86_400.0)));
+
+        // Act
+        relayMetrics.refreshBacklog();
+
+        // Assert
+        assertThat(meterRegistry.get("outbox.messages").tag("status", "pending").gauge().value(), is(1_200.0));
+        assertThat(meterRegistry.get("outbox.messages").tag("status", "failed").gauge().value(), is(50.0));
+        assertThat(meterRegistry.get("outbox.messages").tag("status", "dead_letter").gauge().value(), is(7.0));
+        assertThat(meterRegistry.get("outbox.relay.backlog").gauge().value(), is(1_250.0));
+        assertThat(meterRegistry.get("outbox.relay.oldest.pending.age").gauge().value(), is(90.5));
+        verify(outboxMessageRepository, times(1)).summarizeBacklog(2);
+    }
+
+    @Test
+    @DisplayName("Should keep last values when refresh fails")
+    void shouldKeepLastValuesWhenRefreshFails() {
+        // Arrange
+        when(outboxMessageRepository.summarizeBacklog(2))
+            .thenReturn(List.of(summary("PENDING", 0, 42, 1.0)))
+            .thenThrow(new IllegalStateException("connection refused"));
+
+        // Act
+        relayMetrics.refreshBacklog();
+        relayMetrics.refreshBacklog();
+
+        // Assert
+        assertThat(meterRegistry.get("outbox.relay.backlog").gauge().value(), is(42.0));
+        assertThat(meterRegistry.get("outbox.messages").tag("status", "pending").gauge().value(), is(42.0));
+    }
+
+    @Test
+    @DisplayName("Should expose backlog and lag per lane and reset drained lanes")
+    void shouldExposeBacklogAndLagPerLaneAndResetDrainedLanes() {
+        // Arrange
+        when(outboxMessageRepository.summarizeBacklog(2))
+            .thenReturn(List.of(summary("PENDING", 0, 20, 12.5), summary("FAILED", 0, 5, 3.0), summary("PENDING", 1, 5, 0.75)))
+            .thenReturn(List.of(summary("PENDING", 1, 5, 1.5), summary("DEAD_LETTER", 0, 3, 600.0)));
+
+        // Act
+        relayMetrics.refreshBacklog();
+
+        // Assert
+        assertThat(meterRegistry.get("outbox.relay.lane.backlog").tag("lane", "0").gauge().value(), is(25.0));
+        assertThat(meterRegistry.get("outbox.relay.lane.lag").tag("lane", "0").gauge().value(), is(12.5));
+        assertThat(meterRegistry.get("outbox.relay.lane.lag").tag("lane", "1").gauge().value(), is(0.75));
+
+        // Act
+        relayMetrics.refreshBacklog();
+
+        // Assert
+        assertThat(meterRegistry.get("outbox.relay.lane.backlog").tag("lane", "0").gauge().value(), is(0.0));
+        assertThat(meterRegistry.get("outbox.relay.lane.lag").tag("lane", "0").gauge().value(), is(0.0));
+        assertThat(meterRegistry.get("outbox.relay.lane.lag").tag("lane", "1").gauge().value(), is(1.5));
+        assertThat(meterRegistry.get("outbox.relay.oldest.pending.age").gauge().value(), is(1.5));
+    }
+
+    @Test
+    @DisplayName("Should count relayed messages by event type and outcome")
+    void shouldCountRelayedMessagesByEventTypeAndOutcome() {
+        // Act
+        relayMetrics.recordOutcome("EMPLOYEE_CREATED_EVENT", "sent");
+        relayMetrics.recordOutcome("EMPLOYEE_CREATED_EVENT", "sent");
+        relayMetrics.recordOutcome("EMPLOYEE_CREATED_EVENT", "failed");
+        relayMetrics.recordOutcome("EMPLOYEE_STATUS_CHANGED_EVENT", "dead_letter");
+
+        // Assert
+        assertThat(meterRegistry.get("outbox.relay.messages")
+            .tags("event.type", "EMPLOYEE_CREATED_EVENT", "outcome", "sent").counter().count(), is(2.0));
+        assertThat(meterRegistry.get("outbox.relay.messages")
+            .tags("event.type", "EMPLOYEE_CREATED_EVENT", "outcome", "failed").counter().count(), is(1.0));
+        assertThat(meterRegistry.get("outbox.relay.messages")
+            .tags("event.type", "EMPLOYEE_STATUS_CHANGED_EVENT", "outcome", "dead_letter").counter().count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Should record commit-to-send and ack latency per event type")
+    void shouldRecordCommitToSendAndAckLatencyPerEventType() {
+        // Act
+        relayMetrics.recordAck("EMPLOYEE_CREATED_EVENT", Duration.ofMillis(1_500), TimeUnit.MILLISECONDS.toNanos(20));
+
+        // Assert
+        Timer commitToSend = meterRegistry.get("outbox.relay.commit.to.send").tag("event.type", "EMPLOYEE_CREATED_EVENT").timer();
+        Timer ack = meterRegistry.get("outbox.relay.ack.latency").tag("event.type", "EMPLOYEE_CREATED_EVENT").timer();
+        assertThat(commitToSend.count(), is(1L));
+        assertThat(commitToSend.totalTime(TimeUnit.MILLISECONDS), is(1_500.0));
+        assertThat(ack.totalTime(TimeUnit.MILLISECONDS), is(20.0));
+    }
+
+    @Test
+    @DisplayName("Should record relay cycle duration")
+    void shouldRecordRelayCycleDuration() {
+        // Act
+        relayMetrics.recordCycle(TimeUnit.MILLISECONDS.toNanos(250));
+
+        // Assert
+        Timer cycle = meterRegistry.get("outbox.relay.cycle").timer();
+        assertThat(cycle.count(), is(1L));
+        assertThat(cycle.totalTime(TimeUnit.MILLISECONDS), is(250.0));
+    }
+
+    @Test
+    @DisplayName("Should expose drain rate and batch size of the last drain loop per lane")
+    void shouldExposeDrainRateAndBatchSizeOfTheLastDrainLoopPerLane() {
+        // Act
+        relayMetrics.recordBatchSize(0, 64);
+        relayMetrics.recordBatchSize(1, 16);
+        relayMetrics.recordDrainLoop(0, 500, 2_000_000_000L);
+        relayMetrics.recordDrainLoop(1, 100, 1_000_000_000L);
+
+        // Assert
+        assertThat(meterRegistry.get("outbox.relay.batch.size").tag("lane", "0").gauge().value(), is(64.0));
+        assertThat(meterRegistry.get("outbox.relay.batch.size").tag("lane", "1").gauge().value(), is(16.0));
+        assertThat(meterRegistry.get("outbox.relay.drain.rate").tag("lane", "0").gauge().value(), is(250.0));
+        assertThat(meterRegistry.get("outbox.relay.drain.rate").tag("lane", "1").gauge().value(), is(100.0));
+    }
+
+    private static BacklogSummary summary(String status, int lane, long messages, double oldestAgeSeconds) {
+        return new BacklogSummary() {
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public int getLane() {
+                return lane;
+            }
+
+            @Override
+            public long getMessages() {
+                return messages;
+            }
+
+            @Override
+            public double getOldestAgeSeconds() {
+                return oldestAgeSeconds;
+            }
+        };
+    }
+}
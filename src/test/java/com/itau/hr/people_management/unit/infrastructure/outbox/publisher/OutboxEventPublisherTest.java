@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -19,11 +20,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.event.EmployeeCreatedEvent;
 import com.itau.hr.people_management.domain.employee.event.EmployeeStatusChangedEvent;
 import com.itau.hr.people_management.domain.shared.event.DomainEvent;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadCodec;
+import com.itau.hr.people_management.infrastructure.outbox.codec.OutboxPayloadFormat;
 import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
 import com.itau.hr.people_management.infrastructure.outbox.exception.OutboxEventSerializationException;
 import com.itau.hr.people_management.infrastructure.outbox.publisher.OutboxEventPublisher;
@@ -38,7 +40,7 @@ class OutboxEventPublisherTest {
     private OutboxMessageRepository outboxMessageRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private OutboxPayloadCodec payloadCodec;
 
     @Mock
     private EmployeeCreatedEvent employeeCreatedEvent;
@@ -54,16 +56,17 @@ class OutboxEventPublisherTest {
     private UUID eventId;
     private UUID employeeId;
     private Instant occurredOn;
-    private String payload;
+    private byte[] payload;
 
     @BeforeEach
     void setUp() {
-        publisher = new OutboxEventPublisher(outboxMessageRepository, objectMapper);
+        publisher = new OutboxEventPublisher(outboxMessageRepository, payloadCodec);
+        lenient().when(payloadCodec.defaultFormat()).thenReturn(OutboxPayloadFormat.SMILE);
         
         eventId = UUID.randomUUID();
         employeeId = UUID.randomUUID();
         occurredOn = Instant.now();
-        payload = "{\"eventId\":\"123\",\"employeeId\":\"456\"}";
+        payload = "{\"eventId\":\"123\",\"employeeId\":\"456\"}".getBytes(StandardCharsets.UTF_8);
     }
 
     @Nested
@@ -75,7 +78,7 @@ class OutboxEventPublisherTest {
         void shouldPublishEmployeeCreatedEventSuccessfully() throws JsonProcessingException {
             // Arrange
             setupEmployeeCreatedEventMocks();
-            when(objectMapper.writeValueAsString(employeeCreatedEvent)).thenReturn(payload);
+            when(payloadCodec.encode(employeeCreatedEvent)).thenReturn(payload);
 
             // Act
             publisher.publish(employeeCreatedEvent);
@@ -89,6 +92,8 @@ class OutboxEventPublisherTest {
             assertThat(savedMessage.getAggregateType(), is("Employee"));
             assertThat(savedMessage.getEventType(), is(EventType.EMPLOYEE_CREATED_EVENT.name()));
             assertThat(savedMessage.getPayload(), is(payload));
+            assertThat(savedMessage.getPayloadContentType(), is(OutboxPayloadFormat.SMILE.contentType()));
+            assertThat(savedMessage.getPayloadSchemaVersion(), is(OutboxPayloadCodec.CURRENT_SCHEMA_VERSION));
             assertThat(savedMessage.getStatus(), is(OutboxMessageStatus.PENDING));
         }
     }
@@ -102,7 +107,7 @@ class OutboxEventPublisherTest {
         void shouldPublishEmployeeStatusChangedEventSuccessfully() throws JsonProcessingException {
             // Arrange
             setupEmployeeStatusChangedEventMocks();
-            when(objectMapper.writeValueAsString(employeeStatusChangedEvent)).thenReturn(payload);
+            when(payloadCodec.encode(employeeStatusChangedEvent)).thenReturn(payload);
 
             // Act
             publisher.publish(employeeStatusChangedEvent);
@@ -128,7 +133,7 @@ class OutboxEventPublisherTest {
             when(unknownEvent.getEventId()).thenReturn(eventId);
             when(unknownEvent.getOccurredOn()).thenReturn(occurredOn);
             when(unknownEvent.getEventType()).thenReturn(EventType.EMPLOYEE_CREATED_EVENT);
-            when(objectMapper.writeValueAsString(unknownEvent)).thenReturn(payload);
+            when(payloadCodec.encode(unknownEvent)).thenReturn(payload);
 
             // Act
             publisher.publish(unknownEvent);
@@ -154,7 +159,7 @@ class OutboxEventPublisherTest {
             when(employeeCreatedEvent.getEventId()).thenReturn(eventId);
             when(employeeCreatedEvent.getEmployeeId()).thenReturn(employeeId);
             JsonProcessingException jsonException = mock(JsonProcessingException.class);
-            when(objectMapper.writeValueAsString(employeeCreatedEvent)).thenThrow(jsonException);
+            when(payloadCodec.encode(employeeCreatedEvent)).thenThrow(jsonException);
 
             // Act & Assert
             OutboxEventSerializationException exception = assertThrows(
@@ -170,7 +175,7 @@ class OutboxEventPublisherTest {
         void shouldHandleRepositoryExceptionGracefully() throws JsonProcessingException {
             // Arrange
             setupEmployeeCreatedEventMocks();
-            when(objectMapper.writeValueAsString(employeeCreatedEvent)).thenReturn(payload);
+            when(payloadCodec.encode(employeeCreatedEvent)).thenReturn(payload);
             doThrow(new RuntimeException("Database error")).when(outboxMessageRepository).save(any());
 
             // Act - Não deve propagar exceção
@@ -0,0 +1,247 @@
+package com.itau.hr.people_management.unit.infrastructure.outbox.requeue;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.infrastructure.outbox.enumeration.OutboxMessageStatus;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueCriteria;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress.State;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueService;
+import com.itau.hr.people_management.infrastructure.persistence.repository.OutboxMessageRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRequeueService Unit Tests")
+class OutboxRequeueServiceTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    private OutboxRequeueService requeueService;
+
+    @AfterEach
+    void tearDown() {
+        if (requeueService != null) {
+            requeueService.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("Requeue Jobs")
+    class RequeueJobs {
+
+        @Test
+        @DisplayName("Should keep requeueing past short batches until a batch comes back empty")
+        void shouldKeepRequeueingPastShortBatchesUntilABatchComesBackEmpty() {
+            // Arrange - A short batch can mean rows were skipped because another transaction held them
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 0, 0, 10);
+            when(outboxMessageRepository.requeueBatch(anyCollection(), any(), any(), any(), any(), any(Instant.class), eq(100), any(Instant.class)))
+                .thenReturn(100, 40, 100, 0);
+
+            // Act
+            OutboxRequeueProgress submitted = requeueService.submit(new OutboxRequeueCriteria(null, null, null, null, null));
+
+            // Assert
+            OutboxRequeueProgress finished = awaitFinished(submitted.jobId());
+            assertThat(finished.state(), is(State.COMPLETED));
+            assertThat(finished.requeued(), is(240L));
+            verify(outboxMessageRepository, times(4))
+                .requeueBatch(anyCollection(), any(), any(), any(), any(), any(Instant.class), eq(100), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("Should pass filters to the set-based update")
+        @SuppressWarnings("unchecked")
+        void shouldPassFiltersToTheSetBasedUpdate() {
+            // Arrange
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 0, 0, 10);
+            Instant from = Instant.parse("2025-08-01T00:00:00Z");
+            Instant to = Instant.parse("2025-08-02T00:00:00Z");
+            UUID aggregateId = UUID.randomUUID();
+            when(outboxMessageRepository.requeueBatch(anyCollection(), eq(from), eq(to), eq("EMPLOYEE_CREATED_EVENT"),
+                eq(aggregateId), any(Instant.class), eq(100), any(Instant.class))).thenReturn(0);
+
+            // Act
+            OutboxRequeueProgress submitted = requeueService.submit(new OutboxRequeueCriteria(
+                Set.of(OutboxMessageStatus.FAILED, OutboxMessageStatus.DEAD_LETTER), from, to, " EMPLOYEE_CREATED_EVENT ", aggregateId));
+
+            // Assert
+            assertThat(awaitFinished(submitted.jobId()).state(), is(State.COMPLETED));
+            ArgumentCaptor<Collection<String>> statuses = ArgumentCaptor.forClass(Collection.class);
+            verify(outboxMessageRepository).requeueBatch(statuses.capture(), eq(from), eq(to), eq("EMPLOYEE_CREATED_EVENT"),
+                eq(aggregateId), any(Instant.class), eq(100), any(Instant.class));
+            assertThat(statuses.getValue(), containsInAnyOrder("FAILED", "DEAD_LETTER"));
+        }
+
+        @Test
+        @DisplayName("Should hold back while the relay backlog is above the ceiling")
+        void shouldHoldBackWhileTheRelayBacklogIsAboveTheCeiling() {
+            // Arrange
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 0, 1_000, 10);
+            when(outboxMessageRepository.countByStatusIn(anyCollection())).thenReturn(5_000L, 2_000L, 10L);
+            when(outboxMessageRepository.requeueBatch(anyCollection(), any(), any(), any(), any(), any(Instant.class), anyInt(), any(Instant.class)))
+                .thenReturn(7, 0);
+
+            // Act
+            OutboxRequeueProgress submitted = requeueService.submit(new OutboxRequeueCriteria(null, null, null, null, null));
+
+            // Assert
+            assertThat(awaitFinished(submitted.jobId()).requeued(), is(7L));
+            verify(outboxMessageRepository, times(4)).countByStatusIn(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should pace batches to the configured rate")
+        void shouldPaceBatchesToTheConfiguredRate() {
+            // Arrange
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 1_000, 0, 10);
+            when(outboxMessageRepository.requeueBatch(anyCollection(), any(), any(), any(), any(), any(Instant.class), anyInt(), any(Instant.class)))
+                .thenReturn(100, 100, 100, 0);
+
+            // Act
+            long start = System.nanoTime();
+            OutboxRequeueProgress submitted = requeueService.submit(new OutboxRequeueCriteria(null, null, null, null, null));
+            awaitFinished(submitted.jobId());
+
+            // Assert
+            assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 300, is(true));
+        }
+
+        @Test
+        @DisplayName("Should mark job as failed when the update fails")
+        void shouldMarkJobAsFailedWhenTheUpdateFails() {
+            // Arrange
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 0, 0, 10);
+            when(outboxMessageRepository.requeueBatch(anyCollection(), any(), any(), any(), any(), any(Instant.class), anyInt(), any(Instant.class)))
+                .thenReturn(100)
+                .thenThrow(new IllegalStateException("connection refused"));
+
+            // Act
+            OutboxRequeueProgress submitted = requeueService.submit(new OutboxRequeueCriteria(null, null, null, null, null));
+
+            // Assert
+            OutboxRequeueProgress finished = awaitFinished(submitted.jobId());
+            assertThat(finished.state(), is(State.FAILED));
+            assertThat(finished.requeued(), is(100L));
+        }
+
+        @Test
+        @DisplayName("Should only requeue messages that failed before the job started")
+        void shouldOnlyRequeueMessagesThatFailedBeforeTheJobStarted() {
+            // Arrange
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 0, 0, 10);
+            when(outboxMessageRepository.requeueBatch(anyCollection(), any(), any(), any(), any(), any(Instant.class), anyInt(), any(Instant.class)))
+                .thenReturn(0);
+
+            // Act
+            OutboxRequeueProgress submitted = requeueService.submit(new OutboxRequeueCriteria(null, null, null, null, null));
+
+            // Assert
+            awaitFinished(submitted.jobId());
+            verify(outboxMessageRepository).requeueBatch(anyCollection(), any(), any(), any(), any(),
+                eq(submitted.startedAt()), anyInt(), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("Should only keep the most recent finished jobs")
+        void shouldOnlyKeepTheMostRecentFinishedJobs() {
+            // Arrange
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 0, 0, 10);
+            when(outboxMessageRepository.requeueBatch(anyCollection(), any(), any(), any(), any(), any(Instant.class), anyInt(), any(Instant.class)))
+                .thenReturn(0);
+            List<UUID> jobIds = new ArrayList<>();
+
+            // Act
+            for (int i = 0; i < 105; i++) {
+                OutboxRequeueProgress submitted = requeueService.submit(new OutboxRequeueCriteria(null, null, null, null, null));
+                awaitFinished(submitted.jobId());
+                jobIds.add(submitted.jobId());
+            }
+
+            // Assert - 100 finished jobs are kept
+            await().atMost(Duration.ofSeconds(5))
+                .until(() -> jobIds.stream().filter(jobId -> requeueService.find(jobId).isPresent()).count() == 100);
+            assertThat(requeueService.find(jobIds.get(0)).isPresent(), is(false));
+            assertThat(requeueService.find(jobIds.get(104)).isPresent(), is(true));
+        }
+
+        @Test
+        @DisplayName("Should not find unknown job")
+        void shouldNotFindUnknownJob() {
+            // Arrange
+            requeueService = new OutboxRequeueService(outboxMessageRepository, 100, 0, 0, 10);
+
+            // Act & Assert
+            assertThat(requeueService.find(UUID.randomUUID()).isPresent(), is(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("Criteria")
+    class Criteria {
+
+        @Test
+        @DisplayName("Should default to DEAD_LETTER messages")
+        void shouldDefaultToDeadLetterMessages() {
+            // Act
+            OutboxRequeueCriteria criteria = new OutboxRequeueCriteria(Set.of(), null, null, " ", null);
+
+            // Assert
+            assertThat(criteria.statuses(), is(Set.of(OutboxMessageStatus.DEAD_LETTER)));
+            assertThat(criteria.eventType(), is(nullValue()));
+        }
+
+        @Test
+        @DisplayName("Should reject statuses that are not requeueable")
+        void shouldRejectStatusesThatAreNotRequeueable() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () ->
+                new OutboxRequeueCriteria(Set.of(OutboxMessageStatus.SENT), null, null, null, null));
+        }
+
+        @Test
+        @DisplayName("Should reject empty time range")
+        void shouldRejectEmptyTimeRange() {
+            // Arrange
+            Instant instant = Instant.parse("2025-08-01T00:00:00Z");
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () ->
+                new OutboxRequeueCriteria(Set.of(OutboxMessageStatus.DEAD_LETTER), instant, instant, null, null));
+        }
+    }
+
+    private OutboxRequeueProgress awaitFinished(UUID jobId) {
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> requeueService.find(jobId).orElseThrow().state() != State.RUNNING);
+        return requeueService.find(jobId).orElseThrow();
+    }
+}
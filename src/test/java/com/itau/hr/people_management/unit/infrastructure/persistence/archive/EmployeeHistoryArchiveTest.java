@@ -0,0 +1,128 @@
+package com.itau.hr.people_management.unit.infrastructure.persistence.archive;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistorySegmentWriter;
+
+@DisplayName("EmployeeHistoryArchive Unit Tests")
+class EmployeeHistoryArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private EmployeeHistoryArchive archive;
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUp() {
+        archive = new EmployeeHistoryArchive(directory.resolve("archive"));
+        employeeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should report nothing archived while the directory does not exist")
+    void shouldReportNothingArchivedWhileTheDirectoryDoesNotExist() {
+        // Act & Assert
+        assertThat(archive.archivedUntil(), is(Optional.empty()));
+        assertThat(archive.findHistory(criteria(10)), is(empty()));
+    }
+
+    @Test
+    @DisplayName("Should expose the end of the newest archived month")
+    void shouldExposeTheEndOfTheNewestArchivedMonth() throws IOException {
+        // Arrange
+        write(YearMonth.of(2024, 1), 1);
+        write(YearMonth.of(2024, 3), 1);
+
+        // Act
+        archive.refresh();
+
+        // Assert
+        assertThat(archive.archivedUntil(), is(Optional.of(Instant.parse("2024-04-01T00:00:00Z"))));
+    }
+
+    @Test
+    @DisplayName("Should read months newest first and stop once a page is full")
+    void shouldReadMonthsNewestFirstAndStopOnceAPageIsFull() throws IOException {
+        // Arrange
+        List<EmployeeEvent> january = write(YearMonth.of(2024, 1), 3);
+        List<EmployeeEvent> february = write(YearMonth.of(2024, 2), 3);
+        archive.refresh();
+
+        // Act
+        List<EmployeeEvent> twoEvents = archive.findHistory(criteria(2));
+        List<EmployeeEvent> fourEvents = archive.findHistory(criteria(4));
+
+        // Assert
+        assertThat(ids(twoEvents), is(ids(february.subList(0, 2))));
+        assertThat(ids(fourEvents.subList(0, 3)), is(ids(february)));
+        assertThat(ids(fourEvents.subList(3, fourEvents.size())), is(ids(january)));
+    }
+
+    @Test
+    @DisplayName("Should pick up a segment published after the first lookup")
+    void shouldPickUpASegmentPublishedAfterTheFirstLookup() throws IOException {
+        // Arrange
+        assertThat(archive.archivedUntil(), is(Optional.empty()));
+        List<EmployeeEvent> january = write(YearMonth.of(2024, 1), 2);
+
+        // Act
+        archive.refresh();
+
+        // Assert
+        assertThat(ids(archive.findHistory(criteria(10))), is(ids(january)));
+    }
+
+    private EmployeeHistoryCriteria criteria(int limit) {
+        return EmployeeHistoryCriteria.builder().employeeId(employeeId).limit(limit).build();
+    }
+
+    private static List<UUID> ids(List<EmployeeEvent> events) {
+        return events.stream().map(EmployeeEvent::getId).toList();
+    }
+
+    // Events of one employee, newest first, all inside the month.
+    private List<EmployeeEvent> write(YearMonth month, int count) throws IOException {
+        Files.createDirectories(archive.directory());
+        Instant newest = month.atDay(20).atStartOfDay().toInstant(ZoneOffset.UTC);
+        List<EmployeeEvent> events = IntStream.range(0, count)
+            .mapToObj(i -> EmployeeEvent.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+                .occurredOn(newest.minusSeconds(i))
+                .description("Status changed")
+                .eventData("{}")
+                .build())
+            .toList();
+        try (HistorySegmentWriter writer = new HistorySegmentWriter(archive.segmentFile(month), archive.indexFile(month), 512)) {
+            for (EmployeeEvent event : events) {
+                writer.append(event);
+            }
+            writer.finish();
+        }
+        return events;
+    }
+}
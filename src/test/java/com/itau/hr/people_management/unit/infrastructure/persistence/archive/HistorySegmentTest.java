@@ -0,0 +1,241 @@
+package com.itau.hr.people_management.unit.infrastructure.persistence.archive;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistoryOrder;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistorySegment;
+import com.itau.hr.people_management.infrastructure.persistence.archive.HistorySegmentWriter;
+
+@DisplayName("HistorySegment Unit Tests")
+class HistorySegmentTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 1);
+    private static final int EMPLOYEES = 40;
+    private static final int EVENTS_PER_EMPLOYEE = 9;
+    private static final String CREATED_DATA = "{\"employeeName\":\"Linha \\\"1\\\"\\ncom quebra\",\"employeeEmail\":\"linha@example.com\"}";
+    private static final String TO_LEAVE_DATA = "{\"oldStatus\":\"ACTIVE\",\"newStatus\":\"ON_LEAVE\"}";
+    private static final String FROM_LEAVE_DATA = "{\"oldStatus\":\"ON_LEAVE\",\"newStatus\":\"ACTIVE\"}";
+
+    @TempDir
+    Path directory;
+
+    private Path segmentFile;
+    private Path indexFile;
+    private List<EmployeeEvent> events;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        segmentFile = directory.resolve("segment.ndjson.gz");
+        indexFile = directory.resolve("segment.idx");
+        events = events();
+        // Small blocks so one employee's events span several of them.
+        try (HistorySegmentWriter writer = new HistorySegmentWriter(segmentFile, indexFile, 4)) {
+            for (EmployeeEvent event : events) {
+                writer.append(event);
+            }
+            writer.finish();
+        }
+    }
+
+    @Test
+    @DisplayName("Should find every event of an employee newest first across blocks")
+    void shouldFindEveryEventOfAnEmployeeNewestFirstAcrossBlocks() throws IOException {
+        // Arrange
+        HistorySegment segment = HistorySegment.open(MONTH, segmentFile, indexFile);
+        UUID employeeId = events.get(EVENTS_PER_EMPLOYEE * 17).getEmployeeId();
+
+        // Act
+        List<EmployeeEvent> found = segment.find(criteria(employeeId, 100).build());
+
+        // Assert
+        assertThat(segment.rows(), is((long) EMPLOYEES * EVENTS_PER_EMPLOYEE));
+        assertThat(ids(found), is(ids(eventsOf(employeeId))));
+        EmployeeEvent created = found.stream().filter(event -> event.getEventType() == EventType.EMPLOYEE_CREATED_EVENT).findFirst().orElseThrow();
+        assertThat(created.getEventData(), is(CREATED_DATA));
+        assertThat(created.getDescription(), is("Colaborador 'Linha \"1\"\ncom quebra' criado com e-mail: linha@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should page with the history cursor without gaps or repeats")
+    void shouldPageWithTheHistoryCursorWithoutGapsOrRepeats() throws IOException {
+        // Arrange
+        HistorySegment segment = HistorySegment.open(MONTH, segmentFile, indexFile);
+        UUID employeeId = events.get(0).getEmployeeId();
+
+        // Act
+        List<UUID> paged = new ArrayList<>();
+        EmployeeEventCursor after = null;
+        List<EmployeeEvent> page;
+        do {
+            page = segment.find(criteria(employeeId, 2).after(after).build());
+            page.forEach(event -> paged.add(event.getId()));
+            after = page.isEmpty() ? null : EmployeeEventCursor.of(page.get(page.size() - 1));
+        } while (page.size() == 2);
+
+        // Assert
+        assertThat(paged, is(ids(eventsOf(employeeId))));
+    }
+
+    @Test
+    @DisplayName("Should apply event type and period filters")
+    void shouldApplyEventTypeAndPeriodFilters() throws IOException {
+        // Arrange
+        HistorySegment segment = HistorySegment.open(MONTH, segmentFile, indexFile);
+        UUID employeeId = events.get(EVENTS_PER_EMPLOYEE * 39).getEmployeeId();
+        Instant from = Instant.parse("2024-01-15T00:00:02Z");
+        Instant to = Instant.parse("2024-01-15T00:00:06Z");
+
+        // Act
+        List<EmployeeEvent> found = segment.find(criteria(employeeId, 100)
+            .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT).occurredFrom(from).occurredTo(to).build());
+
+        // Assert
+        assertThat(ids(found), is(ids(eventsOf(employeeId).stream()
+            .filter(event -> event.getEventType() == EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+            .filter(event -> !event.getOccurredOn().isBefore(from) && event.getOccurredOn().isBefore(to))
+            .toList())));
+    }
+
+    @Test
+    @DisplayName("Should filter status transitions by old and new status")
+    void shouldFilterStatusTransitionsByOldAndNewStatus() throws IOException {
+        // Arrange
+        HistorySegment segment = HistorySegment.open(MONTH, segmentFile, indexFile);
+        UUID employeeId = events.get(EVENTS_PER_EMPLOYEE * 5).getEmployeeId();
+
+        // Act
+        List<EmployeeEvent> toLeave = segment.find(criteria(employeeId, 100).newStatus(EmployeeStatus.ON_LEAVE).build());
+        List<EmployeeEvent> fromLeave = segment.find(criteria(employeeId, 100)
+            .oldStatus(EmployeeStatus.ON_LEAVE).newStatus(EmployeeStatus.ACTIVE).build());
+
+        // Assert
+        assertThat(ids(toLeave), is(ids(eventsOf(employeeId).stream().filter(event -> TO_LEAVE_DATA.equals(event.getEventData())).toList())));
+        assertThat(ids(fromLeave), is(ids(eventsOf(employeeId).stream().filter(event -> FROM_LEAVE_DATA.equals(event.getEventData())).toList())));
+        assertThat(toLeave.get(0).getDescription(), is("Status do colaborador alterado de 'ACTIVE' para 'ON_LEAVE'"));
+    }
+
+    @Test
+    @DisplayName("Should scan every block when no employee is given")
+    void shouldScanEveryBlockWhenNoEmployeeIsGiven() throws IOException {
+        // Arrange
+        HistorySegment segment = HistorySegment.open(MONTH, segmentFile, indexFile);
+
+        // Act
+        List<EmployeeEvent> found = segment.find(EmployeeHistoryCriteria.builder().newStatus(EmployeeStatus.ON_LEAVE).limit(1_000).build());
+
+        // Assert
+        assertThat(ids(found), is(ids(events.stream()
+            .filter(event -> TO_LEAVE_DATA.equals(event.getEventData()))
+            .sorted(HistoryOrder.NEWEST_FIRST)
+            .toList())));
+    }
+
+    @Test
+    @DisplayName("Should find nothing for an employee outside the segment")
+    void shouldFindNothingForAnEmployeeOutsideTheSegment() throws IOException {
+        // Arrange
+        HistorySegment segment = HistorySegment.open(MONTH, segmentFile, indexFile);
+
+        // Act & Assert
+        assertThat(segment.find(criteria(new UUID(-1L, -1L), 10).build()), is(empty()));
+        assertThat(segment.find(criteria(new UUID(0L, 0L), 10).build()), is(empty()));
+    }
+
+    @Test
+    @DisplayName("Should tell whether the month overlaps the period and cursor")
+    void shouldTellWhetherTheMonthOverlapsThePeriodAndCursor() throws IOException {
+        // Arrange
+        HistorySegment segment = HistorySegment.open(MONTH, segmentFile, indexFile);
+        UUID employeeId = UUID.randomUUID();
+
+        // Act & Assert
+        assertThat(segment.overlaps(criteria(employeeId, 1).build()), is(true));
+        assertThat(segment.overlaps(criteria(employeeId, 1).occurredFrom(Instant.parse("2024-02-01T00:00:00Z")).build()), is(false));
+        assertThat(segment.overlaps(criteria(employeeId, 1).occurredTo(Instant.parse("2024-01-01T00:00:00Z")).build()), is(false));
+        assertThat(segment.overlaps(criteria(employeeId, 1)
+            .after(new EmployeeEventCursor(Instant.parse("2023-12-31T23:59:59Z"), UUID.randomUUID())).build()), is(false));
+    }
+
+    @Test
+    @DisplayName("Should stay readable as a plain multi-member gzip file")
+    void shouldStayReadableAsAPlainMultiMemberGzipFile() throws IOException {
+        // Act
+        long lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segmentFile)), StandardCharsets.UTF_8))) {
+            lines = reader.lines().count();
+        }
+
+        // Assert
+        assertThat(lines, is((long) EMPLOYEES * EVENTS_PER_EMPLOYEE));
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not a segment index")
+    void shouldRejectAFileThatIsNotASegmentIndex() throws IOException {
+        // Arrange
+        Files.writeString(indexFile, "not an index at all");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> HistorySegment.open(MONTH, segmentFile, indexFile));
+    }
+
+    private static EmployeeHistoryCriteria.EmployeeHistoryCriteriaBuilder criteria(UUID employeeId, int limit) {
+        return EmployeeHistoryCriteria.builder().employeeId(employeeId).limit(limit);
+    }
+
+    private List<EmployeeEvent> eventsOf(UUID employeeId) {
+        return events.stream().filter(event -> event.getEmployeeId().equals(employeeId)).sorted(HistoryOrder.NEWEST_FIRST).toList();
+    }
+
+    private static List<UUID> ids(List<EmployeeEvent> events) {
+        return events.stream().map(EmployeeEvent::getId).toList();
+    }
+
+    // Segment order: employee, then newest first. Pairs of events share a timestamp to exercise the id tiebreak.
+    private static List<EmployeeEvent> events() {
+        List<EmployeeEvent> events = new ArrayList<>();
+        Instant base = Instant.parse("2024-01-15T00:00:00Z");
+        for (int employee = 0; employee < EMPLOYEES; employee++) {
+            UUID employeeId = UUID.randomUUID();
+            for (int i = 0; i < EVENTS_PER_EMPLOYEE; i++) {
+                events.add(EmployeeEvent.builder()
+                    .id(UUID.randomUUID())
+                    .employeeId(employeeId)
+                    .eventType(i % 2 == 0 ? EventType.EMPLOYEE_CREATED_EVENT : EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+                    .occurredOn(base.plusSeconds(i / 2))
+                    .eventData(i % 2 == 0 ? CREATED_DATA : (i % 4 == 1 ? TO_LEAVE_DATA : FROM_LEAVE_DATA))
+                    .build());
+            }
+        }
+        events.sort(Comparator.comparing(EmployeeEvent::getEmployeeId, HistoryOrder.UUID_ORDER).thenComparing(HistoryOrder.NEWEST_FIRST));
+        return events;
+    }
+}
@@ -0,0 +1,169 @@
+package com.itau.hr.people_management.unit.infrastructure.persistence.datasource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.itau.hr.people_management.infrastructure.persistence.datasource.ConnectionBulkheadDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionBulkheadDataSource Unit Tests")
+class ConnectionBulkheadDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection pooledConnection;
+
+    private ConnectionBulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new ConnectionBulkheadDataSource(pool, 2, Duration.ofMillis(50));
+    }
+
+    @Nested
+    @DisplayName("Permit Tests")
+    class PermitTests {
+
+        @Test
+        @DisplayName("Should hold a permit until the connection is closed")
+        void shouldHoldAPermitUntilTheConnectionIsClosed() throws SQLException {
+            // Arrange
+            when(pool.getConnection()).thenReturn(pooledConnection);
+
+            // Act
+            Connection connection = bulkhead.getConnection();
+            int availableWhileOpen = bulkhead.getAvailablePermits();
+            connection.close();
+
+            // Assert
+            assertThat(availableWhileOpen, is(1));
+            assertThat(bulkhead.getAvailablePermits(), is(2));
+            verify(pooledConnection).close();
+        }
+
+        @Test
+        @DisplayName("Should free the permit only once when the connection is closed twice")
+        void shouldFreeThePermitOnlyOnceWhenTheConnectionIsClosedTwice() throws SQLException {
+            // Arrange
+            when(pool.getConnection()).thenReturn(pooledConnection);
+            Connection connection = bulkhead.getConnection();
+            Connection other = bulkhead.getConnection();
+
+            // Act
+            connection.close();
+            connection.close();
+
+            // Assert
+            assertThat(bulkhead.getAvailablePermits(), is(1));
+            other.close();
+            assertThat(bulkhead.getAvailablePermits(), is(2));
+        }
+
+        @Test
+        @DisplayName("Should time out when every permit is in use")
+        void shouldTimeOutWhenEveryPermitIsInUse() throws SQLException {
+            // Arrange
+            when(pool.getConnection()).thenReturn(pooledConnection);
+            bulkhead.getConnection();
+            bulkhead.getConnection();
+
+            // Act & Assert
+            SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+            assertThat(exception.getMessage(), containsString("2 permits"));
+            verify(pool, times(2)).getConnection();
+        }
+
+        @Test
+        @DisplayName("Should give the permit back when the pool fails")
+        void shouldGiveThePermitBackWhenThePoolFails() throws SQLException {
+            // Arrange
+            when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+
+            // Act & Assert
+            assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+            assertThat(bulkhead.getAvailablePermits(), is(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Delegation Tests")
+    class DelegationTests {
+
+        @Test
+        @DisplayName("Should delegate other calls to the pooled connection")
+        void shouldDelegateOtherCallsToThePooledConnection() throws SQLException {
+            // Arrange
+            when(pool.getConnection()).thenReturn(pooledConnection);
+            when(pooledConnection.getAutoCommit()).thenReturn(false);
+            when(pooledConnection.unwrap(Connection.class)).thenReturn(pooledConnection);
+
+            // Act
+            Connection connection = bulkhead.getConnection();
+
+            // Assert
+            assertThat(connection.getAutoCommit(), is(false));
+            assertThat(connection.unwrap(Connection.class), is(sameInstance(pooledConnection)));
+            assertThat(connection.equals(connection), is(true));
+            assertThat(connection.equals(pooledConnection), is(false));
+        }
+
+        @Test
+        @DisplayName("Should propagate the exception thrown by the pooled connection")
+        void shouldPropagateTheExceptionThrownByThePooledConnection() throws SQLException {
+            // Arrange
+            when(pool.getConnection()).thenReturn(pooledConnection);
+            when(pooledConnection.prepareStatement("SELECT 1")).thenThrow(new SQLException("broken"));
+            Connection connection = bulkhead.getConnection();
+
+            // Act & Assert
+            SQLException exception = assertThrows(SQLException.class, () -> connection.prepareStatement("SELECT 1"));
+            assertThat(exception.getMessage(), is("broken"));
+        }
+
+        @Test
+        @DisplayName("Should publish waiting threads and available permits")
+        void shouldPublishWaitingThreadsAndAvailablePermits() {
+            // Arrange
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+            // Act
+            bulkhead.bindTo(meterRegistry);
+
+            // Assert
+            assertThat(meterRegistry.get("datasource.bulkhead.waiting").gauge().value(), is(0.0));
+            assertThat(meterRegistry.get("datasource.bulkhead.available").gauge().value(), is(2.0));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a bulkhead without permits")
+    void shouldRejectABulkheadWithoutPermits() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionBulkheadDataSource(pool, 0, Duration.ofSeconds(1)));
+    }
+}
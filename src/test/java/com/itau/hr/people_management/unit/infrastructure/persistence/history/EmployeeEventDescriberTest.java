@@ -0,0 +1,48 @@
+package com.itau.hr.people_management.unit.infrastructure.persistence.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.infrastructure.persistence.history.EmployeeEventDescriber;
+
+@DisplayName("EmployeeEventDescriber Unit Tests")
+class EmployeeEventDescriberTest {
+
+    @Test
+    @DisplayName("Should describe a created event from its payload")
+    void shouldDescribeACreatedEventFromItsPayload() {
+        // Arrange
+        String eventData = "{\"employeeEmail\": \"john.doe@example.com\", \"employeeName\": \"John Doe\"}";
+
+        // Act
+        String description = EmployeeEventDescriber.describe(EventType.EMPLOYEE_CREATED_EVENT, eventData);
+
+        // Assert
+        assertThat(description, is("Colaborador 'John Doe' criado com e-mail: john.doe@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should describe a status change from its payload")
+    void shouldDescribeAStatusChangeFromItsPayload() {
+        // Arrange
+        String eventData = "{\"newStatus\": \"TERMINATED\", \"oldStatus\": \"ACTIVE\"}";
+
+        // Act
+        String description = EmployeeEventDescriber.describe(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, eventData);
+
+        // Assert
+        assertThat(description, is("Status do colaborador alterado de 'ACTIVE' para 'TERMINATED'"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the event type when the payload is not JSON")
+    void shouldFallBackToTheEventTypeWhenThePayloadIsNotJson() {
+        // Act & Assert
+        assertThat(EmployeeEventDescriber.describe(EventType.EMPLOYEE_CREATED_EVENT, "not json"), is("EMPLOYEE_CREATED_EVENT"));
+        assertThat(EmployeeEventDescriber.describe(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, null), is("EMPLOYEE_STATUS_CHANGED_EVENT"));
+    }
+}
@@ -2,12 +2,18 @@ package com.itau.hr.people_management.unit.infrastructure.persistence.repository
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +23,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
 
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
 import com.itau.hr.people_management.domain.employee.enumeration.EventType;
 import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
 import com.itau.hr.people_management.infrastructure.persistence.entity.EmployeeEventJpaEntity;
 import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeEventRepositoryImpl;
 import com.itau.hr.people_management.infrastructure.persistence.repository.JpaEmployeeEventRepository;
@@ -31,6 +43,12 @@ class EmployeeEventRepositoryImplTest {
     @Mock
     private JpaEmployeeEventRepository jpaRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EmployeeHistoryArchive historyArchive;
+
     @Mock
     private EmployeeEvent employeeEvent;
 
@@ -45,7 +63,7 @@ class EmployeeEventRepositoryImplTest {
 
     @BeforeEach
     void setUp() {
-        repository = new EmployeeEventRepositoryImpl(jpaRepository);
+        repository = new EmployeeEventRepositoryImpl(jpaRepository, jdbcTemplate, historyArchive);
         
         eventId = UUID.randomUUID();
         employeeId = UUID.randomUUID();
@@ -77,7 +95,6 @@ class EmployeeEventRepositoryImplTest {
             assertThat(capturedEntity.getEmployeeId(), is(employeeId));
             assertThat(capturedEntity.getEventType(), is(eventType));
             assertThat(capturedEntity.getOccurredOn(), is(occurredOn));
-            assertThat(capturedEntity.getDescription(), is(description));
             assertThat(capturedEntity.getEventData(), is(eventData));
         }
 
@@ -89,7 +106,6 @@ class EmployeeEventRepositoryImplTest {
             when(employeeEvent.getEmployeeId()).thenReturn(null);
             when(employeeEvent.getEventType()).thenReturn(null);
             when(employeeEvent.getOccurredOn()).thenReturn(null);
-            when(employeeEvent.getDescription()).thenReturn(null);
             when(employeeEvent.getEventData()).thenReturn(null);
 
             // Act
@@ -104,7 +120,6 @@ class EmployeeEventRepositoryImplTest {
             assertThat(capturedEntity.getEmployeeId(), is(nullValue()));
             assertThat(capturedEntity.getEventType(), is(nullValue()));
             assertThat(capturedEntity.getOccurredOn(), is(nullValue()));
-            assertThat(capturedEntity.getDescription(), is(nullValue()));
             assertThat(capturedEntity.getEventData(), is(nullValue()));
         }
 
@@ -116,7 +131,6 @@ class EmployeeEventRepositoryImplTest {
             when(employeeEvent.getEmployeeId()).thenReturn(employeeId);
             when(employeeEvent.getEventType()).thenReturn(eventType);
             when(employeeEvent.getOccurredOn()).thenReturn(occurredOn);
-            when(employeeEvent.getDescription()).thenReturn("");
             when(employeeEvent.getEventData()).thenReturn("");
 
             // Act
@@ -127,11 +141,212 @@ class EmployeeEventRepositoryImplTest {
             verify(jpaRepository).save(entityCaptor.capture());
             
             EmployeeEventJpaEntity capturedEntity = entityCaptor.getValue();
-            assertThat(capturedEntity.getDescription(), is(""));
             assertThat(capturedEntity.getEventData(), is(""));
         }
     }
 
+    @Nested
+    @DisplayName("SaveAll Method Tests")
+    class SaveAllMethodTests {
+
+        @Test
+        @DisplayName("Should insert all events with one multi-row statement ignoring existing ids")
+        void shouldInsertAllEventsWithOneMultiRowStatementIgnoringExistingIds() {
+            // Arrange
+            when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(2);
+
+            // Act
+            int inserted = repository.saveAll(events(3));
+
+            // Assert
+            ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+            verify(jdbcTemplate, times(1)).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+            assertThat(inserted, is(2));
+            assertThat(sqlCaptor.getValue(), startsWith("INSERT INTO employee_events_history"));
+            assertThat(sqlCaptor.getValue(), endsWith("ON CONFLICT (id, occurred_on) DO NOTHING"));
+            assertThat(sqlCaptor.getValue().split("\\(\\?, \\?, \\?, \\?, \\?::jsonb\\)", -1).length - 1, is(3));
+            verify(jpaRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should split large batches into statements of at most 1000 rows")
+        void shouldSplitLargeBatchesIntoStatementsOfAtMost1000Rows() {
+            // Arrange
+            when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1_000, 1_000, 500);
+
+            // Act
+            int inserted = repository.saveAll(events(2_500));
+
+            // Assert
+            verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+            assertThat(inserted, is(2_500));
+        }
+
+        @Test
+        @DisplayName("Should not touch the database for an empty batch")
+        void shouldNotTouchTheDatabaseForAnEmptyBatch() {
+            // Act
+            int inserted = repository.saveAll(List.of());
+
+            // Assert
+            assertThat(inserted, is(0));
+            verifyNoInteractions(jdbcTemplate);
+        }
+
+        private List<EmployeeEvent> events(int count) {
+            return IntStream.range(0, count)
+                .mapToObj(i -> EmployeeEvent.builder()
+                    .id(UUID.randomUUID())
+                    .employeeId(employeeId)
+                    .eventType(eventType)
+                    .occurredOn(occurredOn)
+                    .description(description)
+                    .eventData(eventData)
+                    .build())
+                .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("FindHistory Query Tests")
+    class FindHistoryQueryTests {
+
+        @Test
+        @DisplayName("Should filter status transitions on the payload with the partial index predicate")
+        @SuppressWarnings("unchecked")
+        void shouldFilterStatusTransitionsOnThePayloadWithThePartialIndexPredicate() {
+            // Arrange
+            when(historyArchive.archivedUntil()).thenReturn(Optional.empty());
+            EmployeeHistoryCriteria criteria = EmployeeHistoryCriteria.builder()
+                .oldStatus(EmployeeStatus.ACTIVE).newStatus(EmployeeStatus.ON_LEAVE).limit(10).build();
+
+            // Act
+            repository.findHistory(criteria);
+
+            // Assert
+            ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<Object[]> parametersCaptor = ArgumentCaptor.forClass(Object[].class);
+            verify(jdbcTemplate).query(sqlCaptor.capture(), any(RowMapper.class), parametersCaptor.capture());
+            assertThat(sqlCaptor.getValue(), containsString("event_type = 'EMPLOYEE_STATUS_CHANGED_EVENT'"));
+            assertThat(sqlCaptor.getValue(), containsString("event_data ->> 'oldStatus' = ?"));
+            assertThat(sqlCaptor.getValue(), containsString("event_data ->> 'newStatus' = ?"));
+            assertThat(sqlCaptor.getValue(), not(containsString("employee_id = ?")));
+            assertThat(parametersCaptor.getValue(), is(new Object[] {"ACTIVE", "ON_LEAVE", 10}));
+        }
+
+        @Test
+        @DisplayName("Should query a single employee without payload filters")
+        @SuppressWarnings("unchecked")
+        void shouldQueryASingleEmployeeWithoutPayloadFilters() {
+            // Arrange
+            when(historyArchive.archivedUntil()).thenReturn(Optional.empty());
+
+            // Act
+            repository.findHistory(EmployeeHistoryCriteria.builder().employeeId(employeeId).limit(5).build());
+
+            // Assert
+            ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<Object[]> parametersCaptor = ArgumentCaptor.forClass(Object[].class);
+            verify(jdbcTemplate).query(sqlCaptor.capture(), any(RowMapper.class), parametersCaptor.capture());
+            assertThat(sqlCaptor.getValue(), containsString("WHERE employee_id = ? ORDER BY"));
+            assertThat(sqlCaptor.getValue(), not(containsString("->>")));
+            assertThat(parametersCaptor.getValue(), is(new Object[] {employeeId, 5}));
+        }
+    }
+
+    @Nested
+    @DisplayName("FindHistory Archive Tests")
+    class FindHistoryArchiveTests {
+
+        private final Instant archivedUntil = Instant.parse("2025-01-01T00:00:00Z");
+
+        @Test
+        @DisplayName("Should not read the archive when nothing was archived")
+        void shouldNotReadTheArchiveWhenNothingWasArchived() {
+            // Arrange
+            List<EmployeeEvent> hot = List.of(event(Instant.parse("2025-06-01T00:00:00Z")));
+            stubHotQuery(hot);
+            when(historyArchive.archivedUntil()).thenReturn(Optional.empty());
+
+            // Act
+            List<EmployeeEvent> page = repository.findHistory(criteria(2));
+
+            // Assert
+            assertThat(page, is(hot));
+            verify(historyArchive, never()).findHistory(any());
+        }
+
+        @Test
+        @DisplayName("Should not read the archive when a full page is newer than the archive")
+        void shouldNotReadTheArchiveWhenAFullPageIsNewerThanTheArchive() {
+            // Arrange
+            List<EmployeeEvent> hot = List.of(event(Instant.parse("2025-06-02T00:00:00Z")), event(Instant.parse("2025-06-01T00:00:00Z")));
+            stubHotQuery(hot);
+            when(historyArchive.archivedUntil()).thenReturn(Optional.of(archivedUntil));
+
+            // Act
+            List<EmployeeEvent> page = repository.findHistory(criteria(2));
+
+            // Assert
+            assertThat(page, is(hot));
+            verify(historyArchive, never()).findHistory(any());
+        }
+
+        @Test
+        @DisplayName("Should complete the page with archived events newest first without duplicates")
+        void shouldCompleteThePageWithArchivedEventsNewestFirstWithoutDuplicates() {
+            // Arrange
+            EmployeeEvent hotEvent = event(Instant.parse("2025-06-01T00:00:00Z"));
+            EmployeeEvent lateEvent = event(Instant.parse("2024-12-20T00:00:00Z"));
+            EmployeeEvent archivedEvent = event(Instant.parse("2024-12-10T00:00:00Z"));
+            EmployeeEvent olderArchivedEvent = event(Instant.parse("2024-11-10T00:00:00Z"));
+            stubHotQuery(List.of(hotEvent, lateEvent));
+            when(historyArchive.archivedUntil()).thenReturn(Optional.of(archivedUntil));
+            when(historyArchive.findHistory(any())).thenReturn(List.of(lateEvent, archivedEvent, olderArchivedEvent));
+
+            // Act
+            List<EmployeeEvent> page = repository.findHistory(criteria(3));
+
+            // Assert
+            assertThat(page, contains(hotEvent, lateEvent, archivedEvent));
+        }
+
+        @Test
+        @DisplayName("Should not read the archive when the period starts after it")
+        void shouldNotReadTheArchiveWhenThePeriodStartsAfterIt() {
+            // Arrange
+            stubHotQuery(List.of());
+            when(historyArchive.archivedUntil()).thenReturn(Optional.of(archivedUntil));
+
+            // Act
+            List<EmployeeEvent> page = repository.findHistory(criteria(2).toBuilder().occurredFrom(archivedUntil).build());
+
+            // Assert
+            assertThat(page, is(empty()));
+            verify(historyArchive, never()).findHistory(any());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void stubHotQuery(List<EmployeeEvent> events) {
+            when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(events);
+        }
+
+        private EmployeeHistoryCriteria criteria(int limit) {
+            return EmployeeHistoryCriteria.builder().employeeId(employeeId).limit(limit).build();
+        }
+
+        private EmployeeEvent event(Instant occurredOn) {
+            return EmployeeEvent.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .eventType(eventType)
+                .occurredOn(occurredOn)
+                .description(description)
+                .eventData(eventData)
+                .build();
+        }
+    }
+
     @Nested
     @DisplayName("Exception Handling Tests")
     class ExceptionHandlingTests {
@@ -185,7 +400,6 @@ class EmployeeEventRepositoryImplTest {
         when(employeeEvent.getEmployeeId()).thenReturn(employeeId);
         when(employeeEvent.getEventType()).thenReturn(eventType);
         when(employeeEvent.getOccurredOn()).thenReturn(occurredOn);
-        when(employeeEvent.getDescription()).thenReturn(description);
         when(employeeEvent.getEventData()).thenReturn(eventData);
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.itau.hr.people_management.unit.infrastructure.persistence.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEvent;
+import com.itau.hr.people_management.domain.employee.history.EmployeeState;
+import com.itau.hr.people_management.infrastructure.persistence.archive.EmployeeHistoryArchive;
+import com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeStateRepositoryImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeStateRepositoryImpl Unit Tests")
+class EmployeeStateRepositoryImplTest {
+
+    private static final Instant HIRED_ON = Instant.parse("2025-01-06T09:00:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EmployeeHistoryArchive historyArchive;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> snapshotsCaptor;
+
+    private EmployeeStateRepositoryImpl repository;
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeeStateRepositoryImpl(jdbcTemplate, historyArchive, 2);
+        employeeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot interval below one")
+    void shouldRejectASnapshotIntervalBelowOne() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeStateRepositoryImpl(jdbcTemplate, historyArchive, 0));
+    }
+
+    @Test
+    @DisplayName("Should not query anything for no employees")
+    void shouldNotQueryAnythingForNoEmployees() {
+        // Act
+        Map<UUID, EmployeeState> states = repository.findAsOf(List.of(), HIRED_ON);
+
+        // Assert
+        assertThat(states.isEmpty(), is(true));
+        verifyNoInteractions(jdbcTemplate, historyArchive);
+    }
+
+    @Test
+    @DisplayName("Should replay the events and store a snapshot every interval events")
+    void shouldReplayTheEventsAndStoreASnapshotEveryIntervalEvents() throws SQLException {
+        // Arrange
+        EmployeeEvent created = event(EventType.EMPLOYEE_CREATED_EVENT, HIRED_ON,
+            "{\"employeeName\":\"Maria Souza\",\"employeeEmail\":\"maria.souza@empresa.com.br\"}");
+        EmployeeEvent onLeave = event(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, HIRED_ON.plusSeconds(60), "{\"newStatus\":\"ON_LEAVE\"}");
+        EmployeeEvent terminated = event(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, HIRED_ON.plusSeconds(120), "{\"newStatus\":\"TERMINATED\"}");
+        replay(created, onLeave, terminated);
+
+        // Act
+        EmployeeState state = repository.findAsOf(Set.of(employeeId), HIRED_ON.plusSeconds(3_600)).get(employeeId);
+
+        // Assert
+        assertThat(state.getName(), is("Maria Souza"));
+        assertThat(state.getStatus(), is(EmployeeStatus.TERMINATED));
+        assertThat(state.getEventsApplied(), is(3L));
+        verify(jdbcTemplate).batchUpdate(anyString(), snapshotsCaptor.capture());
+        List<Object[]> snapshots = snapshotsCaptor.getValue();
+        assertThat(snapshots.size(), is(1));
+        assertThat(snapshots.get(0)[2], is(onLeave.getId()));
+        assertThat(snapshots.get(0)[5], is("ON_LEAVE"));
+        assertThat(snapshots.get(0)[6], is(2L));
+    }
+
+    @Test
+    @DisplayName("Should count an unreadable event without changing the state")
+    void shouldCountAnUnreadableEventWithoutChangingTheState() throws SQLException {
+        // Arrange
+        EmployeeEvent created = event(EventType.EMPLOYEE_CREATED_EVENT, HIRED_ON,
+            "{\"employeeName\":\"Maria Souza\",\"employeeEmail\":\"maria.souza@empresa.com.br\"}");
+        EmployeeEvent unreadable = event(EventType.EMPLOYEE_STATUS_CHANGED_EVENT, HIRED_ON.plusSeconds(60), "{\"newStatus\":\"RETIRED\"}");
+        replay(created, unreadable);
+
+        // Act
+        EmployeeState state = repository.findAsOf(Set.of(employeeId), HIRED_ON.plusSeconds(3_600)).get(employeeId);
+
+        // Assert
+        assertThat(state.getStatus(), is(EmployeeStatus.ACTIVE));
+        assertThat(state.getLastEventId(), is(unreadable.getId()));
+        assertThat(state.getEventsApplied(), is(2L));
+    }
+
+    @Test
+    @DisplayName("Should leave out an employee without events")
+    void shouldLeaveOutAnEmployeeWithoutEvents() throws SQLException {
+        // Arrange
+        replay();
+
+        // Act
+        Map<UUID, EmployeeState> states = repository.findAsOf(Set.of(employeeId), HIRED_ON);
+
+        // Assert
+        assertThat(states.isEmpty(), is(true));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    /** Lock and snapshot queries return no rows; the replay query returns the events. */
+    private void replay(EmployeeEvent... events) throws SQLException {
+        when(historyArchive.archivedUntil()).thenReturn(Optional.empty());
+        Deque<List<EmployeeEvent>> rowsPerQuery = new ArrayDeque<>(List.of(List.of(), List.of(), List.of(events)));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (EmployeeEvent event : rowsPerQuery.pop()) {
+                stubRow(event);
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private void stubRow(EmployeeEvent event) throws SQLException {
+        when(resultSet.getObject("id", UUID.class)).thenReturn(event.getId());
+        when(resultSet.getObject("employee_id", UUID.class)).thenReturn(event.getEmployeeId());
+        when(resultSet.getString("event_type")).thenReturn(event.getEventType().name());
+        when(resultSet.getObject("occurred_on", OffsetDateTime.class)).thenReturn(event.getOccurredOn().atOffset(ZoneOffset.UTC));
+        when(resultSet.getString(eq("event_data"))).thenReturn(event.getEventData());
+    }
+
+    private EmployeeEvent event(EventType eventType, Instant occurredOn, String eventData) {
+        return EmployeeEvent.builder()
+            .id(UUID.randomUUID())
+            .employeeId(employeeId)
+            .eventType(eventType)
+            .occurredOn(occurredOn)
+            .description("event")
+            .eventData(eventData)
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.itau.hr.people_management.unit.infrastructure.shared.thread;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.infrastructure.shared.thread.PinnedSection;
+
+@DisplayName("PinnedSection Unit Tests")
+class PinnedSectionTest {
+
+    private static final StackTraceElement PARK = frame("jdk.internal.misc.Unsafe", "park");
+    private static final StackTraceElement SLEEP = frame("java.lang.Thread", "sleep");
+    private static final StackTraceElement DRIVER = frame("org.postgresql.core.v3.QueryExecutorImpl", "execute");
+    private static final StackTraceElement REPOSITORY =
+        frame("com.itau.hr.people_management.infrastructure.persistence.repository.EmployeeEventRepositoryImpl", "saveAll");
+
+    @Test
+    @DisplayName("Should locate a section pinned in our code")
+    void shouldLocateASectionPinnedInOurCode() {
+        // Act
+        PinnedSection section = PinnedSection.locate(List.of(SLEEP, REPOSITORY));
+
+        // Assert
+        assertThat(section.source(), is("application"));
+        assertThat(section.location(), is(REPOSITORY.getClassName() + ".saveAll"));
+        assertThat(section.applicationFrame(), is(REPOSITORY.getClassName() + ".saveAll"));
+    }
+
+    @Test
+    @DisplayName("Should blame the library that blocked and keep the application frame that called it")
+    void shouldBlameTheLibraryThatBlockedAndKeepTheApplicationFrameThatCalledIt() {
+        // Act
+        PinnedSection section = PinnedSection.locate(List.of(PARK, DRIVER, REPOSITORY));
+
+        // Assert
+        assertThat(section.source(), is("library"));
+        assertThat(section.location(), is("org.postgresql.core.v3.QueryExecutorImpl.execute"));
+        assertThat(section.applicationFrame(), is(REPOSITORY.getClassName() + ".saveAll"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the top frame when only JDK frames were recorded")
+    void shouldFallBackToTheTopFrameWhenOnlyJdkFramesWereRecorded() {
+        // Act
+        PinnedSection section = PinnedSection.locate(List.of(PARK, SLEEP));
+
+        // Assert
+        assertThat(section.source(), is("jdk"));
+        assertThat(section.location(), is("jdk.internal.misc.Unsafe.park"));
+        assertThat(section.applicationFrame(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should report an unknown location without frames")
+    void shouldReportAnUnknownLocationWithoutFrames() {
+        // Act
+        PinnedSection section = PinnedSection.locate(List.of());
+
+        // Assert
+        assertThat(section.location(), is("unknown"));
+    }
+
+    private static StackTraceElement frame(String className, String methodName) {
+        return new StackTraceElement(className, methodName, null, -1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.itau.hr.people_management.unit.infrastructure.shared.thread;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.infrastructure.shared.thread.VirtualThreadPinningMonitor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("VirtualThreadPinningMonitor Unit Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private static final StackTraceElement DRIVER = new StackTraceElement("org.postgresql.core.v3.QueryExecutorImpl", "execute", null, -1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Should time pinned sections per location")
+    void shouldTimePinnedSectionsPerLocation() {
+        // Act
+        monitor.record(List.of(DRIVER), Duration.ofMillis(30));
+        monitor.record(List.of(DRIVER), Duration.ofMillis(50));
+
+        // Assert
+        var timer = meterRegistry.get("jvm.threads.virtual.pinned")
+            .tag("source", "library")
+            .tag("location", "org.postgresql.core.v3.QueryExecutorImpl.execute")
+            .timer();
+        assertThat(timer.count(), is(2L));
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS), is(80.0));
+    }
+
+    @Test
+    @DisplayName("Should detect a virtual thread blocking inside synchronized")
+    void shouldDetectAVirtualThreadBlockingInsideSynchronized() throws InterruptedException {
+        // Synchronized stopped pinning in JDK 24 (JEP 491)
+        assumeTrue(Runtime.version().feature() < 24);
+
+        // Arrange
+        monitor.start();
+        Object lock = new Object();
+
+        // Act
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(Duration.ofMillis(100));
+            }
+        }).join();
+
+        // Assert
+        assertThat(monitor.isRunning(), is(true));
+        await().atMost(Duration.ofSeconds(10)).until(() -> meterRegistry.find("jvm.threads.virtual.pinned").timers().stream()
+            .mapToLong(timer -> timer.count())
+            .sum(), greaterThan(0L));
+        assertThat(meterRegistry.get("jvm.threads.virtual.pinned").tag("source", "application").timer().count(), is(1L));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.itau.hr.people_management.unit.interfaces.employee.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeHistoryPageResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetEmployeeHistoryUseCase;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.interfaces.employee.controller.EmployeeHistoryController;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryPageResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryRequestDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.EmployeeHistoryControllerMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeHistoryController Unit Tests")
+class EmployeeHistoryControllerTest {
+
+    @Mock private GetEmployeeHistoryUseCase getEmployeeHistoryUseCase;
+    @Mock private EmployeeHistoryControllerMapper employeeHistoryControllerMapper;
+
+    @Mock private EmployeeHistoryRequestDTO requestDTO;
+    @Mock private EmployeeHistoryCriteria criteria;
+    @Mock private EmployeeHistoryPageResponse applicationResponse;
+    @Mock private EmployeeHistoryPageResponseDTO responseDTO;
+
+    private EmployeeHistoryController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new EmployeeHistoryController(getEmployeeHistoryUseCase, employeeHistoryControllerMapper);
+    }
+
+    @Test
+    @DisplayName("Should get employee history page and return 200 OK")
+    void shouldGetEmployeeHistoryPageAndReturn200Ok() {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+        when(employeeHistoryControllerMapper.toEmployeeHistoryCriteria(employeeId, requestDTO)).thenReturn(criteria);
+        when(getEmployeeHistoryUseCase.execute(criteria)).thenReturn(applicationResponse);
+        when(employeeHistoryControllerMapper.toEmployeeHistoryPageResponseDTO(applicationResponse)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<EmployeeHistoryPageResponseDTO> result = controller.getHistory(employeeId, requestDTO);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.OK));
+        assertThat(result.getBody(), is(responseDTO));
+    }
+
+    @Test
+    @DisplayName("Should search status transitions across employees and return 200 OK")
+    void shouldSearchStatusTransitionsAcrossEmployeesAndReturn200Ok() {
+        // Arrange
+        when(employeeHistoryControllerMapper.toEmployeeHistoryCriteria(null, requestDTO)).thenReturn(criteria);
+        when(getEmployeeHistoryUseCase.searchTransitions(criteria)).thenReturn(applicationResponse);
+        when(employeeHistoryControllerMapper.toEmployeeHistoryPageResponseDTO(applicationResponse)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<EmployeeHistoryPageResponseDTO> result = controller.searchTransitions(requestDTO);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.OK));
+        assertThat(result.getBody(), is(responseDTO));
+    }
+}
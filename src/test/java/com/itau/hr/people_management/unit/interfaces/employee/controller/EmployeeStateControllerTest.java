@@ -0,0 +1,76 @@
+package com.itau.hr.people_management.unit.interfaces.employee.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeStateResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetEmployeeAsOfUseCase;
+import com.itau.hr.people_management.interfaces.employee.controller.EmployeeStateController;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeStateResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.EmployeeStateControllerMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeStateController Unit Tests")
+class EmployeeStateControllerTest {
+
+    private static final Instant AS_OF = Instant.parse("2025-03-31T23:59:59Z");
+
+    @Mock private GetEmployeeAsOfUseCase getEmployeeAsOfUseCase;
+    @Mock private EmployeeStateControllerMapper employeeStateControllerMapper;
+
+    @Mock private EmployeeStateResponse applicationResponse;
+    @Mock private EmployeeStateResponseDTO responseDTO;
+
+    private EmployeeStateController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new EmployeeStateController(getEmployeeAsOfUseCase, employeeStateControllerMapper);
+    }
+
+    @Test
+    @DisplayName("Should get employee as of an instant and return 200 OK")
+    void shouldGetEmployeeAsOfAnInstantAndReturn200Ok() {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+        when(getEmployeeAsOfUseCase.getById(employeeId, AS_OF)).thenReturn(applicationResponse);
+        when(employeeStateControllerMapper.toEmployeeStateResponseDTO(applicationResponse)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<EmployeeStateResponseDTO> result = controller.getEmployeeAsOf(employeeId, AS_OF);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.OK));
+        assertThat(result.getBody(), is(responseDTO));
+    }
+
+    @Test
+    @DisplayName("Should get department employees as of an instant and return 200 OK")
+    void shouldGetDepartmentEmployeesAsOfAnInstantAndReturn200Ok() {
+        // Arrange
+        UUID departmentId = UUID.randomUUID();
+        when(getEmployeeAsOfUseCase.getByDepartment(departmentId, AS_OF)).thenReturn(List.of(applicationResponse));
+        when(employeeStateControllerMapper.toEmployeeStateResponseDTOList(List.of(applicationResponse))).thenReturn(List.of(responseDTO));
+
+        // Act
+        ResponseEntity<List<EmployeeStateResponseDTO>> result = controller.getDepartmentEmployeesAsOf(departmentId, AS_OF);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.OK));
+        assertThat(result.getBody(), is(List.of(responseDTO)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.itau.hr.people_management.unit.interfaces.employee.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.itau.hr.people_management.application.employee.dto.StatusDurationResponse;
+import com.itau.hr.people_management.application.employee.usecase.GetStatusDurationAnalyticsUseCase;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.interfaces.employee.controller.StatusDurationController;
+import com.itau.hr.people_management.interfaces.employee.dto.StatusDurationRequestDTO;
+import com.itau.hr.people_management.interfaces.employee.dto.StatusDurationResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.StatusDurationControllerMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatusDurationController Unit Tests")
+class StatusDurationControllerTest {
+
+    private static final StatusDurationRequestDTO REQUEST = StatusDurationRequestDTO.builder()
+        .status(EmployeeStatus.ON_LEAVE)
+        .from(YearMonth.of(2025, 1))
+        .to(YearMonth.of(2025, 6))
+        .build();
+
+    @Mock private GetStatusDurationAnalyticsUseCase getStatusDurationAnalyticsUseCase;
+    @Mock private StatusDurationControllerMapper statusDurationControllerMapper;
+
+    @Mock private StatusDurationResponse applicationResponse;
+    @Mock private StatusDurationResponseDTO responseDTO;
+
+    private StatusDurationController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new StatusDurationController(getStatusDurationAnalyticsUseCase, statusDurationControllerMapper);
+    }
+
+    @Test
+    @DisplayName("Should get status durations per department and return 200 OK")
+    void shouldGetStatusDurationsPerDepartmentAndReturn200Ok() {
+        // Arrange
+        when(getStatusDurationAnalyticsUseCase.byDepartment(EmployeeStatus.ON_LEAVE, YearMonth.of(2025, 1), YearMonth.of(2025, 6)))
+            .thenReturn(List.of(applicationResponse));
+        when(statusDurationControllerMapper.toStatusDurationResponseDTOList(List.of(applicationResponse))).thenReturn(List.of(responseDTO));
+
+        // Act
+        ResponseEntity<List<StatusDurationResponseDTO>> result = controller.getByDepartment(REQUEST);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.OK));
+        assertThat(result.getBody(), is(List.of(responseDTO)));
+    }
+
+    @Test
+    @DisplayName("Should get monthly status durations of a department and return 200 OK")
+    void shouldGetMonthlyStatusDurationsOfADepartmentAndReturn200Ok() {
+        // Arrange
+        UUID departmentId = UUID.randomUUID();
+        when(getStatusDurationAnalyticsUseCase.monthly(departmentId, EmployeeStatus.ON_LEAVE, YearMonth.of(2025, 1), YearMonth.of(2025, 6)))
+            .thenReturn(List.of(applicationResponse));
+        when(statusDurationControllerMapper.toStatusDurationResponseDTOList(List.of(applicationResponse))).thenReturn(List.of(responseDTO));
+
+        // Act
+        ResponseEntity<List<StatusDurationResponseDTO>> result = controller.getMonthly(departmentId, REQUEST);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.OK));
+        assertThat(result.getBody(), is(List.of(responseDTO)));
+    }
+}
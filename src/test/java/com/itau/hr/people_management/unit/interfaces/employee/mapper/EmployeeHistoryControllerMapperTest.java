@@ -0,0 +1,119 @@
+package com.itau.hr.people_management.unit.interfaces.employee.mapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeEventResponse;
+import com.itau.hr.people_management.application.employee.dto.EmployeeHistoryPageResponse;
+import com.itau.hr.people_management.domain.employee.criteria.EmployeeHistoryCriteria;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.domain.employee.enumeration.EventType;
+import com.itau.hr.people_management.domain.employee.history.EmployeeEventCursor;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryPageResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeHistoryRequestDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.EmployeeHistoryControllerMapper;
+
+@DisplayName("EmployeeHistoryControllerMapper Unit Tests")
+class EmployeeHistoryControllerMapperTest {
+
+    private EmployeeHistoryControllerMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new EmployeeHistoryControllerMapper();
+    }
+
+    @Test
+    @DisplayName("Should map filters and decode the cursor into history criteria")
+    void shouldMapFiltersAndDecodeTheCursorIntoHistoryCriteria() {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+        EmployeeEventCursor cursor = new EmployeeEventCursor(Instant.parse("2025-06-30T14:12:09Z"), UUID.randomUUID());
+        EmployeeHistoryRequestDTO requestDTO = EmployeeHistoryRequestDTO.builder()
+            .eventType(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)
+            .from(Instant.parse("2025-01-01T00:00:00Z"))
+            .cursor(cursor.encode())
+            .limit(20)
+            .build();
+
+        // Act
+        EmployeeHistoryCriteria criteria = mapper.toEmployeeHistoryCriteria(employeeId, requestDTO);
+
+        // Assert
+        assertThat(criteria.getEmployeeId(), is(employeeId));
+        assertThat(criteria.getEventType(), is(Optional.of(EventType.EMPLOYEE_STATUS_CHANGED_EVENT)));
+        assertThat(criteria.getOccurredFrom(), is(Optional.of(Instant.parse("2025-01-01T00:00:00Z"))));
+        assertThat(criteria.getOccurredTo(), is(Optional.empty()));
+        assertThat(criteria.getAfter(), is(Optional.of(cursor)));
+        assertThat(criteria.getLimit(), is(20));
+    }
+
+    @Test
+    @DisplayName("Should map status transition filters without an employee")
+    void shouldMapStatusTransitionFiltersWithoutAnEmployee() {
+        // Arrange
+        EmployeeHistoryRequestDTO requestDTO = EmployeeHistoryRequestDTO.builder()
+            .oldStatus(EmployeeStatus.ACTIVE)
+            .newStatus(EmployeeStatus.ON_LEAVE)
+            .build();
+
+        // Act
+        EmployeeHistoryCriteria criteria = mapper.toEmployeeHistoryCriteria(null, requestDTO);
+
+        // Assert
+        assertThat(criteria.getEmployeeId(), is(nullValue()));
+        assertThat(criteria.getOldStatus(), is(Optional.of(EmployeeStatus.ACTIVE)));
+        assertThat(criteria.getNewStatus(), is(Optional.of(EmployeeStatus.ON_LEAVE)));
+        assertThat(criteria.getLimit(), is(50));
+    }
+
+    @Test
+    @DisplayName("Should default to the first page of 50 events without a request")
+    void shouldDefaultToTheFirstPageOf50EventsWithoutARequest() {
+        // Act
+        EmployeeHistoryCriteria criteria = mapper.toEmployeeHistoryCriteria(UUID.randomUUID(), null);
+
+        // Assert
+        assertThat(criteria.getAfter(), is(Optional.empty()));
+        assertThat(criteria.getLimit(), is(50));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid cursor")
+    void shouldRejectAnInvalidCursor() {
+        // Arrange
+        EmployeeHistoryRequestDTO requestDTO = EmployeeHistoryRequestDTO.builder().cursor("not-a-cursor").build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> mapper.toEmployeeHistoryCriteria(UUID.randomUUID(), requestDTO));
+    }
+
+    @Test
+    @DisplayName("Should map history page to response DTO")
+    void shouldMapHistoryPageToResponseDto() {
+        // Arrange
+        EmployeeEventResponse event = new EmployeeEventResponse(UUID.randomUUID(), "EMPLOYEE_CREATED_EVENT", "Created",
+            Instant.parse("2025-06-30T14:12:09Z"), "{}");
+
+        // Act
+        EmployeeHistoryPageResponseDTO responseDTO = mapper.toEmployeeHistoryPageResponseDTO(new EmployeeHistoryPageResponse(List.of(event), null));
+
+        // Assert
+        assertThat(responseDTO.getEvents(), hasSize(1));
+        assertThat(responseDTO.getEvents().get(0).getId(), is(event.getId()));
+        assertThat(responseDTO.getEvents().get(0).getEventType(), is("EMPLOYEE_CREATED_EVENT"));
+        assertThat(responseDTO.getNextCursor(), is(nullValue()));
+    }
+}
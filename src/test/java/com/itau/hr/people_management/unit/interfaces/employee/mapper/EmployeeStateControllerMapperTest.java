@@ -0,0 +1,86 @@
+package com.itau.hr.people_management.unit.interfaces.employee.mapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.application.employee.dto.EmployeeStateResponse;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.interfaces.employee.dto.EmployeeStateResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.EmployeeStateControllerMapper;
+
+@DisplayName("EmployeeStateControllerMapper Unit Tests")
+class EmployeeStateControllerMapperTest {
+
+    private EmployeeStateControllerMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new EmployeeStateControllerMapper();
+    }
+
+    @Test
+    @DisplayName("Should map every field of the rebuilt state")
+    void shouldMapEveryFieldOfTheRebuiltState() {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+        EmployeeStateResponse response = new EmployeeStateResponse(employeeId, "Maria Souza", "maria.souza@empresa.com.br",
+            "ON_VACATION", Instant.parse("2025-03-31T23:59:59Z"), Instant.parse("2025-03-01T08:00:00Z"));
+
+        // Act
+        EmployeeStateResponseDTO responseDTO = mapper.toEmployeeStateResponseDTO(response);
+
+        // Assert
+        assertThat(responseDTO.getId(), is(employeeId));
+        assertThat(responseDTO.getName(), is("Maria Souza"));
+        assertThat(responseDTO.getEmail(), is("maria.souza@empresa.com.br"));
+        assertThat(responseDTO.getEmployeeStatus(), is(EmployeeStatus.ON_VACATION));
+        assertThat(responseDTO.getAsOf(), is(Instant.parse("2025-03-31T23:59:59Z")));
+        assertThat(responseDTO.getLastChangedOn(), is(Instant.parse("2025-03-01T08:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("Should leave the status empty when no event carried it")
+    void shouldLeaveTheStatusEmptyWhenNoEventCarriedIt() {
+        // Arrange
+        EmployeeStateResponse response = new EmployeeStateResponse(UUID.randomUUID(), null, null, null,
+            Instant.parse("2025-03-31T23:59:59Z"), Instant.parse("2025-03-01T08:00:00Z"));
+
+        // Act
+        EmployeeStateResponseDTO responseDTO = mapper.toEmployeeStateResponseDTO(response);
+
+        // Assert
+        assertThat(responseDTO.getEmployeeStatus(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should map null responses to null and an empty list")
+    void shouldMapNullResponsesToNullAndAnEmptyList() {
+        // Act & Assert
+        assertThat(mapper.toEmployeeStateResponseDTO(null), is(nullValue()));
+        assertThat(mapper.toEmployeeStateResponseDTOList(null), hasSize(0));
+    }
+
+    @Test
+    @DisplayName("Should map every response of a list")
+    void shouldMapEveryResponseOfAList() {
+        // Arrange
+        EmployeeStateResponse response = new EmployeeStateResponse(UUID.randomUUID(), "Maria Souza", "maria.souza@empresa.com.br",
+            "ACTIVE", Instant.parse("2025-03-31T23:59:59Z"), Instant.parse("2025-03-01T08:00:00Z"));
+
+        // Act
+        List<EmployeeStateResponseDTO> responseDTOs = mapper.toEmployeeStateResponseDTOList(List.of(response, response));
+
+        // Assert
+        assertThat(responseDTOs, hasSize(2));
+    }
+}
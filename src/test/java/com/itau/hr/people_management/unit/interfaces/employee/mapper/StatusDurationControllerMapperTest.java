@@ -0,0 +1,77 @@
+package com.itau.hr.people_management.unit.interfaces.employee.mapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.itau.hr.people_management.application.employee.dto.StatusDurationResponse;
+import com.itau.hr.people_management.domain.employee.enumeration.EmployeeStatus;
+import com.itau.hr.people_management.interfaces.employee.dto.StatusDurationResponseDTO;
+import com.itau.hr.people_management.interfaces.employee.mapper.StatusDurationControllerMapper;
+
+@DisplayName("StatusDurationControllerMapper Unit Tests")
+class StatusDurationControllerMapperTest {
+
+    private StatusDurationControllerMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new StatusDurationControllerMapper();
+    }
+
+    @Test
+    @DisplayName("Should map durations to days rounded to two decimals")
+    void shouldMapDurationsToDaysRoundedToTwoDecimals() {
+        // Arrange
+        UUID departmentId = UUID.randomUUID();
+        StatusDurationResponse response = new StatusDurationResponse(departmentId, "Recursos Humanos", YearMonth.of(2025, 3),
+            "ON_LEAVE", 3, Duration.ofDays(10), Duration.ofDays(10).dividedBy(3));
+
+        // Act
+        StatusDurationResponseDTO responseDTO = mapper.toStatusDurationResponseDTO(response);
+
+        // Assert
+        assertThat(responseDTO.getDepartmentId(), is(departmentId));
+        assertThat(responseDTO.getDepartmentName(), is("Recursos Humanos"));
+        assertThat(responseDTO.getMonth(), is("2025-03"));
+        assertThat(responseDTO.getEmployeeStatus(), is(EmployeeStatus.ON_LEAVE));
+        assertThat(responseDTO.getClosedIntervals(), is(3L));
+        assertThat(responseDTO.getTotalDays(), is(10.0));
+        assertThat(responseDTO.getAverageDays(), is(3.33));
+    }
+
+    @Test
+    @DisplayName("Should leave the month out when the months are summed")
+    void shouldLeaveTheMonthOutWhenTheMonthsAreSummed() {
+        // Arrange
+        StatusDurationResponse response = new StatusDurationResponse(UUID.randomUUID(), "Recursos Humanos", null,
+            "ON_VACATION", 1, Duration.ofHours(36), Duration.ofHours(36));
+
+        // Act
+        StatusDurationResponseDTO responseDTO = mapper.toStatusDurationResponseDTO(response);
+
+        // Assert
+        assertThat(responseDTO.getMonth(), is(nullValue()));
+        assertThat(responseDTO.getAverageDays(), is(1.5));
+    }
+
+    @Test
+    @DisplayName("Should return null for null response and empty list for null list")
+    void shouldReturnNullForNullResponseAndEmptyListForNullList() {
+        // Act & Assert
+        assertThat(mapper.toStatusDurationResponseDTO(null), is(nullValue()));
+        assertThat(mapper.toStatusDurationResponseDTOList(null), is(empty()));
+        assertThat(mapper.toStatusDurationResponseDTOList(List.of(new StatusDurationResponse())), hasSize(1));
+    }
+}
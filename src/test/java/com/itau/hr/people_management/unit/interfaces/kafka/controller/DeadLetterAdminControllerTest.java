@@ -0,0 +1,71 @@
+package com.itau.hr.people_management.unit.interfaces.kafka.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.itau.hr.people_management.infrastructure.kafka.retry.DeadLetterReplayResult;
+import com.itau.hr.people_management.infrastructure.kafka.retry.DeadLetterReplayService;
+import com.itau.hr.people_management.interfaces.kafka.controller.DeadLetterAdminController;
+import com.itau.hr.people_management.interfaces.kafka.dto.DeadLetterReplayResponseDTO;
+import com.itau.hr.people_management.interfaces.kafka.mapper.DeadLetterAdminControllerMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterAdminController Unit Tests")
+class DeadLetterAdminControllerTest {
+
+    @Mock
+    private DeadLetterReplayService deadLetterReplayService;
+
+    @Mock
+    private DeadLetterAdminControllerMapper deadLetterAdminControllerMapper;
+
+    @Mock
+    private DeadLetterReplayResponseDTO responseDTO;
+
+    private DeadLetterAdminController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new DeadLetterAdminController(deadLetterReplayService, deadLetterAdminControllerMapper);
+    }
+
+    @Test
+    @DisplayName("Should replay dead-lettered records and return 200 OK")
+    void shouldReplayDeadLetteredRecordsAndReturn200Ok() {
+        // Arrange
+        DeadLetterReplayResult result = new DeadLetterReplayResult("employee.created", "employee.created.dlt", 3);
+        when(deadLetterReplayService.replay("employee.created", 100)).thenReturn(result);
+        when(deadLetterAdminControllerMapper.toReplayResponseDTO(result)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<DeadLetterReplayResponseDTO> response = controller.replay("employee.created", 100);
+
+        // Assert
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(responseDTO));
+    }
+
+    @Test
+    @DisplayName("Should propagate rejection of an unknown topic")
+    void shouldPropagateRejectionOfAnUnknownTopic() {
+        // Arrange
+        when(deadLetterReplayService.replay("payroll.closed", 100))
+            .thenThrow(new IllegalArgumentException("Unknown employee topic: payroll.closed"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> controller.replay("payroll.closed", 100));
+        verifyNoInteractions(deadLetterAdminControllerMapper);
+    }
+}
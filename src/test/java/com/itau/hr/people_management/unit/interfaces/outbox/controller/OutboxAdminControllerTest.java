@@ -0,0 +1,103 @@
+package com.itau.hr.people_management.unit.interfaces.outbox.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueCriteria;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueProgress;
+import com.itau.hr.people_management.infrastructure.outbox.requeue.OutboxRequeueService;
+import com.itau.hr.people_management.interfaces.outbox.controller.OutboxAdminController;
+import com.itau.hr.people_management.interfaces.outbox.dto.OutboxRequeueJobResponseDTO;
+import com.itau.hr.people_management.interfaces.outbox.dto.OutboxRequeueRequestDTO;
+import com.itau.hr.people_management.interfaces.outbox.mapper.OutboxAdminControllerMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxAdminController Unit Tests")
+class OutboxAdminControllerTest {
+
+    @Mock
+    private OutboxRequeueService outboxRequeueService;
+
+    @Mock
+    private OutboxAdminControllerMapper outboxAdminControllerMapper;
+
+    @Mock
+    private OutboxRequeueRequestDTO requestDTO;
+
+    @Mock
+    private OutboxRequeueProgress progress;
+
+    @Mock
+    private OutboxRequeueJobResponseDTO responseDTO;
+
+    private OutboxAdminController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new OutboxAdminController(outboxRequeueService, outboxAdminControllerMapper);
+    }
+
+    @Test
+    @DisplayName("Should submit requeue job and return 202 ACCEPTED")
+    void shouldSubmitRequeueJobAndReturn202Accepted() {
+        // Arrange
+        OutboxRequeueCriteria criteria = new OutboxRequeueCriteria(null, null, null, null, null);
+        when(outboxAdminControllerMapper.toRequeueCriteria(requestDTO)).thenReturn(criteria);
+        when(outboxRequeueService.submit(criteria)).thenReturn(progress);
+        when(outboxAdminControllerMapper.toRequeueJobResponseDTO(progress)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<OutboxRequeueJobResponseDTO> result = controller.requeue(requestDTO);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.ACCEPTED));
+        assertThat(result.getBody(), is(responseDTO));
+        verify(outboxRequeueService).submit(criteria);
+    }
+
+    @Test
+    @DisplayName("Should return requeue job progress")
+    void shouldReturnRequeueJobProgress() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(outboxRequeueService.find(jobId)).thenReturn(Optional.of(progress));
+        when(outboxAdminControllerMapper.toRequeueJobResponseDTO(progress)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<OutboxRequeueJobResponseDTO> result = controller.getRequeueJob(jobId);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.OK));
+        assertThat(result.getBody(), is(responseDTO));
+    }
+
+    @Test
+    @DisplayName("Should return 404 NOT FOUND for unknown requeue job")
+    void shouldReturn404NotFoundForUnknownRequeueJob() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(outboxRequeueService.find(jobId)).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<OutboxRequeueJobResponseDTO> result = controller.getRequeueJob(jobId);
+
+        // Assert
+        assertThat(result.getStatusCode(), is(HttpStatus.NOT_FOUND));
+        assertThat(result.getBody(), is(nullValue()));
+    }
+}